@@ -0,0 +1,63 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results in JSON format to a file named after the version of
+ * the generator, so the results of different releases can be compared. The benchmarks are built
+ * with the benchmarks profile:
+ *
+ * <pre>
+ * mvn -Pbenchmarks -pl mybatis-generator-core,mybatis-generator-benchmarks package -DskipTests
+ * java -jar mybatis-generator-benchmarks/target/benchmarks.jar
+ * </pre>
+ *
+ * <p>All standard JMH command line options are supported. For example, <code>-p tableCount=5000
+ * GenerateBenchmark</code> runs only the full generation benchmark against a schema of 5000
+ * tables, and <code>-rff other.json</code> writes the results to a different file.
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        super();
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLineOptions);
+
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+
+        if (!commandLineOptions.getResult().hasValue()) {
+            builder.result("jmh-result-" + getVersion() + ".json"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        new Runner(builder.build()).run();
+    }
+
+    private static String getVersion() {
+        String version = BenchmarkRunner.class.getPackage().getImplementationVersion();
+        return version == null ? "unknown" : version; //$NON-NLS-1$
+    }
+}
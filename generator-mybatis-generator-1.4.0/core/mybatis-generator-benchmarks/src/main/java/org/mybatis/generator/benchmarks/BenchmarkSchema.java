@@ -0,0 +1,236 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.config.CommentGeneratorConfiguration;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.JDBCConnectionConfiguration;
+import org.mybatis.generator.config.JavaClientGeneratorConfiguration;
+import org.mybatis.generator.config.JavaModelGeneratorConfiguration;
+import org.mybatis.generator.config.ModelType;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.SqlMapGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.NullProgressCallback;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * This class holds an in memory HSQLDB schema with a configurable number of tables, and creates
+ * generator configurations for the schema. It is shared by all benchmarks of a trial.
+ *
+ * <p>Every table has a primary key and a mix of column types. Every third table has a composite
+ * primary key, and every fourth table has BLOB columns, so the generator produces primary key and
+ * BLOB classes as well as the plain model classes.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkSchema {
+
+    private static final String DRIVER = "org.hsqldb.jdbc.JDBCDriver"; //$NON-NLS-1$
+
+    private static final String USER = "sa"; //$NON-NLS-1$
+
+    /** The number of tables in the schema. */
+    @Param({"10", "100", "1000", "5000"})
+    public int tableCount;
+
+    private String url;
+
+    private Path targetDirectory;
+
+    @Setup(Level.Trial)
+    public void createSchema() throws SQLException, IOException {
+        url = "jdbc:hsqldb:mem:mbgbench" + tableCount; //$NON-NLS-1$
+        targetDirectory = Files.createTempDirectory("mbgbench"); //$NON-NLS-1$
+
+        try (Connection connection = getConnection();
+                Statement statement = connection.createStatement()) {
+            for (int i = 0; i < tableCount; i++) {
+                statement.execute(getCreateTableStatement(i));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void dropSchema() throws SQLException, IOException {
+        try (Connection connection = getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("shutdown"); //$NON-NLS-1$
+        }
+
+        try (Stream<Path> paths = Files.walk(targetDirectory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private String getCreateTableStatement(int index) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("create table "); //$NON-NLS-1$
+        sb.append(getTableName(index));
+        sb.append(" (ID integer not null"); //$NON-NLS-1$
+        if (index % 3 == 0) {
+            sb.append(", SEQ_NO integer not null"); //$NON-NLS-1$
+        }
+        sb.append(", NAME varchar(50) not null"); //$NON-NLS-1$
+        sb.append(", DESCRIPTION varchar(200)"); //$NON-NLS-1$
+        sb.append(", AMOUNT decimal(12, 2)"); //$NON-NLS-1$
+        sb.append(", QUANTITY bigint"); //$NON-NLS-1$
+        sb.append(", RATE double"); //$NON-NLS-1$
+        sb.append(", ACTIVE boolean"); //$NON-NLS-1$
+        sb.append(", CREATED_DATE date"); //$NON-NLS-1$
+        sb.append(", UPDATED_AT timestamp"); //$NON-NLS-1$
+        if (index % 4 == 0) {
+            sb.append(", NOTES longvarchar"); //$NON-NLS-1$
+            sb.append(", PICTURE longvarbinary"); //$NON-NLS-1$
+        }
+        sb.append(", primary key (ID"); //$NON-NLS-1$
+        if (index % 3 == 0) {
+            sb.append(", SEQ_NO"); //$NON-NLS-1$
+        }
+        sb.append("))"); //$NON-NLS-1$
+        return sb.toString();
+    }
+
+    private String getTableName(int index) {
+        return String.format("BENCH_TABLE_%05d", index); //$NON-NLS-1$
+    }
+
+    public Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(url, USER, ""); //$NON-NLS-1$
+    }
+
+    /**
+     * Creates a configuration with a single MyBatis3 context that generates all tables of the
+     * schema.
+     *
+     * @param generationThreads the generationThreads property of the context
+     * @return the configuration
+     */
+    public Configuration createConfiguration(int generationThreads) {
+        Configuration configuration = new Configuration();
+        configuration.addContext(createContext(generationThreads));
+        return configuration;
+    }
+
+    /**
+     * Creates a MyBatis3 context with a table configuration for every table of the schema.
+     *
+     * @param generationThreads the generationThreads property of the context
+     * @return the context
+     */
+    public Context createContext(int generationThreads) {
+        Context context = new Context(ModelType.CONDITIONAL);
+        context.setId("benchmark"); //$NON-NLS-1$
+        context.setTargetRuntime("MyBatis3"); //$NON-NLS-1$
+        context.addProperty(
+                PropertyRegistry.CONTEXT_GENERATION_THREADS, Integer.toString(generationThreads));
+
+        JDBCConnectionConfiguration jdbcConnectionConfiguration =
+                new JDBCConnectionConfiguration();
+        jdbcConnectionConfiguration.setDriverClass(DRIVER);
+        jdbcConnectionConfiguration.setConnectionURL(url);
+        jdbcConnectionConfiguration.setUserId(USER);
+        context.setJdbcConnectionConfiguration(jdbcConnectionConfiguration);
+
+        CommentGeneratorConfiguration commentGeneratorConfiguration =
+                new CommentGeneratorConfiguration();
+        commentGeneratorConfiguration.addProperty(
+                PropertyRegistry.COMMENT_GENERATOR_SUPPRESS_DATE, "true"); //$NON-NLS-1$
+        context.setCommentGeneratorConfiguration(commentGeneratorConfiguration);
+
+        String targetProject = targetDirectory.toString();
+
+        JavaModelGeneratorConfiguration javaModelGeneratorConfiguration =
+                new JavaModelGeneratorConfiguration();
+        javaModelGeneratorConfiguration.setTargetPackage("benchmark.model"); //$NON-NLS-1$
+        javaModelGeneratorConfiguration.setTargetProject(targetProject);
+        context.setJavaModelGeneratorConfiguration(javaModelGeneratorConfiguration);
+
+        SqlMapGeneratorConfiguration sqlMapGeneratorConfiguration =
+                new SqlMapGeneratorConfiguration();
+        sqlMapGeneratorConfiguration.setTargetPackage("benchmark.mapper"); //$NON-NLS-1$
+        sqlMapGeneratorConfiguration.setTargetProject(targetProject);
+        context.setSqlMapGeneratorConfiguration(sqlMapGeneratorConfiguration);
+
+        JavaClientGeneratorConfiguration javaClientGeneratorConfiguration =
+                new JavaClientGeneratorConfiguration();
+        javaClientGeneratorConfiguration.setConfigurationType("XMLMAPPER"); //$NON-NLS-1$
+        javaClientGeneratorConfiguration.setTargetPackage("benchmark.mapper"); //$NON-NLS-1$
+        javaClientGeneratorConfiguration.setTargetProject(targetProject);
+        context.setJavaClientGeneratorConfiguration(javaClientGeneratorConfiguration);
+
+        for (int i = 0; i < tableCount; i++) {
+            TableConfiguration tableConfiguration = new TableConfiguration(context);
+            tableConfiguration.setTableName(getTableName(i));
+            context.addTableConfiguration(tableConfiguration);
+        }
+
+        return context;
+    }
+
+    /**
+     * Creates a context, introspects all tables and generates the files of the context. The
+     * plugins of the returned context are initialized, so the introspected tables of the context
+     * can be generated again after a new introspection.
+     *
+     * @param javaFiles the generated Java files are added to this list
+     * @param xmlFiles the generated XML files are added to this list
+     * @return the context
+     * @throws Exception if the context cannot be generated
+     */
+    public Context generateContext(
+            List<GeneratedJavaFile> javaFiles, List<GeneratedXmlFile> xmlFiles) throws Exception {
+        Context context = createContext(1);
+        List<String> warnings = new ArrayList<>();
+        NullProgressCallback callback = new NullProgressCallback();
+        context.introspectTables(callback, warnings, null);
+        context.generateFiles(
+                callback,
+                (GeneratedFile generatedFile) -> {
+                    if (generatedFile instanceof GeneratedJavaFile) {
+                        javaFiles.add((GeneratedJavaFile) generatedFile);
+                    } else if (generatedFile instanceof GeneratedXmlFile) {
+                        xmlFiles.add((GeneratedXmlFile) generatedFile);
+                    }
+                },
+                warnings);
+        return context;
+    }
+
+    public Path getTargetDirectory() {
+        return targetDirectory;
+    }
+}
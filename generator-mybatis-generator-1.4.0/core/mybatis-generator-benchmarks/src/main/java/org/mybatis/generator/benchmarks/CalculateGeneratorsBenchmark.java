@@ -0,0 +1,74 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.ProgressCallback;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.internal.NullProgressCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time needed to initialize the introspected tables of the schema and calculate their
+ * generators with {@link IntrospectedTable#calculateGenerators(List, ProgressCallback)}.
+ *
+ * <p>Calculating the generators changes the state of an introspected table, so the tables are
+ * introspected again (outside of the measurement) before every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CalculateGeneratorsBenchmark {
+
+    private Context context;
+
+    private ProgressCallback callback = new NullProgressCallback();
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkSchema schema) throws Exception {
+        context = schema.generateContext(new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Setup(Level.Invocation)
+    public void introspect() throws Exception {
+        context.introspectTables(callback, new ArrayList<>(), null);
+    }
+
+    @Benchmark
+    public List<String> calculateGenerators() {
+        List<String> warnings = new ArrayList<>();
+        for (IntrospectedTable introspectedTable : context.getIntrospectedTables()) {
+            introspectedTable.initialize();
+            introspectedTable.calculateGenerators(warnings, callback);
+        }
+        return warnings;
+    }
+}
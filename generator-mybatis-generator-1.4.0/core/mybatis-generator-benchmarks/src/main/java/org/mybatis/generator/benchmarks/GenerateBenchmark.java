@@ -0,0 +1,62 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.internal.DefaultShellCallback;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full run of {@link MyBatisGenerator#generate} (validation, introspection and
+ * generation) without writing the files. The benchmark is parameterized by the generationThreads
+ * property of the context, so it also shows how parallel generation scales with the number of
+ * threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GenerateBenchmark {
+
+    /** The generationThreads property of the context. */
+    @Param({"1", "2", "4", "8"})
+    public int generationThreads;
+
+    @Benchmark
+    public MyBatisGenerator generate(BenchmarkSchema schema) throws Exception {
+        List<String> warnings = new ArrayList<>();
+        MyBatisGenerator myBatisGenerator =
+                new MyBatisGenerator(
+                        schema.createConfiguration(generationThreads),
+                        new DefaultShellCallback(true),
+                        warnings);
+        myBatisGenerator.generate(null, null, null, false);
+        return myBatisGenerator;
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.db.DatabaseIntrospector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time needed to introspect all tables of the schema with
+ * {@link DatabaseIntrospector#introspectTables(TableConfiguration)}. A new introspector is created
+ * for every invocation, so nothing is cached between invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class IntrospectionBenchmark {
+
+    private Context context;
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkSchema schema) throws SQLException {
+        context = schema.createContext(1);
+        connection = schema.getConnection();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void introspectTables(Blackhole blackhole) throws SQLException {
+        List<String> warnings = new ArrayList<>();
+        DatabaseIntrospector databaseIntrospector =
+                new DatabaseIntrospector(
+                        context,
+                        connection.getMetaData(),
+                        ObjectFactory.createJavaTypeResolver(context, warnings),
+                        warnings);
+
+        for (TableConfiguration tableConfiguration : context.getTableConfigurations()) {
+            List<IntrospectedTable> introspectedTables =
+                    databaseIntrospector.introspectTables(tableConfiguration);
+            blackhole.consume(introspectedTables);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.JavaFormatter;
+import org.mybatis.generator.api.XmlFormatter;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.config.Context;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time needed to render the generated Java and XML files of the schema with
+ * {@link DefaultJavaFormatter} and {@link DefaultXmlFormatter}. The files are generated once per
+ * trial, only the rendering is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RenderingBenchmark {
+
+    private List<GeneratedJavaFile> javaFiles = new ArrayList<>();
+
+    private List<GeneratedXmlFile> xmlFiles = new ArrayList<>();
+
+    private JavaFormatter javaFormatter = new DefaultJavaFormatter();
+
+    private XmlFormatter xmlFormatter = new DefaultXmlFormatter();
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkSchema schema) throws Exception {
+        Context context = schema.generateContext(javaFiles, xmlFiles);
+        javaFormatter.setContext(context);
+        xmlFormatter.setContext(context);
+    }
+
+    @Benchmark
+    public void javaFormatter(Blackhole blackhole) {
+        for (GeneratedJavaFile javaFile : javaFiles) {
+            blackhole.consume(javaFormatter.getFormattedContent(javaFile.getCompilationUnit()));
+        }
+    }
+
+    @Benchmark
+    public void xmlFormatter(Blackhole blackhole) {
+        for (GeneratedXmlFile xmlFile : xmlFiles) {
+            blackhole.consume(xmlFormatter.getFormattedContent(xmlFile.getDocument()));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.benchmarks;
+
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.exception.ShellException;
+import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.mybatis.generator.internal.XmlFileMergerStax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time needed to merge the generated XML mapper files of the schema into existing
+ * files with {@link XmlFileMergerJaxp} and with {@link XmlFileMergerStax}. The existing files are the
+ * generated files of a previous run, which is the usual case when the generator is run again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XmlMergeBenchmark {
+
+    private List<GeneratedXmlFile> xmlFiles = new ArrayList<>();
+
+    private List<File> existingFiles = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkSchema schema) throws Exception {
+        schema.generateContext(new ArrayList<>(), xmlFiles);
+
+        Path directory = schema.getTargetDirectory().resolve("merge"); //$NON-NLS-1$
+        Files.createDirectories(directory);
+        for (GeneratedXmlFile xmlFile : xmlFiles) {
+            Path existingFile = directory.resolve(xmlFile.getFileName());
+            Files.write(
+                    existingFile, xmlFile.getFormattedContent().getBytes(StandardCharsets.UTF_8));
+            existingFiles.add(existingFile.toFile());
+        }
+    }
+
+    @Benchmark
+    public void getMergedSource(Blackhole blackhole) throws ShellException {
+        for (int i = 0; i < xmlFiles.size(); i++) {
+            blackhole.consume(
+                    XmlFileMergerJaxp.getMergedSource(xmlFiles.get(i), existingFiles.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void getMergedSourceStax(Blackhole blackhole) throws ShellException {
+        for (int i = 0; i < xmlFiles.size(); i++) {
+            blackhole.consume(
+                    XmlFileMergerStax.getMergedSource(xmlFiles.get(i), existingFiles.get(i)));
+        }
+    }
+}
@@ -17,6 +17,8 @@ import org.apache.tools.ant.Project;
 import org.apache.tools.ant.Task;
 import org.mybatis.generator.internal.NullProgressCallback;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
 /**
  * This callback logs progress messages with the Ant logger.
  *
@@ -51,4 +53,17 @@ public class AntProgressCallback extends NullProgressCallback {
             task.log(subTaskName, Project.MSG_VERBOSE);
         }
     }
+
+    @Override
+    public void saveCompleted(int filesWritten, int filesSkipped, int filesMerged) {
+        if (verbose) {
+            task.log(
+                    getString(
+                            "Progress.21", //$NON-NLS-1$
+                            Integer.toString(filesWritten),
+                            Integer.toString(filesSkipped),
+                            Integer.toString(filesMerged)),
+                    Project.MSG_VERBOSE);
+        }
+    }
 }
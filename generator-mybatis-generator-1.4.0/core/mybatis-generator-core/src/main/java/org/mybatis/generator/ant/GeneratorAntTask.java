@@ -17,6 +17,7 @@ import org.apache.tools.ant.BuildException;
 import org.apache.tools.ant.Project;
 import org.apache.tools.ant.Task;
 import org.apache.tools.ant.types.PropertySet;
+import org.mybatis.generator.api.GenerationMetrics;
 import org.mybatis.generator.api.MyBatisGenerator;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
@@ -61,8 +62,18 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
  *   <li>"overwrite" - if true, then existing Java files will be overwritten. if false (default),
  *       then existing Java files will be untouched and the generator will write new Java files with
  *       a unique name
+ *   <li>"writeOnlyChangedFiles" - if true, then existing files will only be written if the
+ *       generated content is different. Default is false
+ *   <li>"mergeJavaFiles" - if true, then existing Java files will be merged: generated members
+ *       are replaced and custom members are kept. Requires JavaParser in the task classpath.
+ *       Default is false
+ *   <li>"saveThreads" - the number of threads used to save the generated files. Default is 1
+ *   <li>"incrementalManifest" - the manifest file for incremental generation. If specified, tables
+ *       whose metadata and configuration did not change since the last run are not generated again
  *   <li>"verbose" - if true, then the generator will log progress messages to the Ant log. Default
  *       is false
+ *   <li>"metrics" - if true, then the time and memory used by the phases, tables, and plugin
+ *       methods of the run will be logged to the Ant log. Default is false
  *   <li>"contextIds" - a comma delimited list of contaxtIds to use for this run
  *   <li>"fullyQualifiedTableNames" - a comma delimited list of fully qualified table names to use
  *       for this run
@@ -72,10 +83,17 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
  */
 public class GeneratorAntTask extends Task {
 
+    private static final int METRICS_REPORT_ENTRIES = 20;
+
     private String configfile;
     private boolean overwrite;
+    private boolean writeOnlyChangedFiles;
+    private boolean mergeJavaFiles;
+    private int saveThreads = 1;
+    private String incrementalManifest;
     private PropertySet propertyset;
     private boolean verbose;
+    private boolean metrics;
     private String contextIds;
     private String fullyQualifiedTableNames;
 
@@ -90,6 +108,7 @@ public class GeneratorAntTask extends Task {
         Set<String> contexts = calculateContexts();
 
         List<String> warnings = new ArrayList<>();
+        GenerationMetrics generationMetrics = metrics ? new GenerationMetrics() : null;
         try {
             Properties p = propertyset == null ? null : propertyset.getProperties();
 
@@ -97,8 +116,20 @@ public class GeneratorAntTask extends Task {
             Configuration config = cp.parseConfiguration(configurationFile);
 
             DefaultShellCallback callback = new DefaultShellCallback(overwrite);
+            callback.setMergeJavaFiles(mergeJavaFiles);
+            if (mergeJavaFiles && !callback.isMergeSupported()) {
+                warnings.add(getString("Warning.36")); // $NON-NLS-1$
+            }
 
             MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, callback, warnings);
+            myBatisGenerator.setWriteOnlyChangedFiles(writeOnlyChangedFiles);
+            myBatisGenerator.setSaveThreads(saveThreads);
+            // the generated files are not used after the save
+            myBatisGenerator.setReleaseDomAfterSave(true);
+            myBatisGenerator.setGenerationMetrics(generationMetrics);
+            if (stringHasValue(incrementalManifest)) {
+                myBatisGenerator.setIncrementalManifest(new File(incrementalManifest));
+            }
 
             myBatisGenerator.generate(
                     new AntProgressCallback(this, verbose), contexts, fullyqualifiedTables);
@@ -121,6 +152,11 @@ public class GeneratorAntTask extends Task {
         for (String error : warnings) {
             log(error, Project.MSG_WARN);
         }
+
+        if (generationMetrics != null) {
+            log(getString("Progress.25")); // $NON-NLS-1$
+            log(generationMetrics.getReport(METRICS_REPORT_ENTRIES));
+        }
     }
 
     private Set<String> calculateContexts() {
@@ -179,6 +215,38 @@ public class GeneratorAntTask extends Task {
         this.overwrite = overwrite;
     }
 
+    public boolean isWriteOnlyChangedFiles() {
+        return writeOnlyChangedFiles;
+    }
+
+    public void setWriteOnlyChangedFiles(boolean writeOnlyChangedFiles) {
+        this.writeOnlyChangedFiles = writeOnlyChangedFiles;
+    }
+
+    public boolean isMergeJavaFiles() {
+        return mergeJavaFiles;
+    }
+
+    public void setMergeJavaFiles(boolean mergeJavaFiles) {
+        this.mergeJavaFiles = mergeJavaFiles;
+    }
+
+    public int getSaveThreads() {
+        return saveThreads;
+    }
+
+    public void setSaveThreads(int saveThreads) {
+        this.saveThreads = saveThreads;
+    }
+
+    public String getIncrementalManifest() {
+        return incrementalManifest;
+    }
+
+    public void setIncrementalManifest(String incrementalManifest) {
+        this.incrementalManifest = incrementalManifest;
+    }
+
     public PropertySet createPropertyset() {
         if (propertyset == null) {
             propertyset = new PropertySet();
@@ -195,6 +263,14 @@ public class GeneratorAntTask extends Task {
         this.verbose = verbose;
     }
 
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(boolean metrics) {
+        this.metrics = metrics;
+    }
+
     public String getContextIds() {
         return contextIds;
     }
@@ -24,6 +24,7 @@ import org.mybatis.generator.api.dom.kotlin.KotlinType;
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.api.dom.xml.XmlElement;
 import org.mybatis.generator.config.Context;
+import org.mybatis.generator.internal.util.ConcurrencyUtility;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -35,17 +36,87 @@ import java.util.stream.Collectors;
  * and is used to aggregate plugins together. This class implements the rule that if any plugin
  * returns "false" from a method, then no subsequent plugin is called.
  *
+ * <p>Most plugins extend {@link PluginAdapter} and override only a few methods. When a plugin is
+ * added, this class records which methods the plugin overrides, and each method is only called on
+ * the plugins that override it. A method that no plugin overrides calls no plugin at all.
+ *
+ * <p>If generation metrics are set before the plugins are added, then each call to a plugin is
+ * measured.
+ *
+ * <p>If a plugin lock is set before the plugins are added, then each call to a plugin that is not
+ * thread safe is made while holding the lock.
+ *
  * @author Jeff Butler
  */
 public abstract class CompositePlugin implements Plugin {
     private List<Plugin> plugins = new ArrayList<>();
+    /** The plugins that override each hook, indexed by the hook index. */
+    private List<List<Plugin>> hookPlugins = new ArrayList<>();
+    private GenerationMetrics generationMetrics = GenerationMetrics.NONE;
+    private Object pluginLock;
 
     protected CompositePlugin() {
         super();
+        for (int i = 0; i < Hook.ALL.size(); i++) {
+            hookPlugins.add(new ArrayList<>());
+        }
     }
 
     public void addPlugin(Plugin plugin) {
         plugins.add(plugin);
+        Plugin dispatchedPlugin = generationMetrics.measuredView(plugin);
+        if (pluginLock != null && !plugin.isThreadSafe()) {
+            dispatchedPlugin =
+                    ConcurrencyUtility.synchronizedView(Plugin.class, dispatchedPlugin, pluginLock);
+        }
+        for (Hook hook : Hook.ALL) {
+            if (overrides(plugin, hook)) {
+                hookPlugins.get(hook.index).add(dispatchedPlugin);
+            }
+        }
+    }
+
+    /**
+     * Sets the metrics that measure the calls to the plugins added after this call.
+     *
+     * @param generationMetrics the metrics
+     */
+    public void setGenerationMetrics(GenerationMetrics generationMetrics) {
+        this.generationMetrics = generationMetrics;
+    }
+
+    /**
+     * Sets the lock that is held during the calls to the plugins added after this call, unless the
+     * plugin is thread safe.
+     *
+     * @param pluginLock the lock
+     * @see Plugin#isThreadSafe()
+     */
+    public void setPluginLock(Object pluginLock) {
+        this.pluginLock = pluginLock;
+    }
+
+    private List<Plugin> pluginsFor(Hook hook) {
+        return hookPlugins.get(hook.index);
+    }
+
+    /**
+     * A plugin overrides a hook unless it inherits the no-op implementation of {@link Plugin} or
+     * {@link PluginAdapter}.
+     */
+    private static boolean overrides(Plugin plugin, Hook hook) {
+        Class<?> declaringClass;
+        try {
+            declaringClass =
+                    plugin.getClass()
+                            .getMethod(hook.name, hook.parameterTypes)
+                            .getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            // cannot happen, every plugin implements all the hooks
+            return true;
+        }
+
+        return declaringClass != Plugin.class && declaringClass != PluginAdapter.class;
     }
 
     @Override
@@ -64,14 +135,14 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public void initialized(IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.INITIALIZED)) {
             plugin.initialized(introspectedTable);
         }
     }
 
     @Override
     public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles() {
-        return plugins.stream()
+        return pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES).stream()
                 .map(Plugin::contextGenerateAdditionalJavaFiles)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -80,7 +151,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public List<GeneratedJavaFile> contextGenerateAdditionalJavaFiles(
             IntrospectedTable introspectedTable) {
-        return plugins.stream()
+        return pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_FOR_TABLE).stream()
                 .map(p -> p.contextGenerateAdditionalJavaFiles(introspectedTable))
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -88,7 +159,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedKotlinFile> contextGenerateAdditionalKotlinFiles() {
-        return plugins.stream()
+        return pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES).stream()
                 .map(Plugin::contextGenerateAdditionalKotlinFiles)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -97,7 +168,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public List<GeneratedKotlinFile> contextGenerateAdditionalKotlinFiles(
             IntrospectedTable introspectedTable) {
-        return plugins.stream()
+        return pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES_FOR_TABLE).stream()
                 .map(p -> p.contextGenerateAdditionalKotlinFiles(introspectedTable))
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -105,7 +176,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles() {
-        return plugins.stream()
+        return pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_XML_FILES).stream()
                 .map(Plugin::contextGenerateAdditionalXmlFiles)
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -114,7 +185,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles(
             IntrospectedTable introspectedTable) {
-        return plugins.stream()
+        return pluginsFor(Hook.CONTEXT_GENERATE_ADDITIONAL_XML_FILES_FOR_TABLE).stream()
                 .map(p -> p.contextGenerateAdditionalXmlFiles(introspectedTable))
                 .flatMap(List::stream)
                 .collect(Collectors.toList());
@@ -122,7 +193,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERATED)) {
             if (!plugin.clientGenerated(interfaze, introspectedTable)) {
                 return false;
             }
@@ -134,7 +205,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicCountMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_COUNT_METHOD_GENERATED)) {
             if (!plugin.clientBasicCountMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -148,7 +219,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_COUNT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicCountMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -161,7 +232,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicDeleteMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_DELETE_METHOD_GENERATED)) {
             if (!plugin.clientBasicDeleteMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -175,7 +246,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_DELETE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicDeleteMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -188,7 +259,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicInsertMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_INSERT_METHOD_GENERATED)) {
             if (!plugin.clientBasicInsertMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -202,7 +273,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_INSERT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicInsertMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -215,7 +286,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicInsertMultipleMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_INSERT_MULTIPLE_METHOD_GENERATED)) {
             if (!plugin.clientBasicInsertMultipleMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -230,7 +301,8 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_BASIC_INSERT_MULTIPLE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicInsertMultipleMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -243,7 +315,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicInsertMultipleHelperMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_BASIC_INSERT_MULTIPLE_HELPER_METHOD_GENERATED)) {
             if (!plugin.clientBasicInsertMultipleHelperMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -258,7 +331,8 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_BASIC_INSERT_MULTIPLE_HELPER_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicInsertMultipleHelperMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -271,7 +345,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicSelectManyMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED)) {
             if (!plugin.clientBasicSelectManyMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -286,7 +360,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicSelectManyMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -299,7 +373,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicSelectOneMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED)) {
             if (!plugin.clientBasicSelectOneMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -313,7 +387,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicSelectOneMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -326,7 +400,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientBasicUpdateMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_UPDATE_METHOD_GENERATED)) {
             if (!plugin.clientBasicUpdateMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -340,7 +414,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_BASIC_UPDATE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientBasicUpdateMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -353,7 +427,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientCountByExampleMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.clientCountByExampleMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -365,7 +439,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientDeleteByExampleMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.clientDeleteByExampleMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -378,7 +452,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientDeleteByPrimaryKeyMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED)) {
             if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -393,7 +467,8 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientDeleteByPrimaryKeyMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -406,7 +481,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralCountMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_COUNT_METHOD_GENERATED)) {
             if (!plugin.clientGeneralCountMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -420,7 +495,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_COUNT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralCountMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -433,7 +508,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralDeleteMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_DELETE_METHOD_GENERATED)) {
             if (!plugin.clientGeneralDeleteMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -447,7 +522,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_DELETE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralDeleteMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -460,7 +535,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralSelectDistinctMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_SELECT_DISTINCT_METHOD_GENERATED)) {
             if (!plugin.clientGeneralSelectDistinctMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -475,7 +550,8 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_GENERAL_SELECT_DISTINCT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralSelectDistinctMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -488,7 +564,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralSelectMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_SELECT_METHOD_GENERATED)) {
             if (!plugin.clientGeneralSelectMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -502,7 +578,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_SELECT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralSelectMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -515,7 +591,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientGeneralUpdateMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_UPDATE_METHOD_GENERATED)) {
             if (!plugin.clientGeneralUpdateMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -529,7 +605,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_GENERAL_UPDATE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientGeneralUpdateMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -542,7 +618,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_METHOD_GENERATED)) {
             if (!plugin.clientInsertMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -556,7 +632,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientInsertMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -566,10 +642,22 @@ public abstract class CompositePlugin implements Plugin {
         return true;
     }
 
+    @Override
+    public boolean clientInsertBatchMethodGenerated(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_BATCH_METHOD_GENERATED)) {
+            if (!plugin.clientInsertBatchMethodGenerated(method, interfaze, introspectedTable)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public boolean clientInsertMultipleMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_MULTIPLE_METHOD_GENERATED)) {
             if (!plugin.clientInsertMultipleMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -583,7 +671,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_MULTIPLE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientInsertMultipleMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -596,7 +684,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientInsertSelectiveMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientInsertSelectiveMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -611,7 +699,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_SELECTIVE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientInsertSelectiveMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -624,7 +712,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectByExampleWithBLOBsMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientSelectByExampleWithBLOBsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -637,7 +726,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectByExampleWithoutBLOBsMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientSelectByExampleWithoutBLOBsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -650,7 +740,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectByPrimaryKeyMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED)) {
             if (!plugin.clientSelectByPrimaryKeyMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -665,7 +755,8 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientSelectByPrimaryKeyMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -675,10 +766,23 @@ public abstract class CompositePlugin implements Plugin {
         return true;
     }
 
+    @Override
+    public boolean clientSelectByPrimaryKeysMethodGenerated(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_BY_PRIMARY_KEYS_METHOD_GENERATED)) {
+            if (!plugin.clientSelectByPrimaryKeysMethodGenerated(
+                    method, interfaze, introspectedTable)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public boolean clientSelectListFieldGenerated(
             Field field, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_LIST_FIELD_GENERATED)) {
             if (!plugin.clientSelectListFieldGenerated(field, interfaze, introspectedTable)) {
                 return false;
             }
@@ -690,7 +794,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectOneMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_ONE_METHOD_GENERATED)) {
             if (!plugin.clientSelectOneMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -704,7 +808,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_ONE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientSelectOneMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -717,7 +821,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByExampleSelectiveMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleSelectiveMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -730,7 +834,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateAllColumnsMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_ALL_COLUMNS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateAllColumnsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -745,7 +849,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_ALL_COLUMNS_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientUpdateAllColumnsMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -758,7 +862,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateSelectiveColumnsMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_SELECTIVE_COLUMNS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateSelectiveColumnsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -773,7 +877,8 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_UPDATE_SELECTIVE_COLUMNS_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientUpdateSelectiveColumnsMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -786,7 +891,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByExampleWithBLOBsMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleWithBLOBsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -799,7 +905,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByExampleWithoutBLOBsMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByExampleWithoutBLOBsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -812,7 +919,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByPrimaryKeySelectiveMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -827,7 +935,8 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED_KOTLIN)) {
             if (!plugin.clientUpdateByPrimaryKeySelectiveMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -840,7 +949,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeyWithBLOBsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -853,7 +963,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated(
                     method, interfaze, introspectedTable)) {
                 return false;
@@ -866,7 +977,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean clientSelectAllMethodGenerated(
             Method method, Interface interfaze, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_SELECT_ALL_METHOD_GENERATED)) {
             if (!plugin.clientSelectAllMethodGenerated(method, interfaze, introspectedTable)) {
                 return false;
             }
@@ -882,7 +993,7 @@ public abstract class CompositePlugin implements Plugin {
             IntrospectedColumn introspectedColumn,
             IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_FIELD_GENERATED)) {
             if (!plugin.modelFieldGenerated(
                     field, topLevelClass, introspectedColumn, introspectedTable, modelClassType)) {
                 return false;
@@ -899,7 +1010,7 @@ public abstract class CompositePlugin implements Plugin {
             IntrospectedColumn introspectedColumn,
             IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_GETTER_METHOD_GENERATED)) {
             if (!plugin.modelGetterMethodGenerated(
                     method, topLevelClass, introspectedColumn, introspectedTable, modelClassType)) {
                 return false;
@@ -916,7 +1027,7 @@ public abstract class CompositePlugin implements Plugin {
             IntrospectedColumn introspectedColumn,
             IntrospectedTable introspectedTable,
             ModelClassType modelClassType) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_SETTER_METHOD_GENERATED)) {
             if (!plugin.modelSetterMethodGenerated(
                     method, topLevelClass, introspectedColumn, introspectedTable, modelClassType)) {
                 return false;
@@ -929,7 +1040,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean modelPrimaryKeyClassGenerated(
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_PRIMARY_KEY_CLASS_GENERATED)) {
             if (!plugin.modelPrimaryKeyClassGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -941,7 +1052,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean modelBaseRecordClassGenerated(
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_BASE_RECORD_CLASS_GENERATED)) {
             if (!plugin.modelBaseRecordClassGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -953,7 +1064,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean modelRecordWithBLOBsClassGenerated(
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_RECORD_WITH_BLOBS_CLASS_GENERATED)) {
             if (!plugin.modelRecordWithBLOBsClassGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -965,7 +1076,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean modelExampleClassGenerated(
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MODEL_EXAMPLE_CLASS_GENERATED)) {
             if (!plugin.modelExampleClassGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -976,7 +1087,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapGenerated(GeneratedXmlFile sqlMap, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_GENERATED)) {
             if (!plugin.sqlMapGenerated(sqlMap, introspectedTable)) {
                 return false;
             }
@@ -987,7 +1098,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean sqlMapDocumentGenerated(Document document, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DOCUMENT_GENERATED)) {
             if (!plugin.sqlMapDocumentGenerated(document, introspectedTable)) {
                 return false;
             }
@@ -999,7 +1110,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapResultMapWithoutBLOBsElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_RESULT_MAP_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapResultMapWithoutBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1011,7 +1122,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapCountByExampleElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_COUNT_BY_EXAMPLE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapCountByExampleElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1023,7 +1134,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapDeleteByExampleElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DELETE_BY_EXAMPLE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapDeleteByExampleElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1035,7 +1146,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapDeleteByPrimaryKeyElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_DELETE_BY_PRIMARY_KEY_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapDeleteByPrimaryKeyElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1047,7 +1158,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapExampleWhereClauseElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_EXAMPLE_WHERE_CLAUSE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapExampleWhereClauseElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1059,7 +1170,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapBaseColumnListElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_BASE_COLUMN_LIST_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapBaseColumnListElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1071,7 +1182,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapBlobColumnListElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_BLOB_COLUMN_LIST_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapBlobColumnListElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1083,7 +1194,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapInsertElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_INSERT_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapInsertElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1092,10 +1203,22 @@ public abstract class CompositePlugin implements Plugin {
         return true;
     }
 
+    @Override
+    public boolean sqlMapInsertBatchElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_INSERT_BATCH_ELEMENT_GENERATED)) {
+            if (!plugin.sqlMapInsertBatchElementGenerated(element, introspectedTable)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public boolean sqlMapInsertSelectiveElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_INSERT_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapInsertSelectiveElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1107,7 +1230,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapResultMapWithBLOBsElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_RESULT_MAP_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapResultMapWithBLOBsElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1119,7 +1242,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapSelectAllElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_ALL_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectAllElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1131,7 +1254,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapSelectByPrimaryKeyElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_BY_PRIMARY_KEY_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByPrimaryKeyElementGenerated(element, introspectedTable)) {
                 return false;
             }
@@ -1140,10 +1263,23 @@ public abstract class CompositePlugin implements Plugin {
         return true;
     }
 
+    @Override
+    public boolean sqlMapSelectByPrimaryKeysElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        for (Plugin plugin : pluginsFor(Hook.SQL_MAP_SELECT_BY_PRIMARY_KEYS_ELEMENT_GENERATED)) {
+            if (!plugin.sqlMapSelectByPrimaryKeysElementGenerated(element, introspectedTable)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     @Override
     public boolean sqlMapSelectByExampleWithoutBLOBsElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.SQL_MAP_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByExampleWithoutBLOBsElementGenerated(
                     element, introspectedTable)) {
                 return false;
@@ -1156,7 +1292,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapSelectByExampleWithBLOBsElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.SQL_MAP_SELECT_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapSelectByExampleWithBLOBsElementGenerated(
                     element, introspectedTable)) {
                 return false;
@@ -1169,7 +1306,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByExampleSelectiveElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleSelectiveElementGenerated(
                     element, introspectedTable)) {
                 return false;
@@ -1182,7 +1320,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByExampleWithBLOBsElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleWithBLOBsElementGenerated(
                     element, introspectedTable)) {
                 return false;
@@ -1195,7 +1334,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByExampleWithoutBLOBsElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.SQL_MAP_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByExampleWithoutBLOBsElementGenerated(
                     element, introspectedTable)) {
                 return false;
@@ -1208,7 +1348,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByPrimaryKeySelectiveElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_SELECTIVE_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeySelectiveElementGenerated(
                     element, introspectedTable)) {
                 return false;
@@ -1221,7 +1362,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated(
                     element, introspectedTable)) {
                 return false;
@@ -1234,7 +1376,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_ELEMENT_GENERATED)) {
             if (!plugin.sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated(
                     element, introspectedTable)) {
                 return false;
@@ -1247,7 +1390,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerGenerated(
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_GENERATED)) {
             if (!plugin.providerGenerated(topLevelClass, introspectedTable)) {
                 return false;
             }
@@ -1259,7 +1402,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerApplyWhereMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_APPLY_WHERE_METHOD_GENERATED)) {
             if (!plugin.providerApplyWhereMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1272,7 +1415,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerCountByExampleMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_COUNT_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.providerCountByExampleMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1285,7 +1428,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerDeleteByExampleMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_DELETE_BY_EXAMPLE_METHOD_GENERATED)) {
             if (!plugin.providerDeleteByExampleMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1298,7 +1441,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerInsertSelectiveMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.PROVIDER_INSERT_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerInsertSelectiveMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1311,7 +1454,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerSelectByExampleWithBLOBsMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.PROVIDER_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerSelectByExampleWithBLOBsMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1324,7 +1468,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerSelectByExampleWithoutBLOBsMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.PROVIDER_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerSelectByExampleWithoutBLOBsMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1337,7 +1482,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerUpdateByExampleSelectiveMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleSelectiveMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1350,7 +1496,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerUpdateByExampleWithBLOBsMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleWithBLOBsMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1363,7 +1510,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerUpdateByExampleWithoutBLOBsMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.PROVIDER_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByExampleWithoutBLOBsMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1376,7 +1524,8 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean providerUpdateByPrimaryKeySelectiveMethodGenerated(
             Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin :
+                pluginsFor(Hook.PROVIDER_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED)) {
             if (!plugin.providerUpdateByPrimaryKeySelectiveMethodGenerated(
                     method, topLevelClass, introspectedTable)) {
                 return false;
@@ -1389,7 +1538,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean dynamicSqlSupportGenerated(
             TopLevelClass supportClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.DYNAMIC_SQL_SUPPORT_GENERATED)) {
             if (!plugin.dynamicSqlSupportGenerated(supportClass, introspectedTable)) {
                 return false;
             }
@@ -1401,7 +1550,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean dynamicSqlSupportGenerated(
             KotlinFile kotlinFile, KotlinType supportClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.DYNAMIC_SQL_SUPPORT_GENERATED_KOTLIN)) {
             if (!plugin.dynamicSqlSupportGenerated(kotlinFile, supportClass, introspectedTable)) {
                 return false;
             }
@@ -1413,7 +1562,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean mapperExtensionsGenerated(
             KotlinFile extensionsFile, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MAPPER_EXTENSIONS_GENERATED)) {
             if (!plugin.mapperExtensionsGenerated(extensionsFile, introspectedTable)) {
                 return false;
             }
@@ -1424,7 +1573,7 @@ public abstract class CompositePlugin implements Plugin {
 
     @Override
     public boolean mapperGenerated(KotlinFile mapperFile, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.MAPPER_GENERATED)) {
             if (!plugin.mapperGenerated(mapperFile, introspectedTable)) {
                 return false;
             }
@@ -1436,7 +1585,7 @@ public abstract class CompositePlugin implements Plugin {
     @Override
     public boolean kotlinDataClassGenerated(
             KotlinFile kotlinFile, KotlinType dataClass, IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.KOTLIN_DATA_CLASS_GENERATED)) {
             if (!plugin.kotlinDataClassGenerated(kotlinFile, dataClass, introspectedTable)) {
                 return false;
             }
@@ -1450,7 +1599,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinProperty kotlinProperty,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_COLUMN_LIST_PROPERTY_GENERATED)) {
             if (!plugin.clientColumnListPropertyGenerated(
                     kotlinProperty, kotlinFile, introspectedTable)) {
                 return false;
@@ -1465,7 +1614,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_INSERT_MULTIPLE_VARARG_METHOD_GENERATED)) {
             if (!plugin.clientInsertMultipleVarargMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -1480,7 +1629,7 @@ public abstract class CompositePlugin implements Plugin {
             KotlinFunction kotlinFunction,
             KotlinFile kotlinFile,
             IntrospectedTable introspectedTable) {
-        for (Plugin plugin : plugins) {
+        for (Plugin plugin : pluginsFor(Hook.CLIENT_UPDATE_BY_PRIMARY_KEY_METHOD_GENERATED)) {
             if (!plugin.clientUpdateByPrimaryKeyMethodGenerated(
                     kotlinFunction, kotlinFile, introspectedTable)) {
                 return false;
@@ -1489,4 +1638,639 @@ public abstract class CompositePlugin implements Plugin {
 
         return true;
     }
+
+    /** A plugin method that is dispatched to the plugins that override it. */
+    private static final class Hook {
+        static final List<Hook> ALL = new ArrayList<>();
+
+        static final Hook INITIALIZED = new Hook("initialized", IntrospectedTable.class);
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES =
+                new Hook("contextGenerateAdditionalJavaFiles");
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_JAVA_FILES_FOR_TABLE =
+                new Hook("contextGenerateAdditionalJavaFiles", IntrospectedTable.class);
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES =
+                new Hook("contextGenerateAdditionalKotlinFiles");
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_KOTLIN_FILES_FOR_TABLE =
+                new Hook("contextGenerateAdditionalKotlinFiles", IntrospectedTable.class);
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_XML_FILES =
+                new Hook("contextGenerateAdditionalXmlFiles");
+        static final Hook CONTEXT_GENERATE_ADDITIONAL_XML_FILES_FOR_TABLE =
+                new Hook("contextGenerateAdditionalXmlFiles", IntrospectedTable.class);
+        static final Hook CLIENT_GENERATED =
+                new Hook("clientGenerated", Interface.class, IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_COUNT_METHOD_GENERATED =
+                new Hook(
+                        "clientBasicCountMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_COUNT_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientBasicCountMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_DELETE_METHOD_GENERATED =
+                new Hook(
+                        "clientBasicDeleteMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_DELETE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientBasicDeleteMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_METHOD_GENERATED =
+                new Hook(
+                        "clientBasicInsertMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientBasicInsertMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_MULTIPLE_METHOD_GENERATED =
+                new Hook(
+                        "clientBasicInsertMultipleMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_MULTIPLE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientBasicInsertMultipleMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_MULTIPLE_HELPER_METHOD_GENERATED =
+                new Hook(
+                        "clientBasicInsertMultipleHelperMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_INSERT_MULTIPLE_HELPER_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientBasicInsertMultipleHelperMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED =
+                new Hook(
+                        "clientBasicSelectManyMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_SELECT_MANY_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientBasicSelectManyMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED =
+                new Hook(
+                        "clientBasicSelectOneMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_SELECT_ONE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientBasicSelectOneMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_UPDATE_METHOD_GENERATED =
+                new Hook(
+                        "clientBasicUpdateMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_BASIC_UPDATE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientBasicUpdateMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_COUNT_BY_EXAMPLE_METHOD_GENERATED =
+                new Hook(
+                        "clientCountByExampleMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_DELETE_BY_EXAMPLE_METHOD_GENERATED =
+                new Hook(
+                        "clientDeleteByExampleMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED =
+                new Hook(
+                        "clientDeleteByPrimaryKeyMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_DELETE_BY_PRIMARY_KEY_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientDeleteByPrimaryKeyMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_COUNT_METHOD_GENERATED =
+                new Hook(
+                        "clientGeneralCountMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_COUNT_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientGeneralCountMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_DELETE_METHOD_GENERATED =
+                new Hook(
+                        "clientGeneralDeleteMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_DELETE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientGeneralDeleteMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_SELECT_DISTINCT_METHOD_GENERATED =
+                new Hook(
+                        "clientGeneralSelectDistinctMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_SELECT_DISTINCT_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientGeneralSelectDistinctMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_SELECT_METHOD_GENERATED =
+                new Hook(
+                        "clientGeneralSelectMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_SELECT_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientGeneralSelectMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_UPDATE_METHOD_GENERATED =
+                new Hook(
+                        "clientGeneralUpdateMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_GENERAL_UPDATE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientGeneralUpdateMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_METHOD_GENERATED =
+                new Hook(
+                        "clientInsertMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientInsertMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_BATCH_METHOD_GENERATED =
+                new Hook(
+                        "clientInsertBatchMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_MULTIPLE_METHOD_GENERATED =
+                new Hook(
+                        "clientInsertMultipleMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_MULTIPLE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientInsertMultipleMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_SELECTIVE_METHOD_GENERATED =
+                new Hook(
+                        "clientInsertSelectiveMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_SELECTIVE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientInsertSelectiveMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "clientSelectByExampleWithBLOBsMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "clientSelectByExampleWithoutBLOBsMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED =
+                new Hook(
+                        "clientSelectByPrimaryKeyMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_PRIMARY_KEY_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientSelectByPrimaryKeyMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_BY_PRIMARY_KEYS_METHOD_GENERATED =
+                new Hook(
+                        "clientSelectByPrimaryKeysMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_LIST_FIELD_GENERATED =
+                new Hook(
+                        "clientSelectListFieldGenerated",
+                        Field.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_ONE_METHOD_GENERATED =
+                new Hook(
+                        "clientSelectOneMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_ONE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientSelectOneMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateByExampleSelectiveMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_ALL_COLUMNS_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateAllColumnsMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_ALL_COLUMNS_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientUpdateAllColumnsMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_SELECTIVE_COLUMNS_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateSelectiveColumnsMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_SELECTIVE_COLUMNS_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientUpdateSelectiveColumnsMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateByExampleWithBLOBsMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateByExampleWithoutBLOBsMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateByPrimaryKeySelectiveMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED_KOTLIN =
+                new Hook(
+                        "clientUpdateByPrimaryKeySelectiveMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateByPrimaryKeyWithBLOBsMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateByPrimaryKeyWithoutBLOBsMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_SELECT_ALL_METHOD_GENERATED =
+                new Hook(
+                        "clientSelectAllMethodGenerated",
+                        Method.class,
+                        Interface.class,
+                        IntrospectedTable.class);
+        static final Hook MODEL_FIELD_GENERATED =
+                new Hook(
+                        "modelFieldGenerated",
+                        Field.class,
+                        TopLevelClass.class,
+                        IntrospectedColumn.class,
+                        IntrospectedTable.class,
+                        ModelClassType.class);
+        static final Hook MODEL_GETTER_METHOD_GENERATED =
+                new Hook(
+                        "modelGetterMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedColumn.class,
+                        IntrospectedTable.class,
+                        ModelClassType.class);
+        static final Hook MODEL_SETTER_METHOD_GENERATED =
+                new Hook(
+                        "modelSetterMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedColumn.class,
+                        IntrospectedTable.class,
+                        ModelClassType.class);
+        static final Hook MODEL_PRIMARY_KEY_CLASS_GENERATED =
+                new Hook(
+                        "modelPrimaryKeyClassGenerated",
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook MODEL_BASE_RECORD_CLASS_GENERATED =
+                new Hook(
+                        "modelBaseRecordClassGenerated",
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook MODEL_RECORD_WITH_BLOBS_CLASS_GENERATED =
+                new Hook(
+                        "modelRecordWithBLOBsClassGenerated",
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook MODEL_EXAMPLE_CLASS_GENERATED =
+                new Hook(
+                        "modelExampleClassGenerated",
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_GENERATED =
+                new Hook("sqlMapGenerated", GeneratedXmlFile.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_DOCUMENT_GENERATED =
+                new Hook("sqlMapDocumentGenerated", Document.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_RESULT_MAP_WITHOUT_BLOBS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapResultMapWithoutBLOBsElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_COUNT_BY_EXAMPLE_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapCountByExampleElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_DELETE_BY_EXAMPLE_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapDeleteByExampleElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_DELETE_BY_PRIMARY_KEY_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapDeleteByPrimaryKeyElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_EXAMPLE_WHERE_CLAUSE_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapExampleWhereClauseElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_BASE_COLUMN_LIST_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapBaseColumnListElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_BLOB_COLUMN_LIST_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapBlobColumnListElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_INSERT_ELEMENT_GENERATED =
+                new Hook("sqlMapInsertElementGenerated", XmlElement.class, IntrospectedTable.class);
+        static final Hook SQL_MAP_INSERT_BATCH_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapInsertBatchElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_INSERT_SELECTIVE_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapInsertSelectiveElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_RESULT_MAP_WITH_BLOBS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapResultMapWithBLOBsElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_SELECT_ALL_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapSelectAllElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_SELECT_BY_PRIMARY_KEY_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapSelectByPrimaryKeyElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_SELECT_BY_PRIMARY_KEYS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapSelectByPrimaryKeysElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapSelectByExampleWithoutBLOBsElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_SELECT_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapSelectByExampleWithBLOBsElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_EXAMPLE_SELECTIVE_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapUpdateByExampleSelectiveElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_EXAMPLE_WITH_BLOBS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapUpdateByExampleWithBLOBsElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapUpdateByExampleWithoutBLOBsElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_PRIMARY_KEY_SELECTIVE_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapUpdateByPrimaryKeySelectiveElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITH_BLOBS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapUpdateByPrimaryKeyWithBLOBsElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook SQL_MAP_UPDATE_BY_PRIMARY_KEY_WITHOUT_BLOBS_ELEMENT_GENERATED =
+                new Hook(
+                        "sqlMapUpdateByPrimaryKeyWithoutBLOBsElementGenerated",
+                        XmlElement.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_GENERATED =
+                new Hook("providerGenerated", TopLevelClass.class, IntrospectedTable.class);
+        static final Hook PROVIDER_APPLY_WHERE_METHOD_GENERATED =
+                new Hook(
+                        "providerApplyWhereMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_COUNT_BY_EXAMPLE_METHOD_GENERATED =
+                new Hook(
+                        "providerCountByExampleMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_DELETE_BY_EXAMPLE_METHOD_GENERATED =
+                new Hook(
+                        "providerDeleteByExampleMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_INSERT_SELECTIVE_METHOD_GENERATED =
+                new Hook(
+                        "providerInsertSelectiveMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_SELECT_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "providerSelectByExampleWithBLOBsMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_SELECT_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "providerSelectByExampleWithoutBLOBsMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_UPDATE_BY_EXAMPLE_SELECTIVE_METHOD_GENERATED =
+                new Hook(
+                        "providerUpdateByExampleSelectiveMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_UPDATE_BY_EXAMPLE_WITH_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "providerUpdateByExampleWithBLOBsMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_UPDATE_BY_EXAMPLE_WITHOUT_BLOBS_METHOD_GENERATED =
+                new Hook(
+                        "providerUpdateByExampleWithoutBLOBsMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook PROVIDER_UPDATE_BY_PRIMARY_KEY_SELECTIVE_METHOD_GENERATED =
+                new Hook(
+                        "providerUpdateByPrimaryKeySelectiveMethodGenerated",
+                        Method.class,
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook DYNAMIC_SQL_SUPPORT_GENERATED =
+                new Hook(
+                        "dynamicSqlSupportGenerated",
+                        TopLevelClass.class,
+                        IntrospectedTable.class);
+        static final Hook DYNAMIC_SQL_SUPPORT_GENERATED_KOTLIN =
+                new Hook(
+                        "dynamicSqlSupportGenerated",
+                        KotlinFile.class,
+                        KotlinType.class,
+                        IntrospectedTable.class);
+        static final Hook MAPPER_EXTENSIONS_GENERATED =
+                new Hook("mapperExtensionsGenerated", KotlinFile.class, IntrospectedTable.class);
+        static final Hook MAPPER_GENERATED =
+                new Hook("mapperGenerated", KotlinFile.class, IntrospectedTable.class);
+        static final Hook KOTLIN_DATA_CLASS_GENERATED =
+                new Hook(
+                        "kotlinDataClassGenerated",
+                        KotlinFile.class,
+                        KotlinType.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_COLUMN_LIST_PROPERTY_GENERATED =
+                new Hook(
+                        "clientColumnListPropertyGenerated",
+                        KotlinProperty.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_INSERT_MULTIPLE_VARARG_METHOD_GENERATED =
+                new Hook(
+                        "clientInsertMultipleVarargMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+        static final Hook CLIENT_UPDATE_BY_PRIMARY_KEY_METHOD_GENERATED =
+                new Hook(
+                        "clientUpdateByPrimaryKeyMethodGenerated",
+                        KotlinFunction.class,
+                        KotlinFile.class,
+                        IntrospectedTable.class);
+
+        final int index;
+        final String name;
+        final Class<?>[] parameterTypes;
+
+        private Hook(String name, Class<?>... parameterTypes) {
+            this.index = ALL.size();
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            try {
+                Plugin.class.getMethod(name, parameterTypes);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+            ALL.add(this);
+        }
+    }
 }
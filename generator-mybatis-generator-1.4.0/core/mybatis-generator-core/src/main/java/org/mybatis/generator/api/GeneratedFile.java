@@ -13,6 +13,10 @@
  */
 package org.mybatis.generator.api;
 
+import org.mybatis.generator.internal.util.StringUtility;
+
+import java.util.function.Supplier;
+
 /**
  * Abstract class that holds information common to all generated files.
  *
@@ -22,6 +26,14 @@ public abstract class GeneratedFile {
 
     protected String targetProject;
 
+    private boolean contentCached;
+
+    private String formattedContent;
+
+    private String contentHash;
+
+    private boolean domReleased;
+
     public GeneratedFile(String targetProject) {
         super();
         this.targetProject = targetProject;
@@ -37,6 +49,102 @@ public abstract class GeneratedFile {
      */
     public abstract String getFormattedContent();
 
+    /**
+     * Returns the formatted content through the cache of this file. Subclasses call this method
+     * from {@link #getFormattedContent()} with a supplier that formats the DOM of the file.
+     *
+     * @param formatter formats the content if it is not cached
+     * @return the formatted content
+     */
+    protected String getFormattedContent(Supplier<String> formatter) {
+        String answer = formattedContent;
+        if (answer == null) {
+            answer = formatter.get();
+            if (contentCached) {
+                formattedContent = answer;
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Returns true if the formatted content is kept after it is calculated the first time.
+     *
+     * @return true if the content is cached
+     */
+    public boolean isContentCached() {
+        return contentCached;
+    }
+
+    /**
+     * Sets whether the formatted content is kept after it is calculated the first time. By default
+     * the content is calculated from the DOM on every call to {@link #getFormattedContent()}. The
+     * content should only be cached once the DOM will not change anymore - typically after all
+     * plugins have run. Turning the cache off drops the cached content.
+     *
+     * @param contentCached true to cache the content
+     */
+    public void setContentCached(boolean contentCached) {
+        // the content of a released file cannot be calculated again
+        this.contentCached = contentCached || domReleased;
+        if (!this.contentCached) {
+            formattedContent = null;
+            contentHash = null;
+        }
+    }
+
+    /**
+     * Returns a hex encoded SHA-256 digest of the formatted content (as UTF-8). The digest can be
+     * used to detect changes between runs without keeping the content. If the content is cached,
+     * then the digest is cached too.
+     *
+     * @return the content hash
+     */
+    public String getContentHash() {
+        String answer = contentHash;
+        if (answer == null) {
+            answer = StringUtility.sha256Hex(getFormattedContent());
+            if (contentCached) {
+                contentHash = answer;
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Caches the formatted content and releases the DOM of this file, so the DOM can be garbage
+     * collected. The content, file name, target package and target project are still available
+     * afterwards, but the DOM accessors of the subclasses return null. This is meant for files
+     * that have been handed to the save phase.
+     */
+    public void releaseDom() {
+        if (domReleased) {
+            return;
+        }
+        setContentCached(true);
+        getFormattedContent();
+        clearDom();
+        domReleased = true;
+    }
+
+    /**
+     * Called by {@link #releaseDom()} after the content has been cached. Subclasses drop their
+     * references to the DOM here, after keeping anything else they need from it.
+     */
+    protected void clearDom() {}
+
+    /**
+     * Returns true if the DOM of this file has been released.
+     *
+     * @return true if the DOM has been released
+     * @see #releaseDom()
+     */
+    public boolean isDomReleased() {
+        return domReleased;
+    }
+
     /**
      * Get the file name (without any path). Clients should use this method to determine how to save
      * the results.
@@ -0,0 +1,54 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+/**
+ * This interface can be implemented to receive the generated files as soon as they are generated,
+ * rather than collecting the files of all tables in memory until the end of the run. See
+ * {@link MyBatisGenerator#generate(ProgressCallback, java.util.Set, java.util.Set,
+ * GeneratedFileConsumer)}.
+ *
+ * <p>Files are passed to the consumer in this order for each context:
+ *
+ * <ol>
+ *   <li>(Repeatedly, for each table) accept(GeneratedFile) for every file of the table, followed by
+ *       tableCompleted(IntrospectedTable)
+ *   <li>(Repeatedly) accept(GeneratedFile) for the files generated by plugins for the context as a
+ *       whole
+ * </ol>
+ *
+ * <p>The generator does not keep any reference to a file after it has been passed to the consumer,
+ * so the model of a table can be garbage collected as soon as the consumer is done with it. The
+ * consumer is always called on the thread that called the generator.
+ *
+ * <p>Consumers that write files may wrap an IOException in an {@link java.io.UncheckedIOException}.
+ * The generator will rethrow the cause.
+ */
+@FunctionalInterface
+public interface GeneratedFileConsumer {
+
+    /**
+     * Called for each generated file.
+     *
+     * @param generatedFile the generated file
+     */
+    void accept(GeneratedFile generatedFile);
+
+    /**
+     * Called after all files of a table have been passed to the consumer.
+     *
+     * @param introspectedTable the table
+     */
+    default void tableCompleted(IntrospectedTable introspectedTable) {}
+}
@@ -23,6 +23,11 @@ public class GeneratedJavaFile extends GeneratedFile {
 
     private JavaFormatter javaFormatter;
 
+    /** The file name and target package, kept when the compilation unit is released. */
+    private String fileName;
+
+    private String targetPackage;
+
     public GeneratedJavaFile(
             CompilationUnit compilationUnit,
             String targetProject,
@@ -41,26 +46,40 @@ public class GeneratedJavaFile extends GeneratedFile {
 
     @Override
     public String getFormattedContent() {
-        return javaFormatter.getFormattedContent(compilationUnit);
+        return getFormattedContent(() -> javaFormatter.getFormattedContent(compilationUnit));
     }
 
     @Override
     public String getFileName() {
+        if (compilationUnit == null) {
+            return fileName;
+        }
         return compilationUnit.getType().getShortNameWithoutTypeArguments()
                 + ".java"; //$NON-NLS-1$
     }
 
     @Override
     public String getTargetPackage() {
+        if (compilationUnit == null) {
+            return targetPackage;
+        }
         return compilationUnit.getType().getPackageName();
     }
 
+    @Override
+    protected void clearDom() {
+        fileName = getFileName();
+        targetPackage = getTargetPackage();
+        compilationUnit = null;
+    }
+
     /**
      * This method is required by the Eclipse Java merger. If you are not running in Eclipse, or
      * some other system that implements the Java merge function, you may return null from this
      * method.
      *
-     * @return the CompilationUnit associated with this file, or null if the file is not mergeable.
+     * @return the CompilationUnit associated with this file, or null if the file is not mergeable
+     *     or the compilation unit has been released.
      */
     public CompilationUnit getCompilationUnit() {
         return compilationUnit;
@@ -23,6 +23,11 @@ public class GeneratedKotlinFile extends GeneratedFile {
 
     private KotlinFormatter kotlinFormatter;
 
+    /** The file name and target package, kept when the Kotlin file is released. */
+    private String fileName;
+
+    private String targetPackage;
+
     public GeneratedKotlinFile(
             KotlinFile kotlinFile,
             String targetProject,
@@ -36,19 +41,32 @@ public class GeneratedKotlinFile extends GeneratedFile {
 
     @Override
     public String getFormattedContent() {
-        return kotlinFormatter.getFormattedContent(kotlinFile);
+        return getFormattedContent(() -> kotlinFormatter.getFormattedContent(kotlinFile));
     }
 
     @Override
     public String getFileName() {
+        if (kotlinFile == null) {
+            return fileName;
+        }
         return kotlinFile.getFileName();
     }
 
     @Override
     public String getTargetPackage() {
+        if (kotlinFile == null) {
+            return targetPackage;
+        }
         return kotlinFile.getPackage().orElse(""); // $NON-NLS-1$
     }
 
+    @Override
+    protected void clearDom() {
+        fileName = getFileName();
+        targetPackage = getTargetPackage();
+        kotlinFile = null;
+    }
+
     @Override
     public boolean isMergeable() {
         return false;
@@ -44,7 +44,22 @@ public class GeneratedXmlFile extends GeneratedFile {
 
     @Override
     public String getFormattedContent() {
-        return xmlFormatter.getFormattedContent(document);
+        return getFormattedContent(() -> xmlFormatter.getFormattedContent(document));
+    }
+
+    /**
+     * Returns the document of this file.
+     *
+     * @return the document, or null if the document has been released
+     * @see #releaseDom()
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    @Override
+    protected void clearDom() {
+        document = null;
     }
 
     @Override
@@ -0,0 +1,324 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the wall time and the allocated memory of the parts of a generation run: the phases of
+ * the run, the introspection and generation of each table, and each plugin method. Pass an
+ * instance to {@link MyBatisGenerator#setGenerationMetrics(GenerationMetrics)} and read the
+ * entries or the report after the run. The measurements of several runs with the same instance
+ * are added together.
+ *
+ * <p>Allocated memory is measured for the thread that runs the measured part, so work done by
+ * worker threads of a phase is not included in the phase. It is only available on JVMs that
+ * support thread allocation accounting, and is reported as -1 otherwise.
+ *
+ * <p>This class is thread safe.
+ */
+public class GenerationMetrics {
+
+    /** The kinds of measured parts. */
+    public enum Category {
+        PHASE("Phase"), //$NON-NLS-1$
+        TABLE_INTROSPECTION("Table introspection"), //$NON-NLS-1$
+        TABLE_GENERATION("Table generation"), //$NON-NLS-1$
+        PLUGIN("Plugin method"); //$NON-NLS-1$
+
+        private final String label;
+
+        Category(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    public static final String INTROSPECTION_PHASE = "introspection"; //$NON-NLS-1$
+    public static final String GENERATION_PHASE = "generation"; //$NON-NLS-1$
+    public static final String SAVE_PHASE = "save"; //$NON-NLS-1$
+    public static final String RENDER_PHASE = "render"; //$NON-NLS-1$
+    public static final String JAVA_MERGE_PHASE = "javaMerge"; //$NON-NLS-1$
+    public static final String XML_MERGE_PHASE = "xmlMerge"; //$NON-NLS-1$
+
+    /** Metrics that measure nothing. This is the default of a generation run. */
+    public static final GenerationMetrics NONE = new GenerationMetrics(false);
+
+    private static final ThreadMXBean THREAD_BEAN = ManagementFactory.getThreadMXBean();
+
+    /**
+     * The getThreadAllocatedBytes(long) method of the HotSpot extension of the thread bean, or null
+     * if it is not available. The extension is not part of the Java SE API, so it is only used
+     * through reflection.
+     */
+    private static final Method GET_THREAD_ALLOCATED_BYTES = getAllocatedBytesMethod();
+
+    private static final Timer NO_TIMER = new Timer(null, null, null, 0, 0);
+
+    private final boolean enabled;
+
+    private final Map<Category, Map<String, Entry>> entries = new EnumMap<>(Category.class);
+
+    public GenerationMetrics() {
+        this(true);
+    }
+
+    private GenerationMetrics(boolean enabled) {
+        this.enabled = enabled;
+        for (Category category : Category.values()) {
+            entries.put(category, new ConcurrentHashMap<>());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts measuring a part of the run on the current thread. The measurement is recorded when
+     * the returned timer is stopped, on the same thread.
+     *
+     * @param category the category of the part
+     * @param name the name of the part
+     * @return the timer
+     */
+    public Timer start(Category category, String name) {
+        if (!enabled) {
+            return NO_TIMER;
+        }
+
+        return new Timer(this, category, name, System.nanoTime(), getAllocatedBytes());
+    }
+
+    /**
+     * Returns a view of a plugin that measures every call to the plugin in the PLUGIN category.
+     * The entries are named after the plugin class and the method.
+     *
+     * @param plugin the plugin
+     * @return the measuring view, or the plugin itself if these metrics are not enabled
+     */
+    public Plugin measuredView(Plugin plugin) {
+        if (!enabled) {
+            return plugin;
+        }
+
+        String prefix = plugin.getClass().getName() + '.';
+        Object proxy =
+                Proxy.newProxyInstance(
+                        Plugin.class.getClassLoader(),
+                        new Class<?>[] {Plugin.class},
+                        (p, method, args) -> {
+                            Timer timer =
+                                    method.getDeclaringClass() == Plugin.class
+                                            ? start(Category.PLUGIN, prefix + method.getName())
+                                            : NO_TIMER;
+                            try {
+                                return method.invoke(plugin, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            } finally {
+                                timer.stop();
+                            }
+                        });
+
+        return (Plugin) proxy;
+    }
+
+    /**
+     * Returns the entries of a category, the most time consuming first.
+     *
+     * @param category the category
+     * @return the entries
+     */
+    public List<Entry> getEntries(Category category) {
+        List<Entry> answer = new ArrayList<>(entries.get(category).values());
+        answer.sort(Comparator.comparingLong(Entry::getNanos).reversed());
+        return answer;
+    }
+
+    /**
+     * Returns a report of all entries, with at most the specified number of entries (the most
+     * time consuming) per category. Phases are always reported in full.
+     *
+     * @param maxEntries the maximum number of entries per category
+     * @return the report, one line per entry
+     */
+    public String getReport(int maxEntries) {
+        StringBuilder sb = new StringBuilder();
+        for (Category category : Category.values()) {
+            List<Entry> categoryEntries = getEntries(category);
+            if (categoryEntries.isEmpty()) {
+                continue;
+            }
+
+            if (category != Category.PHASE && categoryEntries.size() > maxEntries) {
+                categoryEntries = categoryEntries.subList(0, maxEntries);
+            }
+
+            int width = category.getLabel().length();
+            for (Entry entry : categoryEntries) {
+                width = Math.max(width, entry.getName().length());
+            }
+
+            String format = "%-" + width + "s %10s %12s %14s%n"; //$NON-NLS-1$ //$NON-NLS-2$
+            if (sb.length() > 0) {
+                sb.append(System.lineSeparator());
+            }
+            sb.append(
+                    String.format(
+                            format,
+                            category.getLabel(),
+                            "Calls", //$NON-NLS-1$
+                            "Time (ms)", //$NON-NLS-1$
+                            "Alloc (KB)")); //$NON-NLS-1$
+            for (Entry entry : categoryEntries) {
+                sb.append(
+                        String.format(
+                                format,
+                                entry.getName(),
+                                entry.getCount(),
+                                String.format("%.1f", entry.getNanos() / 1e6), //$NON-NLS-1$
+                                entry.getBytes() < 0 ? "-1" : entry.getBytes() / 1024));
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private void record(Category category, String name, long nanos, long bytes) {
+        entries.get(category).computeIfAbsent(name, Entry::new).add(nanos, bytes);
+    }
+
+    private static long getAllocatedBytes() {
+        if (GET_THREAD_ALLOCATED_BYTES == null) {
+            return -1;
+        }
+
+        try {
+            return (Long) GET_THREAD_ALLOCATED_BYTES.invoke(
+                    THREAD_BEAN, Thread.currentThread().getId());
+        } catch (ReflectiveOperationException e) {
+            return -1;
+        }
+    }
+
+    private static Method getAllocatedBytesMethod() {
+        try {
+            Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean"); //$NON-NLS-1$
+            if (beanClass.isInstance(THREAD_BEAN)
+                    && isTrue(beanClass, "isThreadAllocatedMemorySupported") //$NON-NLS-1$
+                    && isTrue(beanClass, "isThreadAllocatedMemoryEnabled")) { //$NON-NLS-1$
+                return beanClass.getMethod("getThreadAllocatedBytes", long.class); //$NON-NLS-1$
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            // not a HotSpot based JVM, or the JVM does not allow access to the extension
+        }
+
+        return null;
+    }
+
+    private static boolean isTrue(Class<?> beanClass, String methodName)
+            throws ReflectiveOperationException {
+        return (Boolean) beanClass.getMethod(methodName).invoke(THREAD_BEAN);
+    }
+
+    /** A running measurement. */
+    public static final class Timer {
+        private final GenerationMetrics metrics;
+        private final Category category;
+        private final String name;
+        private final long startNanos;
+        private final long startBytes;
+
+        private Timer(
+                GenerationMetrics metrics,
+                Category category,
+                String name,
+                long startNanos,
+                long startBytes) {
+            this.metrics = metrics;
+            this.category = category;
+            this.name = name;
+            this.startNanos = startNanos;
+            this.startBytes = startBytes;
+        }
+
+        /** Records the time and memory since this timer was started. */
+        public void stop() {
+            if (metrics == null) {
+                return;
+            }
+
+            long bytes = startBytes < 0 ? -1 : getAllocatedBytes() - startBytes;
+            metrics.record(category, name, System.nanoTime() - startNanos, bytes);
+        }
+    }
+
+    /** The totals of a measured part. */
+    public static final class Entry {
+        private final String name;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+
+        private Entry(String name) {
+            this.name = name;
+        }
+
+        private void add(long elapsedNanos, long allocatedBytes) {
+            count.incrementAndGet();
+            nanos.addAndGet(elapsedNanos);
+            if (allocatedBytes < 0) {
+                bytes.set(-1);
+            } else if (bytes.get() >= 0) {
+                bytes.addAndGet(allocatedBytes);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getNanos() {
+            return nanos.get();
+        }
+
+        /**
+         * Returns the allocated memory in bytes, or -1 if it is not available.
+         *
+         * @return the allocated bytes
+         */
+        public long getBytes() {
+            return bytes.get();
+        }
+    }
+}
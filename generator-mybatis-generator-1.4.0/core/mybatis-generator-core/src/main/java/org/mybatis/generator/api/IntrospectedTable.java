@@ -20,9 +20,6 @@ import org.mybatis.generator.internal.rules.HierarchicalModelRules;
 import org.mybatis.generator.internal.rules.Rules;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.mybatis.generator.internal.util.StringUtility.isTrue;
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
@@ -59,10 +56,12 @@ public abstract class IntrospectedTable {
         ATTR_DELETE_BY_PRIMARY_KEY_STATEMENT_ID,
         ATTR_INSERT_STATEMENT_ID,
         ATTR_INSERT_SELECTIVE_STATEMENT_ID,
+        ATTR_INSERT_BATCH_STATEMENT_ID,
         ATTR_SELECT_ALL_STATEMENT_ID,
         ATTR_SELECT_BY_EXAMPLE_STATEMENT_ID,
         ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID,
         ATTR_SELECT_BY_PRIMARY_KEY_STATEMENT_ID,
+        ATTR_SELECT_BY_PRIMARY_KEYS_STATEMENT_ID,
         ATTR_UPDATE_BY_EXAMPLE_STATEMENT_ID,
         ATTR_UPDATE_BY_EXAMPLE_SELECTIVE_STATEMENT_ID,
         ATTR_UPDATE_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID,
@@ -88,11 +87,17 @@ public abstract class IntrospectedTable {
 
     protected Rules rules;
 
-    protected List<IntrospectedColumn> primaryKeyColumns = new ArrayList<>();
+    protected List<IntrospectedColumn> primaryKeyColumns = new ColumnList();
 
-    protected List<IntrospectedColumn> baseColumns = new ArrayList<>();
+    protected List<IntrospectedColumn> baseColumns = new ColumnList();
 
-    protected List<IntrospectedColumn> blobColumns = new ArrayList<>();
+    protected List<IntrospectedColumn> blobColumns = new ColumnList();
+
+    /**
+     * Combined views of the column lists. The views are calculated on first use and calculated
+     * again whenever one of the column lists changes.
+     */
+    private volatile ColumnViews columnViews;
 
     protected TargetRuntime targetRuntime;
 
@@ -134,8 +139,16 @@ public abstract class IntrospectedTable {
     }
 
     public Optional<IntrospectedColumn> getColumn(String columnName) {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream(), blobColumns.stream())
-                .flatMap(Function.identity())
+        ColumnViews views = getColumnViews();
+        for (IntrospectedColumn introspectedColumn : views.getColumnsNamed(columnName)) {
+            if (columnMatches(introspectedColumn, columnName)) {
+                return Optional.of(introspectedColumn);
+            }
+        }
+
+        // the index is keyed by the column names at the time it was built. Plugins may rename
+        // columns, so check all columns before giving up
+        return views.allColumns.stream()
                 .filter(ic -> columnMatches(ic, columnName))
                 .findFirst();
     }
@@ -154,9 +167,13 @@ public abstract class IntrospectedTable {
      * @return true if the table contains DATE columns
      */
     public boolean hasJDBCDateColumns() {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream())
-                .flatMap(Function.identity())
-                .anyMatch(IntrospectedColumn::isJDBCDateColumn);
+        for (IntrospectedColumn introspectedColumn : getColumnViews().nonBLOBColumns) {
+            if (introspectedColumn.isJDBCDateColumn()) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -165,9 +182,13 @@ public abstract class IntrospectedTable {
      * @return true if the table contains TIME columns
      */
     public boolean hasJDBCTimeColumns() {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream())
-                .flatMap(Function.identity())
-                .anyMatch(IntrospectedColumn::isJDBCTimeColumn);
+        for (IntrospectedColumn introspectedColumn : getColumnViews().nonBLOBColumns) {
+            if (introspectedColumn.isJDBCTimeColumn()) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     /**
@@ -193,33 +214,44 @@ public abstract class IntrospectedTable {
      * Returns all columns in the table (for use by the select by primary key and select by example
      * with BLOBs methods).
      *
-     * @return a List of ColumnDefinition objects for all columns in the table
+     * @return a new List of ColumnDefinition objects for all columns in the table. Changes to the
+     *     list do not change the table
      */
     public List<IntrospectedColumn> getAllColumns() {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream(), blobColumns.stream())
-                .flatMap(Function.identity())
-                .collect(Collectors.toList());
+        return new ArrayList<>(getColumnViews().allColumns);
     }
 
     /**
      * Returns all columns except BLOBs (for use by the select by example without BLOBs method).
      *
-     * @return a List of ColumnDefinition objects for columns in the table that are non BLOBs
+     * @return a new List of ColumnDefinition objects for columns in the table that are non BLOBs.
+     *     Changes to the list do not change the table
      */
     public List<IntrospectedColumn> getNonBLOBColumns() {
-        return Stream.of(primaryKeyColumns.stream(), baseColumns.stream())
-                .flatMap(Function.identity())
-                .collect(Collectors.toList());
+        return new ArrayList<>(getColumnViews().nonBLOBColumns);
     }
 
     public int getNonBLOBColumnCount() {
         return primaryKeyColumns.size() + baseColumns.size();
     }
 
+    /**
+     * Returns all columns except primary key columns.
+     *
+     * @return a new List of the base and BLOB columns. Changes to the list do not change the table
+     */
     public List<IntrospectedColumn> getNonPrimaryKeyColumns() {
-        return Stream.of(baseColumns.stream(), blobColumns.stream())
-                .flatMap(Function.identity())
-                .collect(Collectors.toList());
+        return new ArrayList<>(getColumnViews().nonPrimaryKeyColumns);
+    }
+
+    private ColumnViews getColumnViews() {
+        ColumnViews views = columnViews;
+        if (views == null || !views.isCurrent(primaryKeyColumns, baseColumns, blobColumns)) {
+            views = new ColumnViews(primaryKeyColumns, baseColumns, blobColumns);
+            columnViews = views;
+        }
+
+        return views;
     }
 
     public List<IntrospectedColumn> getBLOBColumns() {
@@ -390,10 +422,12 @@ public abstract class IntrospectedTable {
         setDeleteByPrimaryKeyStatementId("deleteByPrimaryKey"); // $NON-NLS-1$
         setInsertStatementId("insert"); // $NON-NLS-1$
         setInsertSelectiveStatementId("insertSelective"); // $NON-NLS-1$
+        setInsertBatchStatementId("insertBatch"); // $NON-NLS-1$
         setSelectAllStatementId("selectAll"); // $NON-NLS-1$
         setSelectByExampleStatementId("selectByExample"); // $NON-NLS-1$
         setSelectByExampleWithBLOBsStatementId("selectByExampleWithBLOBs"); // $NON-NLS-1$
         setSelectByPrimaryKeyStatementId("selectByPrimaryKey"); // $NON-NLS-1$
+        setSelectByPrimaryKeysStatementId("selectByPrimaryKeys"); // $NON-NLS-1$
         setUpdateByExampleStatementId("updateByExample"); // $NON-NLS-1$
         setUpdateByExampleSelectiveStatementId("updateByExampleSelective"); // $NON-NLS-1$
         setUpdateByExampleWithBLOBsStatementId("updateByExampleWithBLOBs"); // $NON-NLS-1$
@@ -463,6 +497,10 @@ public abstract class IntrospectedTable {
         internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_PRIMARY_KEY_STATEMENT_ID, s);
     }
 
+    public void setSelectByPrimaryKeysStatementId(String s) {
+        internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_PRIMARY_KEYS_STATEMENT_ID, s);
+    }
+
     public void setSelectByExampleWithBLOBsStatementId(String s) {
         internalAttributes.put(InternalAttribute.ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID, s);
     }
@@ -479,6 +517,10 @@ public abstract class IntrospectedTable {
         internalAttributes.put(InternalAttribute.ATTR_INSERT_SELECTIVE_STATEMENT_ID, s);
     }
 
+    public void setInsertBatchStatementId(String s) {
+        internalAttributes.put(InternalAttribute.ATTR_INSERT_BATCH_STATEMENT_ID, s);
+    }
+
     public void setInsertStatementId(String s) {
         internalAttributes.put(InternalAttribute.ATTR_INSERT_STATEMENT_ID, s);
     }
@@ -552,6 +594,10 @@ public abstract class IntrospectedTable {
         return internalAttributes.get(InternalAttribute.ATTR_SELECT_BY_PRIMARY_KEY_STATEMENT_ID);
     }
 
+    public String getSelectByPrimaryKeysStatementId() {
+        return internalAttributes.get(InternalAttribute.ATTR_SELECT_BY_PRIMARY_KEYS_STATEMENT_ID);
+    }
+
     public String getSelectByExampleWithBLOBsStatementId() {
         return internalAttributes.get(
                 InternalAttribute.ATTR_SELECT_BY_EXAMPLE_WITH_BLOBS_STATEMENT_ID);
@@ -569,6 +615,10 @@ public abstract class IntrospectedTable {
         return internalAttributes.get(InternalAttribute.ATTR_INSERT_SELECTIVE_STATEMENT_ID);
     }
 
+    public String getInsertBatchStatementId() {
+        return internalAttributes.get(InternalAttribute.ATTR_INSERT_BATCH_STATEMENT_ID);
+    }
+
     public String getInsertStatementId() {
         return internalAttributes.get(InternalAttribute.ATTR_INSERT_STATEMENT_ID);
     }
@@ -990,4 +1040,164 @@ public abstract class IntrospectedTable {
     public void setTableType(String tableType) {
         this.tableType = tableType;
     }
+
+    /**
+     * A column list that can report whether it has changed. Every structural change increments
+     * <code>modCount</code> in ArrayList. Replacements are counted separately - incrementing
+     * <code>modCount</code> in <code>set</code> would fail the iterators of plugins that replace
+     * columns with <code>ListIterator.set</code>. The sub lists of ArrayList replace elements in
+     * the backing array directly, so sub lists are wrapped to count their replacements too.
+     */
+    private static class ColumnList extends ArrayList<IntrospectedColumn> {
+        private static final long serialVersionUID = 1L;
+
+        private int replacements;
+
+        @Override
+        public IntrospectedColumn set(int index, IntrospectedColumn element) {
+            IntrospectedColumn answer = super.set(index, element);
+            replacements++;
+            return answer;
+        }
+
+        @Override
+        public List<IntrospectedColumn> subList(int fromIndex, int toIndex) {
+            List<IntrospectedColumn> subList = super.subList(fromIndex, toIndex);
+            return new AbstractList<IntrospectedColumn>() {
+                @Override
+                public IntrospectedColumn get(int index) {
+                    return subList.get(index);
+                }
+
+                @Override
+                public int size() {
+                    return subList.size();
+                }
+
+                @Override
+                public IntrospectedColumn set(int index, IntrospectedColumn element) {
+                    IntrospectedColumn answer = subList.set(index, element);
+                    replacements++;
+                    return answer;
+                }
+
+                @Override
+                public void add(int index, IntrospectedColumn element) {
+                    subList.add(index, element);
+                    modCount++;
+                }
+
+                @Override
+                public IntrospectedColumn remove(int index) {
+                    IntrospectedColumn answer = subList.remove(index);
+                    modCount++;
+                    return answer;
+                }
+            };
+        }
+
+        private long getVersion() {
+            return (long) modCount + replacements;
+        }
+    }
+
+    /**
+     * Immutable combined views of the column lists, and an index of the columns by name.
+     *
+     * <p>The views can only be reused if the column lists are the lists created by this class -
+     * subclasses may replace the lists with lists that cannot report changes. In that case the
+     * views are calculated on every call.
+     */
+    private static class ColumnViews {
+        private final List<IntrospectedColumn> primaryKeyColumns;
+        private final List<IntrospectedColumn> baseColumns;
+        private final List<IntrospectedColumn> blobColumns;
+        private final long version;
+
+        private final List<IntrospectedColumn> allColumns;
+        private final List<IntrospectedColumn> nonBLOBColumns;
+        private final List<IntrospectedColumn> nonPrimaryKeyColumns;
+        private final Map<String, List<IntrospectedColumn>> columnsByName;
+
+        ColumnViews(
+                List<IntrospectedColumn> primaryKeyColumns,
+                List<IntrospectedColumn> baseColumns,
+                List<IntrospectedColumn> blobColumns) {
+            this.primaryKeyColumns = primaryKeyColumns;
+            this.baseColumns = baseColumns;
+            this.blobColumns = blobColumns;
+            version = calculateVersion(primaryKeyColumns, baseColumns, blobColumns);
+
+            List<IntrospectedColumn> nonBLOB =
+                    new ArrayList<>(primaryKeyColumns.size() + baseColumns.size());
+            nonBLOB.addAll(primaryKeyColumns);
+            nonBLOB.addAll(baseColumns);
+
+            List<IntrospectedColumn> all = new ArrayList<>(nonBLOB.size() + blobColumns.size());
+            all.addAll(nonBLOB);
+            all.addAll(blobColumns);
+
+            List<IntrospectedColumn> nonPrimaryKey =
+                    new ArrayList<>(baseColumns.size() + blobColumns.size());
+            nonPrimaryKey.addAll(baseColumns);
+            nonPrimaryKey.addAll(blobColumns);
+
+            allColumns = Collections.unmodifiableList(all);
+            nonBLOBColumns = Collections.unmodifiableList(nonBLOB);
+            nonPrimaryKeyColumns = Collections.unmodifiableList(nonPrimaryKey);
+
+            columnsByName = new HashMap<>();
+            for (IntrospectedColumn introspectedColumn : all) {
+                columnsByName
+                        .computeIfAbsent(
+                                indexKey(introspectedColumn.getActualColumnName()),
+                                k -> new ArrayList<>(1))
+                        .add(introspectedColumn);
+            }
+        }
+
+        boolean isCurrent(
+                List<IntrospectedColumn> primaryKeyColumns,
+                List<IntrospectedColumn> baseColumns,
+                List<IntrospectedColumn> blobColumns) {
+            return version != -1
+                    && this.primaryKeyColumns == primaryKeyColumns
+                    && this.baseColumns == baseColumns
+                    && this.blobColumns == blobColumns
+                    && version == calculateVersion(primaryKeyColumns, baseColumns, blobColumns);
+        }
+
+        /**
+         * Returns the columns with a name that may match the specified name - in table order. The
+         * caller must still check for a match, as delimited names are case sensitive.
+         */
+        List<IntrospectedColumn> getColumnsNamed(String columnName) {
+            if (columnName == null) {
+                return Collections.emptyList();
+            }
+            return columnsByName.getOrDefault(indexKey(columnName), Collections.emptyList());
+        }
+
+        private static String indexKey(String columnName) {
+            return columnName == null ? null : columnName.toUpperCase(Locale.ROOT);
+        }
+
+        /**
+         * The sum of the list versions. Versions only ever grow, so any change to one of the
+         * lists changes the sum. Returns -1 if one of the lists cannot report changes.
+         */
+        private static long calculateVersion(
+                List<IntrospectedColumn> primaryKeyColumns,
+                List<IntrospectedColumn> baseColumns,
+                List<IntrospectedColumn> blobColumns) {
+            if (primaryKeyColumns instanceof ColumnList
+                    && baseColumns instanceof ColumnList
+                    && blobColumns instanceof ColumnList) {
+                return ((ColumnList) primaryKeyColumns).getVersion()
+                        + ((ColumnList) baseColumns).getVersion()
+                        + ((ColumnList) blobColumns).getVersion();
+            }
+            return -1;
+        }
+    }
 }
@@ -13,23 +13,26 @@
  */
 package org.mybatis.generator.api;
 
-import org.mybatis.generator.codegen.RootClassInfo;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.Context;
 import org.mybatis.generator.config.MergeConstants;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.ShellException;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.GenerationManifest;
+import org.mybatis.generator.internal.GenerationScope;
 import org.mybatis.generator.internal.NullProgressCallback;
-import org.mybatis.generator.internal.ObjectFactory;
-import org.mybatis.generator.internal.XmlFileMergerJaxp;
+import org.mybatis.generator.internal.XmlFileMergerStax;
+import org.mybatis.generator.internal.util.ConcurrencyUtility;
 
 import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static org.mybatis.generator.internal.util.ClassloaderUtility.getCustomClassloader;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
@@ -64,6 +67,26 @@ public class MyBatisGenerator {
 
     private Set<String> projects = new HashSet<>();
 
+    private boolean writeOnlyChangedFiles;
+
+    private int saveThreads = 1;
+
+    private File incrementalManifest;
+
+    private boolean releaseDomAfterSave;
+
+    private GenerationMetrics generationMetrics = GenerationMetrics.NONE;
+
+    private List<ClassLoader> externalClassLoaders = new ArrayList<>();
+
+    private Map<GeneratedFile, File> savedFiles = new IdentityHashMap<>();
+
+    private int filesWritten;
+
+    private int filesSkipped;
+
+    private int filesMerged;
+
     /**
      * Constructs a MyBatisGenerator object.
      *
@@ -192,9 +215,144 @@ public class MyBatisGenerator {
 
         generatedJavaFiles.clear();
         generatedXmlFiles.clear();
-        ObjectFactory.reset();
-        RootClassInfo.reset();
+        generatedKotlinFiles.clear();
+        filesWritten = 0;
+        filesSkipped = 0;
+        filesMerged = 0;
+        savedFiles.clear();
+
+        GenerationMetrics.Timer introspectionTimer =
+                generationMetrics.start(
+                        GenerationMetrics.Category.PHASE, GenerationMetrics.INTROSPECTION_PHASE);
+        List<Context> contextsToRun =
+                introspectContexts(callback, contextIds, fullyQualifiedTableNames);
+        introspectionTimer.stop();
+
+        // in incremental mode, skip the tables that are up to date
+        GenerationManifest manifest = null;
+        Map<IntrospectedTable, String> fingerprints = new IdentityHashMap<>();
+        if (writeFiles && incrementalManifest != null) {
+            manifest = readManifest();
+            pruneManifest(manifest, contextsToRun, contextIds, fullyQualifiedTableNames);
+            skipUpToDateTables(contextsToRun, manifest, fingerprints, callback);
+        }
+
+        // now run the generates
+        callback.generationStarted(getGenerationSteps(contextsToRun));
+
+        GenerationMetrics.Timer generationTimer =
+                generationMetrics.start(
+                        GenerationMetrics.Category.PHASE, GenerationMetrics.GENERATION_PHASE);
+        GeneratedFileRecorder recorder = new GeneratedFileRecorder();
+        for (Context context : contextsToRun) {
+            context.generateFiles(callback, recorder, warnings);
+            recorder.contextCompleted(context);
+        }
+        generationTimer.stop();
+
+        // now save the files
+        if (writeFiles) {
+            GenerationMetrics.Timer saveTimer =
+                    generationMetrics.start(
+                            GenerationMetrics.Category.PHASE, GenerationMetrics.SAVE_PHASE);
+            callback.saveStarted(generatedXmlFiles.size() + generatedJavaFiles.size());
+
+            List<GeneratedFile> filesToSave = new ArrayList<>();
+            filesToSave.addAll(generatedXmlFiles);
+            filesToSave.addAll(generatedJavaFiles);
+            filesToSave.addAll(generatedKotlinFiles);
+            for (GeneratedFile generatedFile : filesToSave) {
+                projects.add(generatedFile.getTargetProject());
+            }
+
+            if (saveThreads > 1) {
+                saveFilesInParallel(filesToSave, callback);
+            } else {
+                saveFiles(filesToSave, callback);
+            }
+
+            callback.saveCompleted(filesWritten, filesSkipped, filesMerged);
+            saveTimer.stop();
+
+            if (manifest != null) {
+                writeManifest(manifest, contextsToRun, fingerprints, recorder, callback);
+            }
+
+            for (String project : projects) {
+                shellCallback.refreshProject(project);
+            }
+        }
 
+        callback.done();
+    }
+
+    /**
+     * Generates code and passes each generated file to the consumer as soon as it is generated,
+     * instead of collecting the files of all tables in memory. The files of a table can be garbage
+     * collected as soon as the consumer is done with them, so the memory used by the run is bound
+     * by the output of a single table (times the number of generation threads of the context)
+     * rather than by the output of the whole configuration.
+     *
+     * <p>Nothing is saved by this method, the consumer is responsible for the files. The lists
+     * returned by {@link #getGeneratedJavaFiles()} and the related methods are not filled, and the
+     * shell callback, the incremental manifest and the save options of this class are not used.
+     * The progress callback receives the introspection and generation messages, followed by
+     * done().
+     *
+     * @param callback an instance of the ProgressCallback interface, or <code>null</code> if you do
+     *     not require progress information
+     * @param contextIds a set of Strings containing context ids to run. If the set is null or
+     *     empty, than all contexts are run.
+     * @param fullyQualifiedTableNames a set of table names to generate. If the set is null or
+     *     empty, then all tables in the configuration will be used for code generation.
+     * @param consumer the consumer of the generated files
+     * @throws SQLException the SQL exception
+     * @throws IOException if the consumer throws an UncheckedIOException
+     * @throws InterruptedException if the method is canceled through the ProgressCallback
+     */
+    public void generate(
+            ProgressCallback callback,
+            Set<String> contextIds,
+            Set<String> fullyQualifiedTableNames,
+            GeneratedFileConsumer consumer)
+            throws SQLException, IOException, InterruptedException {
+
+        if (callback == null) {
+            callback = new NullProgressCallback();
+        }
+
+        GenerationMetrics.Timer introspectionTimer =
+                generationMetrics.start(
+                        GenerationMetrics.Category.PHASE, GenerationMetrics.INTROSPECTION_PHASE);
+        List<Context> contextsToRun =
+                introspectContexts(callback, contextIds, fullyQualifiedTableNames);
+        introspectionTimer.stop();
+
+        callback.generationStarted(getGenerationSteps(contextsToRun));
+
+        GenerationMetrics.Timer generationTimer =
+                generationMetrics.start(
+                        GenerationMetrics.Category.PHASE, GenerationMetrics.GENERATION_PHASE);
+        try {
+            for (Context context : contextsToRun) {
+                context.generateFiles(callback, consumer, warnings);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            generationTimer.stop();
+        }
+
+        callback.done();
+    }
+
+    /**
+     * Calculates the contexts to run, sets up the generation scope of the run, and runs the
+     * introspection of the contexts.
+     */
+    private List<Context> introspectContexts(
+            ProgressCallback callback, Set<String> contextIds, Set<String> fullyQualifiedTableNames)
+            throws SQLException, InterruptedException {
         // calculate the contexts to run
         List<Context> contextsToRun;
         if (contextIds == null || contextIds.isEmpty()) {
@@ -208,10 +366,20 @@ public class MyBatisGenerator {
             }
         }
 
-        // setup custom classloader if required
+        // each run has its own class loaders and caches so that runs in the same JVM are
+        // independent.  Setup custom classloader if required
+        GenerationScope generationScope = new GenerationScope();
+        generationScope.setGenerationMetrics(generationMetrics);
+        for (ClassLoader classLoader : externalClassLoaders) {
+            generationScope.addExternalClassLoader(classLoader);
+        }
         if (!configuration.getClassPathEntries().isEmpty()) {
             ClassLoader classLoader = getCustomClassloader(configuration.getClassPathEntries());
-            ObjectFactory.addExternalClassLoader(classLoader);
+            generationScope.addExternalClassLoader(classLoader);
+        }
+
+        for (Context context : contextsToRun) {
+            context.setGenerationScope(generationScope);
         }
 
         // now run the introspections...
@@ -225,154 +393,496 @@ public class MyBatisGenerator {
             context.introspectTables(callback, warnings, fullyQualifiedTableNames);
         }
 
-        // now run the generates
-        totalSteps = 0;
+        return contextsToRun;
+    }
+
+    private int getGenerationSteps(List<Context> contextsToRun) {
+        int totalSteps = 0;
         for (Context context : contextsToRun) {
             totalSteps += context.getGenerationSteps();
         }
-        callback.generationStarted(totalSteps);
+        return totalSteps;
+    }
 
-        for (Context context : contextsToRun) {
-            context.generateFiles(
-                    callback,
-                    generatedJavaFiles,
-                    generatedXmlFiles,
-                    generatedKotlinFiles,
-                    warnings);
+    private GenerationManifest readManifest() {
+        if (incrementalManifest.exists()) {
+            try {
+                GenerationManifest manifest = GenerationManifest.read(incrementalManifest);
+                if (manifest.isCurrentFormat()) {
+                    return manifest;
+                }
+            } catch (IOException e) {
+                warnings.add(
+                        getString(
+                                "Warning.33", //$NON-NLS-1$
+                                incrementalManifest.getPath(),
+                                e.getMessage()));
+            }
         }
 
-        // now save the files
-        if (writeFiles) {
-            callback.saveStarted(generatedXmlFiles.size() + generatedJavaFiles.size());
+        return new GenerationManifest();
+    }
 
-            for (GeneratedXmlFile gxf : generatedXmlFiles) {
-                projects.add(gxf.getTargetProject());
-                writeGeneratedXmlFile(gxf, callback);
-            }
+    /**
+     * Removes the manifest entries of tables and contexts that are no longer configured. Entries
+     * are only removed for the parts of the configuration that are run, so a run limited to some
+     * contexts or tables keeps the entries of the others.
+     */
+    private void pruneManifest(
+            GenerationManifest manifest,
+            List<Context> contextsToRun,
+            Set<String> contextIds,
+            Set<String> fullyQualifiedTableNames) {
+        if (fullyQualifiedTableNames != null && !fullyQualifiedTableNames.isEmpty()) {
+            return;
+        }
 
-            for (GeneratedJavaFile gjf : generatedJavaFiles) {
-                projects.add(gjf.getTargetProject());
-                writeGeneratedJavaFile(gjf, callback);
+        if (contextIds == null || contextIds.isEmpty()) {
+            List<String> allContextIds = new ArrayList<>();
+            for (Context context : configuration.getContexts()) {
+                allContextIds.add(context.getId());
             }
+            manifest.retainContexts(allContextIds);
+        }
+
+        for (Context context : contextsToRun) {
+            manifest.retainTables(context.getId(), context.getIntrospectedTables());
+        }
+    }
 
-            for (GeneratedKotlinFile gkf : generatedKotlinFiles) {
-                projects.add(gkf.getTargetProject());
-                writeGeneratedKotlinFile(gkf, callback);
+    /**
+     * Removes the tables whose fingerprint matches the manifest from their contexts. The manifest
+     * entries of skipped tables are kept as they are. Tables of a context that generated context
+     * wide files in the last run are never skipped, because the context wide files are calculated
+     * from all tables of the context.
+     */
+    private void skipUpToDateTables(
+            List<Context> contextsToRun,
+            GenerationManifest manifest,
+            Map<IntrospectedTable, String> fingerprints,
+            ProgressCallback callback) {
+        for (Context context : contextsToRun) {
+            boolean skipAllowed = !manifest.hasContextFiles(context.getId());
+            for (IntrospectedTable introspectedTable :
+                    new ArrayList<>(context.getIntrospectedTables())) {
+                String fingerprint = GenerationManifest.fingerprint(context, introspectedTable);
+                fingerprints.put(introspectedTable, fingerprint);
+
+                GenerationManifest.TableEntry tableEntry =
+                        manifest.getTable(context.getId(), introspectedTable);
+                if (skipAllowed && tableEntry != null && tableEntry.isUpToDate(fingerprint)) {
+                    callback.startTask(
+                            getString(
+                                    "Progress.23", //$NON-NLS-1$
+                                    introspectedTable.getFullyQualifiedTable().toString()));
+                    context.removeIntrospectedTable(introspectedTable);
+                }
             }
+        }
+    }
 
-            for (String project : projects) {
-                shellCallback.refreshProject(project);
+    private void writeManifest(
+            GenerationManifest manifest,
+            List<Context> contextsToRun,
+            Map<IntrospectedTable, String> fingerprints,
+            GeneratedFileRecorder recorder,
+            ProgressCallback callback) {
+        for (Context context : contextsToRun) {
+            for (Map.Entry<IntrospectedTable, List<GeneratedFile>> entry :
+                    recorder.getFilesByTable(context).entrySet()) {
+                List<String> files = new ArrayList<>();
+                for (GeneratedFile generatedFile : entry.getValue()) {
+                    File file = savedFiles.get(generatedFile);
+                    if (file == null) {
+                        // the file was not saved - generate the table again next time
+                        files = null;
+                        break;
+                    }
+                    files.add(file.getAbsolutePath());
+                }
+
+                manifest.putTable(
+                        context.getId(),
+                        entry.getKey(),
+                        files == null
+                                ? null
+                                : new GenerationManifest.TableEntry(
+                                        fingerprints.get(entry.getKey()), files));
             }
+
+            manifest.setHasContextFiles(context.getId(), recorder.hasContextFiles(context));
         }
 
-        callback.done();
+        callback.startTask(
+                getString("Progress.24", incrementalManifest.getPath())); // $NON-NLS-1$
+        try {
+            manifest.write(incrementalManifest);
+        } catch (IOException e) {
+            warnings.add(
+                    getString(
+                            "Warning.34", //$NON-NLS-1$
+                            incrementalManifest.getPath(),
+                            e.getMessage()));
+        }
     }
 
-    private void writeGeneratedJavaFile(GeneratedJavaFile gjf, ProgressCallback callback)
+    private void saveFiles(List<GeneratedFile> filesToSave, ProgressCallback callback)
             throws InterruptedException, IOException {
-        File targetFile;
-        String source;
-        try {
-            File directory =
-                    shellCallback.getDirectory(gjf.getTargetProject(), gjf.getTargetPackage());
-            targetFile = new File(directory, gjf.getFileName());
-            if (targetFile.exists()) {
-                if (shellCallback.isMergeSupported()) {
-                    source =
-                            shellCallback.mergeJavaFile(
-                                    gjf.getFormattedContent(),
-                                    targetFile,
-                                    MergeConstants.getOldElementTags(),
-                                    gjf.getFileEncoding());
-                } else if (shellCallback.isOverwriteEnabled()) {
-                    source = gjf.getFormattedContent();
-                    warnings.add(
-                            getString(
-                                    "Warning.11", //$NON-NLS-1$
-                                    targetFile.getAbsolutePath()));
-                } else {
-                    source = gjf.getFormattedContent();
-                    targetFile = getUniqueFileName(directory, gjf.getFileName());
-                    warnings.add(
-                            getString("Warning.2", targetFile.getAbsolutePath())); // $NON-NLS-1$
+        Map<String, File> directories = new HashMap<>();
+        for (GeneratedFile generatedFile : filesToSave) {
+            FileSave fileSave = new FileSave(generatedFile);
+            resolveDirectory(fileSave, directories);
+            if (fileSave.directory != null) {
+                try {
+                    prepareSave(fileSave);
+                } catch (ShellException e) {
+                    fileSave.warnings.add(e.getMessage());
+                    fileSave.targetFile = null;
                 }
-            } else {
-                source = gjf.getFormattedContent();
             }
 
             callback.checkCancel();
-            callback.startTask(getString("Progress.15", targetFile.getName())); // $NON-NLS-1$
-            writeFile(targetFile, source, gjf.getFileEncoding());
-        } catch (ShellException e) {
-            warnings.add(e.getMessage());
+            reportSave(fileSave, callback);
+            if (fileSave.isWriteRequired()) {
+                writeFile(fileSave.targetFile, fileSave.source, fileSave.fileEncoding);
+            }
         }
     }
 
-    private void writeGeneratedKotlinFile(GeneratedKotlinFile gkf, ProgressCallback callback)
+    /**
+     * Saves the files with a pool of worker threads. Directories are resolved on the calling thread
+     * because shell callbacks are not required to be thread safe. Files with the same target file
+     * name are saved by the same worker, in order, so that overwrites and unique file names are the
+     * same as in a sequential save. Warnings and progress messages are reported in the original
+     * file order once each file has been saved.
+     *
+     * @param filesToSave the files to save
+     * @param callback the progress callback
+     * @throws InterruptedException if the save is canceled through the ProgressCallback
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void saveFilesInParallel(List<GeneratedFile> filesToSave, ProgressCallback callback)
             throws InterruptedException, IOException {
-        File targetFile;
-        String source;
+        Map<String, File> directories = new HashMap<>();
+        List<FileSave> fileSaves = new ArrayList<>();
+        Map<File, List<FileSave>> fileSavesByTarget = new LinkedHashMap<>();
+        for (GeneratedFile generatedFile : filesToSave) {
+            FileSave fileSave = new FileSave(generatedFile);
+            resolveDirectory(fileSave, directories);
+            fileSaves.add(fileSave);
+            if (fileSave.directory != null) {
+                fileSavesByTarget
+                        .computeIfAbsent(
+                                new File(fileSave.directory, generatedFile.getFileName()),
+                                k -> new ArrayList<>())
+                        .add(fileSave);
+            }
+        }
+
+        Object mergeLock = new Object();
+        ExecutorService executorService =
+                ConcurrencyUtility.newFixedThreadPool(
+                        Math.min(saveThreads, Math.max(1, fileSavesByTarget.size())),
+                        "mbg-save-"); //$NON-NLS-1$
         try {
-            File directory =
-                    shellCallback.getDirectory(gkf.getTargetProject(), gkf.getTargetPackage());
-            targetFile = new File(directory, gkf.getFileName());
-            if (targetFile.exists()) {
-                if (shellCallback.isOverwriteEnabled()) {
-                    source = gkf.getFormattedContent();
-                    warnings.add(
-                            getString(
-                                    "Warning.11", //$NON-NLS-1$
-                                    targetFile.getAbsolutePath()));
-                } else {
-                    source = gkf.getFormattedContent();
-                    targetFile = getUniqueFileName(directory, gkf.getFileName());
-                    warnings.add(
-                            getString("Warning.2", targetFile.getAbsolutePath())); // $NON-NLS-1$
+            for (List<FileSave> group : fileSavesByTarget.values()) {
+                Future<?> future =
+                        executorService.submit(
+                                () -> {
+                                    for (FileSave fileSave : group) {
+                                        saveFile(fileSave, mergeLock);
+                                    }
+                                    return null;
+                                });
+                for (FileSave fileSave : group) {
+                    fileSave.future = future;
                 }
-            } else {
-                source = gkf.getFormattedContent();
             }
 
-            callback.checkCancel();
-            callback.startTask(getString("Progress.15", targetFile.getName())); // $NON-NLS-1$
-            writeFile(targetFile, source, gkf.getFileEncoding());
-        } catch (ShellException e) {
-            warnings.add(e.getMessage());
+            for (FileSave fileSave : fileSaves) {
+                if (fileSave.future != null) {
+                    getSaveResult(fileSave.future);
+                }
+
+                callback.checkCancel();
+                reportSave(fileSave, callback);
+            }
+        } finally {
+            executorService.shutdownNow();
         }
     }
 
-    private void writeGeneratedXmlFile(GeneratedXmlFile gxf, ProgressCallback callback)
-            throws InterruptedException, IOException {
-        File targetFile;
-        String source;
+    private void saveFile(FileSave fileSave, Object mergeLock) throws IOException {
         try {
-            File directory =
-                    shellCallback.getDirectory(gxf.getTargetProject(), gxf.getTargetPackage());
-            targetFile = new File(directory, gxf.getFileName());
-            if (targetFile.exists()) {
-                if (gxf.isMergeable()) {
-                    source = XmlFileMergerJaxp.getMergedSource(gxf, targetFile);
-                } else if (shellCallback.isOverwriteEnabled()) {
-                    source = gxf.getFormattedContent();
-                    warnings.add(
-                            getString(
-                                    "Warning.11", //$NON-NLS-1$
-                                    targetFile.getAbsolutePath()));
-                } else {
-                    source = gxf.getFormattedContent();
-                    targetFile = getUniqueFileName(directory, gxf.getFileName());
-                    warnings.add(
-                            getString("Warning.2", targetFile.getAbsolutePath())); // $NON-NLS-1$
+            if (fileSave.generatedFile instanceof GeneratedJavaFile
+                    && shellCallback.isMergeSupported()) {
+                // shell callbacks are not required to be thread safe
+                synchronized (mergeLock) {
+                    prepareSave(fileSave);
                 }
             } else {
-                source = gxf.getFormattedContent();
+                prepareSave(fileSave);
             }
-
-            callback.checkCancel();
-            callback.startTask(getString("Progress.15", targetFile.getName())); // $NON-NLS-1$
-            writeFile(targetFile, source, "UTF-8"); // $NON-NLS-1$
         } catch (ShellException e) {
-            warnings.add(e.getMessage());
+            fileSave.warnings.add(e.getMessage());
+            fileSave.targetFile = null;
+            return;
+        }
+
+        if (fileSave.isWriteRequired()) {
+            writeFile(fileSave.targetFile, fileSave.source, fileSave.fileEncoding);
+        }
+    }
+
+    private void getSaveResult(Future<?> future) throws InterruptedException, IOException {
+        try {
+            ConcurrencyUtility.getResult(future);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Resolves the target directory of a file. Each distinct target project and package is only
+     * resolved (and created) once.
+     *
+     * @param fileSave the file save
+     * @param directories the directories resolved so far, keyed by target project and package
+     */
+    private void resolveDirectory(FileSave fileSave, Map<String, File> directories) {
+        GeneratedFile generatedFile = fileSave.generatedFile;
+        String key = generatedFile.getTargetProject() + '\0' + generatedFile.getTargetPackage();
+        File directory = directories.get(key);
+        if (directory == null) {
+            try {
+                directory =
+                        shellCallback.getDirectory(
+                                generatedFile.getTargetProject(),
+                                generatedFile.getTargetPackage());
+                directories.put(key, directory);
+            } catch (ShellException e) {
+                fileSave.warnings.add(e.getMessage());
+                return;
+            }
+        }
+
+        fileSave.directory = directory;
+    }
+
+    /**
+     * Calculates the content and the target file of a file save. If the file exists, then the new
+     * content is either merged with the existing file, or saved over the existing file, or saved in
+     * a new file with a unique name.
+     *
+     * @param fileSave the file save
+     * @throws ShellException if the Java merge fails
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void prepareSave(FileSave fileSave) throws ShellException, IOException {
+        GeneratedFile generatedFile = fileSave.generatedFile;
+        if (releaseDomAfterSave) {
+            // the content is formatted once, and kept when the DOM is released below
+            generatedFile.setContentCached(true);
+        }
+
+        File targetFile = new File(fileSave.directory, generatedFile.getFileName());
+        if (!targetFile.exists()) {
+            fileSave.source = getFormattedContent(generatedFile);
+        } else if (generatedFile instanceof GeneratedJavaFile
+                && shellCallback.isMergeSupported()) {
+            String newFileSource = getFormattedContent(generatedFile);
+            GenerationMetrics.Timer timer =
+                    generationMetrics.start(
+                            GenerationMetrics.Category.PHASE, GenerationMetrics.JAVA_MERGE_PHASE);
+            try {
+                fileSave.source =
+                        shellCallback.mergeJavaFile(
+                                newFileSource,
+                                targetFile,
+                                MergeConstants.getOldElementTags(),
+                                fileSave.fileEncoding);
+            } finally {
+                timer.stop();
+            }
+            fileSave.merged = true;
+            fileSave.unchanged = isUnchanged(targetFile, fileSave.source, fileSave.fileEncoding);
+        } else if (generatedFile instanceof GeneratedXmlFile && generatedFile.isMergeable()) {
+            GenerationMetrics.Timer timer =
+                    generationMetrics.start(
+                            GenerationMetrics.Category.PHASE, GenerationMetrics.XML_MERGE_PHASE);
+            try {
+                fileSave.source =
+                        XmlFileMergerStax.getMergedSource(
+                                (GeneratedXmlFile) generatedFile, targetFile);
+            } finally {
+                timer.stop();
+            }
+            fileSave.merged = true;
+            fileSave.unchanged = isUnchanged(targetFile, fileSave.source, fileSave.fileEncoding);
+        } else {
+            fileSave.source = getFormattedContent(generatedFile);
+            fileSave.unchanged = isUnchanged(targetFile, fileSave.source, fileSave.fileEncoding);
+            if (fileSave.unchanged) {
+                // nothing to do - the existing file is the same as the generated file
+            } else if (shellCallback.isOverwriteEnabled()) {
+                fileSave.warnings.add(
+                        getString(
+                                "Warning.11", //$NON-NLS-1$
+                                targetFile.getAbsolutePath()));
+            } else {
+                targetFile = getUniqueFileName(fileSave.directory, generatedFile.getFileName());
+                fileSave.warnings.add(
+                        getString("Warning.2", targetFile.getAbsolutePath())); // $NON-NLS-1$
+            }
+        }
+
+        fileSave.targetFile = targetFile;
+        if (releaseDomAfterSave) {
+            generatedFile.releaseDom();
+        }
+    }
+
+    private String getFormattedContent(GeneratedFile generatedFile) {
+        GenerationMetrics.Timer timer =
+                generationMetrics.start(
+                        GenerationMetrics.Category.PHASE, GenerationMetrics.RENDER_PHASE);
+        String formattedContent = generatedFile.getFormattedContent();
+        timer.stop();
+        return formattedContent;
+    }
+
+    private void reportSave(FileSave fileSave, ProgressCallback callback) {
+        warnings.addAll(fileSave.warnings);
+        if (fileSave.targetFile == null) {
+            return;
+        }
+
+        savedFiles.put(fileSave.generatedFile, fileSave.targetFile);
+        if (fileSave.merged) {
+            filesMerged++;
+        }
+
+        if (fileSave.unchanged) {
+            filesSkipped++;
+            callback.startTask(
+                    getString("Progress.22", fileSave.targetFile.getName())); // $NON-NLS-1$
+        } else {
+            filesWritten++;
+            callback.startTask(
+                    getString("Progress.15", fileSave.targetFile.getName())); // $NON-NLS-1$
+        }
+    }
+
+    /**
+     * Collects the generated files in the result lists of this class, and records which files
+     * belong to which table (for the incremental manifest). Files that are not followed by a
+     * tableCompleted call are the context wide files of the context.
+     */
+    private class GeneratedFileRecorder implements GeneratedFileConsumer {
+        private Map<Context, Map<IntrospectedTable, List<GeneratedFile>>> filesByTable =
+                new IdentityHashMap<>();
+        private Set<Context> contextsWithContextFiles =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        private List<GeneratedFile> pendingFiles = new ArrayList<>();
+        private Map<IntrospectedTable, List<GeneratedFile>> currentContextFiles =
+                new LinkedHashMap<>();
+
+        @Override
+        public void accept(GeneratedFile generatedFile) {
+            if (generatedFile instanceof GeneratedJavaFile) {
+                generatedJavaFiles.add((GeneratedJavaFile) generatedFile);
+            } else if (generatedFile instanceof GeneratedXmlFile) {
+                generatedXmlFiles.add((GeneratedXmlFile) generatedFile);
+            } else if (generatedFile instanceof GeneratedKotlinFile) {
+                generatedKotlinFiles.add((GeneratedKotlinFile) generatedFile);
+            }
+            pendingFiles.add(generatedFile);
+        }
+
+        @Override
+        public void tableCompleted(IntrospectedTable introspectedTable) {
+            currentContextFiles.put(introspectedTable, pendingFiles);
+            pendingFiles = new ArrayList<>();
+        }
+
+        void contextCompleted(Context context) {
+            filesByTable.put(context, currentContextFiles);
+            if (!pendingFiles.isEmpty()) {
+                contextsWithContextFiles.add(context);
+            }
+            currentContextFiles = new LinkedHashMap<>();
+            pendingFiles = new ArrayList<>();
+        }
+
+        Map<IntrospectedTable, List<GeneratedFile>> getFilesByTable(Context context) {
+            return filesByTable.getOrDefault(context, Collections.emptyMap());
+        }
+
+        boolean hasContextFiles(Context context) {
+            return contextsWithContextFiles.contains(context);
+        }
+    }
+
+    /** The state of saving a single generated file. */
+    private static class FileSave {
+        private GeneratedFile generatedFile;
+        private String fileEncoding;
+        private File directory;
+        private File targetFile;
+        private String source;
+        private boolean merged;
+        private boolean unchanged;
+        private List<String> warnings = new ArrayList<>();
+        private Future<?> future;
+
+        FileSave(GeneratedFile generatedFile) {
+            this.generatedFile = generatedFile;
+            if (generatedFile instanceof GeneratedJavaFile) {
+                fileEncoding = ((GeneratedJavaFile) generatedFile).getFileEncoding();
+            } else if (generatedFile instanceof GeneratedKotlinFile) {
+                fileEncoding = ((GeneratedKotlinFile) generatedFile).getFileEncoding();
+            } else {
+                fileEncoding = "UTF-8"; // $NON-NLS-1$
+            }
+        }
+
+        boolean isWriteRequired() {
+            return targetFile != null && !unchanged;
+        }
+    }
+
+    /**
+     * Returns true if only changed files should be written, and the existing file has exactly the
+     * content that would be written. The file lengths are compared first, so the existing file is
+     * only read if it could be the same.
+     *
+     * @param file the existing file
+     * @param content the new content
+     * @param fileEncoding the file encoding, or null for the platform default
+     * @return true if the file does not need to be written
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private boolean isUnchanged(File file, String content, String fileEncoding)
+            throws IOException {
+        if (!writeOnlyChangedFiles || !file.isFile()) {
+            return false;
+        }
+
+        byte[] bytes = content.getBytes(getCharset(fileEncoding));
+        if (file.length() != bytes.length) {
+            return false;
+        }
+
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            for (byte b : bytes) {
+                if (is.read() != (b & 0xff)) {
+                    return false;
+                }
+            }
+            return is.read() == -1;
         }
     }
 
@@ -385,19 +895,15 @@ public class MyBatisGenerator {
      * @throws IOException Signals that an I/O exception has occurred.
      */
     private void writeFile(File file, String content, String fileEncoding) throws IOException {
-        FileOutputStream fos = new FileOutputStream(file, false);
-        OutputStreamWriter osw;
-        if (fileEncoding == null) {
-            osw = new OutputStreamWriter(fos);
-        } else {
-            osw = new OutputStreamWriter(fos, fileEncoding);
-        }
-
-        try (BufferedWriter bw = new BufferedWriter(osw)) {
+        try (BufferedWriter bw = Files.newBufferedWriter(file.toPath(), getCharset(fileEncoding))) {
             bw.write(content);
         }
     }
 
+    private Charset getCharset(String fileEncoding) {
+        return fileEncoding == null ? Charset.defaultCharset() : Charset.forName(fileEncoding);
+    }
+
     /**
      * Gets the unique file name.
      *
@@ -406,29 +912,152 @@ public class MyBatisGenerator {
      * @return the unique file name
      */
     private File getUniqueFileName(File directory, String fileName) {
-        File answer = null;
-
-        // try up to 1000 times to generate a unique file name
-        StringBuilder sb = new StringBuilder();
-        for (int i = 1; i < 1000; i++) {
-            sb.setLength(0);
-            sb.append(fileName);
-            sb.append('.');
-            sb.append(i);
-
-            File testFile = new File(directory, sb.toString());
-            if (!testFile.exists()) {
-                answer = testFile;
-                break;
+        // list the directory once instead of checking up to 1000 file names
+        String prefix = fileName + '.';
+        boolean[] usedSuffixes = new boolean[1000];
+        String[] names = directory.list((dir, name) -> name.startsWith(prefix));
+        if (names != null) {
+            for (String name : names) {
+                String suffix = name.substring(prefix.length());
+                if (suffix.length() > 0
+                        && suffix.length() < 4
+                        && suffix.chars().allMatch(Character::isDigit)) {
+                    usedSuffixes[Integer.parseInt(suffix)] = true;
+                }
             }
         }
 
-        if (answer == null) {
-            throw new RuntimeException(
-                    getString("RuntimeError.3", directory.getAbsolutePath())); // $NON-NLS-1$
+        for (int i = 1; i < usedSuffixes.length; i++) {
+            if (!usedSuffixes[i]) {
+                // the name may still exist on case insensitive file systems
+                File testFile = new File(directory, prefix + i);
+                if (!testFile.exists()) {
+                    return testFile;
+                }
+            }
         }
 
-        return answer;
+        throw new RuntimeException(
+                getString("RuntimeError.3", directory.getAbsolutePath())); // $NON-NLS-1$
+    }
+
+    /**
+     * Returns true if existing files are only written when their content changes.
+     *
+     * @return true if unchanged files are skipped
+     */
+    public boolean isWriteOnlyChangedFiles() {
+        return writeOnlyChangedFiles;
+    }
+
+    /**
+     * Sets whether existing files are only written when their content changes. If true, then the
+     * generator compares the generated (or merged) content with the existing file and skips the
+     * write if they are the same. This keeps the file timestamp unchanged, so build tools and IDEs
+     * do not recompile unchanged files. The default is false - every file is written.
+     *
+     * @param writeOnlyChangedFiles true to skip unchanged files
+     */
+    public void setWriteOnlyChangedFiles(boolean writeOnlyChangedFiles) {
+        this.writeOnlyChangedFiles = writeOnlyChangedFiles;
+    }
+
+    /**
+     * Returns the manifest file used for incremental generation.
+     *
+     * @return the manifest file, or null if incremental generation is disabled
+     */
+    public File getIncrementalManifest() {
+        return incrementalManifest;
+    }
+
+    /**
+     * Enables incremental generation. The manifest file records a fingerprint of every table
+     * (introspected metadata, table and context configuration, and generator version) and the
+     * files saved for it. On the next run, tables with an unchanged fingerprint whose files still
+     * exist are not generated or saved again. The manifest is only used, and updated, when files
+     * are written.
+     *
+     * <p>Contexts with plugins that generate files for the context as a whole (like the
+     * MapperConfigPlugin) are always generated completely, because those files depend on every
+     * table.
+     *
+     * @param incrementalManifest the manifest file, or null to disable incremental generation
+     */
+    public void setIncrementalManifest(File incrementalManifest) {
+        this.incrementalManifest = incrementalManifest;
+    }
+
+    /**
+     * Returns true if the DOM of each generated file is released once the file is saved.
+     *
+     * @return true if the DOM is released after the save
+     */
+    public boolean isReleaseDomAfterSave() {
+        return releaseDomAfterSave;
+    }
+
+    /**
+     * Sets whether the DOM of each generated file (the compilation unit, XML document or Kotlin
+     * file) is released once the file has been handed to the save phase. The formatted content of
+     * the file is cached before the DOM is released, so it is only formatted once and is still
+     * available through {@link GeneratedFile#getFormattedContent()}. This lowers the memory used
+     * by the save phase, and by the file lists returned after the run. The default is false -
+     * the DOM is kept so that callers can inspect the generated files after the run.
+     *
+     * @param releaseDomAfterSave true to release the DOM of saved files
+     * @see GeneratedFile#releaseDom()
+     */
+    public void setReleaseDomAfterSave(boolean releaseDomAfterSave) {
+        this.releaseDomAfterSave = releaseDomAfterSave;
+    }
+
+    /**
+     * Returns the number of threads used to save the generated files.
+     *
+     * @return the number of save threads
+     */
+    public int getSaveThreads() {
+        return saveThreads;
+    }
+
+    /**
+     * Sets the number of threads used to save the generated files. The default is 1 - files are
+     * saved one at a time on the calling thread. With more than one thread, files are merged,
+     * compared and written concurrently. Warnings and progress messages are still reported in the
+     * same order as a sequential save. Java file merges are serialized because shell callbacks are
+     * not required to be thread safe.
+     *
+     * @param saveThreads the number of save threads. Values less than 1 are treated as 1
+     */
+    public void setSaveThreads(int saveThreads) {
+        this.saveThreads = Math.max(1, saveThreads);
+    }
+
+    /**
+     * Adds a class loader that is searched for "external" classes (like JDBC drivers, plugins and
+     * root classes) by the runs of this generator. The class loader is only used by this generator
+     * - it is not visible to other generators in the same JVM.
+     *
+     * @param classLoader the class loader
+     */
+    public void addExternalClassLoader(ClassLoader classLoader) {
+        externalClassLoaders.add(classLoader);
+    }
+
+    public GenerationMetrics getGenerationMetrics() {
+        return generationMetrics;
+    }
+
+    /**
+     * Sets the metrics that measure the phases of the run, the introspection and generation of
+     * each table, and the calls to the plugins. Measurements are disabled by default.
+     *
+     * @param generationMetrics the metrics, or <code>null</code> to disable measurements
+     */
+    public void setGenerationMetrics(GenerationMetrics generationMetrics) {
+        this.generationMetrics =
+                generationMetrics == null ? GenerationMetrics.NONE : generationMetrics;
     }
 
     /**
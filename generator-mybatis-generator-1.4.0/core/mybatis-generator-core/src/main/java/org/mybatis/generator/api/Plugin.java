@@ -59,6 +59,14 @@ import java.util.Properties;
  * <p>Plugins are called, and initialized, in the same order they are specified in the
  * configuration.
  *
+ * <p>If the context enables parallel generation (the "generationThreads" property), then the
+ * initialized, clientXXX, providerXXX, modelXXX, and sqlMapXXX methods are called from worker
+ * threads, and tables are processed in an unpredictable order. Unless a plugin declares itself
+ * thread safe (see {@link #isThreadSafe()}), its calls are serialized with the calls to all the
+ * other plugins that are not thread safe - no two of these plugin methods run at the same time.
+ * The contextGenerateAdditionalXXX methods are always called on the calling thread, in table
+ * order.
+ *
  * <p>The clientXXX, modelXXX, and sqlMapXXX methods are called by the code generators. If you
  * replace the default code generators with other implementations, these methods may not be called.
  *
@@ -87,6 +95,22 @@ public interface Plugin {
      */
     void setProperties(Properties properties);
 
+    /**
+     * Returns true if the methods of this plugin can be called for different tables at the same
+     * time. This only matters if the context enables parallel generation. The calls to plugins that
+     * are not thread safe are serialized, so the worker threads wait for each other while they run
+     * such a plugin.
+     *
+     * <p>A plugin is thread safe if it does not change its own state after it has been validated,
+     * or protects that state itself. The comment generator is always safe to call. The default
+     * implementation returns false.
+     *
+     * @return true if the methods of this plugin may run concurrently
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /**
      * This method is called just before the getGeneratedXXXFiles methods are called on the
      * introspected table. Plugins can implement this method to override any of the default
@@ -538,6 +562,27 @@ public interface Plugin {
         return true;
     }
 
+    /**
+     * This method is called when the multi-row insert method has been generated in the client
+     * interface. This method is only called in the MyBatis3 and MyBatis3Simple runtimes, and only
+     * if the insert batch statement is enabled for the table. It is called once for each table -
+     * when Java 8 is targeted, the default method that splits the list of records is added along
+     * with the generated method and is not passed to this method.
+     *
+     * @param method the generated insert batch method
+     * @param interfaze the partially implemented client interface. You can add additional imported
+     *     classes to the interface if necessary.
+     * @param introspectedTable The class containing information about the table as introspected
+     *     from the database
+     * @return true if the method should be generated, false if the generated method should be
+     *     ignored. In the case of multiple plugins, the first plugin returning false will disable
+     *     the calling of further plugins.
+     */
+    default boolean clientInsertBatchMethodGenerated(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        return true;
+    }
+
     /**
      * This method is called when the insert multiple method has been generated in the client
      * interface. This method is only called in the MyBatis3DynamicSql runtime.
@@ -639,6 +684,27 @@ public interface Plugin {
         return true;
     }
 
+    /**
+     * This method is called when a selectByPrimaryKeys method has been generated in the client
+     * interface. This method is called in the MyBatis3, MyBatis3Simple and MyBatis3DynamicSql
+     * runtimes, and only if the select by primary keys statement is enabled for the table. It is
+     * called once for each table - when Java 8 is targeted, the default method that splits the
+     * keys is added along with the generated method and is not passed to this method.
+     *
+     * @param method the generated selectByPrimaryKeys method
+     * @param interfaze the partially implemented client interface. You can add additional imported
+     *     classes to the interface if necessary.
+     * @param introspectedTable The class containing information about the table as introspected
+     *     from the database
+     * @return true if the method should be generated, false if the generated method should be
+     *     ignored. In the case of multiple plugins, the first plugin returning false will disable
+     *     the calling of further plugins.
+     */
+    default boolean clientSelectByPrimaryKeysMethodGenerated(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        return true;
+    }
+
     /**
      * Called when the selectList field is generated in a MyBatis Dynamic SQL V2 runtime.
      *
@@ -1100,6 +1166,21 @@ public interface Plugin {
      */
     boolean sqlMapInsertElementGenerated(XmlElement element, IntrospectedTable introspectedTable);
 
+    /**
+     * This method is called when the multi-row insert element is generated.
+     *
+     * @param element the generated &lt;insert&gt; element
+     * @param introspectedTable The class containing information about the table as introspected
+     *     from the database
+     * @return true if the element should be generated, false if the generated element should be
+     *     ignored. In the case of multiple plugins, the first plugin returning false will disable
+     *     the calling of further plugins.
+     */
+    default boolean sqlMapInsertBatchElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        return true;
+    }
+
     /**
      * This method is called when the insert selective element is generated.
      *
@@ -1153,6 +1234,21 @@ public interface Plugin {
     boolean sqlMapSelectByPrimaryKeyElementGenerated(
             XmlElement element, IntrospectedTable introspectedTable);
 
+    /**
+     * This method is called when the selectByPrimaryKeys element is generated.
+     *
+     * @param element the generated &lt;select&gt; element
+     * @param introspectedTable The class containing information about the table as introspected
+     *     from the database
+     * @return true if the element should be generated, false if the generated element should be
+     *     ignored. In the case of multiple plugins, the first plugin returning false will disable
+     *     the calling of further plugins.
+     */
+    default boolean sqlMapSelectByPrimaryKeysElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        return true;
+    }
+
     /**
      * This method is called when the selectByExample element is generated.
      *
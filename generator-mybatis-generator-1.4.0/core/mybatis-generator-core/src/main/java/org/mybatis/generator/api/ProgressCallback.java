@@ -28,6 +28,7 @@ package org.mybatis.generator.api;
  *   <li>(Repeatedly) startTask(String)
  *   <li>saveStarted(int)
  *   <li>(Repeatedly) startTask(String)
+ *   <li>saveCompleted(int, int, int)
  *   <li>done()
  * </ol>
  *
@@ -74,6 +75,18 @@ public interface ProgressCallback {
      */
     void startTask(String taskName);
 
+    /**
+     * Called at the end of the file saving phase to report how many files were saved. This method
+     * is not called if files are not written.
+     *
+     * @param filesWritten the number of files written to the file system
+     * @param filesSkipped the number of existing files that were not written because the content
+     *     did not change (see {@link MyBatisGenerator#setWriteOnlyChangedFiles(boolean)})
+     * @param filesMerged the number of files that were merged with an existing file. Merged files
+     *     are also counted as written or skipped
+     */
+    default void saveCompleted(int filesWritten, int filesSkipped, int filesMerged) {}
+
     /** This method is called when all generated files have been saved. */
     void done();
 
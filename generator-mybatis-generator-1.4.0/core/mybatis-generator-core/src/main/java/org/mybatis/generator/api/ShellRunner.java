@@ -35,12 +35,16 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 public class ShellRunner {
     private static final String CONFIG_FILE = "-configfile"; // $NON-NLS-1$
     private static final String OVERWRITE = "-overwrite"; // $NON-NLS-1$
+    private static final String WRITE_ONLY_CHANGED_FILES = "-writeOnlyChangedFiles"; // $NON-NLS-1$
+    private static final String MERGE_JAVA_FILES = "-mergeJavaFiles"; // $NON-NLS-1$
     private static final String CONTEXT_IDS = "-contextids"; // $NON-NLS-1$
     private static final String TABLES = "-tables"; // $NON-NLS-1$
     private static final String VERBOSE = "-verbose"; // $NON-NLS-1$
+    private static final String METRICS = "-metrics"; // $NON-NLS-1$
     private static final String FORCE_JAVA_LOGGING = "-forceJavaLogging"; // $NON-NLS-1$
     private static final String HELP_1 = "-?"; // $NON-NLS-1$
     private static final String HELP_2 = "-h"; // $NON-NLS-1$
+    private static final int METRICS_REPORT_ENTRIES = 20;
 
     public static void main(String[] args) {
         if (args.length == 0) {
@@ -94,15 +98,27 @@ public class ShellRunner {
             }
         }
 
+        GenerationMetrics generationMetrics =
+                arguments.containsKey(METRICS) ? new GenerationMetrics() : null;
+
         try {
             ConfigurationParser cp = new ConfigurationParser(warnings);
             Configuration config = cp.parseConfiguration(configurationFile);
 
             DefaultShellCallback shellCallback =
                     new DefaultShellCallback(arguments.containsKey(OVERWRITE));
+            shellCallback.setMergeJavaFiles(arguments.containsKey(MERGE_JAVA_FILES));
+            if (shellCallback.isMergeJavaFiles() && !shellCallback.isMergeSupported()) {
+                warnings.add(getString("Warning.36")); // $NON-NLS-1$
+            }
 
             MyBatisGenerator myBatisGenerator =
                     new MyBatisGenerator(config, shellCallback, warnings);
+            myBatisGenerator.setWriteOnlyChangedFiles(
+                    arguments.containsKey(WRITE_ONLY_CHANGED_FILES));
+            // the generated files are not used after the save
+            myBatisGenerator.setReleaseDomAfterSave(true);
+            myBatisGenerator.setGenerationMetrics(generationMetrics);
 
             ProgressCallback progressCallback =
                     arguments.containsKey(VERBOSE) ? new VerboseProgressCallback() : null;
@@ -134,6 +150,12 @@ public class ShellRunner {
             writeLine(warning);
         }
 
+        if (generationMetrics != null) {
+            writeLine();
+            writeLine(getString("Progress.25")); // $NON-NLS-1$
+            writeLine(generationMetrics.getReport(METRICS_REPORT_ENTRIES));
+        }
+
         if (warnings.isEmpty()) {
             writeLine(getString("Progress.4")); // $NON-NLS-1$
         } else {
@@ -168,8 +190,14 @@ public class ShellRunner {
                 i++;
             } else if (OVERWRITE.equalsIgnoreCase(args[i])) {
                 arguments.put(OVERWRITE, "Y"); // $NON-NLS-1$
+            } else if (WRITE_ONLY_CHANGED_FILES.equalsIgnoreCase(args[i])) {
+                arguments.put(WRITE_ONLY_CHANGED_FILES, "Y"); // $NON-NLS-1$
+            } else if (MERGE_JAVA_FILES.equalsIgnoreCase(args[i])) {
+                arguments.put(MERGE_JAVA_FILES, "Y"); // $NON-NLS-1$
             } else if (VERBOSE.equalsIgnoreCase(args[i])) {
                 arguments.put(VERBOSE, "Y"); // $NON-NLS-1$
+            } else if (METRICS.equalsIgnoreCase(args[i])) {
+                arguments.put(METRICS, "Y"); // $NON-NLS-1$
             } else if (HELP_1.equalsIgnoreCase(args[i])) {
                 arguments.put(HELP_1, "Y"); // $NON-NLS-1$
             } else if (HELP_2.equalsIgnoreCase(args[i])) {
@@ -15,6 +15,8 @@ package org.mybatis.generator.api;
 
 import org.mybatis.generator.internal.NullProgressCallback;
 
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
 /**
  * A slightly more verbose progress callback.
  *
@@ -30,4 +32,14 @@ public class VerboseProgressCallback extends NullProgressCallback {
     public void startTask(String taskName) {
         System.out.println(taskName);
     }
+
+    @Override
+    public void saveCompleted(int filesWritten, int filesSkipped, int filesMerged) {
+        System.out.println(
+                getString(
+                        "Progress.21", //$NON-NLS-1$
+                        Integer.toString(filesWritten),
+                        Integer.toString(filesSkipped),
+                        Integer.toString(filesMerged)));
+    }
 }
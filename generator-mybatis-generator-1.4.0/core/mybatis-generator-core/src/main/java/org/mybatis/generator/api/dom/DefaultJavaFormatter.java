@@ -15,11 +15,16 @@ package org.mybatis.generator.api.dom;
 
 import org.mybatis.generator.api.JavaFormatter;
 import org.mybatis.generator.api.dom.java.*;
+import org.mybatis.generator.api.dom.java.render.JavaSourceWriter;
 import org.mybatis.generator.api.dom.java.render.TopLevelClassRenderer;
 import org.mybatis.generator.api.dom.java.render.TopLevelEnumerationRenderer;
 import org.mybatis.generator.api.dom.java.render.TopLevelInterfaceRenderer;
 import org.mybatis.generator.config.Context;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
 /**
  * This class is the default formatter for generated Java. This class will use the built in DOM
  * renderers.
@@ -34,6 +39,45 @@ public class DefaultJavaFormatter implements JavaFormatter, CompilationUnitVisit
         return compilationUnit.accept(this);
     }
 
+    /**
+     * Renders a compilation unit directly into a writer, without building the content as a string
+     * first. The content is the same as the content returned by
+     * {@link #getFormattedContent(CompilationUnit)}.
+     *
+     * @param compilationUnit the compilation unit
+     * @param writer the writer
+     * @throws IOException if the writer fails
+     */
+    public void writeFormattedContent(CompilationUnit compilationUnit, Writer writer)
+            throws IOException {
+        JavaSourceWriter sourceWriter = new JavaSourceWriter(writer);
+        try {
+            compilationUnit.accept(
+                    new CompilationUnitVisitor<Void>() {
+                        @Override
+                        public Void visit(TopLevelClass topLevelClass) {
+                            new TopLevelClassRenderer().render(topLevelClass, sourceWriter);
+                            return null;
+                        }
+
+                        @Override
+                        public Void visit(TopLevelEnumeration topLevelEnumeration) {
+                            new TopLevelEnumerationRenderer()
+                                    .render(topLevelEnumeration, sourceWriter);
+                            return null;
+                        }
+
+                        @Override
+                        public Void visit(Interface topLevelInterface) {
+                            new TopLevelInterfaceRenderer().render(topLevelInterface, sourceWriter);
+                            return null;
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
@@ -16,8 +16,13 @@ package org.mybatis.generator.api.dom;
 import org.mybatis.generator.api.XmlFormatter;
 import org.mybatis.generator.api.dom.xml.Document;
 import org.mybatis.generator.api.dom.xml.render.DocumentRenderer;
+import org.mybatis.generator.api.dom.xml.render.DocumentWriter;
 import org.mybatis.generator.config.Context;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
 /**
  * This class is the default formatter for generated XML. This class will use the built in document
  * renderer.
@@ -32,6 +37,22 @@ public class DefaultXmlFormatter implements XmlFormatter {
         return new DocumentRenderer().render(document);
     }
 
+    /**
+     * Renders a document directly into a writer, without building the content as a string first.
+     * The content is the same as the content returned by {@link #getFormattedContent(Document)}.
+     *
+     * @param document the document
+     * @param writer the writer
+     * @throws IOException if the writer fails
+     */
+    public void writeFormattedContent(Document document, Writer writer) throws IOException {
+        try {
+            new DocumentWriter(writer).write(document);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     @Override
     public void setContext(Context context) {
         this.context = context;
@@ -35,7 +35,7 @@ public abstract class AbstractJavaType extends JavaElement {
     private List<Method> methods = new ArrayList<>();
 
     public AbstractJavaType(FullyQualifiedJavaType type) {
-        this.type = type;
+        this.type = FullyQualifiedJavaType.modifiable(type);
     }
 
     public AbstractJavaType(String type) {
@@ -83,7 +83,7 @@ public abstract class AbstractJavaType extends JavaElement {
     }
 
     public void addSuperInterface(FullyQualifiedJavaType superInterface) {
-        superInterfaceTypes.add(superInterface);
+        superInterfaceTypes.add(FullyQualifiedJavaType.modifiable(superInterface));
     }
 
     public FullyQualifiedJavaType getType() {
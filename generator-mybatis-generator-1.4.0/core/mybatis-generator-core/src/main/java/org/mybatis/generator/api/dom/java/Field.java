@@ -25,7 +25,7 @@ public class Field extends JavaElement {
 
     public Field(String name, FullyQualifiedJavaType type) {
         this.name = name;
-        this.type = type;
+        this.type = FullyQualifiedJavaType.modifiable(type);
     }
 
     public Field(Field field) {
@@ -51,7 +51,7 @@ public class Field extends JavaElement {
     }
 
     public void setType(FullyQualifiedJavaType type) {
-        this.type = type;
+        this.type = FullyQualifiedJavaType.modifiable(type);
     }
 
     public Optional<String> getInitializationString() {
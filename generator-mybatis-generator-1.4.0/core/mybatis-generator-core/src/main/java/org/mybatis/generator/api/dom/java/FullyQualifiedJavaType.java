@@ -14,8 +14,13 @@
 package org.mybatis.generator.api.dom.java;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.function.Function;
+
+import org.mybatis.generator.internal.GenerationScope;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
@@ -24,20 +29,6 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
     private static final String JAVA_LANG = "java.lang"; // $NON-NLS-1$
 
-    private static FullyQualifiedJavaType intInstance = null;
-
-    private static FullyQualifiedJavaType stringInstance = null;
-
-    private static FullyQualifiedJavaType booleanPrimitiveInstance = null;
-
-    private static FullyQualifiedJavaType objectInstance = null;
-
-    private static FullyQualifiedJavaType dateInstance = null;
-
-    private static FullyQualifiedJavaType criteriaInstance = null;
-
-    private static FullyQualifiedJavaType generatedCriteriaInstance = null;
-
     /** The short name without any generic arguments. */
     private String baseShortName;
 
@@ -63,15 +54,108 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
     private boolean extendsBoundedWildcard;
 
+    /** True for the unmodifiable instances returned by {@link #of(String)}. */
+    private final boolean interned;
+
+    // the following three values are calculated on first use by interned instances
+    private volatile String fullyQualifiedName;
+
+    private volatile String shortName;
+
+    private volatile List<String> importList;
+
     /**
      * Use this constructor to construct a generic type with the specified type parameters.
      *
      * @param fullTypeSpecification the full type specification
      */
     public FullyQualifiedJavaType(String fullTypeSpecification) {
+        this(fullTypeSpecification, false);
+    }
+
+    private FullyQualifiedJavaType(String fullTypeSpecification, boolean interned) {
         super();
+        this.interned = interned;
         typeArguments = new ArrayList<>();
         parse(fullTypeSpecification);
+        if (interned) {
+            typeArguments = Collections.unmodifiableList(typeArguments);
+        }
+    }
+
+    /**
+     * Creates a modifiable copy of an interned instance. Type arguments are copied as well.
+     */
+    private FullyQualifiedJavaType(FullyQualifiedJavaType original) {
+        super();
+        interned = false;
+        baseShortName = original.baseShortName;
+        baseQualifiedName = original.baseQualifiedName;
+        explicitlyImported = original.explicitlyImported;
+        packageName = original.packageName;
+        primitive = original.primitive;
+        isArray = original.isArray;
+        primitiveTypeWrapper = original.primitiveTypeWrapper;
+        wildcardType = original.wildcardType;
+        boundedWildcard = original.boundedWildcard;
+        extendsBoundedWildcard = original.extendsBoundedWildcard;
+        typeArguments = new ArrayList<>();
+        for (FullyQualifiedJavaType typeArgument : original.typeArguments) {
+            typeArguments.add(modifiable(typeArgument));
+        }
+    }
+
+    /**
+     * Returns an unmodifiable instance for the specified type. During a generation run, instances
+     * are parsed once and cached in the {@link GenerationScope} of the run, so this method is much
+     * cheaper than the constructor for types that are used over and over again during code
+     * generation. Outside of a generation run a new instance is returned by every call.
+     *
+     * <p>The returned instance (and any of its type arguments) cannot be changed - {@link
+     * #addTypeArgument(FullyQualifiedJavaType)} will throw an exception, and the list returned by
+     * {@link #getTypeArguments()} cannot be modified. Use the constructor, or one of the
+     * <code>getNewXXXInstance</code> methods, if type arguments will be added to the type after it
+     * is created.
+     *
+     * <p>Interned instances are meant for parsing and name lookups. The generated Java elements
+     * (classes, interfaces, fields, methods and parameters) store a modifiable copy of any
+     * interned instance they are given, so plugins can still add type arguments to the types
+     * they find in the generated elements.
+     *
+     * @param fullTypeSpecification the full type specification
+     * @return the unmodifiable instance
+     */
+    public static FullyQualifiedJavaType of(String fullTypeSpecification) {
+        GenerationScope generationScope = GenerationScope.getCurrentScope();
+        if (generationScope == null) {
+            return new FullyQualifiedJavaType(fullTypeSpecification, true);
+        }
+
+        // the type arguments are interned while the type is parsed, so the type cannot be created
+        // inside computeIfAbsent
+        Map<String, FullyQualifiedJavaType> javaTypeCache = generationScope.getJavaTypeCache();
+        FullyQualifiedJavaType answer = javaTypeCache.get(fullTypeSpecification);
+        if (answer == null) {
+            answer = new FullyQualifiedJavaType(fullTypeSpecification, true);
+            FullyQualifiedJavaType existing =
+                    javaTypeCache.putIfAbsent(fullTypeSpecification, answer);
+            if (existing != null) {
+                answer = existing;
+            }
+        }
+
+        return answer;
+    }
+
+    /**
+     * Returns the type itself if it can be changed, or a modifiable copy if it is an interned
+     * instance. The generated Java elements call this for every type they store.
+     *
+     * @param type the type, may be null
+     * @return a modifiable instance of the type, or null if the type is null
+     */
+    static FullyQualifiedJavaType modifiable(FullyQualifiedJavaType type) {
+        return type == null || !type.interned ? type : new FullyQualifiedJavaType(type);
     }
 
     public boolean isExplicitlyImported() {
@@ -84,37 +168,16 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
      * @return Returns the fullyQualifiedName.
      */
     public String getFullyQualifiedName() {
-        StringBuilder sb = new StringBuilder();
-        if (wildcardType) {
-            sb.append('?');
-            if (boundedWildcard) {
-                if (extendsBoundedWildcard) {
-                    sb.append(" extends "); // $NON-NLS-1$
-                } else {
-                    sb.append(" super "); // $NON-NLS-1$
-                }
-
-                sb.append(baseQualifiedName);
-            }
-        } else {
-            sb.append(baseQualifiedName);
-        }
-
-        if (!typeArguments.isEmpty()) {
-            boolean first = true;
-            sb.append('<');
-            for (FullyQualifiedJavaType fqjt : typeArguments) {
-                if (first) {
-                    first = false;
-                } else {
-                    sb.append(", "); // $NON-NLS-1$
-                }
-                sb.append(fqjt.getFullyQualifiedName());
+        String answer = fullyQualifiedName;
+        if (answer == null) {
+            answer = calculateName(baseQualifiedName,
+                    FullyQualifiedJavaType::getFullyQualifiedName);
+            if (interned) {
+                fullyQualifiedName = answer;
             }
-            sb.append('>');
         }
 
-        return sb.toString();
+        return answer;
     }
 
     public String getFullyQualifiedNameWithoutTypeParameters() {
@@ -123,11 +186,25 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
     /**
      * Returns a list of Strings that are the fully qualified names of this type, and any generic
-     * type argument associated with this type.
+     * type argument associated with this type. A new list is returned by every call.
      *
      * @return the import list
      */
     public List<String> getImportList() {
+        if (!interned) {
+            return calculateImportList();
+        }
+
+        List<String> answer = importList;
+        if (answer == null) {
+            answer = calculateImportList();
+            importList = answer;
+        }
+
+        return new ArrayList<>(answer);
+    }
+
+    private List<String> calculateImportList() {
         List<String> answer = new ArrayList<>();
         if (isExplicitlyImported()) {
             int index = baseShortName.indexOf('.');
@@ -167,6 +244,19 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public String getShortName() {
+        String answer = shortName;
+        if (answer == null) {
+            answer = calculateName(baseShortName, FullyQualifiedJavaType::getShortName);
+            if (interned) {
+                shortName = answer;
+            }
+        }
+
+        return answer;
+    }
+
+    private String calculateName(String baseName,
+            Function<FullyQualifiedJavaType, String> typeArgumentName) {
         StringBuilder sb = new StringBuilder();
         if (wildcardType) {
             sb.append('?');
@@ -177,10 +267,10 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
                     sb.append(" super "); // $NON-NLS-1$
                 }
 
-                sb.append(baseShortName);
+                sb.append(baseName);
             }
         } else {
-            sb.append(baseShortName);
+            sb.append(baseName);
         }
 
         if (!typeArguments.isEmpty()) {
@@ -192,7 +282,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
                 } else {
                     sb.append(", "); // $NON-NLS-1$
                 }
-                sb.append(fqjt.getShortName());
+                sb.append(typeArgumentName.apply(fqjt));
             }
             sb.append('>');
         }
@@ -238,11 +328,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public static final FullyQualifiedJavaType getIntInstance() {
-        if (intInstance == null) {
-            intInstance = new FullyQualifiedJavaType("int"); // $NON-NLS-1$
-        }
-
-        return intInstance;
+        return SharedInstances.INT_INSTANCE;
     }
 
     public static final FullyQualifiedJavaType getNewMapInstance() {
@@ -271,52 +357,27 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public static final FullyQualifiedJavaType getStringInstance() {
-        if (stringInstance == null) {
-            stringInstance = new FullyQualifiedJavaType("java.lang.String"); // $NON-NLS-1$
-        }
-
-        return stringInstance;
+        return SharedInstances.STRING_INSTANCE;
     }
 
     public static final FullyQualifiedJavaType getBooleanPrimitiveInstance() {
-        if (booleanPrimitiveInstance == null) {
-            booleanPrimitiveInstance = new FullyQualifiedJavaType("boolean"); // $NON-NLS-1$
-        }
-
-        return booleanPrimitiveInstance;
+        return SharedInstances.BOOLEAN_PRIMITIVE_INSTANCE;
     }
 
     public static final FullyQualifiedJavaType getObjectInstance() {
-        if (objectInstance == null) {
-            objectInstance = new FullyQualifiedJavaType("java.lang.Object"); // $NON-NLS-1$
-        }
-
-        return objectInstance;
+        return SharedInstances.OBJECT_INSTANCE;
     }
 
     public static final FullyQualifiedJavaType getDateInstance() {
-        if (dateInstance == null) {
-            dateInstance = new FullyQualifiedJavaType("java.util.Date"); // $NON-NLS-1$
-        }
-
-        return dateInstance;
+        return SharedInstances.DATE_INSTANCE;
     }
 
     public static final FullyQualifiedJavaType getCriteriaInstance() {
-        if (criteriaInstance == null) {
-            criteriaInstance = new FullyQualifiedJavaType("Criteria"); // $NON-NLS-1$
-        }
-
-        return criteriaInstance;
+        return SharedInstances.CRITERIA_INSTANCE;
     }
 
     public static final FullyQualifiedJavaType getGeneratedCriteriaInstance() {
-        if (generatedCriteriaInstance == null) {
-            generatedCriteriaInstance =
-                    new FullyQualifiedJavaType("GeneratedCriteria"); // $NON-NLS-1$
-        }
-
-        return generatedCriteriaInstance;
+        return SharedInstances.GENERATED_CRITERIA_INSTANCE;
     }
 
     @Override
@@ -325,7 +386,11 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     }
 
     public void addTypeArgument(FullyQualifiedJavaType type) {
-        typeArguments.add(type);
+        if (interned) {
+            throw new UnsupportedOperationException(
+                    getString("RuntimeError.23", getFullyQualifiedName())); // $NON-NLS-1$
+        }
+        typeArguments.add(modifiable(type));
     }
 
     private void parse(String fullTypeSpecification) {
@@ -441,7 +506,7 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
                 openCount--;
             } else if (",".equals(token)) { // $NON-NLS-1$
                 if (openCount == 0) {
-                    typeArguments.add(new FullyQualifiedJavaType(sb.toString()));
+                    typeArguments.add(createTypeArgument(sb.toString()));
                     sb.setLength(0);
                 } else {
                     sb.append(token);
@@ -458,10 +523,16 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
 
         String finalType = sb.toString();
         if (stringHasValue(finalType)) {
-            typeArguments.add(new FullyQualifiedJavaType(finalType));
+            typeArguments.add(createTypeArgument(finalType));
         }
     }
 
+    private FullyQualifiedJavaType createTypeArgument(String typeSpecification) {
+        return interned
+                ? of(typeSpecification.trim())
+                : new FullyQualifiedJavaType(typeSpecification);
+    }
+
     /**
      * Returns the package name of a fully qualified type.
      *
@@ -484,4 +555,31 @@ public class FullyQualifiedJavaType implements Comparable<FullyQualifiedJavaType
     public List<FullyQualifiedJavaType> getTypeArguments() {
         return typeArguments;
     }
+
+    /**
+     * The instances returned by the <code>getXXXInstance</code> methods. They are created when
+     * first used, and can be changed like any other instance created with the constructor.
+     */
+    private static class SharedInstances {
+        private static final FullyQualifiedJavaType INT_INSTANCE =
+                new FullyQualifiedJavaType("int"); //$NON-NLS-1$
+
+        private static final FullyQualifiedJavaType STRING_INSTANCE =
+                new FullyQualifiedJavaType("java.lang.String"); //$NON-NLS-1$
+
+        private static final FullyQualifiedJavaType BOOLEAN_PRIMITIVE_INSTANCE =
+                new FullyQualifiedJavaType("boolean"); //$NON-NLS-1$
+
+        private static final FullyQualifiedJavaType OBJECT_INSTANCE =
+                new FullyQualifiedJavaType("java.lang.Object"); //$NON-NLS-1$
+
+        private static final FullyQualifiedJavaType DATE_INSTANCE =
+                new FullyQualifiedJavaType("java.util.Date"); //$NON-NLS-1$
+
+        private static final FullyQualifiedJavaType CRITERIA_INSTANCE =
+                new FullyQualifiedJavaType("Criteria"); //$NON-NLS-1$
+
+        private static final FullyQualifiedJavaType GENERATED_CRITERIA_INSTANCE =
+                new FullyQualifiedJavaType("GeneratedCriteria"); //$NON-NLS-1$
+    }
 }
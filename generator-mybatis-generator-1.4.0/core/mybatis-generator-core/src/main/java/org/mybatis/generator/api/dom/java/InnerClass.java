@@ -48,7 +48,7 @@ public class InnerClass extends AbstractJavaType {
     }
 
     public void setSuperClass(FullyQualifiedJavaType superClass) {
-        this.superClass = superClass;
+        this.superClass = FullyQualifiedJavaType.modifiable(superClass);
     }
 
     public void setSuperClass(String superClassType) {
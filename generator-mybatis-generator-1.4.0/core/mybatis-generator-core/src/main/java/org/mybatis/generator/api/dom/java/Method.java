@@ -134,7 +134,7 @@ public class Method extends JavaElement {
     }
 
     public void setReturnType(FullyQualifiedJavaType returnType) {
-        this.returnType = returnType;
+        this.returnType = FullyQualifiedJavaType.modifiable(returnType);
     }
 
     public List<FullyQualifiedJavaType> getExceptions() {
@@ -142,7 +142,7 @@ public class Method extends JavaElement {
     }
 
     public void addException(FullyQualifiedJavaType exception) {
-        exceptions.add(exception);
+        exceptions.add(FullyQualifiedJavaType.modifiable(exception));
     }
 
     public boolean isSynchronized() {
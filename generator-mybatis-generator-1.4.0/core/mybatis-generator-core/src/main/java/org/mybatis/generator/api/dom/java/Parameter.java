@@ -27,7 +27,7 @@ public class Parameter {
 
     public Parameter(FullyQualifiedJavaType type, String name, boolean isVarargs) {
         this.name = name;
-        this.type = type;
+        this.type = FullyQualifiedJavaType.modifiable(type);
         this.isVarargs = isVarargs;
     }
 
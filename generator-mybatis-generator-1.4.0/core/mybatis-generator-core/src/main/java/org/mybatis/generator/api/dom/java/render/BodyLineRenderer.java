@@ -15,14 +15,23 @@ package org.mybatis.generator.api.dom.java.render;
 
 import org.mybatis.generator.api.dom.OutputUtilities;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 
 public class BodyLineRenderer {
 
     public List<String> render(List<String> bodyLines) {
-        List<String> lines = new ArrayList<>();
+        return RenderingUtilities.renderLines(writer -> render(bodyLines, writer));
+    }
+
+    /**
+     * Writes the body lines, indented one level deeper than the current indent level of the writer
+     * and further indented for every code block in the body.
+     *
+     * @param bodyLines the body lines
+     * @param writer the writer
+     */
+    public void render(List<String> bodyLines, JavaSourceWriter writer) {
         int indentLevel = 1;
         StringBuilder sb = new StringBuilder();
 
@@ -36,7 +45,7 @@ public class BodyLineRenderer {
 
             OutputUtilities.javaIndent(sb, indentLevel);
             sb.append(line);
-            lines.add(sb.toString());
+            writer.line(sb.toString());
 
             if (isCodeBlockStartExceptSwitchStatement(line) || line.endsWith(":")) { // $NON-NLS-1$
                 indentLevel++;
@@ -56,8 +65,6 @@ public class BodyLineRenderer {
                 indentLevel--;
             }
         }
-
-        return lines;
     }
 
     private boolean isCodeBlockStartExceptSwitchStatement(String line) {
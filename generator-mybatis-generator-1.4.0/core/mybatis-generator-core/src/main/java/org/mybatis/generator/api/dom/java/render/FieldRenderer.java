@@ -17,19 +17,18 @@ import org.mybatis.generator.api.dom.java.CompilationUnit;
 import org.mybatis.generator.api.dom.java.Field;
 import org.mybatis.generator.api.dom.java.JavaDomUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class FieldRenderer {
 
     public List<String> render(Field field, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(field.getJavaDocLines());
-        lines.addAll(field.getAnnotations());
-        lines.add(renderField(field, compilationUnit));
+        return RenderingUtilities.renderLines(writer -> render(field, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(Field field, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        writer.lines(field.getJavaDocLines());
+        writer.lines(field.getAnnotations());
+        writer.line(renderField(field, compilationUnit));
     }
 
     private String renderField(Field field, CompilationUnit compilationUnit) {
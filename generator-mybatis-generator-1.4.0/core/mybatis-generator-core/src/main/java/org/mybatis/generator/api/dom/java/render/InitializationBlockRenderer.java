@@ -15,7 +15,6 @@ package org.mybatis.generator.api.dom.java.render;
 
 import org.mybatis.generator.api.dom.java.InitializationBlock;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class InitializationBlockRenderer {
@@ -23,14 +22,14 @@ public class InitializationBlockRenderer {
     private BodyLineRenderer bodyLineRenderer = new BodyLineRenderer();
 
     public List<String> render(InitializationBlock initializationBlock) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(initializationBlock.getJavaDocLines());
-        lines.add(renderFirstLine(initializationBlock));
-        lines.addAll(bodyLineRenderer.render(initializationBlock.getBodyLines()));
-        lines.add("}"); // $NON-NLS-1$
+        return RenderingUtilities.renderLines(writer -> render(initializationBlock, writer));
+    }
 
-        return lines;
+    public void render(InitializationBlock initializationBlock, JavaSourceWriter writer) {
+        writer.lines(initializationBlock.getJavaDocLines());
+        writer.line(renderFirstLine(initializationBlock));
+        bodyLineRenderer.render(initializationBlock.getBodyLines(), writer);
+        writer.line("}"); // $NON-NLS-1$
     }
 
     private String renderFirstLine(InitializationBlock initializationBlock) {
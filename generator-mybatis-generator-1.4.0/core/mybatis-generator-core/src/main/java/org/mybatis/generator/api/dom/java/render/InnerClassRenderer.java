@@ -18,38 +18,30 @@ import org.mybatis.generator.api.dom.java.InnerClass;
 import org.mybatis.generator.api.dom.java.JavaDomUtils;
 import org.mybatis.generator.internal.util.CustomCollectors;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class InnerClassRenderer {
 
     public List<String> render(InnerClass innerClass, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerClass.getJavaDocLines());
-        lines.addAll(innerClass.getAnnotations());
-        lines.add(renderFirstLine(innerClass, compilationUnit));
-        lines.addAll(RenderingUtilities.renderFields(innerClass.getFields(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInitializationBlocks(
-                        innerClass.getInitializationBlocks()));
-        lines.addAll(
-                RenderingUtilities.renderClassOrEnumMethods(
-                        innerClass.getMethods(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerClasses(
-                        innerClass.getInnerClasses(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerInterfaces(
-                        innerClass.getInnerInterfaces(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerEnums(innerClass.getInnerEnums(), compilationUnit));
-
-        lines = RenderingUtilities.removeLastEmptyLine(lines);
-
-        lines.add("}"); // $NON-NLS-1$
+        return RenderingUtilities.renderLines(
+                writer -> render(innerClass, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(
+            InnerClass innerClass, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        writer.lines(innerClass.getJavaDocLines());
+        writer.lines(innerClass.getAnnotations());
+        writer.openBlock(renderFirstLine(innerClass, compilationUnit));
+        RenderingUtilities.renderFields(innerClass.getFields(), compilationUnit, writer);
+        RenderingUtilities.renderInitializationBlocks(innerClass.getInitializationBlocks(), writer);
+        RenderingUtilities.renderClassOrEnumMethods(
+                innerClass.getMethods(), compilationUnit, writer);
+        RenderingUtilities.renderInnerClasses(
+                innerClass.getInnerClasses(), compilationUnit, writer);
+        RenderingUtilities.renderInnerInterfaces(
+                innerClass.getInnerInterfaces(), compilationUnit, writer);
+        RenderingUtilities.renderInnerEnums(innerClass.getInnerEnums(), compilationUnit, writer);
+        writer.closeBlock();
     }
 
     private String renderFirstLine(InnerClass innerClass, CompilationUnit compilationUnit) {
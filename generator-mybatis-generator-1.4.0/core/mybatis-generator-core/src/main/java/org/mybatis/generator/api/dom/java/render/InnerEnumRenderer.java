@@ -18,39 +18,30 @@ import org.mybatis.generator.api.dom.java.InnerEnum;
 import org.mybatis.generator.api.dom.java.JavaDomUtils;
 import org.mybatis.generator.internal.util.CustomCollectors;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
 public class InnerEnumRenderer {
 
     public List<String> render(InnerEnum innerEnum, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerEnum.getJavaDocLines());
-        lines.addAll(innerEnum.getAnnotations());
-        lines.add(renderFirstLine(innerEnum, compilationUnit));
-        lines.addAll(renderEnumConstants(innerEnum));
-        lines.addAll(RenderingUtilities.renderFields(innerEnum.getFields(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInitializationBlocks(innerEnum.getInitializationBlocks()));
-        lines.addAll(
-                RenderingUtilities.renderClassOrEnumMethods(
-                        innerEnum.getMethods(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerClasses(
-                        innerEnum.getInnerClasses(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerInterfaces(
-                        innerEnum.getInnerInterfaces(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerEnums(innerEnum.getInnerEnums(), compilationUnit));
-
-        lines = RenderingUtilities.removeLastEmptyLine(lines);
-
-        lines.add("}"); // $NON-NLS-1$
+        return RenderingUtilities.renderLines(writer -> render(innerEnum, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(
+            InnerEnum innerEnum, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        writer.lines(innerEnum.getJavaDocLines());
+        writer.lines(innerEnum.getAnnotations());
+        writer.openBlock(renderFirstLine(innerEnum, compilationUnit));
+        renderEnumConstants(innerEnum, writer);
+        RenderingUtilities.renderFields(innerEnum.getFields(), compilationUnit, writer);
+        RenderingUtilities.renderInitializationBlocks(innerEnum.getInitializationBlocks(), writer);
+        RenderingUtilities.renderClassOrEnumMethods(
+                innerEnum.getMethods(), compilationUnit, writer);
+        RenderingUtilities.renderInnerClasses(innerEnum.getInnerClasses(), compilationUnit, writer);
+        RenderingUtilities.renderInnerInterfaces(
+                innerEnum.getInnerInterfaces(), compilationUnit, writer);
+        RenderingUtilities.renderInnerEnums(innerEnum.getInnerEnums(), compilationUnit, writer);
+        writer.closeBlock();
     }
 
     private String renderFirstLine(InnerEnum innerEnum, CompilationUnit compilationUnit) {
@@ -70,22 +61,19 @@ public class InnerEnumRenderer {
         return sb.toString();
     }
 
-    private List<String> renderEnumConstants(InnerEnum innerEnum) {
-        List<String> answer = new ArrayList<>();
-
+    private void renderEnumConstants(InnerEnum innerEnum, JavaSourceWriter writer) {
         Iterator<String> iter = innerEnum.getEnumConstants().iterator();
         while (iter.hasNext()) {
             String enumConstant = iter.next();
 
             if (iter.hasNext()) {
-                answer.add(RenderingUtilities.JAVA_INDENT + enumConstant + ","); // $NON-NLS-1$
+                writer.line(enumConstant + ","); // $NON-NLS-1$
             } else {
-                answer.add(RenderingUtilities.JAVA_INDENT + enumConstant + ";"); // $NON-NLS-1$
+                writer.line(enumConstant + ";"); // $NON-NLS-1$
             }
         }
 
-        answer.add(""); // $NON-NLS-1$
-        return answer;
+        writer.blankLine();
     }
 
     // should return an empty string if no super interfaces
@@ -18,36 +18,32 @@ import org.mybatis.generator.api.dom.java.InnerInterface;
 import org.mybatis.generator.api.dom.java.JavaDomUtils;
 import org.mybatis.generator.internal.util.CustomCollectors;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class InnerInterfaceRenderer {
 
     public List<String> render(InnerInterface innerInterface, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(innerInterface.getJavaDocLines());
-        lines.addAll(innerInterface.getAnnotations());
-        lines.add(renderFirstLine(innerInterface, compilationUnit));
-        lines.addAll(RenderingUtilities.renderFields(innerInterface.getFields(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInterfaceMethods(
-                        innerInterface.getMethods(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerClasses(
-                        innerInterface.getInnerClasses(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerInterfaces(
-                        innerInterface.getInnerInterfaces(), compilationUnit));
-        lines.addAll(
-                RenderingUtilities.renderInnerEnums(
-                        innerInterface.getInnerEnums(), compilationUnit));
-
-        lines = RenderingUtilities.removeLastEmptyLine(lines);
-
-        lines.add("}"); // $NON-NLS-1$
+        return RenderingUtilities.renderLines(
+                writer -> render(innerInterface, compilationUnit, writer));
+    }
 
-        return lines;
+    public void render(
+            InnerInterface innerInterface,
+            CompilationUnit compilationUnit,
+            JavaSourceWriter writer) {
+        writer.lines(innerInterface.getJavaDocLines());
+        writer.lines(innerInterface.getAnnotations());
+        writer.openBlock(renderFirstLine(innerInterface, compilationUnit));
+        RenderingUtilities.renderFields(innerInterface.getFields(), compilationUnit, writer);
+        RenderingUtilities.renderInterfaceMethods(
+                innerInterface.getMethods(), compilationUnit, writer);
+        RenderingUtilities.renderInnerClasses(
+                innerInterface.getInnerClasses(), compilationUnit, writer);
+        RenderingUtilities.renderInnerInterfaces(
+                innerInterface.getInnerInterfaces(), compilationUnit, writer);
+        RenderingUtilities.renderInnerEnums(
+                innerInterface.getInnerEnums(), compilationUnit, writer);
+        writer.closeBlock();
     }
 
     private String renderFirstLine(InnerInterface innerInterface, CompilationUnit compilationUnit) {
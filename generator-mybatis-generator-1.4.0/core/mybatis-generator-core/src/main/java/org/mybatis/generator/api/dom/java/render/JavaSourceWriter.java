@@ -0,0 +1,211 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.api.dom.java.render;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class writes the lines of a Java source file directly to an Appendable (a Writer or a
+ * StringBuilder for example). The renderers write into it instead of building lists of lines, so
+ * every line is copied to the output exactly once, regardless of its nesting level.
+ *
+ * <p>The writer keeps the current indent level. Non-empty lines are indented by four spaces per
+ * level, empty lines are never indented. Lines are separated by the line separator, there is no
+ * separator after the last line.
+ *
+ * <p>Blank lines written with {@link #blankLine()} are held back until the next line is written.
+ * {@link #closeBlock()} drops one held back blank line, so every member of a block can be followed
+ * by a blank line without leaving a blank line before the closing brace.
+ *
+ * <p>Errors of the underlying Appendable are thrown as {@link UncheckedIOException}.
+ */
+public class JavaSourceWriter {
+    private static final String[] INDENTS = new String[16];
+
+    static {
+        INDENTS[0] = ""; //$NON-NLS-1$
+        for (int i = 1; i < INDENTS.length; i++) {
+            INDENTS[i] = INDENTS[i - 1] + RenderingUtilities.JAVA_INDENT;
+        }
+    }
+
+    private Appendable out;
+
+    private String lineSeparator;
+
+    private int indentLevel;
+
+    private int pendingBlankLines;
+
+    private boolean firstLine = true;
+
+    public JavaSourceWriter(Appendable out) {
+        this(out, System.getProperty("line.separator")); //$NON-NLS-1$
+    }
+
+    public JavaSourceWriter(Appendable out, String lineSeparator) {
+        this.out = out;
+        this.lineSeparator = lineSeparator;
+    }
+
+    /**
+     * Writes a line at the current indent level.
+     *
+     * @param line the line, without line separator
+     * @return this writer
+     */
+    public JavaSourceWriter line(String line) {
+        flushBlankLines();
+        if (line.isEmpty()) {
+            writeLine("", line); //$NON-NLS-1$
+        } else {
+            writeLine(getIndent(indentLevel), line);
+        }
+        return this;
+    }
+
+    /**
+     * Writes lines at the current indent level.
+     *
+     * @param lines the lines
+     * @return this writer
+     */
+    public JavaSourceWriter lines(List<String> lines) {
+        for (String line : lines) {
+            line(line);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a blank line. The line is written when the next line is written, unless it is dropped
+     * by {@link #closeBlock()}.
+     *
+     * @return this writer
+     */
+    public JavaSourceWriter blankLine() {
+        pendingBlankLines++;
+        return this;
+    }
+
+    /**
+     * Writes the first line of a block (for example "public class Foo {") and increases the indent
+     * level.
+     *
+     * @param line the first line of the block
+     * @return this writer
+     */
+    public JavaSourceWriter openBlock(String line) {
+        line(line);
+        return indent();
+    }
+
+    /**
+     * Drops one pending blank line, decreases the indent level, and writes the closing brace of a
+     * block.
+     *
+     * @return this writer
+     */
+    public JavaSourceWriter closeBlock() {
+        if (pendingBlankLines > 0) {
+            pendingBlankLines--;
+        }
+        outdent();
+        return line("}"); //$NON-NLS-1$
+    }
+
+    public JavaSourceWriter indent() {
+        indentLevel++;
+        return this;
+    }
+
+    public JavaSourceWriter outdent() {
+        indentLevel--;
+        return this;
+    }
+
+    public int getIndentLevel() {
+        return indentLevel;
+    }
+
+    /**
+     * Writes any pending blank lines.
+     *
+     * @return this writer
+     */
+    public JavaSourceWriter flushBlankLines() {
+        while (pendingBlankLines > 0) {
+            pendingBlankLines--;
+            writeLine("", ""); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        return this;
+    }
+
+    /**
+     * Writes a single line to the output. Subclasses may override this method to collect the lines
+     * in a different way.
+     *
+     * @param indent the indent of the line
+     * @param line the line
+     */
+    protected void writeLine(String indent, String line) {
+        try {
+            if (firstLine) {
+                firstLine = false;
+            } else {
+                out.append(lineSeparator);
+            }
+            out.append(indent);
+            out.append(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String getIndent(int indentLevel) {
+        if (indentLevel <= 0) {
+            return INDENTS[0];
+        } else if (indentLevel < INDENTS.length) {
+            return INDENTS[indentLevel];
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < indentLevel; i++) {
+            sb.append(RenderingUtilities.JAVA_INDENT);
+        }
+        return sb.toString();
+    }
+
+    /** A writer that collects the lines in a list, used by the list based render methods. */
+    static class LineListWriter extends JavaSourceWriter {
+        private List<String> lines = new ArrayList<>();
+
+        LineListWriter() {
+            super(null, null);
+        }
+
+        @Override
+        protected void writeLine(String indent, String line) {
+            lines.add(indent.isEmpty() ? line : indent + line);
+        }
+
+        List<String> getLines() {
+            flushBlankLines();
+            return lines;
+        }
+    }
+}
@@ -19,7 +19,6 @@ import org.mybatis.generator.api.dom.java.JavaVisibility;
 import org.mybatis.generator.api.dom.java.Method;
 import org.mybatis.generator.internal.util.CustomCollectors;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,18 +29,23 @@ public class MethodRenderer {
 
     public List<String> render(
             Method method, boolean inInterface, CompilationUnit compilationUnit) {
-        List<String> lines = new ArrayList<>();
+        return RenderingUtilities.renderLines(
+                writer -> render(method, inInterface, compilationUnit, writer));
+    }
 
-        lines.addAll(method.getJavaDocLines());
-        lines.addAll(method.getAnnotations());
-        lines.add(getFirstLine(method, inInterface, compilationUnit));
+    public void render(
+            Method method,
+            boolean inInterface,
+            CompilationUnit compilationUnit,
+            JavaSourceWriter writer) {
+        writer.lines(method.getJavaDocLines());
+        writer.lines(method.getAnnotations());
+        writer.line(getFirstLine(method, inInterface, compilationUnit));
 
         if (!method.isAbstract() && !method.isNative()) {
-            lines.addAll(bodyLineRenderer.render(method.getBodyLines()));
-            lines.add("}"); // $NON-NLS-1$
+            bodyLineRenderer.render(method.getBodyLines(), writer);
+            writer.line("}"); // $NON-NLS-1$
         }
-
-        return lines;
     }
 
     private String getFirstLine(
@@ -17,9 +17,8 @@ import org.mybatis.generator.api.dom.java.*;
 import org.mybatis.generator.internal.util.CustomCollectors;
 
 import java.util.*;
-import java.util.function.Function;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 
@@ -47,62 +46,78 @@ public class RenderingUtilities {
     }
 
     public static List<String> renderFields(List<Field> fields, CompilationUnit compilationUnit) {
-        return fields.stream()
-                .flatMap(f -> renderField(f, compilationUnit))
-                .collect(Collectors.toList());
+        return renderIndentedLines(writer -> renderFields(fields, compilationUnit, writer));
     }
 
-    private static Stream<String> renderField(Field field, CompilationUnit compilationUnit) {
-        return addEmptyLine(
-                fieldRenderer.render(field, compilationUnit).stream()
-                        .map(RenderingUtilities::javaIndent));
+    public static void renderFields(
+            List<Field> fields, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        for (Field field : fields) {
+            fieldRenderer.render(field, compilationUnit, writer);
+            writer.blankLine();
+        }
     }
 
     public static List<String> renderInitializationBlocks(
             List<InitializationBlock> initializationBlocks) {
-        return initializationBlocks.stream()
-                .flatMap(RenderingUtilities::renderInitializationBlock)
-                .collect(Collectors.toList());
+        return renderIndentedLines(
+                writer -> renderInitializationBlocks(initializationBlocks, writer));
     }
 
-    private static Stream<String> renderInitializationBlock(
-            InitializationBlock initializationBlock) {
-        return addEmptyLine(
-                initializationBlockRenderer.render(initializationBlock).stream()
-                        .map(RenderingUtilities::javaIndent));
+    public static void renderInitializationBlocks(
+            List<InitializationBlock> initializationBlocks, JavaSourceWriter writer) {
+        for (InitializationBlock initializationBlock : initializationBlocks) {
+            initializationBlockRenderer.render(initializationBlock, writer);
+            writer.blankLine();
+        }
     }
 
     public static List<String> renderClassOrEnumMethods(
             List<Method> methods, CompilationUnit compilationUnit) {
-        return methods.stream()
-                .flatMap(m -> renderMethod(m, false, compilationUnit))
-                .collect(Collectors.toList());
+        return renderIndentedLines(
+                writer -> renderClassOrEnumMethods(methods, compilationUnit, writer));
+    }
+
+    public static void renderClassOrEnumMethods(
+            List<Method> methods, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        renderMethods(methods, false, compilationUnit, writer);
     }
 
     public static List<String> renderInterfaceMethods(
             List<Method> methods, CompilationUnit compilationUnit) {
-        return methods.stream()
-                .flatMap(m -> renderMethod(m, true, compilationUnit))
-                .collect(Collectors.toList());
+        return renderIndentedLines(
+                writer -> renderInterfaceMethods(methods, compilationUnit, writer));
     }
 
-    private static Stream<String> renderMethod(
-            Method method, boolean inInterface, CompilationUnit compilationUnit) {
-        return addEmptyLine(
-                methodRenderer.render(method, inInterface, compilationUnit).stream()
-                        .map(RenderingUtilities::javaIndent));
+    public static void renderInterfaceMethods(
+            List<Method> methods, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        renderMethods(methods, true, compilationUnit, writer);
     }
 
-    private static Stream<String> addEmptyLine(Stream<String> in) {
-        return Stream.of(in, Stream.of("")) // $NON-NLS-1$
-                .flatMap(Function.identity());
+    private static void renderMethods(
+            List<Method> methods,
+            boolean inInterface,
+            CompilationUnit compilationUnit,
+            JavaSourceWriter writer) {
+        for (Method method : methods) {
+            methodRenderer.render(method, inInterface, compilationUnit, writer);
+            writer.blankLine();
+        }
     }
 
     public static List<String> renderInnerClasses(
             List<InnerClass> innerClasses, CompilationUnit compilationUnit) {
-        return innerClasses.stream()
-                .flatMap(ic -> renderInnerClass(ic, compilationUnit))
-                .collect(Collectors.toList());
+        return renderIndentedLines(
+                writer -> renderInnerClasses(innerClasses, compilationUnit, writer));
+    }
+
+    public static void renderInnerClasses(
+            List<InnerClass> innerClasses,
+            CompilationUnit compilationUnit,
+            JavaSourceWriter writer) {
+        for (InnerClass innerClass : innerClasses) {
+            innerClassRenderer.render(innerClass, compilationUnit, writer);
+            writer.blankLine();
+        }
     }
 
     public static List<String> renderInnerClassNoIndent(
@@ -110,18 +125,25 @@ public class RenderingUtilities {
         return innerClassRenderer.render(innerClass, compilationUnit);
     }
 
-    private static Stream<String> renderInnerClass(
-            InnerClass innerClass, CompilationUnit compilationUnit) {
-        return addEmptyLine(
-                innerClassRenderer.render(innerClass, compilationUnit).stream()
-                        .map(RenderingUtilities::javaIndent));
+    public static void renderInnerClassNoIndent(
+            InnerClass innerClass, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        innerClassRenderer.render(innerClass, compilationUnit, writer);
     }
 
     public static List<String> renderInnerInterfaces(
             List<InnerInterface> innerInterfaces, CompilationUnit compilationUnit) {
-        return innerInterfaces.stream()
-                .flatMap(ii -> renderInnerInterface(ii, compilationUnit))
-                .collect(Collectors.toList());
+        return renderIndentedLines(
+                writer -> renderInnerInterfaces(innerInterfaces, compilationUnit, writer));
+    }
+
+    public static void renderInnerInterfaces(
+            List<InnerInterface> innerInterfaces,
+            CompilationUnit compilationUnit,
+            JavaSourceWriter writer) {
+        for (InnerInterface innerInterface : innerInterfaces) {
+            innerInterfaceRenderer.render(innerInterface, compilationUnit, writer);
+            writer.blankLine();
+        }
     }
 
     public static List<String> renderInnerInterfaceNoIndent(
@@ -129,18 +151,24 @@ public class RenderingUtilities {
         return innerInterfaceRenderer.render(innerInterface, compilationUnit);
     }
 
-    private static Stream<String> renderInnerInterface(
-            InnerInterface innerInterface, CompilationUnit compilationUnit) {
-        return addEmptyLine(
-                innerInterfaceRenderer.render(innerInterface, compilationUnit).stream()
-                        .map(RenderingUtilities::javaIndent));
+    public static void renderInnerInterfaceNoIndent(
+            InnerInterface innerInterface,
+            CompilationUnit compilationUnit,
+            JavaSourceWriter writer) {
+        innerInterfaceRenderer.render(innerInterface, compilationUnit, writer);
     }
 
     public static List<String> renderInnerEnums(
             List<InnerEnum> innerEnums, CompilationUnit compilationUnit) {
-        return innerEnums.stream()
-                .flatMap(ie -> renderInnerEnum(ie, compilationUnit))
-                .collect(Collectors.toList());
+        return renderIndentedLines(writer -> renderInnerEnums(innerEnums, compilationUnit, writer));
+    }
+
+    public static void renderInnerEnums(
+            List<InnerEnum> innerEnums, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        for (InnerEnum innerEnum : innerEnums) {
+            innerEnumRenderer.render(innerEnum, compilationUnit, writer);
+            writer.blankLine();
+        }
     }
 
     public static List<String> renderInnerEnumNoIndent(
@@ -148,43 +176,54 @@ public class RenderingUtilities {
         return innerEnumRenderer.render(innerEnum, compilationUnit);
     }
 
-    private static Stream<String> renderInnerEnum(
-            InnerEnum innerEnum, CompilationUnit compilationUnit) {
-        return addEmptyLine(
-                innerEnumRenderer.render(innerEnum, compilationUnit).stream()
-                        .map(RenderingUtilities::javaIndent));
+    public static void renderInnerEnumNoIndent(
+            InnerEnum innerEnum, CompilationUnit compilationUnit, JavaSourceWriter writer) {
+        innerEnumRenderer.render(innerEnum, compilationUnit, writer);
     }
 
     public static List<String> renderPackage(CompilationUnit compilationUnit) {
-        List<String> answer = new ArrayList<>();
+        return renderLines(writer -> renderPackage(compilationUnit, writer));
+    }
 
+    public static void renderPackage(CompilationUnit compilationUnit, JavaSourceWriter writer) {
         String pack = compilationUnit.getType().getPackageName();
         if (stringHasValue(pack)) {
-            answer.add("package " + pack + ";"); // $NON-NLS-1$ //$NON-NLS-2$
-            answer.add(""); // $NON-NLS-1$
+            writer.line("package " + pack + ";"); // $NON-NLS-1$ //$NON-NLS-2$
+            writer.line(""); // $NON-NLS-1$
         }
-        return answer;
     }
 
     public static List<String> renderStaticImports(CompilationUnit compilationUnit) {
+        return renderLines(writer -> renderStaticImports(compilationUnit, writer));
+    }
+
+    public static void renderStaticImports(
+            CompilationUnit compilationUnit, JavaSourceWriter writer) {
         if (compilationUnit.getStaticImports().isEmpty()) {
-            return Collections.emptyList();
+            return;
         }
 
-        return addEmptyLine(
-                        compilationUnit.getStaticImports().stream()
-                                .map(s -> "import static " + s + ";")) // $NON-NLS-1$ //$NON-NLS-2$
-                .collect(Collectors.toList());
+        for (String staticImport : compilationUnit.getStaticImports()) {
+            writer.line("import static " + staticImport + ";"); // $NON-NLS-1$ //$NON-NLS-2$
+        }
+        writer.line(""); // $NON-NLS-1$
     }
 
     public static List<String> renderImports(CompilationUnit compilationUnit) {
+        return renderLines(writer -> renderImports(compilationUnit, writer));
+    }
+
+    public static void renderImports(CompilationUnit compilationUnit, JavaSourceWriter writer) {
         Set<String> imports = renderImports(compilationUnit.getImportedTypes());
 
         if (imports.isEmpty()) {
-            return Collections.emptyList();
+            return;
         }
 
-        return addEmptyLine(imports.stream()).collect(Collectors.toList());
+        for (String importString : imports) {
+            writer.line(importString);
+        }
+        writer.line(""); // $NON-NLS-1$
     }
 
     private static Set<String> renderImports(Set<FullyQualifiedJavaType> imports) {
@@ -199,14 +238,6 @@ public class RenderingUtilities {
         return "import " + s + ";"; // $NON-NLS-1$ //$NON-NLS-2$
     }
 
-    private static String javaIndent(String in) {
-        if (in.isEmpty()) {
-            return in; // don't indent empty lines
-        }
-
-        return JAVA_INDENT + in;
-    }
-
     public static List<String> removeLastEmptyLine(List<String> lines) {
         if (lines.get(lines.size() - 1).isEmpty()) {
             return lines.subList(0, lines.size() - 1);
@@ -214,4 +245,22 @@ public class RenderingUtilities {
             return lines;
         }
     }
+
+    /**
+     * Renders into a writer that collects the lines in a list. This supports the list based render
+     * methods.
+     */
+    static List<String> renderLines(Consumer<JavaSourceWriter> renderer) {
+        JavaSourceWriter.LineListWriter writer = new JavaSourceWriter.LineListWriter();
+        renderer.accept(writer);
+        return writer.getLines();
+    }
+
+    private static List<String> renderIndentedLines(Consumer<JavaSourceWriter> renderer) {
+        return renderLines(
+                writer -> {
+                    writer.indent();
+                    renderer.accept(writer);
+                });
+    }
 }
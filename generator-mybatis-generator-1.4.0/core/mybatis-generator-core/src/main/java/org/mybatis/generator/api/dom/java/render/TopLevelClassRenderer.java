@@ -15,24 +15,21 @@ package org.mybatis.generator.api.dom.java.render;
 
 import org.mybatis.generator.api.dom.java.TopLevelClass;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.*;
 
 public class TopLevelClassRenderer {
 
     public String render(TopLevelClass topLevelClass) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(topLevelClass.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelClass));
-        lines.addAll(renderStaticImports(topLevelClass));
-        lines.addAll(renderImports(topLevelClass));
-        lines.addAll(renderInnerClassNoIndent(topLevelClass, topLevelClass));
+        StringBuilder sb = new StringBuilder();
+        render(topLevelClass, new JavaSourceWriter(sb));
+        return sb.toString();
+    }
 
-        return lines.stream()
-                .collect(Collectors.joining(System.getProperty("line.separator"))); // $NON-NLS-1$
+    public void render(TopLevelClass topLevelClass, JavaSourceWriter writer) {
+        writer.lines(topLevelClass.getFileCommentLines());
+        renderPackage(topLevelClass, writer);
+        renderStaticImports(topLevelClass, writer);
+        renderImports(topLevelClass, writer);
+        renderInnerClassNoIndent(topLevelClass, topLevelClass, writer);
     }
 }
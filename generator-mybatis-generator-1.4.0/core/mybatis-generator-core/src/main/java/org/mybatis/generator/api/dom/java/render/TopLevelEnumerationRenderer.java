@@ -15,24 +15,21 @@ package org.mybatis.generator.api.dom.java.render;
 
 import org.mybatis.generator.api.dom.java.TopLevelEnumeration;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.*;
 
 public class TopLevelEnumerationRenderer {
 
     public String render(TopLevelEnumeration topLevelEnumeration) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(topLevelEnumeration.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelEnumeration));
-        lines.addAll(renderStaticImports(topLevelEnumeration));
-        lines.addAll(renderImports(topLevelEnumeration));
-        lines.addAll(renderInnerEnumNoIndent(topLevelEnumeration, topLevelEnumeration));
+        StringBuilder sb = new StringBuilder();
+        render(topLevelEnumeration, new JavaSourceWriter(sb));
+        return sb.toString();
+    }
 
-        return lines.stream()
-                .collect(Collectors.joining(System.getProperty("line.separator"))); // $NON-NLS-1$
+    public void render(TopLevelEnumeration topLevelEnumeration, JavaSourceWriter writer) {
+        writer.lines(topLevelEnumeration.getFileCommentLines());
+        renderPackage(topLevelEnumeration, writer);
+        renderStaticImports(topLevelEnumeration, writer);
+        renderImports(topLevelEnumeration, writer);
+        renderInnerEnumNoIndent(topLevelEnumeration, topLevelEnumeration, writer);
     }
 }
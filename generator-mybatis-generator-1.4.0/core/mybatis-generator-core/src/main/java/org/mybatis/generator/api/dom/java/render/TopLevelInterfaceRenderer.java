@@ -15,24 +15,21 @@ package org.mybatis.generator.api.dom.java.render;
 
 import org.mybatis.generator.api.dom.java.Interface;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
-
 import static org.mybatis.generator.api.dom.java.render.RenderingUtilities.*;
 
 public class TopLevelInterfaceRenderer {
 
     public String render(Interface topLevelInterface) {
-        List<String> lines = new ArrayList<>();
-
-        lines.addAll(topLevelInterface.getFileCommentLines());
-        lines.addAll(renderPackage(topLevelInterface));
-        lines.addAll(renderStaticImports(topLevelInterface));
-        lines.addAll(renderImports(topLevelInterface));
-        lines.addAll(renderInnerInterfaceNoIndent(topLevelInterface, topLevelInterface));
+        StringBuilder sb = new StringBuilder();
+        render(topLevelInterface, new JavaSourceWriter(sb));
+        return sb.toString();
+    }
 
-        return lines.stream()
-                .collect(Collectors.joining(System.getProperty("line.separator"))); // $NON-NLS-1$
+    public void render(Interface topLevelInterface, JavaSourceWriter writer) {
+        writer.lines(topLevelInterface.getFileCommentLines());
+        renderPackage(topLevelInterface, writer);
+        renderStaticImports(topLevelInterface, writer);
+        renderImports(topLevelInterface, writer);
+        renderInnerInterfaceNoIndent(topLevelInterface, topLevelInterface, writer);
     }
 }
@@ -0,0 +1,198 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.api.dom.xml.render;
+
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.ElementVisitor;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.VisitableElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * This class renders an XML document directly into an Appendable (a Writer or a StringBuilder for
+ * example). Tags, attributes and indentation are appended piece by piece, so no intermediate
+ * strings are built for elements or lines. The output is the same as the output of
+ * {@link ElementRenderer}: every nesting level is indented by two spaces, attributes are sorted by
+ * name, and lines are separated by the line separator with no separator after the last line.
+ *
+ * <p>Errors of the underlying Appendable are thrown as {@link UncheckedIOException}.
+ */
+public class DocumentWriter implements ElementVisitor<Void> {
+    private static final String INDENT = "  "; //$NON-NLS-1$
+
+    private static final String[] INDENTS = new String[32];
+
+    private static final Comparator<Attribute> ATTRIBUTE_ORDER =
+            Comparator.comparing(Attribute::getName);
+
+    static {
+        INDENTS[0] = ""; //$NON-NLS-1$
+        for (int i = 1; i < INDENTS.length; i++) {
+            INDENTS[i] = INDENTS[i - 1] + INDENT;
+        }
+    }
+
+    private Appendable out;
+
+    private String lineSeparator;
+
+    private int depth;
+
+    private boolean firstLine = true;
+
+    public DocumentWriter(Appendable out) {
+        this(out, System.getProperty("line.separator")); //$NON-NLS-1$
+    }
+
+    public DocumentWriter(Appendable out, String lineSeparator) {
+        this.out = out;
+        this.lineSeparator = lineSeparator;
+    }
+
+    /**
+     * Writes the XML declaration, the document type declaration and the root element of a
+     * document.
+     *
+     * @param document the document
+     */
+    public void write(Document document) {
+        try {
+            startLine();
+            out.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //$NON-NLS-1$
+            startLine();
+            out.append("<!DOCTYPE "); //$NON-NLS-1$
+            out.append(document.getRootElement().getName());
+            if (document.getDocType().isPresent()) {
+                out.append(' ');
+                out.append(document.getDocType().get().accept(new DocTypeRenderer()));
+            }
+            out.append('>');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        document.getRootElement().accept(this);
+    }
+
+    /**
+     * Writes elements into the middle of another document. Every element starts on a new line (a
+     * line separator is written before the first element too) and is indented for the specified
+     * depth.
+     *
+     * @param elements the elements to write
+     * @param depth the nesting depth of the elements - 1 for children of the root element
+     */
+    public void writeElements(List<VisitableElement> elements, int depth) {
+        this.depth = depth;
+        firstLine = false;
+        for (VisitableElement element : elements) {
+            element.accept(this);
+        }
+    }
+
+    @Override
+    public Void visit(TextElement element) {
+        try {
+            startLine();
+            out.append(element.getContent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+
+    @Override
+    public Void visit(XmlElement element) {
+        try {
+            startLine();
+            out.append('<');
+            out.append(element.getName());
+            writeAttributes(element.getAttributes());
+
+            if (!element.hasChildren()) {
+                out.append(" />"); //$NON-NLS-1$
+                return null;
+            }
+
+            out.append('>');
+            depth++;
+            for (VisitableElement child : element.getElements()) {
+                child.accept(this);
+            }
+            depth--;
+
+            startLine();
+            out.append("</"); //$NON-NLS-1$
+            out.append(element.getName());
+            out.append('>');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return null;
+    }
+
+    private void writeAttributes(List<Attribute> attributes) throws IOException {
+        if (isSorted(attributes)) {
+            for (Attribute attribute : attributes) {
+                writeAttribute(attribute);
+            }
+        } else {
+            Attribute[] sorted = attributes.toArray(new Attribute[0]);
+            Arrays.sort(sorted, ATTRIBUTE_ORDER);
+            for (Attribute attribute : sorted) {
+                writeAttribute(attribute);
+            }
+        }
+    }
+
+    private boolean isSorted(List<Attribute> attributes) {
+        for (int i = 1; i < attributes.size(); i++) {
+            if (ATTRIBUTE_ORDER.compare(attributes.get(i - 1), attributes.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeAttribute(Attribute attribute) throws IOException {
+        out.append(' ');
+        out.append(attribute.getName());
+        out.append("=\""); //$NON-NLS-1$
+        out.append(attribute.getValue());
+        out.append('"');
+    }
+
+    private void startLine() throws IOException {
+        if (firstLine) {
+            firstLine = false;
+        } else {
+            out.append(lineSeparator);
+        }
+
+        if (depth < INDENTS.length) {
+            out.append(INDENTS[depth]);
+        } else {
+            for (int i = 0; i < depth; i++) {
+                out.append(INDENT);
+            }
+        }
+    }
+}
@@ -15,6 +15,7 @@ package org.mybatis.generator.codegen;
 
 import org.mybatis.generator.api.IntrospectedColumn;
 import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.internal.GenerationScope;
 import org.mybatis.generator.internal.ObjectFactory;
 
 import java.beans.BeanInfo;
@@ -40,16 +41,56 @@ public class RootClassInfo {
         rootClassInfoMap = Collections.synchronizedMap(new HashMap<String, RootClassInfo>());
     }
 
+    /**
+     * Returns information about the specified class. The class is introspected once per generation
+     * run and the result is cached in the run's scope. Warnings found while checking properties are
+     * added to the list passed to this method, so callers on different threads do not share a
+     * warnings list.
+     *
+     * @param className the class name
+     * @param warnings the warnings list
+     * @param generationScope the scope of the current generation run
+     * @return the root class info
+     */
+    public static RootClassInfo getInstance(
+            String className, List<String> warnings, GenerationScope generationScope) {
+        if (className == null) {
+            // there is no root class - nothing to cache
+            return new RootClassInfo(null, warnings, generationScope);
+        }
+
+        RootClassInfo cached =
+                generationScope
+                        .getRootClassInfoCache()
+                        .computeIfAbsent(
+                                className, k -> new RootClassInfo(k, warnings, generationScope));
+        return new RootClassInfo(cached, warnings);
+    }
+
+    /**
+     * Returns information about the specified class from a JVM wide cache.
+     *
+     * @param className the class name
+     * @param warnings the warnings list
+     * @return the root class info
+     * @deprecated the JVM wide cache is shared by all generation runs. Use {@link
+     *     #getInstance(String, List, GenerationScope)} with the scope of the context instead
+     */
+    @Deprecated
     public static RootClassInfo getInstance(String className, List<String> warnings) {
-        return rootClassInfoMap.computeIfAbsent(className, k -> new RootClassInfo(k, warnings));
+        RootClassInfo cached =
+                rootClassInfoMap.computeIfAbsent(
+                        className, k -> new RootClassInfo(k, warnings, null));
+        return new RootClassInfo(cached, warnings);
     }
 
     /**
-     * Clears the internal map containing root class info. This method should be called at the
-     * beginning of a generation run to clear the cached root class info in case there has been a
-     * change. For example, when using the eclipse launcher, the cache would be kept until eclipse
-     * was restarted.
+     * Clears the JVM wide map containing root class info.
+     *
+     * @deprecated root class info is now cached per generation run in a {@link GenerationScope},
+     *     so there is nothing to reset between runs
      */
+    @Deprecated
     public static void reset() {
         rootClassInfoMap.clear();
     }
@@ -59,7 +100,8 @@ public class RootClassInfo {
     private List<String> warnings;
     private boolean genericMode = false;
 
-    private RootClassInfo(String className, List<String> warnings) {
+    private RootClassInfo(
+            String className, List<String> warnings, GenerationScope generationScope) {
         super();
         this.className = className;
         this.warnings = warnings;
@@ -68,14 +110,17 @@ public class RootClassInfo {
             return;
         }
 
-        FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(className);
+        FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(className);
         String nameWithoutGenerics = fqjt.getFullyQualifiedNameWithoutTypeParameters();
         if (!nameWithoutGenerics.equals(className)) {
             genericMode = true;
         }
 
         try {
-            Class<?> clazz = ObjectFactory.externalClassForName(nameWithoutGenerics);
+            Class<?> clazz =
+                    generationScope == null
+                            ? ObjectFactory.externalClassForName(nameWithoutGenerics)
+                            : generationScope.externalClassForName(nameWithoutGenerics);
             BeanInfo bi = Introspector.getBeanInfo(clazz);
             propertyDescriptors = bi.getPropertyDescriptors();
         } catch (Exception e) {
@@ -84,6 +129,14 @@ public class RootClassInfo {
         }
     }
 
+    private RootClassInfo(RootClassInfo rootClassInfo, List<String> warnings) {
+        super();
+        this.className = rootClassInfo.className;
+        this.propertyDescriptors = rootClassInfo.propertyDescriptors;
+        this.genericMode = rootClassInfo.genericMode;
+        this.warnings = warnings;
+    }
+
     public boolean containsProperty(IntrospectedColumn introspectedColumn) {
         if (propertyDescriptors == null) {
             return false;
@@ -74,6 +74,15 @@ public class AnnotatedClientGenerator extends JavaMapperGenerator {
         }
     }
 
+    @Override
+    protected void addInsertBatchMethod(Interface interfaze) {
+        if (introspectedTable.getRules().generateInsertBatch()) {
+            AbstractJavaMapperMethodGenerator methodGenerator =
+                    new AnnotatedInsertBatchMethodGenerator(false);
+            initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     @Override
     protected void addSelectByExampleWithBLOBsMethod(Interface interfaze) {
         if (introspectedTable.getRules().generateSelectByExampleWithBLOBs()) {
@@ -101,6 +110,15 @@ public class AnnotatedClientGenerator extends JavaMapperGenerator {
         }
     }
 
+    @Override
+    protected void addSelectByPrimaryKeysMethod(Interface interfaze) {
+        if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+            AbstractJavaMapperMethodGenerator methodGenerator =
+                    new AnnotatedSelectByPrimaryKeysMethodGenerator(false, false);
+            initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     @Override
     protected void addUpdateByExampleSelectiveMethod(Interface interfaze) {
         if (introspectedTable.getRules().generateUpdateByExampleSelective()) {
@@ -49,6 +49,15 @@ public class MixedClientGenerator extends JavaMapperGenerator {
         }
     }
 
+    @Override
+    protected void addInsertBatchMethod(Interface interfaze) {
+        if (introspectedTable.getRules().generateInsertBatch()) {
+            AbstractJavaMapperMethodGenerator methodGenerator =
+                    new AnnotatedInsertBatchMethodGenerator(false);
+            initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     @Override
     protected void addSelectByPrimaryKeyMethod(Interface interfaze) {
         if (introspectedTable.getRules().generateSelectByPrimaryKey()) {
@@ -58,6 +67,15 @@ public class MixedClientGenerator extends JavaMapperGenerator {
         }
     }
 
+    @Override
+    protected void addSelectByPrimaryKeysMethod(Interface interfaze) {
+        if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+            AbstractJavaMapperMethodGenerator methodGenerator =
+                    new AnnotatedSelectByPrimaryKeysMethodGenerator(true, false);
+            initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     @Override
     protected void addUpdateByPrimaryKeyWithBLOBsMethod(Interface interfaze) {
         if (introspectedTable.getRules().generateUpdateByPrimaryKeyWithBLOBs()) {
@@ -42,6 +42,15 @@ public class SimpleAnnotatedClientGenerator extends SimpleJavaClientGenerator {
         }
     }
 
+    @Override
+    protected void addInsertBatchMethod(Interface interfaze) {
+        if (introspectedTable.getRules().generateInsertBatch()) {
+            AbstractJavaMapperMethodGenerator methodGenerator =
+                    new AnnotatedInsertBatchMethodGenerator(true);
+            initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     @Override
     protected void addSelectByPrimaryKeyMethod(Interface interfaze) {
         if (introspectedTable.getRules().generateSelectByPrimaryKey()) {
@@ -51,6 +60,15 @@ public class SimpleAnnotatedClientGenerator extends SimpleJavaClientGenerator {
         }
     }
 
+    @Override
+    protected void addSelectByPrimaryKeysMethod(Interface interfaze) {
+        if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+            AbstractJavaMapperMethodGenerator methodGenerator =
+                    new AnnotatedSelectByPrimaryKeysMethodGenerator(false, true);
+            initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     @Override
     protected void addSelectAllMethod(Interface interfaze) {
         AbstractJavaMapperMethodGenerator methodGenerator = new AnnotatedSelectAllMethodGenerator();
@@ -50,7 +50,7 @@ public class SimpleJavaClientGenerator extends AbstractJavaClientGenerator {
         CommentGenerator commentGenerator = context.getCommentGenerator();
 
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatis3JavaMapperType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatis3JavaMapperType());
         Interface interfaze = new Interface(type);
         interfaze.setVisibility(JavaVisibility.PUBLIC);
         commentGenerator.addJavaFileComment(interfaze);
@@ -65,14 +65,16 @@ public class SimpleJavaClientGenerator extends AbstractJavaClientGenerator {
         }
 
         if (stringHasValue(rootInterface)) {
-            FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(rootInterface);
+            FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(rootInterface);
             interfaze.addSuperInterface(fqjt);
             interfaze.addImportedType(fqjt);
         }
 
         addDeleteByPrimaryKeyMethod(interfaze);
         addInsertMethod(interfaze);
+        addInsertBatchMethod(interfaze);
         addSelectByPrimaryKeyMethod(interfaze);
+        addSelectByPrimaryKeysMethod(interfaze);
         addSelectAllMethod(interfaze);
         addUpdateByPrimaryKeyMethod(interfaze);
 
@@ -104,6 +106,14 @@ public class SimpleJavaClientGenerator extends AbstractJavaClientGenerator {
         }
     }
 
+    protected void addInsertBatchMethod(Interface interfaze) {
+        if (introspectedTable.getRules().generateInsertBatch()) {
+            AbstractJavaMapperMethodGenerator methodGenerator =
+                    new InsertBatchMethodGenerator(true);
+            initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     protected void addSelectByPrimaryKeyMethod(Interface interfaze) {
         if (introspectedTable.getRules().generateSelectByPrimaryKey()) {
             AbstractJavaMapperMethodGenerator methodGenerator =
@@ -112,6 +122,14 @@ public class SimpleJavaClientGenerator extends AbstractJavaClientGenerator {
         }
     }
 
+    protected void addSelectByPrimaryKeysMethod(Interface interfaze) {
+        if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+            AbstractJavaMapperMethodGenerator methodGenerator =
+                    new SelectByPrimaryKeysMethodGenerator(true);
+            initializeAndExecuteGenerator(methodGenerator, interfaze);
+        }
+    }
+
     protected void addSelectAllMethod(Interface interfaze) {
         AbstractJavaMapperMethodGenerator methodGenerator = new SelectAllMethodGenerator();
         initializeAndExecuteGenerator(methodGenerator, interfaze);
@@ -44,7 +44,7 @@ public class SqlProviderGenerator extends AbstractJavaGenerator {
         CommentGenerator commentGenerator = context.getCommentGenerator();
 
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
         TopLevelClass topLevelClass = new TopLevelClass(type);
         topLevelClass.setVisibility(JavaVisibility.PUBLIC);
         commentGenerator.addJavaFileComment(topLevelClass);
@@ -53,7 +53,7 @@ public abstract class AbstractJavaMapperMethodGenerator extends AbstractGenerato
 
         if (stringHasValue(introspectedColumn.getTypeHandler())) {
             FullyQualifiedJavaType fqjt =
-                    new FullyQualifiedJavaType(introspectedColumn.getTypeHandler());
+                    FullyQualifiedJavaType.of(introspectedColumn.getTypeHandler());
             interfaze.addImportedType(fqjt);
             sb.append(", typeHandler="); // $NON-NLS-1$
             sb.append(fqjt.getShortName());
@@ -109,11 +109,11 @@ public abstract class AbstractJavaMapperMethodGenerator extends AbstractGenerato
                         introspectedColumn -> {
                             if (gk.isJdbcStandard()) {
                                 interfaze.addImportedType(
-                                        new FullyQualifiedJavaType(
+                                        FullyQualifiedJavaType.of(
                                                 "org.apache.ibatis.annotations.Options")); //$NON-NLS-1$
                             } else {
                                 interfaze.addImportedType(
-                                        new FullyQualifiedJavaType(
+                                        FullyQualifiedJavaType.of(
                                                 "org.apache.ibatis.annotations.SelectKey")); //$NON-NLS-1$
                                 FullyQualifiedJavaType fqjt =
                                         introspectedColumn.getFullyQualifiedJavaType();
@@ -27,7 +27,7 @@ public class CountByExampleMethodGenerator extends AbstractJavaMapperMethodGener
     @Override
     public void addInterfaceElements(Interface interfaze) {
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
 
         Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
         importedTypes.add(fqjt);
@@ -35,7 +35,7 @@ public class CountByExampleMethodGenerator extends AbstractJavaMapperMethodGener
         Method method = new Method(introspectedTable.getCountByExampleStatementId());
         method.setVisibility(JavaVisibility.PUBLIC);
         method.setAbstract(true);
-        method.setReturnType(new FullyQualifiedJavaType("long")); // $NON-NLS-1$
+        method.setReturnType(FullyQualifiedJavaType.of("long")); // $NON-NLS-1$
         method.addParameter(new Parameter(fqjt, "example")); // $NON-NLS-1$
         context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
 
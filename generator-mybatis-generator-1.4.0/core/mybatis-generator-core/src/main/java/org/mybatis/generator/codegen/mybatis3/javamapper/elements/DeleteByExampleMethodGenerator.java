@@ -28,7 +28,7 @@ public class DeleteByExampleMethodGenerator extends AbstractJavaMapperMethodGene
     public void addInterfaceElements(Interface interfaze) {
         Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         importedTypes.add(type);
 
         Method method = new Method(introspectedTable.getDeleteByExampleStatementId());
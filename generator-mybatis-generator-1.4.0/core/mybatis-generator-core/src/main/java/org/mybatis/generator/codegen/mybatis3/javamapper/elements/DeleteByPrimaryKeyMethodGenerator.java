@@ -39,7 +39,7 @@ public class DeleteByPrimaryKeyMethodGenerator extends AbstractJavaMapperMethodG
 
         if (!isSimple && introspectedTable.getRules().generatePrimaryKeyClass()) {
             FullyQualifiedJavaType type =
-                    new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+                    FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
             importedTypes.add(type);
             method.addParameter(new Parameter(type, "key")); // $NON-NLS-1$
         } else {
@@ -51,7 +51,7 @@ public class DeleteByPrimaryKeyMethodGenerator extends AbstractJavaMapperMethodG
             boolean annotate = introspectedColumns.size() > 1;
             if (annotate) {
                 importedTypes.add(
-                        new FullyQualifiedJavaType(
+                        FullyQualifiedJavaType.of(
                                 "org.apache.ibatis.annotations.Param")); //$NON-NLS-1$
             }
             StringBuilder sb = new StringBuilder();
@@ -0,0 +1,185 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import org.mybatis.generator.api.dom.java.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates the multi-row insert method of a mapper. The method inserts a list of records with a
+ * single statement. If Java 8 is targeted, a default method that splits the list into statements
+ * of a maximum number of rows is generated as well.
+ *
+ * <p>An insert statement without any rows is not valid SQL, so the single statement method cannot
+ * be called with an empty list. The generated Javadoc says so, and the default method returns 0
+ * for an empty list without calling the single statement method.
+ */
+public class InsertBatchMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+    private boolean isSimple;
+
+    public InsertBatchMethodGenerator(boolean isSimple) {
+        super();
+        this.isSimple = isSimple;
+    }
+
+    @Override
+    public void addInterfaceElements(Interface interfaze) {
+        Method method = new Method(introspectedTable.getInsertBatchStatementId());
+
+        method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setAbstract(true);
+
+        FullyQualifiedJavaType recordType;
+        if (isSimple) {
+            recordType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
+        } else {
+            recordType = introspectedTable.getRules().calculateAllFieldsClass();
+        }
+
+        Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
+        importedTypes.add(recordType);
+        importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
+        FullyQualifiedJavaType parameterType = FullyQualifiedJavaType.getNewListInstance();
+        parameterType.addTypeArgument(recordType);
+        method.addParameter(new Parameter(parameterType, "records")); // $NON-NLS-1$
+
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+        addJavaDocParagraph(method, calculateNotEmptyComment());
+
+        addMapperAnnotations(method);
+
+        if (context.getPlugins()
+                .clientInsertBatchMethodGenerated(method, interfaze, introspectedTable)) {
+            addExtraImports(interfaze);
+            interfaze.addImportedTypes(importedTypes);
+            interfaze.addMethod(method);
+
+            if (context.isJava8Targeted()) {
+                addChunkedMethod(interfaze, parameterType);
+            }
+        }
+    }
+
+    /**
+     * Adds a default method that inserts the records with as many statements as needed so that no
+     * statement inserts more than the given number of rows. Databases and drivers limit the number
+     * of bind parameters in one statement, so very large lists cannot be inserted at once.
+     *
+     * <p>The method is only added if the plugins accepted the insert batch method, and is not
+     * passed to the plugins itself.
+     *
+     * @param interfaze the mapper interface
+     * @param parameterType the type of the list of records
+     */
+    protected void addChunkedMethod(Interface interfaze, FullyQualifiedJavaType parameterType) {
+        Method method = new Method(introspectedTable.getInsertBatchStatementId());
+        method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setDefault(true);
+        method.addParameter(new Parameter(parameterType, "records")); // $NON-NLS-1$
+        method.addParameter(
+                new Parameter(
+                        FullyQualifiedJavaType.getIntInstance(),
+                        "maxRowsPerStatement")); // $NON-NLS-1$
+
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+        addJavaDocParagraph(
+                method,
+                " * Returns 0 without executing a statement if the list is empty."); // $NON-NLS-1$
+
+        method.addBodyLine("if (maxRowsPerStatement < 1) {"); // $NON-NLS-1$
+        method.addBodyLine(
+                "throw new IllegalArgumentException(" // $NON-NLS-1$
+                        + "\"maxRowsPerStatement must be positive\");"); // $NON-NLS-1$
+        method.addBodyLine("}"); // $NON-NLS-1$
+        method.addBodyLine("if (records.isEmpty()) {"); // $NON-NLS-1$
+        method.addBodyLine("return 0;"); // $NON-NLS-1$
+        method.addBodyLine("}"); // $NON-NLS-1$
+        method.addBodyLine("int rows = 0;"); // $NON-NLS-1$
+        method.addBodyLine(
+                "for (int i = 0; i < records.size(); i += maxRowsPerStatement) {"); // $NON-NLS-1$
+        method.addBodyLine(
+                "int end = Math.min(i + maxRowsPerStatement, records.size());"); // $NON-NLS-1$
+        method.addBodyLine(
+                String.format(
+                        "rows += %s(records.subList(i, end));", // $NON-NLS-1$
+                        introspectedTable.getInsertBatchStatementId()));
+        method.addBodyLine("}"); // $NON-NLS-1$
+        method.addBodyLine("return rows;"); // $NON-NLS-1$
+
+        interfaze.addMethod(method);
+    }
+
+    private String[] calculateNotEmptyComment() {
+        String notEmpty =
+                " * The list must not be empty, an insert without any rows" // $NON-NLS-1$
+                        + " is not valid SQL."; // $NON-NLS-1$
+        if (!context.isJava8Targeted()) {
+            return new String[] {notEmpty};
+        }
+
+        return new String[] {
+            notEmpty,
+            " * Use " // $NON-NLS-1$
+                    + introspectedTable.getInsertBatchStatementId()
+                    + "(records, maxRowsPerStatement) unless the list" // $NON-NLS-1$
+                    + " is known to contain", // $NON-NLS-1$
+            " * records, it returns 0 for an empty list." // $NON-NLS-1$
+        };
+    }
+
+    /**
+     * Adds a paragraph to the Javadoc written by the comment generator, in front of the Javadoc
+     * tags. Nothing is added if the comment generator did not write a Javadoc comment.
+     */
+    private void addJavaDocParagraph(Method method, String... lines) {
+        List<String> javaDocLines = method.getJavaDocLines();
+        if (javaDocLines.isEmpty()
+                || !javaDocLines.get(0).trim().startsWith("/**")) { // $NON-NLS-1$
+            return;
+        }
+
+        int index = 1;
+        while (index < javaDocLines.size()) {
+            String line = javaDocLines.get(index).trim();
+            if (line.startsWith("* @") || line.startsWith("*/")) { // $NON-NLS-1$ //$NON-NLS-2$
+                break;
+            }
+            index++;
+        }
+
+        // keep the empty line in front of the tags after the paragraph
+        if (index > 1 && "*".equals(javaDocLines.get(index - 1).trim())) { // $NON-NLS-1$
+            index--;
+        }
+
+        javaDocLines.add(index++, " *"); // $NON-NLS-1$
+        for (String line : lines) {
+            javaDocLines.add(index++, line);
+        }
+    }
+
+    public void addMapperAnnotations(Method method) {
+        // extension point for subclasses
+    }
+
+    public void addExtraImports(Interface interfaze) {
+        // extension point for subclasses
+    }
+}
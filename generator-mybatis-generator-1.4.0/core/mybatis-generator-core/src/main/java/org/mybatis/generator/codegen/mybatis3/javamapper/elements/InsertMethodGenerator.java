@@ -37,7 +37,7 @@ public class InsertMethodGenerator extends AbstractJavaMapperMethodGenerator {
 
         FullyQualifiedJavaType parameterType;
         if (isSimple) {
-            parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+            parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         } else {
             parameterType = introspectedTable.getRules().calculateAllFieldsClass();
         }
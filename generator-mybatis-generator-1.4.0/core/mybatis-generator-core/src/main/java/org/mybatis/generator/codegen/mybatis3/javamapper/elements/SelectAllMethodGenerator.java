@@ -43,7 +43,7 @@ public class SelectAllMethodGenerator extends AbstractJavaMapperMethodGenerator
 
         FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
         FullyQualifiedJavaType listType;
-        listType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        listType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
 
         importedTypes.add(listType);
         returnType.addTypeArgument(listType);
@@ -28,7 +28,7 @@ public class SelectByExampleWithBLOBsMethodGenerator extends AbstractJavaMapperM
     public void addInterfaceElements(Interface interfaze) {
         Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         importedTypes.add(type);
         importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
 
@@ -39,10 +39,10 @@ public class SelectByExampleWithBLOBsMethodGenerator extends AbstractJavaMapperM
         FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
         FullyQualifiedJavaType listType;
         if (introspectedTable.getRules().generateRecordWithBLOBsClass()) {
-            listType = new FullyQualifiedJavaType(introspectedTable.getRecordWithBLOBsType());
+            listType = FullyQualifiedJavaType.of(introspectedTable.getRecordWithBLOBsType());
         } else {
             // the blob fields must be rolled up into the base class
-            listType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+            listType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         }
 
         importedTypes.add(listType);
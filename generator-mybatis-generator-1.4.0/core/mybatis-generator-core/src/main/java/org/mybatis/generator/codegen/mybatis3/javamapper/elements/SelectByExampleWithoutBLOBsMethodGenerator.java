@@ -30,7 +30,7 @@ public class SelectByExampleWithoutBLOBsMethodGenerator extends AbstractJavaMapp
     public void addInterfaceElements(Interface interfaze) {
         Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         importedTypes.add(type);
         importedTypes.add(FullyQualifiedJavaType.getNewListInstance());
 
@@ -41,9 +41,9 @@ public class SelectByExampleWithoutBLOBsMethodGenerator extends AbstractJavaMapp
         FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
         FullyQualifiedJavaType listType;
         if (introspectedTable.getRules().generateBaseRecordClass()) {
-            listType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+            listType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         } else if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-            listType = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+            listType = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
         } else {
             throw new RuntimeException(getString("RuntimeError.12")); // $NON-NLS-1$
         }
@@ -0,0 +1,167 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates the method of a mapper that selects the records of a collection of primary keys with
+ * a single statement. If Java 8 is targeted, a default method that splits the keys into
+ * statements of a maximum number of keys is generated as well.
+ */
+public class SelectByPrimaryKeysMethodGenerator extends AbstractJavaMapperMethodGenerator {
+
+    private boolean isSimple;
+
+    public SelectByPrimaryKeysMethodGenerator(boolean isSimple) {
+        super();
+        this.isSimple = isSimple;
+    }
+
+    @Override
+    public void addInterfaceElements(Interface interfaze) {
+        Method method = new Method(introspectedTable.getSelectByPrimaryKeysStatementId());
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setAbstract(true);
+
+        FullyQualifiedJavaType recordType = introspectedTable.getRules().calculateAllFieldsClass();
+        FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
+        returnType.addTypeArgument(recordType);
+        method.setReturnType(returnType);
+
+        FullyQualifiedJavaType keyType = calculateKeyType();
+        FullyQualifiedJavaType parameterType =
+                new FullyQualifiedJavaType("java.util.Collection"); // $NON-NLS-1$
+        parameterType.addTypeArgument(keyType);
+        method.addParameter(new Parameter(parameterType, "keys")); // $NON-NLS-1$
+
+        Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
+        importedTypes.add(returnType);
+        importedTypes.add(recordType);
+        importedTypes.add(parameterType);
+        importedTypes.add(keyType);
+
+        addMapperAnnotations(interfaze, method);
+
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+        if (context.getPlugins()
+                .clientSelectByPrimaryKeysMethodGenerated(method, interfaze, introspectedTable)) {
+            addExtraImports(interfaze);
+            interfaze.addImportedTypes(importedTypes);
+            interfaze.addMethod(method);
+
+            if (context.isJava8Targeted()) {
+                addChunkedMethod(interfaze, returnType, parameterType, keyType);
+            }
+        }
+    }
+
+    /**
+     * Calculates the type of the keys. A single column key is passed as the column value. The
+     * columns of a composite key are passed as the primary key class if there is one, or else as
+     * the record that holds the primary key fields.
+     *
+     * @return the type of the elements of the keys parameter
+     */
+    protected FullyQualifiedJavaType calculateKeyType() {
+        List<IntrospectedColumn> introspectedColumns = introspectedTable.getPrimaryKeyColumns();
+        if (introspectedColumns.size() == 1) {
+            FullyQualifiedJavaType type = introspectedColumns.get(0).getFullyQualifiedJavaType();
+            if (type.isPrimitive()) {
+                type = type.getPrimitiveTypeWrapper();
+            }
+            return type;
+        } else if (!isSimple && introspectedTable.getRules().generatePrimaryKeyClass()) {
+            return FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
+        } else {
+            return FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
+        }
+    }
+
+    /**
+     * Adds a default method that selects the records with as many statements as needed so that no
+     * statement selects more than the given number of keys. Databases limit the number of bind
+     * parameters and the length of an in list, so very large key collections cannot be selected
+     * at once.
+     *
+     * <p>The method is only added if the plugins accepted the select by primary keys method, and
+     * is not passed to the plugins itself.
+     *
+     * @param interfaze the mapper interface
+     * @param returnType the type of the list of records
+     * @param parameterType the type of the collection of keys
+     * @param keyType the type of the keys
+     */
+    protected void addChunkedMethod(
+            Interface interfaze,
+            FullyQualifiedJavaType returnType,
+            FullyQualifiedJavaType parameterType,
+            FullyQualifiedJavaType keyType) {
+        Method method = new Method(introspectedTable.getSelectByPrimaryKeysStatementId());
+        method.setReturnType(returnType);
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setDefault(true);
+        method.addParameter(new Parameter(parameterType, "keys")); // $NON-NLS-1$
+        method.addParameter(
+                new Parameter(
+                        FullyQualifiedJavaType.getIntInstance(),
+                        "maxKeysPerStatement")); // $NON-NLS-1$
+
+        context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
+
+        FullyQualifiedJavaType keyListType = FullyQualifiedJavaType.getNewListInstance();
+        keyListType.addTypeArgument(keyType);
+
+        method.addBodyLine("if (maxKeysPerStatement < 1) {"); // $NON-NLS-1$
+        method.addBodyLine(
+                "throw new IllegalArgumentException(" // $NON-NLS-1$
+                        + "\"maxKeysPerStatement must be positive\");"); // $NON-NLS-1$
+        method.addBodyLine("}"); // $NON-NLS-1$
+        method.addBodyLine(
+                String.format(
+                        "%s keyList = new ArrayList<>(keys);", // $NON-NLS-1$
+                        keyListType.getShortName()));
+        method.addBodyLine(
+                String.format(
+                        "%s records = new ArrayList<>();", // $NON-NLS-1$
+                        returnType.getShortName()));
+        method.addBodyLine(
+                "for (int i = 0; i < keyList.size(); i += maxKeysPerStatement) {"); // $NON-NLS-1$
+        method.addBodyLine(
+                "int end = Math.min(i + maxKeysPerStatement, keyList.size());"); // $NON-NLS-1$
+        method.addBodyLine(
+                String.format(
+                        "records.addAll(%s(keyList.subList(i, end)));", // $NON-NLS-1$
+                        introspectedTable.getSelectByPrimaryKeysStatementId()));
+        method.addBodyLine("}"); // $NON-NLS-1$
+        method.addBodyLine("return records;"); // $NON-NLS-1$
+
+        interfaze.addImportedType(FullyQualifiedJavaType.getNewArrayListInstance());
+        interfaze.addMethod(method);
+    }
+
+    public void addMapperAnnotations(Interface interfaze, Method method) {
+        // extension point for subclasses
+    }
+
+    public void addExtraImports(Interface interfaze) {
+        // extension point for subclasses
+    }
+}
@@ -39,7 +39,7 @@ public class UpdateByExampleSelectiveMethodGenerator extends AbstractJavaMapperM
         importedTypes.add(parameterType);
 
         FullyQualifiedJavaType exampleType =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         method.addParameter(
                 new Parameter(
                         exampleType,
@@ -48,7 +48,7 @@ public class UpdateByExampleSelectiveMethodGenerator extends AbstractJavaMapperM
         importedTypes.add(exampleType);
 
         importedTypes.add(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); // $NON-NLS-1$
 
         context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
 
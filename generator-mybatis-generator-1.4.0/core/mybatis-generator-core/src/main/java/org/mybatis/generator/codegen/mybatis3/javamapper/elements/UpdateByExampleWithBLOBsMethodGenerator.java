@@ -33,9 +33,9 @@ public class UpdateByExampleWithBLOBsMethodGenerator extends AbstractJavaMapperM
 
         FullyQualifiedJavaType parameterType;
         if (introspectedTable.getRules().generateRecordWithBLOBsClass()) {
-            parameterType = new FullyQualifiedJavaType(introspectedTable.getRecordWithBLOBsType());
+            parameterType = FullyQualifiedJavaType.of(introspectedTable.getRecordWithBLOBsType());
         } else {
-            parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+            parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         }
         method.addParameter(
                 new Parameter(
@@ -47,7 +47,7 @@ public class UpdateByExampleWithBLOBsMethodGenerator extends AbstractJavaMapperM
         importedTypes.add(parameterType);
 
         FullyQualifiedJavaType exampleType =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         method.addParameter(
                 new Parameter(
                         exampleType,
@@ -56,7 +56,7 @@ public class UpdateByExampleWithBLOBsMethodGenerator extends AbstractJavaMapperM
         importedTypes.add(exampleType);
 
         importedTypes.add(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); // $NON-NLS-1$
 
         context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
 
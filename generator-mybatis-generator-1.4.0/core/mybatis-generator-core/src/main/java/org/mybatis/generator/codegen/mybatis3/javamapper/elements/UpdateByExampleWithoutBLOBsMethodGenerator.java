@@ -33,9 +33,9 @@ public class UpdateByExampleWithoutBLOBsMethodGenerator extends AbstractJavaMapp
 
         FullyQualifiedJavaType parameterType;
         if (introspectedTable.getRules().generateBaseRecordClass()) {
-            parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+            parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         } else {
-            parameterType = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+            parameterType = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
         }
         method.addParameter(
                 new Parameter(
@@ -47,7 +47,7 @@ public class UpdateByExampleWithoutBLOBsMethodGenerator extends AbstractJavaMapp
         importedTypes.add(parameterType);
 
         FullyQualifiedJavaType exampleType =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         method.addParameter(
                 new Parameter(
                         exampleType,
@@ -56,7 +56,7 @@ public class UpdateByExampleWithoutBLOBsMethodGenerator extends AbstractJavaMapp
         importedTypes.add(exampleType);
 
         importedTypes.add(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); // $NON-NLS-1$
 
         context.getCommentGenerator().addGeneralMethodComment(method, introspectedTable);
 
@@ -29,7 +29,7 @@ public class UpdateByPrimaryKeyWithoutBLOBsMethodGenerator
     public void addInterfaceElements(Interface interfaze) {
         Set<FullyQualifiedJavaType> importedTypes = new TreeSet<>();
         FullyQualifiedJavaType parameterType =
-                new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+                FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         importedTypes.add(parameterType);
 
         Method method = new Method(introspectedTable.getUpdateByPrimaryKeyStatementId());
@@ -27,7 +27,7 @@ public class AnnotatedCountByExampleMethodGenerator extends CountByExampleMethod
     @Override
     public void addMapperAnnotations(Method method) {
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
         StringBuilder sb = new StringBuilder();
         sb.append("@SelectProvider(type="); // $NON-NLS-1$
         sb.append(fqjt.getShortName());
@@ -41,7 +41,7 @@ public class AnnotatedCountByExampleMethodGenerator extends CountByExampleMethod
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.SelectProvider")); //$NON-NLS-1$
     }
 }
@@ -27,7 +27,7 @@ public class AnnotatedDeleteByExampleMethodGenerator extends DeleteByExampleMeth
     @Override
     public void addMapperAnnotations(Method method) {
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
         StringBuilder sb = new StringBuilder();
         sb.append("@DeleteProvider(type="); // $NON-NLS-1$
         sb.append(fqjt.getShortName());
@@ -41,7 +41,7 @@ public class AnnotatedDeleteByExampleMethodGenerator extends DeleteByExampleMeth
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.DeleteProvider")); //$NON-NLS-1$
     }
 }
@@ -74,6 +74,6 @@ public class AnnotatedDeleteByPrimaryKeyMethodGenerator extends DeleteByPrimaryK
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Delete")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Delete")); // $NON-NLS-1$
     }
 }
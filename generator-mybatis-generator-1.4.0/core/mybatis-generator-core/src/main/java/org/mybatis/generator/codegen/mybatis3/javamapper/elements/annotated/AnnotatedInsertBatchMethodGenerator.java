@@ -0,0 +1,120 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.codegen.mybatis3.ListUtilities;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.InsertBatchMethodGenerator;
+import org.mybatis.generator.config.GeneratedKey;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.mybatis.generator.api.dom.OutputUtilities.javaIndent;
+import static org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities.getEscapedColumnName;
+import static org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities.getParameterClause;
+import static org.mybatis.generator.internal.util.StringUtility.escapeStringForJava;
+
+public class AnnotatedInsertBatchMethodGenerator extends InsertBatchMethodGenerator {
+
+    public AnnotatedInsertBatchMethodGenerator(boolean isSimple) {
+        super(isSimple);
+    }
+
+    @Override
+    public void addMapperAnnotations(Method method) {
+        method.addAnnotation("@Insert({"); // $NON-NLS-1$
+        addAnnotationLine(method, "<script>", true); // $NON-NLS-1$
+
+        StringBuilder insertClause = new StringBuilder();
+        insertClause.append("insert into "); // $NON-NLS-1$
+        insertClause.append(introspectedTable.getFullyQualifiedTableNameAtRuntime());
+        insertClause.append(" ("); // $NON-NLS-1$
+
+        StringBuilder valuesClause = new StringBuilder();
+        valuesClause.append('(');
+
+        Iterator<IntrospectedColumn> iter =
+                ListUtilities.removeIdentityAndGeneratedAlwaysColumns(
+                                introspectedTable.getAllColumns())
+                        .iterator();
+        List<String> valuesClauses = new ArrayList<>();
+        while (iter.hasNext()) {
+            IntrospectedColumn introspectedColumn = iter.next();
+
+            insertClause.append(getEscapedColumnName(introspectedColumn));
+            valuesClause.append(getParameterClause(introspectedColumn, "item.")); // $NON-NLS-1$
+            if (iter.hasNext()) {
+                insertClause.append(", "); // $NON-NLS-1$
+                valuesClause.append(", "); // $NON-NLS-1$
+            }
+
+            if (valuesClause.length() > 60 && iter.hasNext()) {
+                addAnnotationLine(method, insertClause.toString(), true);
+                insertClause.setLength(0);
+
+                valuesClauses.add(valuesClause.toString());
+                valuesClause.setLength(0);
+            }
+        }
+
+        insertClause.append(')');
+        addAnnotationLine(method, insertClause.toString(), true);
+        addAnnotationLine(method, "values", true); // $NON-NLS-1$
+        addAnnotationLine(
+                method,
+                "<foreach collection=\"list\" item=\"item\" separator=\",\">", // $NON-NLS-1$
+                true);
+        valuesClause.append(')');
+        valuesClauses.add(valuesClause.toString());
+        for (String clause : valuesClauses) {
+            addAnnotationLine(method, clause, true);
+        }
+        addAnnotationLine(method, "</foreach>", true); // $NON-NLS-1$
+        addAnnotationLine(method, "</script>", false); // $NON-NLS-1$
+        method.addAnnotation("})"); // $NON-NLS-1$
+
+        // a select key cannot return the keys of a multi-row insert
+        GeneratedKey gk = introspectedTable.getGeneratedKey();
+        if (gk != null && gk.isJdbcStandard()) {
+            addGeneratedKeyAnnotation(method, gk);
+        }
+    }
+
+    private void addAnnotationLine(Method method, String line, boolean more) {
+        StringBuilder sb = new StringBuilder();
+        javaIndent(sb, 1);
+        sb.append('\"');
+        sb.append(escapeStringForJava(line));
+        sb.append('\"');
+        if (more) {
+            sb.append(',');
+        }
+        method.addAnnotation(sb.toString());
+    }
+
+    @Override
+    public void addExtraImports(Interface interfaze) {
+        GeneratedKey gk = introspectedTable.getGeneratedKey();
+        if (gk != null && gk.isJdbcStandard()) {
+            addGeneratedKeyImports(interfaze, gk);
+        }
+        interfaze.addImportedType(
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Insert")); // $NON-NLS-1$
+    }
+}
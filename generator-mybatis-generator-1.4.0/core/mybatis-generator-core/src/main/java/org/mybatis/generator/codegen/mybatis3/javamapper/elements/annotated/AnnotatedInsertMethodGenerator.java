@@ -121,6 +121,6 @@ public class AnnotatedInsertMethodGenerator extends InsertMethodGenerator {
             addGeneratedKeyImports(interfaze, gk);
         }
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Insert")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Insert")); // $NON-NLS-1$
     }
 }
@@ -28,7 +28,7 @@ public class AnnotatedInsertSelectiveMethodGenerator extends InsertSelectiveMeth
     @Override
     public void addMapperAnnotations(Method method) {
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
         StringBuilder sb = new StringBuilder();
         sb.append("@InsertProvider(type="); // $NON-NLS-1$
         sb.append(fqjt.getShortName());
@@ -51,7 +51,7 @@ public class AnnotatedInsertSelectiveMethodGenerator extends InsertSelectiveMeth
             addGeneratedKeyImports(interfaze, gk);
         }
         interfaze.addImportedType(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.InsertProvider")); //$NON-NLS-1$
     }
 }
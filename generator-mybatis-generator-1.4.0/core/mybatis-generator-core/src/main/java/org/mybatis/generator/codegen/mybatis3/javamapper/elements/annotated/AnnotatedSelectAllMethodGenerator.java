@@ -36,7 +36,7 @@ public class AnnotatedSelectAllMethodGenerator extends SelectAllMethodGenerator
     @Override
     public void addMapperAnnotations(Interface interfaze, Method method) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Select")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Select")); // $NON-NLS-1$
 
         StringBuilder sb = new StringBuilder();
         method.addAnnotation("@Select({"); // $NON-NLS-1$
@@ -159,19 +159,19 @@ public class AnnotatedSelectAllMethodGenerator extends SelectAllMethodGenerator
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
         if (introspectedTable.isConstructorBased()) {
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
+                    FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
         } else {
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.Result")); //$NON-NLS-1$
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.Results")); //$NON-NLS-1$
         }
     }
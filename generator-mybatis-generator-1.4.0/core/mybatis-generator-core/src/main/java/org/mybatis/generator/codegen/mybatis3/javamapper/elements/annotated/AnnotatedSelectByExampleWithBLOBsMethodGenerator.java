@@ -33,7 +33,7 @@ public class AnnotatedSelectByExampleWithBLOBsMethodGenerator
     @Override
     public void addMapperAnnotations(Interface interfaze, Method method) {
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
 
         StringBuilder sb = new StringBuilder();
         sb.append("@SelectProvider(type="); // $NON-NLS-1$
@@ -95,23 +95,23 @@ public class AnnotatedSelectByExampleWithBLOBsMethodGenerator
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.SelectProvider")); //$NON-NLS-1$
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
 
         if (introspectedTable.isConstructorBased()) {
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
+                    FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
         } else {
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.Result")); //$NON-NLS-1$
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.Results")); //$NON-NLS-1$
         }
     }
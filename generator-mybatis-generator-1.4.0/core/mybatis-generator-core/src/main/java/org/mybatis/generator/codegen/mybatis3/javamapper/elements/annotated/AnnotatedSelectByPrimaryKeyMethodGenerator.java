@@ -191,13 +191,13 @@ public class AnnotatedSelectByPrimaryKeyMethodGenerator extends SelectByPrimaryK
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Select")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Select")); // $NON-NLS-1$
 
         if (useResultMapIfAvailable) {
             if (introspectedTable.getRules().generateBaseResultMap()
                     || introspectedTable.getRules().generateResultMapWithBLOBs()) {
                 interfaze.addImportedType(
-                        new FullyQualifiedJavaType(
+                        FullyQualifiedJavaType.of(
                                 "org.apache.ibatis.annotations.ResultMap")); //$NON-NLS-1$
             } else {
                 addAnnotationImports(interfaze);
@@ -209,20 +209,20 @@ public class AnnotatedSelectByPrimaryKeyMethodGenerator extends SelectByPrimaryK
 
     private void addAnnotationImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
 
         if (introspectedTable.isConstructorBased()) {
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
+                    FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
         } else {
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.Result")); //$NON-NLS-1$
             interfaze.addImportedType(
-                    new FullyQualifiedJavaType(
+                    FullyQualifiedJavaType.of(
                             "org.apache.ibatis.annotations.Results")); //$NON-NLS-1$
         }
     }
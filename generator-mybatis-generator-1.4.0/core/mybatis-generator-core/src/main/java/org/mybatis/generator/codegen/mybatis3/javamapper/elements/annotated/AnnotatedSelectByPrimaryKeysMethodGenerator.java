@@ -0,0 +1,266 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.javamapper.elements.annotated;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+import org.mybatis.generator.codegen.mybatis3.javamapper.elements.SelectByPrimaryKeysMethodGenerator;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.mybatis.generator.api.dom.OutputUtilities.javaIndent;
+import static org.mybatis.generator.internal.util.StringUtility.escapeStringForJava;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+public class AnnotatedSelectByPrimaryKeysMethodGenerator
+        extends SelectByPrimaryKeysMethodGenerator {
+
+    private boolean useResultMapIfAvailable;
+
+    public AnnotatedSelectByPrimaryKeysMethodGenerator(
+            boolean useResultMapIfAvailable, boolean isSimple) {
+        super(isSimple);
+        this.useResultMapIfAvailable = useResultMapIfAvailable;
+    }
+
+    @Override
+    public void addMapperAnnotations(Interface interfaze, Method method) {
+        method.addAnnotation("@Select({"); // $NON-NLS-1$
+        addAnnotationLine(method, "<script>", true); // $NON-NLS-1$
+        addAnnotationLine(method, "select", true); // $NON-NLS-1$
+
+        StringBuilder sb = new StringBuilder();
+        Iterator<IntrospectedColumn> iter = introspectedTable.getAllColumns().iterator();
+        while (iter.hasNext()) {
+            sb.append(MyBatis3FormattingUtilities.getSelectListPhrase(iter.next()));
+
+            if (iter.hasNext()) {
+                sb.append(", "); // $NON-NLS-1$
+            }
+
+            if (sb.length() > 70) {
+                addAnnotationLine(method, sb.toString(), true);
+                sb.setLength(0);
+            }
+        }
+
+        if (sb.length() > 0) {
+            addAnnotationLine(method, sb.toString(), true);
+        }
+
+        addAnnotationLine(
+                method,
+                "from " //$NON-NLS-1$
+                        + introspectedTable.getAliasedFullyQualifiedTableNameAtRuntime(),
+                true);
+
+        // an empty in list is not valid SQL, so an empty collection selects nothing
+        addAnnotationLine(method, "where", true); // $NON-NLS-1$
+        addAnnotationLine(method, "<choose>", true); // $NON-NLS-1$
+        addAnnotationLine(method, "<when test=\"!collection.isEmpty()\">", true); // $NON-NLS-1$
+
+        List<IntrospectedColumn> primaryKeyColumns = introspectedTable.getPrimaryKeyColumns();
+        if (primaryKeyColumns.size() == 1) {
+            IntrospectedColumn introspectedColumn = primaryKeyColumns.get(0);
+            addAnnotationLine(
+                    method,
+                    MyBatis3FormattingUtilities.getAliasedEscapedColumnName(introspectedColumn)
+                            + " in", //$NON-NLS-1$
+                    true);
+            addAnnotationLine(
+                    method,
+                    "<foreach collection=\"collection\" item=\"key\"" //$NON-NLS-1$
+                            + " open=\"(\" separator=\",\" close=\")\">", //$NON-NLS-1$
+                    true);
+            addAnnotationLine(method, getKeyParameterClause(introspectedColumn), true);
+        } else {
+            addAnnotationLine(
+                    method,
+                    "<foreach collection=\"collection\" item=\"key\"" //$NON-NLS-1$
+                            + " separator=\" or \">", //$NON-NLS-1$
+                    true);
+            sb.setLength(0);
+            sb.append('(');
+            iter = primaryKeyColumns.iterator();
+            while (iter.hasNext()) {
+                IntrospectedColumn introspectedColumn = iter.next();
+                sb.append(
+                        MyBatis3FormattingUtilities.getAliasedEscapedColumnName(
+                                introspectedColumn));
+                sb.append(" = "); // $NON-NLS-1$
+                sb.append(
+                        MyBatis3FormattingUtilities.getParameterClause(
+                                introspectedColumn, "key.")); // $NON-NLS-1$
+                if (iter.hasNext()) {
+                    sb.append(" and "); // $NON-NLS-1$
+                }
+            }
+            sb.append(')');
+            addAnnotationLine(method, sb.toString(), true);
+        }
+
+        addAnnotationLine(method, "</foreach>", true); // $NON-NLS-1$
+        addAnnotationLine(method, "</when>", true); // $NON-NLS-1$
+        addAnnotationLine(method, "<otherwise>", true); // $NON-NLS-1$
+        addAnnotationLine(method, "1 = 0", true); // $NON-NLS-1$
+        addAnnotationLine(method, "</otherwise>", true); // $NON-NLS-1$
+        addAnnotationLine(method, "</choose>", true); // $NON-NLS-1$
+        addAnnotationLine(method, "</script>", false); // $NON-NLS-1$
+        method.addAnnotation("})"); // $NON-NLS-1$
+
+        if (useResultMapIfAvailable) {
+            if (introspectedTable.getRules().generateBaseResultMap()
+                    || introspectedTable.getRules().generateResultMapWithBLOBs()) {
+                addResultMapAnnotation(method);
+            } else {
+                addAnnotatedResults(interfaze, method);
+            }
+        } else {
+            addAnnotatedResults(interfaze, method);
+        }
+    }
+
+    private void addAnnotationLine(Method method, String line, boolean more) {
+        StringBuilder sb = new StringBuilder();
+        javaIndent(sb, 1);
+        sb.append('\"');
+        sb.append(escapeStringForJava(line));
+        sb.append('\"');
+        if (more) {
+            sb.append(',');
+        }
+        method.addAnnotation(sb.toString());
+    }
+
+    private String getKeyParameterClause(IntrospectedColumn introspectedColumn) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("#{key,jdbcType="); // $NON-NLS-1$
+        sb.append(introspectedColumn.getJdbcTypeName());
+
+        if (stringHasValue(introspectedColumn.getTypeHandler())) {
+            sb.append(",typeHandler="); // $NON-NLS-1$
+            sb.append(introspectedColumn.getTypeHandler());
+        }
+
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private void addResultMapAnnotation(Method method) {
+
+        String annotation =
+                String.format(
+                        "@ResultMap(\"%s.%s\")", //$NON-NLS-1$
+                        introspectedTable.getMyBatis3SqlMapNamespace(),
+                        introspectedTable.getRules().generateResultMapWithBLOBs()
+                                ? introspectedTable.getResultMapWithBLOBsId()
+                                : introspectedTable.getBaseResultMapId());
+        method.addAnnotation(annotation);
+    }
+
+    private void addAnnotatedResults(Interface interfaze, Method method) {
+
+        if (introspectedTable.isConstructorBased()) {
+            method.addAnnotation("@ConstructorArgs({"); // $NON-NLS-1$
+        } else {
+            method.addAnnotation("@Results({"); // $NON-NLS-1$
+        }
+
+        StringBuilder sb = new StringBuilder();
+
+        Iterator<IntrospectedColumn> iterPk = introspectedTable.getPrimaryKeyColumns().iterator();
+        Iterator<IntrospectedColumn> iterNonPk =
+                introspectedTable.getNonPrimaryKeyColumns().iterator();
+        while (iterPk.hasNext()) {
+            IntrospectedColumn introspectedColumn = iterPk.next();
+            sb.setLength(0);
+            javaIndent(sb, 1);
+            sb.append(
+                    getResultAnnotation(
+                            interfaze,
+                            introspectedColumn,
+                            true,
+                            introspectedTable.isConstructorBased()));
+
+            if (iterPk.hasNext() || iterNonPk.hasNext()) {
+                sb.append(',');
+            }
+
+            method.addAnnotation(sb.toString());
+        }
+
+        while (iterNonPk.hasNext()) {
+            IntrospectedColumn introspectedColumn = iterNonPk.next();
+            sb.setLength(0);
+            javaIndent(sb, 1);
+            sb.append(
+                    getResultAnnotation(
+                            interfaze,
+                            introspectedColumn,
+                            false,
+                            introspectedTable.isConstructorBased()));
+
+            if (iterNonPk.hasNext()) {
+                sb.append(',');
+            }
+
+            method.addAnnotation(sb.toString());
+        }
+
+        method.addAnnotation("})"); // $NON-NLS-1$
+    }
+
+    @Override
+    public void addExtraImports(Interface interfaze) {
+        interfaze.addImportedType(
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Select")); // $NON-NLS-1$
+
+        if (useResultMapIfAvailable) {
+            if (introspectedTable.getRules().generateBaseResultMap()
+                    || introspectedTable.getRules().generateResultMapWithBLOBs()) {
+                interfaze.addImportedType(
+                        FullyQualifiedJavaType.of(
+                                "org.apache.ibatis.annotations.ResultMap")); //$NON-NLS-1$
+            } else {
+                addAnnotationImports(interfaze);
+            }
+        } else {
+            addAnnotationImports(interfaze);
+        }
+    }
+
+    private void addAnnotationImports(Interface interfaze) {
+        interfaze.addImportedType(
+                FullyQualifiedJavaType.of("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
+
+        if (introspectedTable.isConstructorBased()) {
+            interfaze.addImportedType(
+                    FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
+            interfaze.addImportedType(
+                    FullyQualifiedJavaType.of(
+                            "org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
+        } else {
+            interfaze.addImportedType(
+                    FullyQualifiedJavaType.of(
+                            "org.apache.ibatis.annotations.Result")); //$NON-NLS-1$
+            interfaze.addImportedType(
+                    FullyQualifiedJavaType.of(
+                            "org.apache.ibatis.annotations.Results")); //$NON-NLS-1$
+        }
+    }
+}
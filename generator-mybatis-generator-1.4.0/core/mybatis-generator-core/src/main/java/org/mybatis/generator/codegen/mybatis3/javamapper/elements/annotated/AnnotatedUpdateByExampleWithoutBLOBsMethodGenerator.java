@@ -28,7 +28,7 @@ public class AnnotatedUpdateByExampleWithoutBLOBsMethodGenerator
     @Override
     public void addMapperAnnotations(Method method) {
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatis3SqlProviderType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatis3SqlProviderType());
         StringBuilder sb = new StringBuilder();
         sb.append("@UpdateProvider(type="); // $NON-NLS-1$
         sb.append(fqjt.getShortName());
@@ -42,7 +42,7 @@ public class AnnotatedUpdateByExampleWithoutBLOBsMethodGenerator
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.UpdateProvider")); //$NON-NLS-1$
     }
 }
@@ -106,6 +106,6 @@ public class AnnotatedUpdateByPrimaryKeyWithBLOBsMethodGenerator
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Update")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Update")); // $NON-NLS-1$
     }
 }
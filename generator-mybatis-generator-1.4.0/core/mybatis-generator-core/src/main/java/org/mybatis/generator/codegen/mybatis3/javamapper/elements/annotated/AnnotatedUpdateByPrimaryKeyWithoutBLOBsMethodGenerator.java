@@ -117,6 +117,6 @@ public class AnnotatedUpdateByPrimaryKeyWithoutBLOBsMethodGenerator
     @Override
     public void addExtraImports(Interface interfaze) {
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Update")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Update")); // $NON-NLS-1$
     }
 }
@@ -20,7 +20,7 @@ import org.mybatis.generator.codegen.AbstractGenerator;
 public abstract class AbstractJavaProviderMethodGenerator extends AbstractGenerator {
 
     protected static final FullyQualifiedJavaType NEW_BUILDER_IMPORT =
-            new FullyQualifiedJavaType("org.apache.ibatis.jdbc.SQL"); // $NON-NLS-1$
+            FullyQualifiedJavaType.of("org.apache.ibatis.jdbc.SQL"); // $NON-NLS-1$
     protected boolean useLegacyBuilder;
     protected final String builderPrefix;
 
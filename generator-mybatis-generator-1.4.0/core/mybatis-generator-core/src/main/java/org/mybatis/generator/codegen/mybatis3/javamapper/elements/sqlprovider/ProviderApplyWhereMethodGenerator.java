@@ -143,16 +143,16 @@ public class ProviderApplyWhereMethodGenerator extends AbstractJavaProviderMetho
             importedTypes.add(NEW_BUILDER_IMPORT);
         }
 
-        importedTypes.add(new FullyQualifiedJavaType("java.util.List")); // $NON-NLS-1$
+        importedTypes.add(FullyQualifiedJavaType.of("java.util.List")); // $NON-NLS-1$
 
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         importedTypes.add(fqjt);
         importedTypes.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         String.format("%s.Criteria", fqjt.getFullyQualifiedName()))); // $NON-NLS-1$
         importedTypes.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         String.format(
                                 "%s.Criterion", fqjt.getFullyQualifiedName()))); // $NON-NLS-1$
 
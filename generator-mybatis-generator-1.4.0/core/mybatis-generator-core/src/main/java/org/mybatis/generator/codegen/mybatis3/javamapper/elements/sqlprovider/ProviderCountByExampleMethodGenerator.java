@@ -41,7 +41,7 @@ public class ProviderCountByExampleMethodGenerator extends AbstractJavaProviderM
         }
 
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         importedTypes.add(fqjt);
 
         Method method = new Method(introspectedTable.getCountByExampleStatementId());
@@ -40,7 +40,7 @@ public class ProviderDeleteByExampleMethodGenerator extends AbstractJavaProvider
         }
 
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         importedTypes.add(fqjt);
 
         Method method = new Method(introspectedTable.getDeleteByExampleStatementId());
@@ -47,7 +47,7 @@ public class ProviderSelectByExampleWithoutBLOBsMethodGenerator
         }
 
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         importedTypes.add(fqjt);
 
         Method method = new Method(getMethodName());
@@ -46,14 +46,14 @@ public class ProviderUpdateByExampleSelectiveMethodGenerator
             importedTypes.add(NEW_BUILDER_IMPORT);
         }
 
-        importedTypes.add(new FullyQualifiedJavaType("java.util.Map")); // $NON-NLS-1$
+        importedTypes.add(FullyQualifiedJavaType.of("java.util.Map")); // $NON-NLS-1$
 
         Method method = new Method(introspectedTable.getUpdateByExampleSelectiveStatementId());
         method.setReturnType(FullyQualifiedJavaType.getStringInstance());
         method.setVisibility(JavaVisibility.PUBLIC);
         method.addParameter(
                 new Parameter(
-                        new FullyQualifiedJavaType(
+                        FullyQualifiedJavaType.of(
                                 "java.util.Map<java.lang.String, java.lang.Object>"), //$NON-NLS-1$
                         "parameter")); //$NON-NLS-1$
 
@@ -65,7 +65,7 @@ public class ProviderUpdateByExampleSelectiveMethodGenerator
                         record.getShortName(), record.getShortName()));
 
         FullyQualifiedJavaType example =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         importedTypes.add(example);
         method.addBodyLine(
                 String.format(
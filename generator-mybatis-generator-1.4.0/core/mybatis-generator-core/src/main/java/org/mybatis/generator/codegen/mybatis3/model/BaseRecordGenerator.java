@@ -42,7 +42,7 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
         CommentGenerator commentGenerator = context.getCommentGenerator();
 
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+                FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         TopLevelClass topLevelClass = new TopLevelClass(type);
         topLevelClass.setVisibility(JavaVisibility.PUBLIC);
         commentGenerator.addJavaFileComment(topLevelClass);
@@ -70,7 +70,7 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
 
         String rootClass = getRootClass();
         for (IntrospectedColumn introspectedColumn : introspectedColumns) {
-            if (RootClassInfo.getInstance(rootClass, warnings)
+            if (RootClassInfo.getInstance(rootClass, warnings, context.getGenerationScope())
                     .containsProperty(introspectedColumn)) {
                 continue;
             }
@@ -119,11 +119,11 @@ public class BaseRecordGenerator extends AbstractJavaGenerator {
     private FullyQualifiedJavaType getSuperClass() {
         FullyQualifiedJavaType superClass;
         if (introspectedTable.getRules().generatePrimaryKeyClass()) {
-            superClass = new FullyQualifiedJavaType(introspectedTable.getPrimaryKeyType());
+            superClass = FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
         } else {
             String rootClass = getRootClass();
             if (rootClass != null) {
-                superClass = new FullyQualifiedJavaType(rootClass);
+                superClass = FullyQualifiedJavaType.of(rootClass);
             } else {
                 superClass = null;
             }
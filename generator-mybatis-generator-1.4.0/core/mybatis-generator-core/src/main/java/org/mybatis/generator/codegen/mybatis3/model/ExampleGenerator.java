@@ -42,7 +42,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
         CommentGenerator commentGenerator = context.getCommentGenerator();
 
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getExampleType());
+                FullyQualifiedJavaType.of(introspectedTable.getExampleType());
         TopLevelClass topLevelClass = new TopLevelClass(type);
         topLevelClass.setVisibility(JavaVisibility.PUBLIC);
         commentGenerator.addJavaFileComment(topLevelClass);
@@ -113,7 +113,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
 
         // add field and methods for the list of ored criteria
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType("java.util.List<Criteria>"); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("java.util.List<Criteria>"); // $NON-NLS-1$
         field = new Field("oredCriteria", fqjt); // $NON-NLS-1$
         field.setVisibility(JavaVisibility.PROTECTED);
 
@@ -187,7 +187,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
     }
 
     private InnerClass getCriterionInnerClass() {
-        InnerClass answer = new InnerClass(new FullyQualifiedJavaType("Criterion")); // $NON-NLS-1$
+        InnerClass answer = new InnerClass(FullyQualifiedJavaType.of("Criterion")); // $NON-NLS-1$
         answer.setVisibility(JavaVisibility.PUBLIC);
         answer.setStatic(true);
         context.getCommentGenerator().addClassComment(answer, introspectedTable);
@@ -409,14 +409,14 @@ public class ExampleGenerator extends AbstractJavaGenerator {
             field =
                     new Field(
                             "allCriteria", //$NON-NLS-1$
-                            new FullyQualifiedJavaType("List<Criterion>")); // $NON-NLS-1$
+                            FullyQualifiedJavaType.of("List<Criterion>")); // $NON-NLS-1$
             field.setVisibility(JavaVisibility.PROTECTED);
             answer.addField(field);
         }
 
         method = new Method("getAllCriteria"); // $NON-NLS-1$
         method.setVisibility(JavaVisibility.PUBLIC);
-        method.setReturnType(new FullyQualifiedJavaType("List<Criterion>")); // $NON-NLS-1$
+        method.setReturnType(FullyQualifiedJavaType.of("List<Criterion>")); // $NON-NLS-1$
         if (criteriaLists.size() < 2) {
             method.addBodyLine("return criteria;"); // $NON-NLS-1$
         } else {
@@ -444,7 +444,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
         topLevelClass.addImportedType(FullyQualifiedJavaType.getNewArrayListInstance());
 
         FullyQualifiedJavaType listOfCriterion =
-                new FullyQualifiedJavaType("java.util.List<Criterion>"); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("java.util.List<Criterion>"); // $NON-NLS-1$
         field = new Field("criteria", listOfCriterion); // $NON-NLS-1$
         field.setVisibility(JavaVisibility.PROTECTED);
         answer.addField(field);
@@ -515,7 +515,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
         answer.addMethod(method);
 
         FullyQualifiedJavaType listOfDates =
-                new FullyQualifiedJavaType("java.util.List<java.util.Date>"); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("java.util.List<java.util.Date>"); // $NON-NLS-1$
 
         if (introspectedTable.hasJDBCDateColumns()) {
             topLevelClass.addImportedType(FullyQualifiedJavaType.getDateInstance());
@@ -960,7 +960,7 @@ public class ExampleGenerator extends AbstractJavaGenerator {
         Field field =
                 new Field(
                         answer,
-                        new FullyQualifiedJavaType("java.util.List<Criterion>")); // $NON-NLS-1$
+                        FullyQualifiedJavaType.of("java.util.List<Criterion>")); // $NON-NLS-1$
         field.setVisibility(JavaVisibility.PROTECTED);
         innerClass.addField(field);
 
@@ -46,7 +46,7 @@ public class PrimaryKeyGenerator extends AbstractJavaGenerator {
 
         String rootClass = getRootClass();
         if (rootClass != null) {
-            FullyQualifiedJavaType rootType = new FullyQualifiedJavaType(rootClass);
+            FullyQualifiedJavaType rootType = FullyQualifiedJavaType.of(rootClass);
             topLevelClass.setSuperClass(rootType);
             topLevelClass.addImportedType(rootType);
         }
@@ -62,7 +62,7 @@ public class PrimaryKeyGenerator extends AbstractJavaGenerator {
         commentGenerator.addModelClassComment(topLevelClass, introspectedTable);
 
         for (IntrospectedColumn introspectedColumn : introspectedTable.getPrimaryKeyColumns()) {
-            if (RootClassInfo.getInstance(rootClass, warnings)
+            if (RootClassInfo.getInstance(rootClass, warnings, context.getGenerationScope())
                     .containsProperty(introspectedColumn)) {
                 continue;
             }
@@ -61,7 +61,7 @@ public class RecordWithBLOBsGenerator extends AbstractJavaGenerator {
         }
 
         for (IntrospectedColumn introspectedColumn : introspectedTable.getBLOBColumns()) {
-            if (RootClassInfo.getInstance(rootClass, warnings)
+            if (RootClassInfo.getInstance(rootClass, warnings, context.getGenerationScope())
                     .containsProperty(introspectedColumn)) {
                 continue;
             }
@@ -22,6 +22,11 @@ public class MixedMapperGenerator extends XMLMapperGenerator {
         // turn off this element in the mixed mapper
     }
 
+    @Override
+    protected void addSelectByPrimaryKeysElement(XmlElement parentElement) {
+        // turn off this element in the mixed mapper
+    }
+
     @Override
     protected void addDeleteByPrimaryKeyElement(XmlElement parentElement) {
         // turn off this element in the mixed mapper
@@ -32,6 +37,11 @@ public class MixedMapperGenerator extends XMLMapperGenerator {
         // turn off this element in the mixed mapper
     }
 
+    @Override
+    protected void addInsertBatchElement(XmlElement parentElement) {
+        // turn off this element in the mixed mapper
+    }
+
     @Override
     protected void addUpdateByPrimaryKeyWithBLOBsElement(XmlElement parentElement) {
         // turn off this element in the mixed mapper
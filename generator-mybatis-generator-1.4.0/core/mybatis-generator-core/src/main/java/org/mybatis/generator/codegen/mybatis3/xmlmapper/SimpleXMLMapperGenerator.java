@@ -44,8 +44,10 @@ public class SimpleXMLMapperGenerator extends AbstractXmlGenerator {
         addResultMapElement(answer);
         addDeleteByPrimaryKeyElement(answer);
         addInsertElement(answer);
+        addInsertBatchElement(answer);
         addUpdateByPrimaryKeyElement(answer);
         addSelectByPrimaryKeyElement(answer);
+        addSelectByPrimaryKeysElement(answer);
         addSelectAllElement(answer);
 
         return answer;
@@ -67,6 +69,14 @@ public class SimpleXMLMapperGenerator extends AbstractXmlGenerator {
         }
     }
 
+    protected void addSelectByPrimaryKeysElement(XmlElement parentElement) {
+        if (introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+            AbstractXmlElementGenerator elementGenerator =
+                    new SelectByPrimaryKeysElementGenerator(true);
+            initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
     protected void addSelectAllElement(XmlElement parentElement) {
         AbstractXmlElementGenerator elementGenerator = new SimpleSelectAllElementGenerator();
         initializeAndExecuteGenerator(elementGenerator, parentElement);
@@ -87,6 +97,13 @@ public class SimpleXMLMapperGenerator extends AbstractXmlGenerator {
         }
     }
 
+    protected void addInsertBatchElement(XmlElement parentElement) {
+        if (introspectedTable.getRules().generateInsertBatch()) {
+            AbstractXmlElementGenerator elementGenerator = new InsertBatchElementGenerator();
+            initializeAndExecuteGenerator(elementGenerator, parentElement);
+        }
+    }
+
     protected void addUpdateByPrimaryKeyElement(XmlElement parentElement) {
         if (introspectedTable.getRules().generateUpdateByPrimaryKeySelective()) {
             AbstractXmlElementGenerator elementGenerator =
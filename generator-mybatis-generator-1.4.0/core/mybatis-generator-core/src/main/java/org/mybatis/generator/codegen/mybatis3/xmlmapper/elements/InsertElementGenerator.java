@@ -44,7 +44,7 @@ public class InsertElementGenerator extends AbstractXmlElementGenerator {
 
         FullyQualifiedJavaType parameterType;
         if (isSimple) {
-            parameterType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+            parameterType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         } else {
             parameterType = introspectedTable.getRules().calculateAllFieldsClass();
         }
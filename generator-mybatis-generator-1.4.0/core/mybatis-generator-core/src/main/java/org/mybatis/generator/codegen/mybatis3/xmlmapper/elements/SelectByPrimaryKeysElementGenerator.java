@@ -0,0 +1,182 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.codegen.mybatis3.xmlmapper.elements;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+
+/**
+ * Generates the select by primary keys element. The records of all keys in the collection
+ * parameter are selected with a single statement. A single column key is matched with an in list,
+ * a composite key is matched with one "or" term for each key. An empty collection selects no
+ * records.
+ */
+public class SelectByPrimaryKeysElementGenerator extends AbstractXmlElementGenerator {
+
+    private boolean isSimple;
+
+    public SelectByPrimaryKeysElementGenerator(boolean isSimple) {
+        super();
+        this.isSimple = isSimple;
+    }
+
+    @Override
+    public void addElements(XmlElement parentElement) {
+        XmlElement answer = new XmlElement("select"); // $NON-NLS-1$
+
+        answer.addAttribute(
+                new Attribute(
+                        "id", //$NON-NLS-1$
+                        introspectedTable.getSelectByPrimaryKeysStatementId()));
+        if (!isSimple && introspectedTable.getRules().generateResultMapWithBLOBs()) {
+            answer.addAttribute(
+                    new Attribute(
+                            "resultMap", //$NON-NLS-1$
+                            introspectedTable.getResultMapWithBLOBsId()));
+        } else {
+            answer.addAttribute(
+                    new Attribute(
+                            "resultMap", //$NON-NLS-1$
+                            introspectedTable.getBaseResultMapId()));
+        }
+
+        answer.addAttribute(
+                new Attribute(
+                        "parameterType", //$NON-NLS-1$
+                        "java.util.Collection")); //$NON-NLS-1$
+
+        context.getCommentGenerator().addComment(answer);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("select "); // $NON-NLS-1$
+
+        if (stringHasValue(introspectedTable.getSelectByPrimaryKeyQueryId())) {
+            sb.append('\'');
+            sb.append(introspectedTable.getSelectByPrimaryKeyQueryId());
+            sb.append("' as QUERYID,"); // $NON-NLS-1$
+        }
+
+        if (isSimple) {
+            Iterator<IntrospectedColumn> iter = introspectedTable.getAllColumns().iterator();
+            while (iter.hasNext()) {
+                sb.append(MyBatis3FormattingUtilities.getSelectListPhrase(iter.next()));
+
+                if (iter.hasNext()) {
+                    sb.append(", "); // $NON-NLS-1$
+                }
+
+                if (sb.length() > 80) {
+                    answer.addElement(new TextElement(sb.toString()));
+                    sb.setLength(0);
+                }
+            }
+
+            if (sb.length() > 0) {
+                answer.addElement(new TextElement(sb.toString()));
+            }
+        } else {
+            answer.addElement(new TextElement(sb.toString()));
+            answer.addElement(getBaseColumnListElement());
+            if (introspectedTable.hasBLOBColumns()) {
+                answer.addElement(new TextElement(",")); // $NON-NLS-1$
+                answer.addElement(getBlobColumnListElement());
+            }
+        }
+
+        sb.setLength(0);
+        sb.append("from "); // $NON-NLS-1$
+        sb.append(introspectedTable.getAliasedFullyQualifiedTableNameAtRuntime());
+        answer.addElement(new TextElement(sb.toString()));
+
+        // an empty in list is not valid SQL, so an empty collection selects nothing
+        answer.addElement(new TextElement("where")); // $NON-NLS-1$
+        XmlElement chooseElement = new XmlElement("choose"); // $NON-NLS-1$
+        XmlElement whenElement = new XmlElement("when"); // $NON-NLS-1$
+        whenElement.addAttribute(
+                new Attribute("test", "!collection.isEmpty()")); // $NON-NLS-1$ //$NON-NLS-2$
+        chooseElement.addElement(whenElement);
+        XmlElement otherwiseElement = new XmlElement("otherwise"); // $NON-NLS-1$
+        otherwiseElement.addElement(new TextElement("1 = 0")); // $NON-NLS-1$
+        chooseElement.addElement(otherwiseElement);
+
+        XmlElement foreachElement = new XmlElement("foreach"); // $NON-NLS-1$
+        foreachElement.addAttribute(
+                new Attribute("collection", "collection")); // $NON-NLS-1$ //$NON-NLS-2$
+        foreachElement.addAttribute(new Attribute("item", "key")); // $NON-NLS-1$ //$NON-NLS-2$
+
+        List<IntrospectedColumn> primaryKeyColumns = introspectedTable.getPrimaryKeyColumns();
+        sb.setLength(0);
+        if (primaryKeyColumns.size() == 1) {
+            IntrospectedColumn introspectedColumn = primaryKeyColumns.get(0);
+            sb.append(MyBatis3FormattingUtilities.getAliasedEscapedColumnName(introspectedColumn));
+            sb.append(" in"); // $NON-NLS-1$
+            whenElement.addElement(new TextElement(sb.toString()));
+
+            foreachElement.addAttribute(new Attribute("open", "(")); // $NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(
+                    new Attribute("separator", ",")); // $NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addAttribute(new Attribute("close", ")")); // $NON-NLS-1$ //$NON-NLS-2$
+            foreachElement.addElement(new TextElement(getKeyParameterClause(introspectedColumn)));
+        } else {
+            foreachElement.addAttribute(
+                    new Attribute("separator", " or ")); // $NON-NLS-1$ //$NON-NLS-2$
+            sb.append('(');
+            Iterator<IntrospectedColumn> iter = primaryKeyColumns.iterator();
+            while (iter.hasNext()) {
+                IntrospectedColumn introspectedColumn = iter.next();
+                sb.append(
+                        MyBatis3FormattingUtilities.getAliasedEscapedColumnName(
+                                introspectedColumn));
+                sb.append(" = "); // $NON-NLS-1$
+                sb.append(
+                        MyBatis3FormattingUtilities.getParameterClause(
+                                introspectedColumn, "key.")); // $NON-NLS-1$
+                if (iter.hasNext()) {
+                    sb.append(" and "); // $NON-NLS-1$
+                }
+            }
+            sb.append(')');
+            foreachElement.addElement(new TextElement(sb.toString()));
+        }
+        whenElement.addElement(foreachElement);
+        answer.addElement(chooseElement);
+
+        if (context.getPlugins()
+                .sqlMapSelectByPrimaryKeysElementGenerated(answer, introspectedTable)) {
+            parentElement.addElement(answer);
+        }
+    }
+
+    private String getKeyParameterClause(IntrospectedColumn introspectedColumn) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("#{key,jdbcType="); // $NON-NLS-1$
+        sb.append(introspectedColumn.getJdbcTypeName());
+
+        if (stringHasValue(introspectedColumn.getTypeHandler())) {
+            sb.append(",typeHandler="); // $NON-NLS-1$
+            sb.append(introspectedColumn.getTypeHandler());
+        }
+
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -14,16 +14,38 @@
 package org.mybatis.generator.config;
 
 import org.mybatis.generator.api.*;
+import org.mybatis.generator.internal.GenerationScope;
 import org.mybatis.generator.internal.JDBCConnectionFactory;
 import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.internal.db.BulkMetadataCache;
+import org.mybatis.generator.internal.db.BulkMetadataSource;
 import org.mybatis.generator.internal.db.DatabaseIntrospector;
-
+import org.mybatis.generator.internal.db.DatabaseMetadataSource;
+import org.mybatis.generator.internal.db.IntrospectionSnapshot;
+import org.mybatis.generator.internal.db.JdbcMetadataSource;
+import org.mybatis.generator.internal.db.SnapshotMetadataSource;
+import org.mybatis.generator.internal.util.ConcurrencyUtility;
+
+import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.mybatis.generator.internal.util.StringUtility.*;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
@@ -58,6 +80,14 @@ public class Context extends PropertyHolder {
 
     private PluginAggregator pluginAggregator;
 
+    /**
+     * The plugins as seen by the code generators. This is the plugin aggregator itself, or a
+     * synchronized view of the aggregator during parallel generation.
+     */
+    private Plugin plugins;
+
+    private GenerationScope generationScope = new GenerationScope();
+
     private List<PluginConfiguration> pluginConfigurations;
 
     private String targetRuntime;
@@ -74,6 +104,12 @@ public class Context extends PropertyHolder {
 
     private boolean isJava8Targeted = true;
 
+    private int generationThreads = 1;
+
+    private int introspectionThreads = 1;
+
+    private boolean bulkIntrospection;
+
     public Context(ModelType defaultModelType) {
         super();
 
@@ -177,6 +213,22 @@ public class Context extends PropertyHolder {
         for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
             pluginConfiguration.validate(errors, id);
         }
+
+        if (generationThreads < 1) {
+            errors.add(
+                    getString(
+                            "ValidationError.29", //$NON-NLS-1$
+                            PropertyRegistry.CONTEXT_GENERATION_THREADS,
+                            id));
+        }
+
+        if (introspectionThreads < 1) {
+            errors.add(
+                    getString(
+                            "ValidationError.29", //$NON-NLS-1$
+                            PropertyRegistry.CONTEXT_INTROSPECTION_THREADS,
+                            id));
+        }
     }
 
     public String getId() {
@@ -241,6 +293,27 @@ public class Context extends PropertyHolder {
             autoDelimitKeywords = isTrue(value);
         } else if (PropertyRegistry.CONTEXT_TARGET_JAVA8.equals(name) && stringHasValue(value)) {
             isJava8Targeted = isTrue(value);
+        } else if (PropertyRegistry.CONTEXT_GENERATION_THREADS.equals(name)
+                && stringHasValue(value)) {
+            generationThreads = parseThreadCount(value);
+        } else if (PropertyRegistry.CONTEXT_INTROSPECTION_THREADS.equals(name)
+                && stringHasValue(value)) {
+            introspectionThreads = parseThreadCount(value);
+        } else if (PropertyRegistry.CONTEXT_BULK_INTROSPECTION.equals(name)
+                && stringHasValue(value)) {
+            bulkIntrospection = isTrue(value);
+        }
+    }
+
+    /**
+     * Parses a thread count property. Invalid values are returned as 0 and are reported in
+     * validate().
+     */
+    private int parseThreadCount(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
         }
     }
 
@@ -286,7 +359,25 @@ public class Context extends PropertyHolder {
     }
 
     public Plugin getPlugins() {
-        return pluginAggregator;
+        return plugins;
+    }
+
+    public List<PluginConfiguration> getPluginConfigurations() {
+        return pluginConfigurations;
+    }
+
+    /**
+     * Returns the scope of the current generation run. The scope holds the class loaders and the
+     * cached root class information of the run.
+     *
+     * @return the generation scope
+     */
+    public GenerationScope getGenerationScope() {
+        return generationScope;
+    }
+
+    public void setGenerationScope(GenerationScope generationScope) {
+        this.generationScope = generationScope;
     }
 
     public String getTargetRuntime() {
@@ -317,6 +408,29 @@ public class Context extends PropertyHolder {
 
     private List<IntrospectedTable> introspectedTables;
 
+    /**
+     * Returns the tables found by the last call to introspectTables.
+     *
+     * @return the introspected tables
+     */
+    public List<IntrospectedTable> getIntrospectedTables() {
+        return introspectedTables == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(introspectedTables);
+    }
+
+    /**
+     * Removes a table found by introspectTables, so no files are generated for it. This can be
+     * used between introspectTables and generateFiles to skip tables that are up to date.
+     *
+     * @param introspectedTable the table to remove
+     */
+    public void removeIntrospectedTable(IntrospectedTable introspectedTable) {
+        if (introspectedTables != null) {
+            introspectedTables.remove(introspectedTable);
+        }
+    }
+
     public int getIntrospectionSteps() {
         int steps = 0;
 
@@ -351,6 +465,39 @@ public class Context extends PropertyHolder {
             throws SQLException, InterruptedException {
 
         introspectedTables = new ArrayList<>();
+
+        List<TableConfiguration> tablesToIntrospect = new ArrayList<>();
+        for (TableConfiguration tc : tableConfigurations) {
+            String tableName =
+                    composeFullyQualifiedTableName(
+                            tc.getCatalog(), tc.getSchema(), tc.getTableName(), '.');
+
+            if (fullyQualifiedTableNames != null
+                    && !fullyQualifiedTableNames.isEmpty()
+                    && !fullyQualifiedTableNames.contains(tableName)) {
+                continue;
+            }
+
+            tablesToIntrospect.add(tc);
+        }
+
+        String snapshotFile = getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT);
+        if (stringHasValue(snapshotFile)) {
+            // metadata missing from the snapshot is read on a single connection
+            if (introspectionThreads > 1) {
+                warnings.add(getString("Warning.43", id)); // $NON-NLS-1$
+            }
+            introspectTablesWithSnapshot(
+                    new File(snapshotFile), callback, warnings, tablesToIntrospect);
+            return;
+        }
+
+        int threads = Math.min(introspectionThreads, tablesToIntrospect.size());
+        if (threads > 1) {
+            introspectTablesInParallel(threads, callback, warnings, tablesToIntrospect);
+            return;
+        }
+
         JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(this, warnings);
 
         Connection connection = null;
@@ -361,35 +508,308 @@ public class Context extends PropertyHolder {
 
             DatabaseIntrospector databaseIntrospector =
                     new DatabaseIntrospector(
-                            this, connection.getMetaData(), javaTypeResolver, warnings);
+                            this, createMetadataSource(connection), javaTypeResolver, warnings);
+
+            introspectTables(databaseIntrospector, callback, warnings, tablesToIntrospect);
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    private void introspectTables(
+            DatabaseIntrospector databaseIntrospector,
+            ProgressCallback callback,
+            List<String> warnings,
+            List<TableConfiguration> tablesToIntrospect)
+            throws SQLException, InterruptedException {
+        for (TableConfiguration tc : tablesToIntrospect) {
+            String tableName =
+                    composeFullyQualifiedTableName(
+                            tc.getCatalog(), tc.getSchema(), tc.getTableName(), '.');
+
+            if (!tc.areAnyStatementsEnabled()) {
+                warnings.add(getString("Warning.0", tableName)); // $NON-NLS-1$
+                continue;
+            }
+
+            callback.startTask(getString("Progress.1", tableName)); // $NON-NLS-1$
+            GenerationMetrics.Timer timer =
+                    generationScope
+                            .getGenerationMetrics()
+                            .start(GenerationMetrics.Category.TABLE_INTROSPECTION, tableName);
+            List<IntrospectedTable> tables;
+            try {
+                tables = databaseIntrospector.introspectTables(tc);
+            } finally {
+                timer.stop();
+            }
+
+            if (tables != null) {
+                introspectedTables.addAll(tables);
+            }
+
+            callback.checkCancel();
+        }
+    }
+
+    /**
+     * Introspects tables using the metadata in a snapshot file. Metadata that is not in the
+     * snapshot is read from the database, and the snapshot is saved again if anything was added.
+     * The database connection is only opened if it is needed.
+     */
+    private void introspectTablesWithSnapshot(
+            File snapshotFile,
+            ProgressCallback callback,
+            List<String> warnings,
+            List<TableConfiguration> tablesToIntrospect)
+            throws SQLException, InterruptedException {
+        String fingerprint = calculateSnapshotFingerprint();
+
+        IntrospectionSnapshot snapshot = null;
+        if (snapshotFile.exists()
+                && !isTrue(getProperty(PropertyRegistry.CONTEXT_REFRESH_INTROSPECTION_SNAPSHOT))) {
+            try {
+                snapshot = IntrospectionSnapshot.read(snapshotFile);
+                if (snapshot.isValidFor(id, fingerprint)) {
+                    callback.startTask(
+                            getString(
+                                    "Progress.19", //$NON-NLS-1$
+                                    snapshotFile.getPath()));
+                } else {
+                    snapshot = null;
+                }
+            } catch (IOException e) {
+                warnings.add(
+                        getString(
+                                "Warning.31", //$NON-NLS-1$
+                                snapshotFile.getPath(),
+                                e.getMessage()));
+            }
+        }
+
+        if (snapshot == null) {
+            snapshot = new IntrospectionSnapshot(id, fingerprint);
+        }
+
+        JavaTypeResolver javaTypeResolver = ObjectFactory.createJavaTypeResolver(this, warnings);
+        List<Connection> connections = new ArrayList<>(1);
+
+        SnapshotMetadataSource metadataSource =
+                new SnapshotMetadataSource(
+                        snapshot,
+                        () -> {
+                            callback.startTask(getString("Progress.0")); // $NON-NLS-1$
+                            Connection connection = getConnection();
+                            connections.add(connection);
+                            return createMetadataSource(connection);
+                        });
+
+        try {
+            DatabaseIntrospector databaseIntrospector =
+                    new DatabaseIntrospector(this, metadataSource, javaTypeResolver, warnings);
+
+            introspectTables(databaseIntrospector, callback, warnings, tablesToIntrospect);
+        } finally {
+            for (Connection connection : connections) {
+                closeConnection(connection);
+            }
+        }
+
+        if (metadataSource.isModified()) {
+            callback.startTask(getString("Progress.20", snapshotFile.getPath())); // $NON-NLS-1$
+            try {
+                snapshot.write(snapshotFile);
+            } catch (IOException e) {
+                warnings.add(
+                        getString(
+                                "Warning.32", //$NON-NLS-1$
+                                snapshotFile.getPath(),
+                                e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the introspection snapshot of this context. The fingerprint
+     * covers the connection, every configured table and the user supplied schema version, so a
+     * snapshot saved for another database or another set of tables is not used. Passwords are not
+     * part of the fingerprint.
+     */
+    private String calculateSnapshotFingerprint() {
+        StringBuilder sb = new StringBuilder();
+        if (jdbcConnectionConfiguration != null) {
+            sb.append(jdbcConnectionConfiguration.getDriverClass()).append('\n');
+            sb.append(jdbcConnectionConfiguration.getConnectionURL()).append('\n');
+            sb.append(jdbcConnectionConfiguration.getUserId()).append('\n');
+        } else if (connectionFactoryConfiguration != null) {
+            sb.append(connectionFactoryConfiguration.getConfigurationType()).append('\n');
+            Properties properties = connectionFactoryConfiguration.getProperties();
+            for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+                if (!"password".equals(name)) { //$NON-NLS-1$
+                    sb.append(name).append('=').append(properties.getProperty(name)).append('\n');
+                }
+            }
+        }
+
+        for (TableConfiguration tc : tableConfigurations) {
+            sb.append(
+                    composeFullyQualifiedTableName(
+                            tc.getCatalog(), tc.getSchema(), tc.getTableName(), '.'));
+            sb.append('\n');
+        }
+
+        sb.append(getProperty(PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT_FINGERPRINT));
+        return sha256Hex(sb.toString());
+    }
+
+    /**
+     * Introspects tables on a pool of worker threads. Each worker uses its own connection from the
+     * connection factory, so there will be at most one open connection per thread. With bulk
+     * introspection the metadata sources of all connections share one cache, so each schema is
+     * still only read once. Results, warnings, and progress messages are merged in configuration
+     * order so the outcome is the same as a single threaded run.
+     */
+    private void introspectTablesInParallel(
+            int threads,
+            ProgressCallback callback,
+            List<String> warnings,
+            List<TableConfiguration> tablesToIntrospect)
+            throws SQLException, InterruptedException {
+
+        BlockingQueue<Connection> connections = new ArrayBlockingQueue<>(threads);
+        Map<Connection, DatabaseMetadataSource> metadataSources = new IdentityHashMap<>();
+        BulkMetadataCache bulkMetadataCache = new BulkMetadataCache();
+        ExecutorService executorService = null;
+
+        try {
+            callback.startTask(getString("Progress.0")); // $NON-NLS-1$
+            for (int i = 0; i < threads; i++) {
+                Connection connection = getConnection();
+                connections.add(connection);
+                metadataSources.put(
+                        connection, createMetadataSource(connection, bulkMetadataCache));
+            }
 
-            for (TableConfiguration tc : tableConfigurations) {
+            executorService =
+                    ConcurrencyUtility.newFixedThreadPool(
+                            threads, "mbg-" + id + "-introspection-"); //$NON-NLS-1$ //$NON-NLS-2$
+
+            List<Future<TableIntrospectionResult>> futures = new ArrayList<>();
+            for (TableConfiguration tc : tablesToIntrospect) {
+                if (tc.areAnyStatementsEnabled()) {
+                    futures.add(
+                            executorService.submit(
+                                    new TableIntrospectionTask(
+                                            tc, connections, metadataSources)));
+                } else {
+                    futures.add(null);
+                }
+            }
+
+            for (int i = 0; i < tablesToIntrospect.size(); i++) {
+                TableConfiguration tc = tablesToIntrospect.get(i);
                 String tableName =
                         composeFullyQualifiedTableName(
                                 tc.getCatalog(), tc.getSchema(), tc.getTableName(), '.');
 
-                if (fullyQualifiedTableNames != null
-                        && !fullyQualifiedTableNames.isEmpty()
-                        && !fullyQualifiedTableNames.contains(tableName)) {
-                    continue;
-                }
-
-                if (!tc.areAnyStatementsEnabled()) {
+                Future<TableIntrospectionResult> future = futures.get(i);
+                if (future == null) {
                     warnings.add(getString("Warning.0", tableName)); // $NON-NLS-1$
                     continue;
                 }
 
                 callback.startTask(getString("Progress.1", tableName)); // $NON-NLS-1$
-                List<IntrospectedTable> tables = databaseIntrospector.introspectTables(tc);
-
-                if (tables != null) {
-                    introspectedTables.addAll(tables);
+                TableIntrospectionResult result = getIntrospectionResult(future);
+                warnings.addAll(result.warnings);
+                if (result.tables != null) {
+                    introspectedTables.addAll(result.tables);
                 }
 
                 callback.checkCancel();
             }
         } finally {
-            closeConnection(connection);
+            if (executorService != null) {
+                // wait for the workers to return their connections before closing them
+                executorService.shutdownNow();
+                try {
+                    executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            for (Connection connection : connections) {
+                closeConnection(connection);
+            }
+        }
+    }
+
+    private TableIntrospectionResult getIntrospectionResult(
+            Future<TableIntrospectionResult> future) throws SQLException, InterruptedException {
+        try {
+            return ConcurrencyUtility.getResult(future);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static class TableIntrospectionResult {
+        private List<String> warnings = new ArrayList<>();
+        private List<IntrospectedTable> tables;
+    }
+
+    /**
+     * Introspects a single table with a connection borrowed from the shared queue. Each task uses
+     * its own type resolver and warnings list.
+     */
+    private class TableIntrospectionTask implements Callable<TableIntrospectionResult> {
+        private TableConfiguration tableConfiguration;
+        private BlockingQueue<Connection> connections;
+        private Map<Connection, DatabaseMetadataSource> metadataSources;
+
+        TableIntrospectionTask(
+                TableConfiguration tableConfiguration,
+                BlockingQueue<Connection> connections,
+                Map<Connection, DatabaseMetadataSource> metadataSources) {
+            this.tableConfiguration = tableConfiguration;
+            this.connections = connections;
+            this.metadataSources = metadataSources;
+        }
+
+        @Override
+        public TableIntrospectionResult call() throws SQLException, InterruptedException {
+            TableIntrospectionResult result = new TableIntrospectionResult();
+            JavaTypeResolver javaTypeResolver =
+                    ObjectFactory.createJavaTypeResolver(Context.this, result.warnings);
+
+            String tableName =
+                    composeFullyQualifiedTableName(
+                            tableConfiguration.getCatalog(),
+                            tableConfiguration.getSchema(),
+                            tableConfiguration.getTableName(),
+                            '.');
+            Connection connection = connections.take();
+            GenerationMetrics.Timer timer =
+                    generationScope
+                            .getGenerationMetrics()
+                            .start(GenerationMetrics.Category.TABLE_INTROSPECTION, tableName);
+            try {
+                DatabaseIntrospector databaseIntrospector =
+                        new DatabaseIntrospector(
+                                Context.this,
+                                metadataSources.get(connection),
+                                javaTypeResolver,
+                                result.warnings);
+                result.tables = databaseIntrospector.introspectTables(tableConfiguration);
+            } finally {
+                timer.stop();
+                connections.add(connection);
+            }
+
+            return result;
         }
     }
 
@@ -412,8 +832,54 @@ public class Context extends PropertyHolder {
             List<GeneratedKotlinFile> generatedKotlinFiles,
             List<String> warnings)
             throws InterruptedException {
+        generateFiles(
+                callback,
+                generatedFile ->
+                        addGeneratedFile(
+                                generatedFile,
+                                generatedJavaFiles,
+                                generatedXmlFiles,
+                                generatedKotlinFiles),
+                warnings);
+    }
+
+    /**
+     * Generates the files for the introspected tables and passes each file to the consumer as soon
+     * as it is generated. The files of a table (including the additional files generated by
+     * plugins for the table) are followed by a call to {@link
+     * GeneratedFileConsumer#tableCompleted(IntrospectedTable)}. The additional files generated by
+     * plugins for the context as a whole are passed to the consumer after all tables.
+     *
+     * <p>This context does not keep any reference to the generated files.
+     *
+     * @param callback the progress callback
+     * @param consumer the consumer of the generated files
+     * @param warnings any warnings are added to this list
+     * @throws InterruptedException if the run is canceled
+     */
+    public void generateFiles(
+            ProgressCallback callback, GeneratedFileConsumer consumer, List<String> warnings)
+            throws InterruptedException {
+        try (GenerationScope.Activation activation = generationScope.activate()) {
+            generateFilesInScope(callback, consumer, warnings);
+        }
+    }
+
+    private void generateFilesInScope(
+            ProgressCallback callback, GeneratedFileConsumer consumer, List<String> warnings)
+            throws InterruptedException {
+
+        int threads =
+                introspectedTables == null
+                        ? 1
+                        : Math.min(generationThreads, introspectedTables.size());
+        // plugins that are not thread safe, and the comment generator, share one lock
+        Object lock = threads > 1 ? new Object() : null;
 
+        GenerationMetrics generationMetrics = generationScope.getGenerationMetrics();
         pluginAggregator = new PluginAggregator();
+        pluginAggregator.setGenerationMetrics(generationMetrics);
+        pluginAggregator.setPluginLock(lock);
         for (PluginConfiguration pluginConfiguration : pluginConfigurations) {
             Plugin plugin = ObjectFactory.createPlugin(this, pluginConfiguration);
             if (plugin.validate(warnings)) {
@@ -426,29 +892,246 @@ public class Context extends PropertyHolder {
                                 id));
             }
         }
+        plugins = pluginAggregator;
 
         if (introspectedTables != null) {
-            for (IntrospectedTable introspectedTable : introspectedTables) {
+            if (threads > 1) {
+                generateFilesInParallel(threads, lock, callback, consumer, warnings);
+            } else {
+                for (IntrospectedTable introspectedTable : introspectedTables) {
+                    callback.checkCancel();
+
+                    GenerationMetrics.Timer timer =
+                            generationMetrics.start(
+                                    GenerationMetrics.Category.TABLE_GENERATION,
+                                    introspectedTable.getFullyQualifiedTable().toString());
+                    List<GeneratedJavaFile> tableJavaFiles;
+                    List<GeneratedXmlFile> tableXmlFiles;
+                    List<GeneratedKotlinFile> tableKotlinFiles;
+                    try {
+                        introspectedTable.initialize();
+                        introspectedTable.calculateGenerators(warnings, callback);
+                        tableJavaFiles = introspectedTable.getGeneratedJavaFiles();
+                        tableXmlFiles = introspectedTable.getGeneratedXmlFiles();
+                        tableKotlinFiles = introspectedTable.getGeneratedKotlinFiles();
+                    } finally {
+                        timer.stop();
+                    }
+
+                    acceptTableFiles(
+                            introspectedTable,
+                            tableJavaFiles,
+                            tableXmlFiles,
+                            tableKotlinFiles,
+                            consumer);
+                }
+            }
+        }
+
+        pluginAggregator.contextGenerateAdditionalJavaFiles().forEach(consumer::accept);
+        pluginAggregator.contextGenerateAdditionalXmlFiles().forEach(consumer::accept);
+        pluginAggregator.contextGenerateAdditionalKotlinFiles().forEach(consumer::accept);
+    }
+
+    /**
+     * Passes the files of a table, and the additional files generated by plugins for the table, to
+     * the consumer.
+     */
+    private void acceptTableFiles(
+            IntrospectedTable introspectedTable,
+            List<GeneratedJavaFile> tableJavaFiles,
+            List<GeneratedXmlFile> tableXmlFiles,
+            List<GeneratedKotlinFile> tableKotlinFiles,
+            GeneratedFileConsumer consumer) {
+        tableJavaFiles.forEach(consumer::accept);
+        tableXmlFiles.forEach(consumer::accept);
+        tableKotlinFiles.forEach(consumer::accept);
+        pluginAggregator
+                .contextGenerateAdditionalJavaFiles(introspectedTable)
+                .forEach(consumer::accept);
+        pluginAggregator
+                .contextGenerateAdditionalXmlFiles(introspectedTable)
+                .forEach(consumer::accept);
+        pluginAggregator
+                .contextGenerateAdditionalKotlinFiles(introspectedTable)
+                .forEach(consumer::accept);
+        consumer.tableCompleted(introspectedTable);
+    }
+
+    private void addGeneratedFile(
+            GeneratedFile generatedFile,
+            List<GeneratedJavaFile> generatedJavaFiles,
+            List<GeneratedXmlFile> generatedXmlFiles,
+            List<GeneratedKotlinFile> generatedKotlinFiles) {
+        if (generatedFile instanceof GeneratedJavaFile) {
+            generatedJavaFiles.add((GeneratedJavaFile) generatedFile);
+        } else if (generatedFile instanceof GeneratedXmlFile) {
+            generatedXmlFiles.add((GeneratedXmlFile) generatedFile);
+        } else if (generatedFile instanceof GeneratedKotlinFile) {
+            generatedKotlinFiles.add((GeneratedKotlinFile) generatedFile);
+        }
+    }
+
+    /**
+     * Generates the files for each table on a pool of worker threads. The results are collected in
+     * table order, so the generated files, warnings, and progress messages are the same as in a
+     * single threaded run.
+     *
+     * <p>Plugins and the comment generator are not required to be thread safe, so calls to them
+     * are serialized with the lock for the duration of the run. Only plugins that declare
+     * themselves thread safe run concurrently. Plugins that collect information across tables (in
+     * the sqlMapGenerated method for example) will see the tables in an unpredictable order. The
+     * per table contextGenerateAdditional*Files methods are always called in table order on the
+     * calling thread.
+     */
+    private void generateFilesInParallel(
+            int threads,
+            Object lock,
+            ProgressCallback callback,
+            GeneratedFileConsumer consumer,
+            List<String> warnings)
+            throws InterruptedException {
+
+        // the formatters are created lazily - create them now so the worker threads share them
+        getJavaFormatter();
+        getKotlinFormatter();
+        getXmlFormatter();
+
+        CommentGenerator originalCommentGenerator = getCommentGenerator();
+        commentGenerator =
+                ConcurrencyUtility.synchronizedView(
+                        CommentGenerator.class, originalCommentGenerator, lock);
+
+        ExecutorService executorService =
+                ConcurrencyUtility.newFixedThreadPool(
+                        threads, "mbg-" + id + "-"); //$NON-NLS-1$ //$NON-NLS-2$
+        try {
+            // only a few tables per thread are generated ahead of the consumer, so the files of
+            // finished tables do not pile up in memory
+            int window = threads * 2;
+            List<Future<TableGenerationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < introspectedTables.size(); i++) {
+                while (futures.size() < introspectedTables.size()
+                        && futures.size() < i + window) {
+                    IntrospectedTable introspectedTable = introspectedTables.get(futures.size());
+                    futures.add(executorService.submit(new TableGenerationTask(introspectedTable)));
+                }
+
                 callback.checkCancel();
 
+                TableGenerationResult result = getResult(futures.get(i));
+                futures.set(i, null);
+                for (String task : result.tasks) {
+                    callback.startTask(task);
+                }
+                warnings.addAll(result.warnings);
+
+                acceptTableFiles(
+                        introspectedTables.get(i),
+                        result.generatedJavaFiles,
+                        result.generatedXmlFiles,
+                        result.generatedKotlinFiles,
+                        consumer);
+            }
+        } finally {
+            executorService.shutdownNow();
+            commentGenerator = originalCommentGenerator;
+        }
+    }
+
+    private TableGenerationResult getResult(Future<TableGenerationResult> future)
+            throws InterruptedException {
+        try {
+            return ConcurrencyUtility.getResult(future);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static class TableGenerationResult {
+        private List<String> tasks = new ArrayList<>();
+        private List<String> warnings = new ArrayList<>();
+        private List<GeneratedJavaFile> generatedJavaFiles;
+        private List<GeneratedXmlFile> generatedXmlFiles;
+        private List<GeneratedKotlinFile> generatedKotlinFiles;
+    }
+
+    /**
+     * Generates the files for a single table. Progress messages and warnings are buffered so they
+     * can be reported in table order.
+     */
+    private static class TableGenerationTask
+            implements Callable<TableGenerationResult>, ProgressCallback {
+        private IntrospectedTable introspectedTable;
+        private TableGenerationResult result = new TableGenerationResult();
+
+        TableGenerationTask(IntrospectedTable introspectedTable) {
+            this.introspectedTable = introspectedTable;
+        }
+
+        @Override
+        public TableGenerationResult call() throws InterruptedException {
+            try (GenerationScope.Activation activation =
+                    introspectedTable.getContext().getGenerationScope().activate()) {
+                return generate();
+            }
+        }
+
+        private TableGenerationResult generate() throws InterruptedException {
+            checkCancel();
+
+            GenerationMetrics.Timer timer =
+                    introspectedTable
+                            .getContext()
+                            .getGenerationScope()
+                            .getGenerationMetrics()
+                            .start(
+                                    GenerationMetrics.Category.TABLE_GENERATION,
+                                    introspectedTable.getFullyQualifiedTable().toString());
+            try {
                 introspectedTable.initialize();
-                introspectedTable.calculateGenerators(warnings, callback);
-                generatedJavaFiles.addAll(introspectedTable.getGeneratedJavaFiles());
-                generatedXmlFiles.addAll(introspectedTable.getGeneratedXmlFiles());
-                generatedKotlinFiles.addAll(introspectedTable.getGeneratedKotlinFiles());
-
-                generatedJavaFiles.addAll(
-                        pluginAggregator.contextGenerateAdditionalJavaFiles(introspectedTable));
-                generatedXmlFiles.addAll(
-                        pluginAggregator.contextGenerateAdditionalXmlFiles(introspectedTable));
-                generatedKotlinFiles.addAll(
-                        pluginAggregator.contextGenerateAdditionalKotlinFiles(introspectedTable));
+                introspectedTable.calculateGenerators(result.warnings, this);
+                result.generatedJavaFiles = introspectedTable.getGeneratedJavaFiles();
+                result.generatedXmlFiles = introspectedTable.getGeneratedXmlFiles();
+                result.generatedKotlinFiles = introspectedTable.getGeneratedKotlinFiles();
+            } finally {
+                timer.stop();
             }
+
+            return result;
+        }
+
+        @Override
+        public void introspectionStarted(int totalTasks) {
+            // ignore
+        }
+
+        @Override
+        public void generationStarted(int totalTasks) {
+            // ignore
         }
 
-        generatedJavaFiles.addAll(pluginAggregator.contextGenerateAdditionalJavaFiles());
-        generatedXmlFiles.addAll(pluginAggregator.contextGenerateAdditionalXmlFiles());
-        generatedKotlinFiles.addAll(pluginAggregator.contextGenerateAdditionalKotlinFiles());
+        @Override
+        public void saveStarted(int totalTasks) {
+            // ignore
+        }
+
+        @Override
+        public void startTask(String taskName) {
+            result.tasks.add(taskName);
+        }
+
+        @Override
+        public void done() {
+            // ignore
+        }
+
+        @Override
+        public void checkCancel() throws InterruptedException {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+        }
     }
 
     private Connection getConnection() throws SQLException {
@@ -459,9 +1142,27 @@ public class Context extends PropertyHolder {
             connectionFactory = ObjectFactory.createConnectionFactory(this);
         }
 
+        if (connectionFactory instanceof JDBCConnectionFactory) {
+            ((JDBCConnectionFactory) connectionFactory).setGenerationScope(generationScope);
+        }
+
         return connectionFactory.getConnection();
     }
 
+    private DatabaseMetadataSource createMetadataSource(Connection connection)
+            throws SQLException {
+        return createMetadataSource(connection, new BulkMetadataCache());
+    }
+
+    private DatabaseMetadataSource createMetadataSource(
+            Connection connection, BulkMetadataCache bulkMetadataCache) throws SQLException {
+        if (bulkIntrospection) {
+            return new BulkMetadataSource(connection.getMetaData(), bulkMetadataCache);
+        } else {
+            return new JdbcMetadataSource(connection.getMetaData());
+        }
+    }
+
     private void closeConnection(Connection connection) {
         if (connection != null) {
             try {
@@ -492,4 +1193,16 @@ public class Context extends PropertyHolder {
     public void setJava8Targeted(boolean isJava8Targeted) {
         this.isJava8Targeted = isJava8Targeted;
     }
+
+    public int getGenerationThreads() {
+        return generationThreads;
+    }
+
+    public int getIntrospectionThreads() {
+        return introspectionThreads;
+    }
+
+    public boolean isBulkIntrospection() {
+        return bulkIntrospection;
+    }
 }
@@ -30,6 +30,13 @@ public class MergeConstants {
     }; //$NON-NLS-1$ //$NON-NLS-2$
 
     public static final String NEW_ELEMENT_TAG = "@mbg.generated"; // $NON-NLS-1$
+
+    /**
+     * Generated Java elements with this text after the tag are not replaced when Java files are
+     * merged - they are meant to be extended with custom code.
+     */
+    public static final String DO_NOT_DELETE_TAG = "do_not_delete_during_merge"; // $NON-NLS-1$
+
     private static final String[] OLD_ELEMENT_TAGS = {
         "@ibatorgenerated", //$NON-NLS-1$
         "@abatorgenerated", //$NON-NLS-1$
@@ -56,6 +56,16 @@ public class PropertyRegistry {
     public static final String CONTEXT_TARGET_JAVA8 = "targetJava8"; // $NON-NLS-1$
     public static final String CONTEXT_KOTLIN_FORMATTER = "kotlinFormatter"; // $NON-NLS-1$
     public static final String CONTEXT_KOTLIN_FILE_ENCODING = "kotlinFileEncoding"; // $NON-NLS-1$
+    public static final String CONTEXT_GENERATION_THREADS = "generationThreads"; // $NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_THREADS =
+            "introspectionThreads"; //$NON-NLS-1$
+    public static final String CONTEXT_BULK_INTROSPECTION = "bulkIntrospection"; // $NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_SNAPSHOT =
+            "introspectionSnapshot"; //$NON-NLS-1$
+    public static final String CONTEXT_INTROSPECTION_SNAPSHOT_FINGERPRINT =
+            "introspectionSnapshotFingerprint"; //$NON-NLS-1$
+    public static final String CONTEXT_REFRESH_INTROSPECTION_SNAPSHOT =
+            "refreshIntrospectionSnapshot"; //$NON-NLS-1$
 
     public static final String CLIENT_USE_LEGACY_BUILDER = "useLegacyBuilder"; // $NON-NLS-1$
 
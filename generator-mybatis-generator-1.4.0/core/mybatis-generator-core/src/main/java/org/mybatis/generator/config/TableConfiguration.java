@@ -28,8 +28,12 @@ public class TableConfiguration extends PropertyHolder {
 
     private boolean insertStatementEnabled;
 
+    private boolean insertBatchStatementEnabled;
+
     private boolean selectByPrimaryKeyStatementEnabled;
 
+    private boolean selectByPrimaryKeysStatementEnabled;
+
     private boolean selectByExampleStatementEnabled;
 
     private boolean updateByPrimaryKeyStatementEnabled;
@@ -113,6 +117,14 @@ public class TableConfiguration extends PropertyHolder {
         this.insertStatementEnabled = insertStatementEnabled;
     }
 
+    public boolean isInsertBatchStatementEnabled() {
+        return insertBatchStatementEnabled;
+    }
+
+    public void setInsertBatchStatementEnabled(boolean insertBatchStatementEnabled) {
+        this.insertBatchStatementEnabled = insertBatchStatementEnabled;
+    }
+
     public boolean isSelectByPrimaryKeyStatementEnabled() {
         return selectByPrimaryKeyStatementEnabled;
     }
@@ -185,6 +197,15 @@ public class TableConfiguration extends PropertyHolder {
         return result;
     }
 
+    public boolean isSelectByPrimaryKeysStatementEnabled() {
+        return selectByPrimaryKeysStatementEnabled;
+    }
+
+    public void setSelectByPrimaryKeysStatementEnabled(
+            boolean selectByPrimaryKeysStatementEnabled) {
+        this.selectByPrimaryKeysStatementEnabled = selectByPrimaryKeysStatementEnabled;
+    }
+
     public boolean isSelectByExampleStatementEnabled() {
         return selectByExampleStatementEnabled;
     }
@@ -246,7 +267,9 @@ public class TableConfiguration extends PropertyHolder {
     public boolean areAnyStatementsEnabled() {
         return selectByExampleStatementEnabled
                 || selectByPrimaryKeyStatementEnabled
+                || selectByPrimaryKeysStatementEnabled
                 || insertStatementEnabled
+                || insertBatchStatementEnabled
                 || updateByPrimaryKeyStatementEnabled
                 || deleteByExampleStatementEnabled
                 || deleteByPrimaryKeyStatementEnabled
@@ -232,12 +232,23 @@ public class MyBatisGeneratorConfigurationParser {
             tc.setInsertStatementEnabled(isTrue(enableInsert));
         }
 
+        String enableInsertBatch = attributes.getProperty("enableInsertBatch"); // $NON-NLS-1$
+        if (stringHasValue(enableInsertBatch)) {
+            tc.setInsertBatchStatementEnabled(isTrue(enableInsertBatch));
+        }
+
         String enableSelectByPrimaryKey =
                 attributes.getProperty("enableSelectByPrimaryKey"); // $NON-NLS-1$
         if (stringHasValue(enableSelectByPrimaryKey)) {
             tc.setSelectByPrimaryKeyStatementEnabled(isTrue(enableSelectByPrimaryKey));
         }
 
+        String enableSelectByPrimaryKeys =
+                attributes.getProperty("enableSelectByPrimaryKeys"); // $NON-NLS-1$
+        if (stringHasValue(enableSelectByPrimaryKeys)) {
+            tc.setSelectByPrimaryKeysStatementEnabled(isTrue(enableSelectByPrimaryKeys));
+        }
+
         String enableSelectByExample =
                 attributes.getProperty("enableSelectByExample"); // $NON-NLS-1$
         if (stringHasValue(enableSelectByExample)) {
@@ -138,7 +138,8 @@ public class DefaultCommentGenerator implements CommentGenerator {
         sb.append(" * "); // $NON-NLS-1$
         sb.append(MergeConstants.NEW_ELEMENT_TAG);
         if (markAsDoNotDelete) {
-            sb.append(" do_not_delete_during_merge"); // $NON-NLS-1$
+            sb.append(' ');
+            sb.append(MergeConstants.DO_NOT_DELETE_TAG);
         }
         String s = getDateString();
         if (s != null) {
@@ -17,19 +17,51 @@ import org.mybatis.generator.api.ShellCallback;
 import org.mybatis.generator.exception.ShellException;
 
 import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.StringTokenizer;
 
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 public class DefaultShellCallback implements ShellCallback {
 
+    // the merger is only linked when JavaParser is present, so the core does not depend on it
+    private static final String MERGER_CLASS =
+            "org.mybatis.generator.internal.JavaFileMergerJavaParser"; //$NON-NLS-1$
+
+    private static final Method MERGE_METHOD = findMergeMethod();
+
     private boolean overwrite;
 
+    private boolean mergeJavaFiles;
+
     public DefaultShellCallback(boolean overwrite) {
         super();
         this.overwrite = overwrite;
     }
 
+    /**
+     * Returns true if merging of existing Java files is requested.
+     *
+     * @return true if Java files should be merged
+     */
+    public boolean isMergeJavaFiles() {
+        return mergeJavaFiles;
+    }
+
+    /**
+     * Requests merging of existing Java files. Generated members of the existing files are
+     * replaced, and all other members are kept - see <code>JavaFileMergerJavaParser</code>. Merging
+     * requires JavaParser in the classpath. If it is not available, then {@link
+     * #isMergeSupported()} returns false and existing files are overwritten or saved with a
+     * unique name as before.
+     *
+     * @param mergeJavaFiles true if Java files should be merged
+     */
+    public void setMergeJavaFiles(boolean mergeJavaFiles) {
+        this.mergeJavaFiles = mergeJavaFiles;
+    }
+
     @Override
     public File getDirectory(String targetProject, String targetPackage) throws ShellException {
         // targetProject is interpreted as a directory that must exist
@@ -75,7 +107,28 @@ public class DefaultShellCallback implements ShellCallback {
 
     @Override
     public boolean isMergeSupported() {
-        return false;
+        return mergeJavaFiles && MERGE_METHOD != null;
+    }
+
+    private static Method findMergeMethod() {
+        // the merger is linked with the class loader of this class. It is missing in
+        // distributions without JavaParser (the Eclipse bundle does not contain it)
+        ClassLoader classLoader = DefaultShellCallback.class.getClassLoader();
+        try {
+            Class.forName(
+                    "com.github.javaparser.JavaParser", //$NON-NLS-1$
+                    false,
+                    classLoader);
+            return Class.forName(MERGER_CLASS, true, classLoader)
+                    .getMethod(
+                            "getMergedSource", //$NON-NLS-1$
+                            String.class,
+                            File.class,
+                            String[].class,
+                            String.class);
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            return null;
+        }
     }
 
     @Override
@@ -87,6 +140,26 @@ public class DefaultShellCallback implements ShellCallback {
     public String mergeJavaFile(
             String newFileSource, File existingFile, String[] javadocTags, String fileEncoding)
             throws ShellException {
-        throw new UnsupportedOperationException();
+        if (!isMergeSupported()) {
+            throw new UnsupportedOperationException();
+        }
+
+        try {
+            return (String)
+                    MERGE_METHOD.invoke(
+                            null, newFileSource, existingFile, javadocTags, fileEncoding);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ShellException) {
+                throw (ShellException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ShellException(cause.getMessage(), cause);
+        } catch (IllegalAccessException e) {
+            throw new ShellException(e.getMessage(), e);
+        }
     }
 }
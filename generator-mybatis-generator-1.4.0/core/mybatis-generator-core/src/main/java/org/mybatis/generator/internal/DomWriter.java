@@ -231,22 +231,43 @@ public class DomWriter {
     }
 
     protected void write(Document node) throws ShellException {
-        isXML11 = "1.1".equals(getVersion(node)); // $NON-NLS-1$
+        writeXmlDeclaration(getVersion(node));
+        write(node.getDoctype());
+        write(node.getDocumentElement());
+    }
+
+    /**
+     * Writes the XML declaration for the specified XML version.
+     *
+     * @param version the XML version of the document
+     */
+    protected void writeXmlDeclaration(String version) {
+        isXML11 = "1.1".equals(version); // $NON-NLS-1$
         if (isXML11) {
             printWriter.println("<?xml version=\"1.1\" encoding=\"UTF-8\"?>"); // $NON-NLS-1$
         } else {
             printWriter.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); // $NON-NLS-1$
         }
         printWriter.flush();
-        write(node.getDoctype());
-        write(node.getDocumentElement());
     }
 
     protected void write(DocumentType node) {
+        writeDocumentType(
+                node.getName(), node.getPublicId(), node.getSystemId(), node.getInternalSubset());
+    }
+
+    /**
+     * Writes a document type declaration.
+     *
+     * @param name the name of the document type
+     * @param publicId the public id, may be null
+     * @param systemId the system id, may be null
+     * @param internalSubset the internal subset, may be null
+     */
+    protected void writeDocumentType(
+            String name, String publicId, String systemId, String internalSubset) {
         printWriter.print("<!DOCTYPE "); // $NON-NLS-1$
-        printWriter.print(node.getName());
-        String publicId = node.getPublicId();
-        String systemId = node.getSystemId();
+        printWriter.print(name);
         if (publicId != null) {
             printWriter.print(" PUBLIC \""); // $NON-NLS-1$
             printWriter.print(publicId);
@@ -259,7 +280,6 @@ public class DomWriter {
             printWriter.print('"');
         }
 
-        String internalSubset = node.getInternalSubset();
         if (internalSubset != null) {
             printWriter.println(" ["); // $NON-NLS-1$
             printWriter.print(internalSubset);
@@ -0,0 +1,540 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import org.mybatis.generator.api.FullyQualifiedTable;
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.ColumnRenamingRule;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.DomainObjectRenamingRule;
+import org.mybatis.generator.config.GeneratedKey;
+import org.mybatis.generator.config.JavaClientGeneratorConfiguration;
+import org.mybatis.generator.config.JavaModelGeneratorConfiguration;
+import org.mybatis.generator.config.PluginConfiguration;
+import org.mybatis.generator.config.SqlMapGeneratorConfiguration;
+import org.mybatis.generator.config.TableConfiguration;
+import org.mybatis.generator.config.TypedPropertyHolder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.mybatis.generator.internal.util.StringUtility.sha256Hex;
+
+/**
+ * This class holds the state of an incremental generation run. It maps each introspected table to
+ * a fingerprint of everything that influences the generated code for the table, and to the files
+ * that were saved for the table. A table whose fingerprint is unchanged, and whose files still
+ * exist, does not need to be generated again.
+ *
+ * <p>The fingerprint covers the introspected columns of the table, the table configuration, the
+ * context configuration (properties, plugins, generator configurations, etc.) and the generator
+ * version. Connection settings are not part of the fingerprint.
+ *
+ * <p>The manifest file is a properties file, so reading a manifest never creates objects of
+ * classes named in the file.
+ */
+public class GenerationManifest {
+
+    /** Incremented whenever the content of the manifest changes in an incompatible way. */
+    public static final int FORMAT_VERSION = 2;
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private int formatVersion = FORMAT_VERSION;
+
+    private Map<String, TableEntry> tables = new HashMap<>();
+
+    private Set<String> contextsWithContextFiles = new HashSet<>();
+
+    public boolean isCurrentFormat() {
+        return formatVersion == FORMAT_VERSION;
+    }
+
+    public TableEntry getTable(String contextId, IntrospectedTable introspectedTable) {
+        return tables.get(getKey(contextId, introspectedTable));
+    }
+
+    /**
+     * Records the state of a table.
+     *
+     * @param contextId the context id
+     * @param introspectedTable the table
+     * @param tableEntry the table entry, or null if the table must be generated in the next run
+     */
+    public void putTable(
+            String contextId, IntrospectedTable introspectedTable, TableEntry tableEntry) {
+        if (tableEntry == null) {
+            tables.remove(getKey(contextId, introspectedTable));
+        } else {
+            tables.put(getKey(contextId, introspectedTable), tableEntry);
+        }
+    }
+
+    /**
+     * Removes the entries of the tables of a context that are not in the specified tables - for
+     * example tables that were removed from the configuration or dropped from the database.
+     *
+     * @param contextId the context id
+     * @param introspectedTables all tables of the context
+     */
+    public void retainTables(String contextId, Collection<IntrospectedTable> introspectedTables) {
+        Set<String> keys = new HashSet<>();
+        for (IntrospectedTable introspectedTable : introspectedTables) {
+            keys.add(getKey(contextId, introspectedTable));
+        }
+
+        String prefix = contextId + KEY_SEPARATOR;
+        tables.keySet().removeIf(key -> key.startsWith(prefix) && !keys.contains(key));
+    }
+
+    /**
+     * Removes the entries of contexts that are not in the specified contexts.
+     *
+     * @param contextIds the ids of all contexts of the configuration
+     */
+    public void retainContexts(Collection<String> contextIds) {
+        tables.keySet()
+                .removeIf(
+                        key ->
+                                !contextIds.contains(
+                                        key.substring(0, key.indexOf(KEY_SEPARATOR))));
+        contextsWithContextFiles.retainAll(contextIds);
+    }
+
+    /**
+     * Returns true if the context generated files that do not belong to a single table (for
+     * example, a MyBatis configuration file listing every mapper). Tables of such a context are
+     * always generated, because the context files are calculated from all tables of the context.
+     *
+     * @param contextId the context id
+     * @return true if the context generated context wide files
+     */
+    public boolean hasContextFiles(String contextId) {
+        return contextsWithContextFiles.contains(contextId);
+    }
+
+    public void setHasContextFiles(String contextId, boolean hasContextFiles) {
+        if (hasContextFiles) {
+            contextsWithContextFiles.add(contextId);
+        } else {
+            contextsWithContextFiles.remove(contextId);
+        }
+    }
+
+    /**
+     * Tables are identified by context, table name and domain object name, because the same table
+     * may be configured more than once with different domain object names.
+     */
+    private static String getKey(String contextId, IntrospectedTable introspectedTable) {
+        return getKey(
+                contextId,
+                introspectedTable.getFullyQualifiedTable().toString(),
+                introspectedTable.getFullyQualifiedTable().getDomainObjectName());
+    }
+
+    private static String getKey(String contextId, String tableName, String domainObjectName) {
+        return contextId + KEY_SEPARATOR + tableName + KEY_SEPARATOR + domainObjectName;
+    }
+
+    /** The fingerprint and the saved files of a single table. */
+    public static class TableEntry {
+        private String fingerprint;
+
+        private List<String> files;
+
+        public TableEntry(String fingerprint, List<String> files) {
+            super();
+            this.fingerprint = fingerprint;
+            this.files = files;
+        }
+
+        public String getFingerprint() {
+            return fingerprint;
+        }
+
+        public List<String> getFiles() {
+            return files;
+        }
+
+        /**
+         * Returns true if the fingerprint matches and all files saved for the table still exist.
+         *
+         * @param fingerprint the fingerprint of the table in this run
+         * @return true if the table does not need to be generated
+         */
+        public boolean isUpToDate(String fingerprint) {
+            if (!this.fingerprint.equals(fingerprint)) {
+                return false;
+            }
+
+            for (String file : files) {
+                if (!new File(file).isFile()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of an introspected table. The table must not have been
+     * initialized for code generation yet.
+     *
+     * @param context the context of the table
+     * @param introspectedTable the introspected table
+     * @return a hex encoded SHA-256 digest
+     */
+    public static String fingerprint(Context context, IntrospectedTable introspectedTable) {
+        Fingerprinter fingerprinter = new Fingerprinter();
+
+        Package generatorPackage = MyBatisGenerator.class.getPackage();
+        fingerprinter.append(
+                generatorPackage == null ? null : generatorPackage.getImplementationVersion());
+
+        // the context configuration - but not the other tables or the connection
+        fingerprinter.append(context.getId());
+        fingerprinter.append(context.getTargetRuntime());
+        fingerprinter.append(context.getDefaultModelType());
+        fingerprinter.append(context.getIntrospectedColumnImpl());
+        fingerprinter.append(context.getBeginningDelimiter());
+        fingerprinter.append(context.getEndingDelimiter());
+        fingerprinter.append(context.autoDelimitKeywords());
+        fingerprinter.append(context.isJava8Targeted());
+        fingerprinter.append(context.getProperties());
+
+        JavaModelGeneratorConfiguration javaModelGeneratorConfiguration =
+                context.getJavaModelGeneratorConfiguration();
+        if (javaModelGeneratorConfiguration != null) {
+            fingerprinter.append(javaModelGeneratorConfiguration.getTargetPackage());
+            fingerprinter.append(javaModelGeneratorConfiguration.getTargetProject());
+            fingerprinter.append(javaModelGeneratorConfiguration.getProperties());
+        }
+
+        SqlMapGeneratorConfiguration sqlMapGeneratorConfiguration =
+                context.getSqlMapGeneratorConfiguration();
+        if (sqlMapGeneratorConfiguration != null) {
+            fingerprinter.append(sqlMapGeneratorConfiguration.getTargetPackage());
+            fingerprinter.append(sqlMapGeneratorConfiguration.getTargetProject());
+            fingerprinter.append(sqlMapGeneratorConfiguration.getProperties());
+        }
+
+        JavaClientGeneratorConfiguration javaClientGeneratorConfiguration =
+                context.getJavaClientGeneratorConfiguration();
+        if (javaClientGeneratorConfiguration != null) {
+            fingerprinter.append(javaClientGeneratorConfiguration);
+            fingerprinter.append(javaClientGeneratorConfiguration.getTargetPackage());
+            fingerprinter.append(javaClientGeneratorConfiguration.getTargetProject());
+        }
+
+        fingerprinter.append(context.getJavaTypeResolverConfiguration());
+        fingerprinter.append(context.getCommentGeneratorConfiguration());
+        for (PluginConfiguration pluginConfiguration : context.getPluginConfigurations()) {
+            fingerprinter.append(pluginConfiguration);
+        }
+
+        // the table
+        appendTableConfiguration(fingerprinter, introspectedTable.getTableConfiguration());
+        FullyQualifiedTable fullyQualifiedTable = introspectedTable.getFullyQualifiedTable();
+        fingerprinter.append(fullyQualifiedTable.toString());
+        fingerprinter.append(fullyQualifiedTable.getDomainObjectName());
+        fingerprinter.append(fullyQualifiedTable.getAlias());
+        fingerprinter.append(introspectedTable.getRemarks());
+        fingerprinter.append(introspectedTable.getTableType());
+        appendColumns(fingerprinter, introspectedTable.getPrimaryKeyColumns());
+        appendColumns(fingerprinter, introspectedTable.getBaseColumns());
+        appendColumns(fingerprinter, introspectedTable.getBLOBColumns());
+
+        return fingerprinter.digest();
+    }
+
+    /**
+     * Column overrides, ignored columns and column renaming are not appended here. They change
+     * the introspected columns, which are part of the fingerprint.
+     */
+    private static void appendTableConfiguration(
+            Fingerprinter fingerprinter, TableConfiguration tc) {
+        fingerprinter.append(tc.getCatalog());
+        fingerprinter.append(tc.getSchema());
+        fingerprinter.append(tc.getTableName());
+        fingerprinter.append(tc.getDomainObjectName());
+        fingerprinter.append(tc.getAlias());
+        fingerprinter.append(tc.getMapperName());
+        fingerprinter.append(tc.getSqlProviderName());
+        fingerprinter.append(tc.getModelType());
+        fingerprinter.append(tc.getSelectByPrimaryKeyQueryId());
+        fingerprinter.append(tc.getSelectByExampleQueryId());
+        fingerprinter.append(tc.isInsertStatementEnabled());
+        fingerprinter.append(tc.isInsertBatchStatementEnabled());
+        fingerprinter.append(tc.isSelectByPrimaryKeyStatementEnabled());
+        fingerprinter.append(tc.isSelectByPrimaryKeysStatementEnabled());
+        fingerprinter.append(tc.isSelectByExampleStatementEnabled());
+        fingerprinter.append(tc.isUpdateByPrimaryKeyStatementEnabled());
+        fingerprinter.append(tc.isDeleteByPrimaryKeyStatementEnabled());
+        fingerprinter.append(tc.isDeleteByExampleStatementEnabled());
+        fingerprinter.append(tc.isCountByExampleStatementEnabled());
+        fingerprinter.append(tc.isUpdateByExampleStatementEnabled());
+        fingerprinter.append(tc.isWildcardEscapingEnabled());
+        fingerprinter.append(tc.isDelimitIdentifiers());
+        fingerprinter.append(tc.isAllColumnDelimitingEnabled());
+        fingerprinter.append(tc.getProperties());
+
+        GeneratedKey generatedKey = tc.getGeneratedKey();
+        if (generatedKey != null) {
+            fingerprinter.append(generatedKey.getColumn());
+            fingerprinter.append(generatedKey.getRuntimeSqlStatement());
+            fingerprinter.append(generatedKey.isIdentity());
+            fingerprinter.append(generatedKey.getType());
+        }
+
+        DomainObjectRenamingRule domainObjectRenamingRule = tc.getDomainObjectRenamingRule();
+        if (domainObjectRenamingRule != null) {
+            fingerprinter.append(domainObjectRenamingRule.getSearchString());
+            fingerprinter.append(domainObjectRenamingRule.getReplaceString());
+        }
+
+        ColumnRenamingRule columnRenamingRule = tc.getColumnRenamingRule();
+        if (columnRenamingRule != null) {
+            fingerprinter.append(columnRenamingRule.getSearchString());
+            fingerprinter.append(columnRenamingRule.getReplaceString());
+        }
+    }
+
+    private static void appendColumns(
+            Fingerprinter fingerprinter, List<IntrospectedColumn> columns) {
+        fingerprinter.append(columns.size());
+        for (IntrospectedColumn column : columns) {
+            fingerprinter.append(column.getActualColumnName());
+            fingerprinter.append(column.getActualTypeName());
+            fingerprinter.append(column.getJdbcType());
+            fingerprinter.append(column.getJdbcTypeName());
+            fingerprinter.append(column.isNullable());
+            fingerprinter.append(column.getLength());
+            fingerprinter.append(column.getScale());
+            fingerprinter.append(column.isIdentity());
+            fingerprinter.append(column.isSequenceColumn());
+            fingerprinter.append(column.getJavaProperty());
+            fingerprinter.append(
+                    column.getFullyQualifiedJavaType() == null
+                            ? null
+                            : column.getFullyQualifiedJavaType().getFullyQualifiedName());
+            fingerprinter.append(column.getTableAlias());
+            fingerprinter.append(column.getTypeHandler());
+            fingerprinter.append(column.isColumnNameDelimited());
+            fingerprinter.append(column.getRemarks());
+            fingerprinter.append(column.getDefaultValue());
+            fingerprinter.append(column.isAutoIncrement());
+            fingerprinter.append(column.isGeneratedColumn());
+            fingerprinter.append(column.isGeneratedAlways());
+            fingerprinter.append(column.getProperties());
+        }
+    }
+
+    /** Builds a canonical description of configuration values, one value per line. */
+    private static class Fingerprinter {
+        private StringBuilder sb = new StringBuilder();
+
+        void append(Object value) {
+            if (value == null) {
+                sb.append('\u0000');
+            } else {
+                appendValue(value.toString());
+            }
+            sb.append('\n');
+        }
+
+        /** Appends the type and the properties of a configuration element. */
+        void append(TypedPropertyHolder typedPropertyHolder) {
+            if (typedPropertyHolder == null) {
+                append((Object) null);
+            } else {
+                append(typedPropertyHolder.getConfigurationType());
+                append(typedPropertyHolder.getProperties());
+            }
+        }
+
+        /** Properties are sorted by name, so the order of the hash table is ignored. */
+        void append(Properties properties) {
+            if (properties == null) {
+                append((Object) null);
+                return;
+            }
+
+            for (String name : new TreeSet<>(properties.stringPropertyNames())) {
+                appendValue(name);
+                sb.append('=');
+                appendValue(properties.getProperty(name));
+                sb.append('|');
+            }
+            sb.append('\n');
+        }
+
+        private void appendValue(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '\\' || c == '|' || c == '=' || c == '\n') {
+                    sb.append('\\');
+                }
+                sb.append(c);
+            }
+        }
+
+        String digest() {
+            return sha256Hex(sb.toString());
+        }
+    }
+
+    /**
+     * Reads a manifest from a file. A file in another format version is returned as an empty
+     * manifest that is not current.
+     *
+     * @param file the file
+     * @return the manifest
+     * @throws IOException if the file cannot be read or does not contain a manifest
+     */
+    public static GenerationManifest read(File file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            properties.load(is);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        GenerationManifest manifest = new GenerationManifest();
+        manifest.formatVersion = getInt(properties, "formatVersion"); //$NON-NLS-1$
+        if (manifest.formatVersion != FORMAT_VERSION) {
+            return manifest;
+        }
+
+        int count = getInt(properties, "tables.count"); //$NON-NLS-1$
+        for (int i = 0; i < count; i++) {
+            String prefix = "tables." + i + '.'; //$NON-NLS-1$
+            int fileCount = getInt(properties, prefix + "files.count"); //$NON-NLS-1$
+            List<String> files = new ArrayList<>(fileCount);
+            for (int j = 0; j < fileCount; j++) {
+                files.add(getString(properties, prefix + "files." + j)); //$NON-NLS-1$
+            }
+
+            manifest.tables.put(
+                    getKey(
+                            getString(properties, prefix + "context"), //$NON-NLS-1$
+                            getString(properties, prefix + "table"), //$NON-NLS-1$
+                            getString(properties, prefix + "domainObjectName")), //$NON-NLS-1$
+                    new TableEntry(
+                            getString(properties, prefix + "fingerprint"), //$NON-NLS-1$
+                            files));
+        }
+
+        count = getInt(properties, "contextFiles.count"); //$NON-NLS-1$
+        for (int i = 0; i < count; i++) {
+            manifest.contextsWithContextFiles.add(
+                    getString(properties, "contextFiles." + i)); //$NON-NLS-1$
+        }
+
+        return manifest;
+    }
+
+    private static String getString(Properties properties, String key) throws IOException {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IOException(key);
+        }
+        return value;
+    }
+
+    /** A missing number is read as 0, so a file without a format version is not current. */
+    private static int getInt(Properties properties, String key) throws IOException {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return 0;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IOException(key, e);
+        }
+    }
+
+    /**
+     * Writes this manifest to a file. The manifest is written to a temporary file first, so an
+     * existing manifest is not damaged if the write fails.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(File file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("formatVersion", Integer.toString(formatVersion)); //$NON-NLS-1$
+
+        int i = 0;
+        for (Map.Entry<String, TableEntry> entry : tables.entrySet()) {
+            String prefix = "tables." + i++ + '.'; //$NON-NLS-1$
+            String[] key = entry.getKey().split(String.valueOf(KEY_SEPARATOR), -1);
+            properties.setProperty(prefix + "context", key[0]); //$NON-NLS-1$
+            properties.setProperty(prefix + "table", key[1]); //$NON-NLS-1$
+            properties.setProperty(prefix + "domainObjectName", key[2]); //$NON-NLS-1$
+            properties.setProperty(
+                    prefix + "fingerprint", entry.getValue().getFingerprint()); //$NON-NLS-1$
+
+            List<String> files = entry.getValue().getFiles();
+            properties.setProperty(
+                    prefix + "files.count", Integer.toString(files.size())); //$NON-NLS-1$
+            for (int j = 0; j < files.size(); j++) {
+                properties.setProperty(prefix + "files." + j, files.get(j)); //$NON-NLS-1$
+            }
+        }
+        properties.setProperty("tables.count", Integer.toString(i)); //$NON-NLS-1$
+
+        i = 0;
+        for (String contextId : contextsWithContextFiles) {
+            properties.setProperty("contextFiles." + i++, contextId); //$NON-NLS-1$
+        }
+        properties.setProperty("contextFiles.count", Integer.toString(i)); //$NON-NLS-1$
+
+        Path target = file.getAbsoluteFile().toPath();
+        Path parent = target.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temp = Files.createTempFile(parent, file.getName(), ".tmp"); //$NON-NLS-1$
+        try {
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                properties.store(os, "MyBatis Generator incremental manifest"); //$NON-NLS-1$
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
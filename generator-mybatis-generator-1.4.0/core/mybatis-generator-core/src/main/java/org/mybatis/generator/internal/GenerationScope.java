@@ -0,0 +1,137 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import org.mybatis.generator.api.GenerationMetrics;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.codegen.RootClassInfo;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Holds the state of a single generation run: the class loaders for "external" classes, the
+ * cache of introspected root classes, the cache of shared Java types, and the metrics of the run.
+ * A new scope is created by every call to one of the <code>MyBatisGenerator.generate</code>
+ * methods and is carried by each context of the run, so independent runs in the same JVM do not
+ * share class loaders or cached information.
+ *
+ * <p>A scope may be used by several threads of the same run. A thread that works for the run
+ * activates the scope with {@link #activate()}, so that code without access to the context (like
+ * {@link FullyQualifiedJavaType#of(String)}) can use the caches of the run.
+ */
+public class GenerationScope {
+
+    private static final ThreadLocal<GenerationScope> CURRENT_SCOPE = new ThreadLocal<>();
+
+    private final List<ClassLoader> externalClassLoaders = new CopyOnWriteArrayList<>();
+
+    private final Map<String, RootClassInfo> rootClassInfoCache = new ConcurrentHashMap<>();
+
+    private final Map<String, FullyQualifiedJavaType> javaTypeCache = new ConcurrentHashMap<>();
+
+    private GenerationMetrics generationMetrics = GenerationMetrics.NONE;
+
+    /**
+     * Returns the scope activated by the calling thread.
+     *
+     * @return the current scope, or null if the calling thread has not activated a scope
+     */
+    public static GenerationScope getCurrentScope() {
+        return CURRENT_SCOPE.get();
+    }
+
+    /**
+     * Makes this scope the current scope of the calling thread until the returned activation is
+     * closed. Activations may be nested - closing an activation restores the scope that was
+     * current before.
+     *
+     * @return the activation
+     */
+    public Activation activate() {
+        GenerationScope previous = CURRENT_SCOPE.get();
+        CURRENT_SCOPE.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT_SCOPE.remove();
+            } else {
+                CURRENT_SCOPE.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Adds a custom classloader to the classloaders searched for "external" classes in this run.
+     *
+     * @param classLoader the class loader
+     */
+    public void addExternalClassLoader(ClassLoader classLoader) {
+        externalClassLoaders.add(classLoader);
+    }
+
+    /**
+     * Returns a class loaded from the classloaders of this run. If the class is not found, then
+     * the class is loaded with {@link ObjectFactory#externalClassForName(String)}.
+     *
+     * @param type the type
+     * @return the Class loaded from the external classloader
+     * @throws ClassNotFoundException the class not found exception
+     */
+    public Class<?> externalClassForName(String type) throws ClassNotFoundException {
+        for (ClassLoader classLoader : externalClassLoaders) {
+            try {
+                return Class.forName(type, true, classLoader);
+            } catch (Exception e) {
+                // ignore - fail safe below
+            }
+        }
+
+        return ObjectFactory.externalClassForName(type);
+    }
+
+    /**
+     * Returns the cache of root class information for this run, keyed by class name.
+     *
+     * @return the root class info cache
+     */
+    public Map<String, RootClassInfo> getRootClassInfoCache() {
+        return rootClassInfoCache;
+    }
+
+    /**
+     * Returns the cache of the shared Java types of this run, keyed by type specification.
+     *
+     * @return the Java type cache
+     * @see FullyQualifiedJavaType#of(String)
+     */
+    public Map<String, FullyQualifiedJavaType> getJavaTypeCache() {
+        return javaTypeCache;
+    }
+
+    public GenerationMetrics getGenerationMetrics() {
+        return generationMetrics;
+    }
+
+    public void setGenerationMetrics(GenerationMetrics generationMetrics) {
+        this.generationMetrics = generationMetrics;
+    }
+
+    /** The activation of a scope on a thread. Closing the activation ends it. */
+    public interface Activation extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
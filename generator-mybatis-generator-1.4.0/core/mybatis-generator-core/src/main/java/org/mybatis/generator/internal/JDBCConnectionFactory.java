@@ -38,6 +38,7 @@ public class JDBCConnectionFactory implements ConnectionFactory {
     private String connectionURL;
     private String driverClass;
     private Properties otherProperties;
+    private GenerationScope generationScope;
 
     /**
      * This constructor is called when there is a JDBCConnectionConfiguration specified in the
@@ -94,7 +95,10 @@ public class JDBCConnectionFactory implements ConnectionFactory {
         Driver driver;
 
         try {
-            Class<?> clazz = ObjectFactory.externalClassForName(driverClass);
+            Class<?> clazz =
+                    generationScope == null
+                            ? ObjectFactory.externalClassForName(driverClass)
+                            : generationScope.externalClassForName(driverClass);
             driver = (Driver) clazz.getConstructor().newInstance();
         } catch (Exception e) {
             throw new RuntimeException(getString("RuntimeError.8"), e); // $NON-NLS-1$
@@ -103,6 +107,16 @@ public class JDBCConnectionFactory implements ConnectionFactory {
         return driver;
     }
 
+    /**
+     * Sets the scope of the generation run. If set, then the JDBC driver is loaded with the class
+     * loaders of the run.
+     *
+     * @param generationScope the generation scope
+     */
+    public void setGenerationScope(GenerationScope generationScope) {
+        this.generationScope = generationScope;
+    }
+
     @Override
     public void addConfigurationProperties(Properties properties) {
         // this should only be called when this connection factory is
@@ -0,0 +1,779 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.Position;
+import com.github.javaparser.Problem;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.comments.Comment;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.exception.ShellException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+/**
+ * This class merges a generated Java file into an existing Java file without an IDE. It is used by
+ * {@link DefaultShellCallback} when Java file merging is enabled, and requires JavaParser in the
+ * classpath.
+ *
+ * <p>The merge follows the rules of the Eclipse plugin:
+ *
+ * <ul>
+ *   <li>Members of the existing types that were generated (they have one of the Javadoc tags, or
+ *       a <code>@Generated</code> annotation from MyBatis Generator) are replaced by the members
+ *       of the new file
+ *   <li>All other members are kept. Generated members marked with {@link
+ *       MergeConstants#DO_NOT_DELETE_TAG} are kept too, and a kept member replaces the generated
+ *       member with the same signature
+ *   <li>Imports, super types, type annotations and top level types of the new file that are
+ *       missing in the existing file are added
+ * </ul>
+ *
+ * <p>The merge changes the text of the existing file in place, so custom code keeps its
+ * formatting. Both files are parsed once.
+ */
+public class JavaFileMergerJavaParser {
+
+    private JavaFileMergerJavaParser() {}
+
+    /**
+     * Merges a generated Java file into an existing file.
+     *
+     * @param newFileSource the source of the generated file
+     * @param existingFile the existing file
+     * @param javadocTags the Javadoc tags that denote generated members
+     * @param fileEncoding the encoding of the existing file, or null for the platform default
+     * @return the merged source
+     * @throws ShellException if the files cannot be read or parsed
+     */
+    public static String getMergedSource(
+            String newFileSource, File existingFile, String[] javadocTags, String fileEncoding)
+            throws ShellException {
+        String existingFileSource;
+        try {
+            Charset charset =
+                    fileEncoding == null ? Charset.defaultCharset() : Charset.forName(fileEncoding);
+            existingFileSource = new String(Files.readAllBytes(existingFile.toPath()), charset);
+        } catch (IOException e) {
+            throw new ShellException(
+                    getString(
+                            "Warning.35", //$NON-NLS-1$
+                            existingFile.getName(),
+                            e.getMessage()),
+                    e);
+        }
+
+        return getMergedSource(
+                newFileSource, existingFileSource, existingFile.getName(), javadocTags);
+    }
+
+    /**
+     * Merges the source of a generated Java file into the source of an existing file.
+     *
+     * @param newFileSource the source of the generated file
+     * @param existingFileSource the source of the existing file
+     * @param existingFileName the name of the existing file, for error messages
+     * @param javadocTags the Javadoc tags that denote generated members
+     * @return the merged source
+     * @throws ShellException if one of the sources cannot be parsed
+     */
+    public static String getMergedSource(
+            String newFileSource,
+            String existingFileSource,
+            String existingFileName,
+            String[] javadocTags)
+            throws ShellException {
+        CompilationUnit newCompilationUnit = parse(newFileSource, existingFileName);
+        CompilationUnit existingCompilationUnit = parse(existingFileSource, existingFileName);
+
+        Merge merge = new Merge(newFileSource, existingFileSource, javadocTags);
+        merge.mergeImports(newCompilationUnit, existingCompilationUnit);
+        merge.mergeTypes(newCompilationUnit, existingCompilationUnit);
+        return merge.getMergedSource();
+    }
+
+    private static CompilationUnit parse(String source, String fileName) throws ShellException {
+        ParserConfiguration configuration = new ParserConfiguration();
+        configuration.setLanguageLevel(ParserConfiguration.LanguageLevel.RAW);
+        // columns must be character offsets
+        configuration.setTabSize(1);
+
+        ParseResult<CompilationUnit> result = new JavaParser(configuration).parse(source);
+        Optional<CompilationUnit> compilationUnit = result.getResult();
+        if (result.isSuccessful() && compilationUnit.isPresent()) {
+            return compilationUnit.get();
+        }
+
+        String cause =
+                result.getProblems().stream()
+                        .findFirst()
+                        .map(Problem::getVerboseMessage)
+                        .orElse(""); //$NON-NLS-1$
+        throw new ShellException(
+                getString(
+                        "Warning.35", //$NON-NLS-1$
+                        fileName,
+                        cause));
+    }
+
+    /** The state of a single merge: the sources and the changes to the existing source. */
+    private static class Merge {
+        private SourceText newSource;
+        private SourceText existingSource;
+        private String[] javadocTags;
+        private String lineSeparator;
+        private List<Edit> edits = new ArrayList<>();
+
+        Merge(String newSource, String existingSource, String[] javadocTags) {
+            this.newSource = new SourceText(newSource);
+            this.existingSource = new SourceText(existingSource);
+            this.javadocTags = javadocTags;
+            lineSeparator = this.existingSource.getLineSeparator();
+        }
+
+        void mergeImports(CompilationUnit newUnit, CompilationUnit existingUnit) {
+            Set<String> existingImports =
+                    existingUnit.getImports().stream()
+                            .map(Merge::getImportKey)
+                            .collect(Collectors.toSet());
+
+            StringBuilder sb = new StringBuilder();
+            for (ImportDeclaration importDeclaration : newUnit.getImports()) {
+                if (existingImports.add(getImportKey(importDeclaration))) {
+                    sb.append(newSource.getText(importDeclaration));
+                    sb.append(lineSeparator);
+                }
+            }
+
+            if (sb.length() == 0) {
+                return;
+            }
+
+            NodeList<ImportDeclaration> imports = existingUnit.getImports();
+            if (imports.isNonEmpty()) {
+                int offset = existingSource.getLineEnd(existingSource.getEnd(getLast(imports)));
+                addEdit(offset, offset, sb.toString());
+            } else if (existingUnit.getPackageDeclaration().isPresent()) {
+                int offset =
+                        existingSource.getLineEnd(
+                                existingSource.getEnd(
+                                        existingUnit.getPackageDeclaration().get()));
+                addEdit(offset, offset, lineSeparator + sb);
+            } else {
+                addEdit(0, 0, sb.append(lineSeparator).toString());
+            }
+        }
+
+        private static String getImportKey(ImportDeclaration importDeclaration) {
+            return (importDeclaration.isStatic() ? "static " : "") //$NON-NLS-1$ //$NON-NLS-2$
+                    + importDeclaration.getNameAsString()
+                    + (importDeclaration.isAsterisk() ? ".*" : ""); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        void mergeTypes(CompilationUnit newUnit, CompilationUnit existingUnit) {
+            for (TypeDeclaration<?> newType : newUnit.getTypes()) {
+                Optional<TypeDeclaration<?>> existingType =
+                        existingUnit.getTypes().stream()
+                                .filter(t -> t.getNameAsString().equals(newType.getNameAsString()))
+                                .findFirst();
+                if (!existingType.isPresent()) {
+                    addType(newType);
+                } else if (newType instanceof ClassOrInterfaceDeclaration
+                        && existingType.get() instanceof ClassOrInterfaceDeclaration) {
+                    mergeType(
+                            (ClassOrInterfaceDeclaration) newType,
+                            (ClassOrInterfaceDeclaration) existingType.get());
+                }
+            }
+        }
+
+        private void addType(TypeDeclaration<?> newType) {
+            int offset = existingSource.length();
+            StringBuilder sb = new StringBuilder();
+            if (!existingSource.endsWithLineBreak()) {
+                sb.append(lineSeparator);
+            }
+            sb.append(lineSeparator);
+            sb.append(newSource.getText(newType));
+            sb.append(lineSeparator);
+            addEdit(offset, offset, sb.toString());
+        }
+
+        private void mergeType(
+                ClassOrInterfaceDeclaration newType, ClassOrInterfaceDeclaration existingType) {
+            mergeTypeAnnotations(newType, existingType);
+            mergeSuperTypes(newType, existingType);
+            mergeMembers(newType, existingType);
+        }
+
+        private void mergeTypeAnnotations(
+                ClassOrInterfaceDeclaration newType, ClassOrInterfaceDeclaration existingType) {
+            Set<String> existingAnnotations =
+                    existingType.getAnnotations().stream()
+                            .map(AnnotationExpr::getNameAsString)
+                            .collect(Collectors.toSet());
+
+            int begin = existingSource.getBegin(existingType, false);
+            int lineStart = existingSource.getLineStart(begin);
+            String indent = existingSource.substring(lineStart, begin);
+            StringBuilder sb = new StringBuilder();
+            for (AnnotationExpr annotation : newType.getAnnotations()) {
+                if (existingAnnotations.add(annotation.getNameAsString())) {
+                    sb.append(indent);
+                    sb.append(newSource.getText(annotation));
+                    sb.append(lineSeparator);
+                }
+            }
+
+            if (sb.length() > 0) {
+                addEdit(lineStart, lineStart, sb.toString());
+            }
+        }
+
+        private void mergeSuperTypes(
+                ClassOrInterfaceDeclaration newType, ClassOrInterfaceDeclaration existingType) {
+            Node anchor = existingType.getName();
+            if (existingType.getTypeParameters().isNonEmpty()) {
+                anchor = getLast(existingType.getTypeParameters());
+            }
+
+            mergeSuperTypeList(
+                    newType.getExtendedTypes(),
+                    existingType.getExtendedTypes(),
+                    anchor,
+                    " extends ", //$NON-NLS-1$
+                    existingType.isInterface());
+
+            if (existingType.getExtendedTypes().isNonEmpty()) {
+                anchor = getLast(existingType.getExtendedTypes());
+            }
+
+            mergeSuperTypeList(
+                    newType.getImplementedTypes(),
+                    existingType.getImplementedTypes(),
+                    anchor,
+                    " implements ", //$NON-NLS-1$
+                    true);
+        }
+
+        /**
+         * Adds the missing types of a super type list. A class may only extend one class, so the
+         * super class of an existing class is never changed.
+         */
+        private void mergeSuperTypeList(
+                NodeList<ClassOrInterfaceType> newTypes,
+                NodeList<ClassOrInterfaceType> existingTypes,
+                Node anchor,
+                String keyword,
+                boolean multipleTypes) {
+            if (!multipleTypes && existingTypes.isNonEmpty()) {
+                return;
+            }
+
+            Set<String> existingNames =
+                    existingTypes.stream()
+                            .map(ClassOrInterfaceType::asString)
+                            .collect(Collectors.toSet());
+            List<String> missingTypes =
+                    newTypes.stream()
+                            .filter(t -> !existingNames.contains(t.asString()))
+                            .map(newSource::getText)
+                            .collect(Collectors.toList());
+            if (missingTypes.isEmpty()) {
+                return;
+            }
+
+            if (existingTypes.isNonEmpty()) {
+                int offset = existingSource.getEnd(getLast(existingTypes));
+                addEdit(offset, offset, ", " + String.join(", ", missingTypes)); //$NON-NLS-1$
+            } else {
+                int offset = existingSource.getEnd(anchor);
+                addEdit(offset, offset, keyword + String.join(", ", missingTypes)); //$NON-NLS-1$
+            }
+        }
+
+        private static Node getLast(NodeList<? extends Node> nodes) {
+            return nodes.get(nodes.size() - 1);
+        }
+
+        /**
+         * Replaces the generated members of an existing type. A generated member with the same
+         * signature as a new member is replaced in place, other generated members are removed. New
+         * members without an existing counterpart are added after the previous new member.
+         */
+        private void mergeMembers(
+                ClassOrInterfaceDeclaration newType, ClassOrInterfaceDeclaration existingType) {
+            List<BodyDeclaration<?>> replaceableMembers = new ArrayList<>();
+            Set<String> keptKeys = new HashSet<>();
+            for (BodyDeclaration<?> member : existingType.getMembers()) {
+                if (isReplaceable(member)) {
+                    replaceableMembers.add(member);
+                } else {
+                    keptKeys.addAll(getKeys(member));
+                }
+            }
+
+            List<BodyDeclaration<?>> newMembers =
+                    newType.getMembers().stream()
+                            .filter(m -> Collections.disjoint(keptKeys, getKeys(m)))
+                            .collect(Collectors.toList());
+
+            // new member -> replaced existing member
+            Map<BodyDeclaration<?>, BodyDeclaration<?>> replacements = new IdentityHashMap<>();
+            List<Range> removedRanges = new ArrayList<>();
+            for (BodyDeclaration<?> member : replaceableMembers) {
+                Optional<BodyDeclaration<?>> newMember = findNewMember(member, newMembers);
+                if (newMember.isPresent()) {
+                    replacements.put(newMember.get(), member);
+                    addEdit(
+                            existingSource.getBegin(member, true),
+                            existingSource.getEnd(member),
+                            newSource.getText(newMember.get()));
+                } else {
+                    removedRanges.add(
+                            new Range(
+                                    existingSource.getLineStartIfBlank(
+                                            existingSource.getBegin(member, true)),
+                                    existingSource.skipBlankLines(
+                                            existingSource.getLineEnd(
+                                                    existingSource.getEnd(member)))));
+                }
+            }
+
+            int closingBrace = existingSource.getEnd(existingType) - 1;
+            // without replacements, the new members take the place of the first removed member
+            int firstRemovedRange = replacements.isEmpty() ? 1 : 0;
+            removeBlankLinesBeforeClosingBrace(removedRanges, firstRemovedRange, closingBrace);
+            for (int i = firstRemovedRange; i < removedRanges.size(); i++) {
+                addEdit(removedRanges.get(i).start, removedRanges.get(i).end, ""); //$NON-NLS-1$
+            }
+
+            if (replacements.isEmpty()) {
+                addMembers(newMembers, existingType, removedRanges, closingBrace);
+            } else {
+                addMembers(newMembers, replacements);
+            }
+        }
+
+        private Optional<BodyDeclaration<?>> findNewMember(
+                BodyDeclaration<?> member, List<BodyDeclaration<?>> newMembers) {
+            List<String> keys = getKeys(member);
+            if (keys.isEmpty()) {
+                return Optional.empty();
+            }
+
+            return newMembers.stream().filter(m -> keys.equals(getKeys(m))).findFirst();
+        }
+
+        /** Adds the new members where the first generated member was, or at the top of the type. */
+        private void addMembers(
+                List<BodyDeclaration<?>> newMembers,
+                ClassOrInterfaceDeclaration existingType,
+                List<Range> removedRanges,
+                int closingBrace) {
+            List<String> texts = new ArrayList<>();
+            for (BodyDeclaration<?> member : newMembers) {
+                texts.add(getMemberText(member));
+            }
+
+            int offset;
+            int end;
+            if (removedRanges.isEmpty()) {
+                int openingBrace = existingSource.indexOf('{', getHeaderEnd(existingType));
+                offset = existingSource.getLineEnd(openingBrace + 1);
+                end = offset;
+                if (offset == openingBrace + 1 && !texts.isEmpty()) {
+                    texts.set(0, lineSeparator + texts.get(0));
+                }
+            } else {
+                offset = removedRanges.get(0).start;
+                end = removedRanges.get(0).end;
+            }
+
+            StringBuilder sb = new StringBuilder();
+            if (!texts.isEmpty()) {
+                sb.append(String.join(lineSeparator + lineSeparator, texts));
+                sb.append(lineSeparator);
+                if (getNextContent(end, removedRanges) != closingBrace) {
+                    sb.append(lineSeparator);
+                }
+            }
+
+            if (end > offset || sb.length() > 0) {
+                addEdit(offset, end, sb.toString());
+            }
+        }
+
+        /** Adds the new members that do not replace a member after the previous new member. */
+        private void addMembers(
+                List<BodyDeclaration<?>> newMembers,
+                Map<BodyDeclaration<?>, BodyDeclaration<?>> replacements) {
+            BodyDeclaration<?> previousMember = null;
+            BodyDeclaration<?> firstReplacedMember = null;
+            List<String> leadingTexts = new ArrayList<>();
+            for (BodyDeclaration<?> member : newMembers) {
+                BodyDeclaration<?> replacedMember = replacements.get(member);
+                if (replacedMember != null) {
+                    previousMember = replacedMember;
+                    if (firstReplacedMember == null) {
+                        firstReplacedMember = replacedMember;
+                    }
+                } else if (previousMember == null) {
+                    leadingTexts.add(getMemberText(member));
+                } else {
+                    int offset = existingSource.getLineEnd(existingSource.getEnd(previousMember));
+                    addEdit(offset, offset, lineSeparator + getMemberText(member) + lineSeparator);
+                }
+            }
+
+            if (!leadingTexts.isEmpty()) {
+                int offset =
+                        existingSource.getLineStartIfBlank(
+                                existingSource.getBegin(firstReplacedMember, true));
+                String separator = lineSeparator + lineSeparator;
+                addEdit(offset, offset, String.join(separator, leadingTexts) + separator);
+            }
+        }
+
+        /** Returns the text of a new member, with its comment and indentation. */
+        private String getMemberText(BodyDeclaration<?> member) {
+            int begin = newSource.getLineStartIfBlank(newSource.getBegin(member, true));
+            return newSource.substring(begin, newSource.getEnd(member));
+        }
+
+        /**
+         * A removed member that is followed by the closing brace of the type also takes the blank
+         * lines in front of it, so the remaining members are not followed by a blank line.
+         */
+        private void removeBlankLinesBeforeClosingBrace(
+                List<Range> removedRanges, int firstRange, int closingBrace) {
+            for (int i = firstRange; i < removedRanges.size(); i++) {
+                Range range = removedRanges.get(i);
+                if (getNextContent(range.end, removedRanges) == closingBrace) {
+                    int previousEnd = i == 0 ? 0 : removedRanges.get(i - 1).end;
+                    range.start =
+                            Math.max(previousEnd, existingSource.skipBlankLinesBack(range.start));
+                }
+            }
+        }
+
+        /** Returns the offset of the next character that is not white space and not removed. */
+        private int getNextContent(int offset, List<Range> removedRanges) {
+            int answer = offset;
+            while (answer < existingSource.length()) {
+                int current = answer;
+                answer =
+                        removedRanges.stream()
+                                .filter(r -> r.start <= current && current < r.end)
+                                .findFirst()
+                                .map(r -> r.end)
+                                .orElse(current);
+                if (answer == current) {
+                    if (!Character.isWhitespace(existingSource.charAt(answer))) {
+                        break;
+                    }
+                    answer++;
+                }
+            }
+            return answer;
+        }
+
+        private int getHeaderEnd(ClassOrInterfaceDeclaration type) {
+            List<Node> headerNodes = new ArrayList<>();
+            headerNodes.add(type.getName());
+            headerNodes.addAll(type.getTypeParameters());
+            headerNodes.addAll(type.getExtendedTypes());
+            headerNodes.addAll(type.getImplementedTypes());
+            return headerNodes.stream().mapToInt(existingSource::getEnd).max().orElse(0);
+        }
+
+        private boolean isReplaceable(BodyDeclaration<?> member) {
+            Optional<String> comment = member.getComment().map(Comment::getContent);
+            if (comment.isPresent() && comment.get().contains(MergeConstants.DO_NOT_DELETE_TAG)) {
+                return false;
+            }
+
+            return comment.isPresent() && containsTag(comment.get())
+                    || member.getAnnotations().stream().anyMatch(this::isGeneratedAnnotation);
+        }
+
+        private boolean containsTag(String comment) {
+            for (String tag : javadocTags) {
+                if (comment.contains(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isGeneratedAnnotation(AnnotationExpr annotation) {
+            String name = annotation.getNameAsString();
+            return ("Generated".equals(name) || name.endsWith(".Generated")) //$NON-NLS-1$
+                    && annotation.toString().contains(MyBatisGenerator.class.getName());
+        }
+
+        /**
+         * Returns the keys that identify a member. A generated member with one of the keys of a
+         * kept member is not added.
+         */
+        private static List<String> getKeys(BodyDeclaration<?> member) {
+            List<String> keys = new ArrayList<>();
+            if (member instanceof FieldDeclaration) {
+                for (VariableDeclarator variable : ((FieldDeclaration) member).getVariables()) {
+                    keys.add("field " + variable.getNameAsString()); //$NON-NLS-1$
+                }
+            } else if (member instanceof MethodDeclaration) {
+                keys.add("method " //$NON-NLS-1$
+                        + ((MethodDeclaration) member).getSignature().asString());
+            } else if (member instanceof ConstructorDeclaration) {
+                keys.add("constructor " //$NON-NLS-1$
+                        + ((ConstructorDeclaration) member).getSignature().asString());
+            } else if (member instanceof TypeDeclaration) {
+                keys.add("type " //$NON-NLS-1$
+                        + ((TypeDeclaration<?>) member).getNameAsString());
+            }
+            return keys;
+        }
+
+        private void addEdit(int start, int end, String text) {
+            edits.add(new Edit(start, end, text));
+        }
+
+        String getMergedSource() {
+            // the sort is stable, so insertions at the same offset keep their order - and they
+            // come before a change that starts at that offset
+            edits.sort(Comparator.<Edit>comparingInt(e -> e.start).thenComparingInt(e -> e.end));
+            StringBuilder sb = new StringBuilder();
+            int offset = 0;
+            for (Edit edit : edits) {
+                sb.append(existingSource.substring(offset, edit.start));
+                sb.append(edit.text);
+                offset = edit.end;
+            }
+            sb.append(existingSource.substring(offset, existingSource.length()));
+            return sb.toString();
+        }
+    }
+
+    /** Source text with the offsets of its lines, so node positions can be mapped to offsets. */
+    private static class SourceText {
+        private String text;
+        private int[] lineStarts;
+
+        SourceText(String text) {
+            this.text = text;
+            List<Integer> starts = new ArrayList<>();
+            starts.add(0);
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '\n' || c == '\r' && !text.startsWith("\n", i + 1)) { //$NON-NLS-1$
+                    starts.add(i + 1);
+                }
+            }
+            lineStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        int length() {
+            return text.length();
+        }
+
+        char charAt(int offset) {
+            return text.charAt(offset);
+        }
+
+        String substring(int begin, int end) {
+            return text.substring(begin, end);
+        }
+
+        int indexOf(char c, int fromOffset) {
+            return text.indexOf(c, fromOffset);
+        }
+
+        boolean endsWithLineBreak() {
+            return text.endsWith("\n") || text.endsWith("\r"); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        String getLineSeparator() {
+            int index = text.indexOf('\n');
+            if (index > 0 && text.charAt(index - 1) == '\r') {
+                return "\r\n"; //$NON-NLS-1$
+            } else if (index >= 0) {
+                return "\n"; //$NON-NLS-1$
+            }
+            return System.getProperty("line.separator"); //$NON-NLS-1$
+        }
+
+        private int getOffset(Position position) {
+            return lineStarts[position.line - 1] + position.column - 1;
+        }
+
+        /** Returns the offset of the first character of a node, and of its comment if requested. */
+        int getBegin(Node node, boolean withComment) {
+            int begin = getOffset(getRange(node).begin);
+            if (withComment && node.getComment().isPresent()) {
+                begin = Math.min(begin, getOffset(getRange(node.getComment().get()).begin));
+            }
+            return begin;
+        }
+
+        /** Returns the offset after the last character of a node. */
+        int getEnd(Node node) {
+            return getOffset(getRange(node).end) + 1;
+        }
+
+        private com.github.javaparser.Range getRange(Node node) {
+            return node.getRange()
+                    .orElseThrow(() -> new IllegalStateException(node.toString()));
+        }
+
+        /** Returns the text of a node, with its comment. */
+        String getText(Node node) {
+            return text.substring(getBegin(node, true), getEnd(node));
+        }
+
+        int getLineStart(int offset) {
+            int answer = offset;
+            while (answer > 0 && !isLineBreak(text.charAt(answer - 1))) {
+                answer--;
+            }
+            return answer;
+        }
+
+        /** Returns the start of the line if there is only white space in front of the offset. */
+        int getLineStartIfBlank(int offset) {
+            int lineStart = getLineStart(offset);
+            return isBlank(lineStart, offset) ? lineStart : offset;
+        }
+
+        /**
+         * Returns the offset after the line break if there is only white space after the offset,
+         * else the offset.
+         */
+        int getLineEnd(int offset) {
+            int answer = offset;
+            while (answer < text.length() && isSpace(text.charAt(answer))) {
+                answer++;
+            }
+            if (answer == text.length()) {
+                return answer;
+            } else if (text.startsWith("\r\n", answer)) { //$NON-NLS-1$
+                return answer + 2;
+            } else if (isLineBreak(text.charAt(answer))) {
+                return answer + 1;
+            }
+            return offset;
+        }
+
+        /** Skips the blank lines that start at the offset, which must be the start of a line. */
+        int skipBlankLines(int offset) {
+            int answer = offset;
+            while (answer < text.length()) {
+                int lineEnd = getLineEnd(answer);
+                if (lineEnd == answer) {
+                    break;
+                }
+                answer = lineEnd;
+            }
+            return answer;
+        }
+
+        /** Skips the blank lines that end at the offset, which must be the start of a line. */
+        int skipBlankLinesBack(int offset) {
+            int answer = offset;
+            while (answer > 0) {
+                // the line break in front of the offset belongs to the previous line
+                int lineBreak = answer - 1;
+                if (text.startsWith("\r\n", answer - 2)) { //$NON-NLS-1$
+                    lineBreak--;
+                }
+                int lineStart = getLineStart(lineBreak);
+                if (!isBlank(lineStart, answer)) {
+                    break;
+                }
+                answer = lineStart;
+            }
+            return answer;
+        }
+
+        private boolean isBlank(int begin, int end) {
+            for (int i = begin; i < end; i++) {
+                if (!Character.isWhitespace(text.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isLineBreak(char c) {
+            return c == '\n' || c == '\r';
+        }
+
+        private static boolean isSpace(char c) {
+            return c == ' ' || c == '\t';
+        }
+    }
+
+    private static class Range {
+        private int start;
+        private int end;
+
+        Range(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private static class Edit {
+        private int start;
+        private int end;
+        private String text;
+
+        Edit(int start, int end, String text) {
+            this.start = start;
+            this.end = end;
+            this.text = text;
+        }
+    }
+}
@@ -26,8 +26,8 @@ import org.mybatis.generator.runtime.dynamic.sql.IntrospectedTableMyBatis3Dynami
 import org.mybatis.generator.runtime.kotlin.IntrospectedTableKotlinImpl;
 
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
@@ -42,7 +42,7 @@ public class ObjectFactory {
     private static List<ClassLoader> externalClassLoaders;
 
     static {
-        externalClassLoaders = new ArrayList<>();
+        externalClassLoaders = new CopyOnWriteArrayList<>();
     }
 
     /** Utility class. No instances allowed. */
@@ -51,11 +51,14 @@ public class ObjectFactory {
     }
 
     /**
-     * Clears the class loaders. This method should be called at the beginning of a generation run
-     * so that and change to the classloading configuration will be reflected. For example, if the
-     * eclipse launcher changes configuration it might not be updated if eclipse hasn't been
-     * restarted.
+     * Clears the class loaders.
+     *
+     * @deprecated the class loaders of a generation run are now held in a {@link GenerationScope},
+     *     so there is nothing to reset between runs. Clearing the JVM wide class loaders would
+     *     affect other runs in the same JVM - use {@link #removeExternalClassLoader(ClassLoader)}
+     *     to remove a class loader added by the caller
      */
+    @Deprecated
     public static void reset() {
         externalClassLoaders.clear();
     }
@@ -71,6 +74,15 @@ public class ObjectFactory {
         ObjectFactory.externalClassLoaders.add(classLoader);
     }
 
+    /**
+     * Removes a custom classloader added with {@link #addExternalClassLoader(ClassLoader)}.
+     *
+     * @param classLoader the class loader
+     */
+    public static synchronized void removeExternalClassLoader(ClassLoader classLoader) {
+        ObjectFactory.externalClassLoaders.remove(classLoader);
+    }
+
     /**
      * Returns a class loaded from the context classloader, or the classloader supplied by a client.
      * This is appropriate for JDBC drivers, model root classes, etc. It is not appropriate for any
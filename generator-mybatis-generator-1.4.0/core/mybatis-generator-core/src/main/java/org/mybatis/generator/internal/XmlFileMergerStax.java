@@ -0,0 +1,550 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.VisitableElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.api.dom.xml.render.DocumentWriter;
+import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.exception.ShellException;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Characters;
+import javax.xml.stream.events.Comment;
+import javax.xml.stream.events.DTD;
+import javax.xml.stream.events.EndElement;
+import javax.xml.stream.events.EntityReference;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.ProcessingInstruction;
+import javax.xml.stream.events.StartDocument;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+/**
+ * This class merges changes into an existing XML file without building DOM trees. It follows the
+ * same rules as {@link XmlFileMergerJaxp}, and produces the same output:
+ *
+ * <ul>
+ *   <li>The existing file is read with StAX. Elements of the root element that were generated
+ *       (recognized by the id prefixes or the comment tags in {@link MergeConstants}) are
+ *       skipped, together with the white space in front of them. Everything else is copied.
+ *   <li>The root element gets the attributes of the new root element.
+ *   <li>The new generated elements are written directly from the generated {@link Document} in
+ *       front of the remaining content - the generated file is not rendered and parsed again.
+ * </ul>
+ *
+ * <p>Only one child element of the root element is held in memory at a time.
+ */
+public class XmlFileMergerStax {
+    private static final String REPORT_CDATA_EVENT =
+            "http://java.sun.com/xml/stream/properties/report-cdata-event"; //$NON-NLS-1$
+
+    /** Factories are not required to be thread safe, readers are created under its lock. */
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private XmlFileMergerStax() {}
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, true);
+        if (factory.isPropertySupported(REPORT_CDATA_EVENT)) {
+            factory.setProperty(REPORT_CDATA_EVENT, true);
+        }
+        // return an empty DTD. We don't need the DTD for the merge and reading
+        // it can cause problems on systems that aren't Internet connected.
+        factory.setXMLResolver(
+                (publicId, systemId, baseUri, namespace) ->
+                        new ByteArrayInputStream(new byte[0]));
+        return factory;
+    }
+
+    /**
+     * Merges a generated XML file into an existing file. If the document of the generated file
+     * has been released, then the file is merged with {@link XmlFileMergerJaxp}.
+     *
+     * @param generatedXmlFile the generated file
+     * @param existingFile the existing file
+     * @return the merged source
+     * @throws ShellException if the files cannot be merged
+     */
+    public static String getMergedSource(GeneratedXmlFile generatedXmlFile, File existingFile)
+            throws ShellException {
+        Document document = generatedXmlFile.getDocument();
+        if (document == null) {
+            return XmlFileMergerJaxp.getMergedSource(generatedXmlFile, existingFile);
+        }
+
+        try (Reader reader =
+                new InputStreamReader(
+                        Files.newInputStream(existingFile.toPath()), StandardCharsets.UTF_8)) {
+            return getMergedSource(document, reader, existingFile.getName());
+        } catch (IOException | XMLStreamException e) {
+            throw new ShellException(
+                    getString(
+                            "Warning.13", //$NON-NLS-1$
+                            existingFile.getName()),
+                    e);
+        }
+    }
+
+    /**
+     * Merges a generated document into an existing file.
+     *
+     * @param newDocument the generated document
+     * @param existingFile the content of the existing file
+     * @param existingFileName the name of the existing file, for error messages
+     * @return the merged source
+     * @throws XMLStreamException if the existing file cannot be parsed
+     * @throws ShellException if the existing file is not the same format as the generated file
+     */
+    public static String getMergedSource(
+            Document newDocument, Reader existingFile, String existingFileName)
+            throws XMLStreamException, ShellException {
+        XMLEventReader reader;
+        synchronized (INPUT_FACTORY) {
+            reader = INPUT_FACTORY.createXMLEventReader(existingFile);
+        }
+
+        try {
+            MergeWriter writer = new MergeWriter();
+            XmlElement newRootElement = newDocument.getRootElement();
+
+            // prolog - everything but the document type is dropped, as in the DOM merge
+            String version = null;
+            DocumentType docType = null;
+            XMLEvent event = reader.nextEvent();
+            while (!event.isStartElement()) {
+                if (event.isStartDocument()) {
+                    version = ((StartDocument) event).getVersion();
+                } else if (event.getEventType() == XMLEvent.DTD) {
+                    docType = DocumentType.parse(((DTD) event).getDocumentTypeDeclaration());
+                }
+                event = reader.nextEvent();
+            }
+
+            if (docType == null || !newRootElement.getName().equals(docType.name)) {
+                throw new ShellException(
+                        getString(
+                                "Warning.12", //$NON-NLS-1$
+                                existingFileName));
+            }
+
+            writer.writeXmlDeclaration(version);
+            writer.writeDocumentType(
+                    docType.name, docType.publicId, docType.systemId, docType.internalSubset);
+
+            StartElement existingRootElement = event.asStartElement();
+            writer.writeRootStart(existingRootElement, newRootElement);
+            writer.writeGeneratedElements(newRootElement);
+            copyRootContent(reader, writer);
+            writer.writeEnd(existingRootElement.getName());
+
+            return writer.toString();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Copies the children of the existing root element, except for generated elements and the
+     * white space in front of them. Text is collected until the next sibling is known, because
+     * white space is only dropped when it is followed by a generated element.
+     */
+    private static void copyRootContent(XMLEventReader reader, MergeWriter writer)
+            throws XMLStreamException {
+        StringBuilder pendingText = new StringBuilder();
+        while (true) {
+            XMLEvent event = reader.nextEvent();
+            if (event.isEndElement()) {
+                writer.writeText(pendingText);
+                return;
+            }
+
+            if (event.isCharacters() && !event.asCharacters().isCData()) {
+                pendingText.append(event.asCharacters().getData());
+            } else if (event.isStartElement()) {
+                List<XMLEvent> element = readElement(event, reader);
+                if (isGeneratedElement(element)) {
+                    if (!isWhiteSpace(pendingText)) {
+                        writer.writeText(pendingText);
+                    }
+                    pendingText.setLength(0);
+                } else {
+                    writer.writeText(pendingText);
+                    pendingText.setLength(0);
+                    for (XMLEvent elementEvent : element) {
+                        writer.write(elementEvent);
+                    }
+                }
+            } else {
+                writer.writeText(pendingText);
+                pendingText.setLength(0);
+                writer.write(event);
+            }
+        }
+    }
+
+    private static List<XMLEvent> readElement(XMLEvent startElement, XMLEventReader reader)
+            throws XMLStreamException {
+        List<XMLEvent> events = new ArrayList<>();
+        events.add(startElement);
+        int depth = 1;
+        while (depth > 0) {
+            XMLEvent event = reader.nextEvent();
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            }
+            events.add(event);
+        }
+        return events;
+    }
+
+    private static boolean isGeneratedElement(List<XMLEvent> element) {
+        return isOldFormatElement(element.get(0).asStartElement())
+                || isNewFormatElement(element);
+    }
+
+    private static boolean isOldFormatElement(StartElement startElement) {
+        javax.xml.stream.events.Attribute id =
+                startElement.getAttributeByName(new QName("id")); //$NON-NLS-1$
+        return id != null && MergeConstants.idStartsWithPrefix(id.getValue());
+    }
+
+    private static boolean isNewFormatElement(List<XMLEvent> element) {
+        // check for new element format - if the first comment directly
+        // inside the element includes one of the old element tags,
+        // then it is a generated element
+        int depth = 0;
+        for (XMLEvent event : element) {
+            if (event.isStartElement()) {
+                depth++;
+            } else if (event.isEndElement()) {
+                depth--;
+            } else if (depth == 1 && event.getEventType() == XMLEvent.COMMENT) {
+                return MergeConstants.commentContainsTag(((Comment) event).getText());
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isWhiteSpace(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the merged file. Existing content is written the same way {@link DomWriter} writes
+     * a parsed document, so the result is the same as the result of the DOM merge.
+     */
+    private static class MergeWriter extends DomWriter {
+        private StringWriter stringWriter = new StringWriter();
+
+        /** True if the last start tag has been written without the closing bracket. */
+        private boolean startTagOpen;
+
+        MergeWriter() {
+            printWriter = new PrintWriter(stringWriter);
+        }
+
+        void writeRootStart(StartElement existingRootElement, XmlElement newRootElement) {
+            printWriter.print('<');
+            printWriter.print(getName(existingRootElement.getName()));
+            Map<String, String> attributes = new TreeMap<>();
+            for (Attribute attribute : newRootElement.getAttributes()) {
+                attributes.put(attribute.getName(), attribute.getValue());
+            }
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                printWriter.print(' ');
+                printWriter.print(attribute.getKey());
+                printWriter.print("=\""); //$NON-NLS-1$
+                printWriter.print(attribute.getValue());
+                printWriter.print('"');
+            }
+            startTagOpen = true;
+        }
+
+        void writeGeneratedElements(XmlElement newRootElement) {
+            // white space at the end of the new elements is not added
+            List<VisitableElement> elements = newRootElement.getElements();
+            int length = elements.size();
+            while (length > 0 && isBlankText(elements.get(length - 1))) {
+                length--;
+            }
+
+            if (length > 0) {
+                closeStartTag();
+                new DocumentWriter(printWriter).writeElements(elements.subList(0, length), 1);
+            }
+        }
+
+        private boolean isBlankText(VisitableElement element) {
+            return element instanceof TextElement
+                    && !stringHasValue(((TextElement) element).getContent().trim());
+        }
+
+        void writeText(CharSequence text) {
+            if (text.length() > 0) {
+                closeStartTag();
+                normalizeAndPrint(text.toString(), false);
+            }
+        }
+
+        void writeEnd(QName name) {
+            if (startTagOpen) {
+                printWriter.print(" />"); //$NON-NLS-1$
+                startTagOpen = false;
+            } else {
+                printWriter.print("</"); //$NON-NLS-1$
+                printWriter.print(getName(name));
+                printWriter.print('>');
+            }
+        }
+
+        void write(XMLEvent event) {
+            switch (event.getEventType()) {
+                case XMLEvent.START_ELEMENT:
+                    writeStart(event.asStartElement());
+                    break;
+
+                case XMLEvent.END_ELEMENT:
+                    writeEnd(((EndElement) event).getName());
+                    break;
+
+                case XMLEvent.CHARACTERS:
+                case XMLEvent.SPACE:
+                case XMLEvent.CDATA:
+                    writeCharacters(event.asCharacters());
+                    break;
+
+                case XMLEvent.COMMENT:
+                    closeStartTag();
+                    printWriter.print("<!--"); //$NON-NLS-1$
+                    normalizeAndPrint(((Comment) event).getText(), false);
+                    printWriter.print("-->"); //$NON-NLS-1$
+                    break;
+
+                case XMLEvent.PROCESSING_INSTRUCTION:
+                    writeProcessingInstruction((ProcessingInstruction) event);
+                    break;
+
+                case XMLEvent.ENTITY_REFERENCE:
+                    closeStartTag();
+                    printWriter.print('&');
+                    printWriter.print(((EntityReference) event).getName());
+                    printWriter.print(';');
+                    break;
+
+                default:
+                    // nothing else can appear inside an element
+                    break;
+            }
+        }
+
+        private void writeStart(StartElement startElement) {
+            closeStartTag();
+            printWriter.print('<');
+            printWriter.print(getName(startElement.getName()));
+
+            // namespace declarations are attributes in the DOM merge
+            Map<String, String> attributes = new TreeMap<>();
+            for (Iterator<?> iter = startElement.getNamespaces(); iter.hasNext(); ) {
+                Namespace namespace = (Namespace) iter.next();
+                String prefix = namespace.getPrefix();
+                attributes.put(
+                        stringHasValue(prefix) ? "xmlns:" + prefix : "xmlns", //$NON-NLS-1$
+                        namespace.getNamespaceURI());
+            }
+            for (Iterator<?> iter = startElement.getAttributes(); iter.hasNext(); ) {
+                javax.xml.stream.events.Attribute attribute =
+                        (javax.xml.stream.events.Attribute) iter.next();
+                attributes.put(getName(attribute.getName()), attribute.getValue());
+            }
+
+            for (Map.Entry<String, String> attribute : attributes.entrySet()) {
+                printWriter.print(' ');
+                printWriter.print(attribute.getKey());
+                printWriter.print("=\""); //$NON-NLS-1$
+                normalizeAndPrint(attribute.getValue(), true);
+                printWriter.print('"');
+            }
+            startTagOpen = true;
+        }
+
+        private void writeCharacters(Characters characters) {
+            String data = characters.getData();
+            if (characters.isCData()) {
+                closeStartTag();
+                printWriter.print("<![CDATA["); //$NON-NLS-1$
+                printWriter.print(
+                        data.replace("\n", System.getProperty("line.separator"))); //$NON-NLS-1$
+                printWriter.print("]]>"); //$NON-NLS-1$
+            } else {
+                writeText(data);
+            }
+        }
+
+        private void writeProcessingInstruction(ProcessingInstruction processingInstruction) {
+            closeStartTag();
+            printWriter.print("<?"); //$NON-NLS-1$
+            printWriter.print(processingInstruction.getTarget());
+            String data = processingInstruction.getData();
+            if (stringHasValue(data)) {
+                printWriter.print(' ');
+                printWriter.print(data);
+            }
+            printWriter.print("?>"); //$NON-NLS-1$
+        }
+
+        private void closeStartTag() {
+            if (startTagOpen) {
+                printWriter.print('>');
+                startTagOpen = false;
+            }
+        }
+
+        private String getName(QName name) {
+            String prefix = name.getPrefix();
+            return stringHasValue(prefix)
+                    ? prefix + ':' + name.getLocalPart()
+                    : name.getLocalPart();
+        }
+
+        @Override
+        public String toString() {
+            printWriter.flush();
+            return stringWriter.toString();
+        }
+    }
+
+    /** The parts of a document type declaration. */
+    private static class DocumentType {
+        private String name;
+        private String publicId;
+        private String systemId;
+        private String internalSubset;
+
+        /**
+         * Parses a declaration like <code>&lt;!DOCTYPE name PUBLIC "id" "uri" [subset]&gt;</code>.
+         */
+        static DocumentType parse(String declaration) {
+            DocumentType answer = new DocumentType();
+            Tokenizer tokenizer = new Tokenizer(declaration);
+            tokenizer.skip("<!DOCTYPE"); //$NON-NLS-1$
+            answer.name = tokenizer.nextName();
+            String keyword = tokenizer.nextName();
+            if ("PUBLIC".equals(keyword)) { //$NON-NLS-1$
+                answer.publicId = tokenizer.nextQuoted();
+                answer.systemId = tokenizer.nextQuoted();
+            } else if ("SYSTEM".equals(keyword)) { //$NON-NLS-1$
+                answer.systemId = tokenizer.nextQuoted();
+            }
+            answer.internalSubset = tokenizer.internalSubset();
+            return answer;
+        }
+    }
+
+    private static class Tokenizer {
+        private String text;
+        private int position;
+
+        Tokenizer(String text) {
+            this.text = text;
+        }
+
+        void skip(String prefix) {
+            skipWhiteSpace();
+            if (text.startsWith(prefix, position)) {
+                position += prefix.length();
+            }
+        }
+
+        String nextName() {
+            skipWhiteSpace();
+            int start = position;
+            while (position < text.length()
+                    && text.charAt(position) > ' '
+                    && "[>\"'".indexOf(text.charAt(position)) == -1) { //$NON-NLS-1$
+                position++;
+            }
+            return text.substring(start, position);
+        }
+
+        String nextQuoted() {
+            skipWhiteSpace();
+            if (position >= text.length()) {
+                return null;
+            }
+            char quote = text.charAt(position);
+            if (quote != '"' && quote != '\'') {
+                return null;
+            }
+            int end = text.indexOf(quote, position + 1);
+            if (end == -1) {
+                end = text.length();
+            }
+            String answer = text.substring(position + 1, end);
+            position = Math.min(end + 1, text.length());
+            return answer;
+        }
+
+        String internalSubset() {
+            skipWhiteSpace();
+            if (position >= text.length() || text.charAt(position) != '[') {
+                return null;
+            }
+            int end = text.lastIndexOf(']');
+            return end > position ? text.substring(position + 1, end) : null;
+        }
+
+        private void skipWhiteSpace() {
+            while (position < text.length() && text.charAt(position) <= ' ') {
+                position++;
+            }
+        }
+    }
+}
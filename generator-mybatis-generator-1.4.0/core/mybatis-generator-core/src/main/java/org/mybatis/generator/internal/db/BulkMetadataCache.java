@@ -0,0 +1,51 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the schema wide metadata prefetched by one or more {@link BulkMetadataSource} instances.
+ * When tables are introspected in parallel, every connection has its own metadata source, but all
+ * of them share one cache so that each schema is only read once.
+ *
+ * <p>This class is thread safe. The metadata of a schema is read by the first thread that needs
+ * it, and other threads asking for the same schema wait until it is available.
+ */
+public class BulkMetadataCache {
+
+    private Map<List<String>, SchemaMetadata> schemas = new ConcurrentHashMap<>();
+
+    SchemaMetadata getSchema(String catalog, String schema) {
+        return schemas.computeIfAbsent(Arrays.asList(catalog, schema), k -> new SchemaMetadata());
+    }
+
+    /**
+     * The prefetched metadata of one schema. Fields are null until they have been read, and must
+     * only be accessed while holding the lock of this object.
+     */
+    static class SchemaMetadata {
+        Map<ActualTableName, List<ColumnMetadata>> columnsByTable;
+
+        List<TableMetadata> tables;
+
+        boolean primaryKeysFetched;
+
+        /** Null if the schema wide request did not return any primary keys. */
+        Map<String, List<String>> primaryKeysByTable;
+    }
+}
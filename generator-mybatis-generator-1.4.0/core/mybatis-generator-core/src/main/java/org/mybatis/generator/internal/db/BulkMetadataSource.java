@@ -0,0 +1,261 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import org.mybatis.generator.logging.Log;
+import org.mybatis.generator.logging.LogFactory;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+/**
+ * This metadata source reads the column, primary key, and table information for a whole schema
+ * the first time a table in that schema is requested. Later requests for tables in the same schema
+ * are answered from memory by matching the table name pattern against the prefetched tables. This
+ * replaces several metadata calls per table with a few calls per schema.
+ *
+ * <p>Tables without a configured schema are introspected table by table, because a request
+ * without a schema would read the metadata of every schema in the database.
+ *
+ * <p>The JDBC specification does not allow a null table name in a primary key request, so some
+ * drivers do not return primary keys for a whole schema. If the schema wide primary key request
+ * fails, or returns nothing, then a warning is logged and primary keys are requested table by
+ * table.
+ *
+ * <p>The prefetched metadata is kept in a {@link BulkMetadataCache}. Metadata sources that share a
+ * cache, one per connection, read each schema only once between them.
+ *
+ * <p>This class is not thread safe, but the cache it uses is.
+ */
+public class BulkMetadataSource extends JdbcMetadataSource {
+
+    private Log logger = LogFactory.getLog(getClass());
+
+    private BulkMetadataCache cache;
+
+    private String searchStringEscape;
+
+    public BulkMetadataSource(DatabaseMetaData databaseMetaData) {
+        this(databaseMetaData, new BulkMetadataCache());
+    }
+
+    public BulkMetadataSource(DatabaseMetaData databaseMetaData, BulkMetadataCache cache) {
+        super(databaseMetaData);
+        this.cache = cache;
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        if (searchStringEscape == null) {
+            searchStringEscape = super.getSearchStringEscape();
+        }
+
+        return searchStringEscape;
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(
+            String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+        if (schemaPattern == null) {
+            return super.getColumns(catalog, schemaPattern, tableNamePattern);
+        }
+
+        BulkMetadataCache.SchemaMetadata schemaMetadata =
+                cache.getSchema(catalog, schemaPattern);
+        Map<ActualTableName, List<ColumnMetadata>> columnsByTable;
+        synchronized (schemaMetadata) {
+            if (schemaMetadata.columnsByTable == null) {
+                schemaMetadata.columnsByTable = fetchColumns(catalog, schemaPattern);
+            }
+            columnsByTable = schemaMetadata.columnsByTable;
+        }
+
+        Pattern pattern = compilePattern(tableNamePattern, getSearchStringEscape());
+        List<ColumnMetadata> answer = new ArrayList<>();
+        for (Map.Entry<ActualTableName, List<ColumnMetadata>> entry : columnsByTable.entrySet()) {
+            if (matches(pattern, entry.getKey().getTableName())) {
+                answer.addAll(entry.getValue());
+            }
+        }
+
+        return answer;
+    }
+
+    private Map<ActualTableName, List<ColumnMetadata>> fetchColumns(
+            String catalog, String schema) throws SQLException {
+        Map<ActualTableName, List<ColumnMetadata>> answer = new LinkedHashMap<>();
+        List<ColumnMetadata> columns = super.getColumns(catalog, schema, "%"); //$NON-NLS-1$
+        for (ColumnMetadata column : columns) {
+            answer.computeIfAbsent(column.getActualTableName(), k -> new ArrayList<>())
+                    .add(column);
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug(
+                    getString(
+                            "Tracing.5", //$NON-NLS-1$
+                            Integer.toString(answer.size()),
+                            schema));
+        }
+
+        return answer;
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(String catalog, String schema, String tableName)
+            throws SQLException {
+        if (schema == null) {
+            return super.getPrimaryKeyColumns(catalog, schema, tableName);
+        }
+
+        BulkMetadataCache.SchemaMetadata schemaMetadata = cache.getSchema(catalog, schema);
+        Map<String, List<String>> primaryKeysByTable;
+        synchronized (schemaMetadata) {
+            if (!schemaMetadata.primaryKeysFetched) {
+                schemaMetadata.primaryKeysByTable = fetchPrimaryKeys(catalog, schema);
+                schemaMetadata.primaryKeysFetched = true;
+            }
+            primaryKeysByTable = schemaMetadata.primaryKeysByTable;
+        }
+
+        if (primaryKeysByTable == null) {
+            return super.getPrimaryKeyColumns(catalog, schema, tableName);
+        }
+
+        List<String> answer = primaryKeysByTable.get(tableName);
+        return answer == null ? new ArrayList<>() : new ArrayList<>(answer);
+    }
+
+    private Map<String, List<String>> fetchPrimaryKeys(String catalog, String schema) {
+        Map<String, Map<Short, String>> keyColumnsByTable = new HashMap<>();
+        ResultSet rs = null;
+        try {
+            rs = getDatabaseMetaData().getPrimaryKeys(catalog, schema, null);
+            while (rs.next()) {
+                String tableName = rs.getString("TABLE_NAME"); // $NON-NLS-1$
+                String columnName = rs.getString("COLUMN_NAME"); // $NON-NLS-1$
+                short keySeq = rs.getShort("KEY_SEQ"); // $NON-NLS-1$
+                // keep primary columns in key sequence order
+                keyColumnsByTable
+                        .computeIfAbsent(tableName, k -> new TreeMap<>())
+                        .put(keySeq, columnName);
+            }
+        } catch (SQLException e) {
+            // not supported by the driver - fall back to table by table requests
+            logger.warn(getString("Warning.40", schema, e.getMessage())); //$NON-NLS-1$
+            return null;
+        } finally {
+            closeResultSet(rs);
+        }
+
+        if (keyColumnsByTable.isEmpty()) {
+            logger.warn(getString("Warning.41", schema)); //$NON-NLS-1$
+            return null;
+        }
+
+        Map<String, List<String>> answer = new HashMap<>();
+        for (Map.Entry<String, Map<Short, String>> entry : keyColumnsByTable.entrySet()) {
+            answer.put(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+        }
+
+        return answer;
+    }
+
+    @Override
+    public TableMetadata getTable(String catalog, String schemaPattern, String tableNamePattern)
+            throws SQLException {
+        if (schemaPattern == null) {
+            return super.getTable(catalog, schemaPattern, tableNamePattern);
+        }
+
+        BulkMetadataCache.SchemaMetadata schemaMetadata =
+                cache.getSchema(catalog, schemaPattern);
+        List<TableMetadata> tables;
+        synchronized (schemaMetadata) {
+            if (schemaMetadata.tables == null) {
+                ResultSet rs =
+                        getDatabaseMetaData()
+                                .getTables(catalog, schemaPattern, "%", null); //$NON-NLS-1$
+                try {
+                    schemaMetadata.tables = readTables(rs, false);
+                } finally {
+                    closeResultSet(rs);
+                }
+            }
+            tables = schemaMetadata.tables;
+        }
+
+        Pattern pattern = compilePattern(tableNamePattern, getSearchStringEscape());
+        for (TableMetadata table : tables) {
+            if (matches(pattern, table.getTableName())) {
+                return table;
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean matches(Pattern pattern, String value) {
+        return pattern == null || (value != null && pattern.matcher(value).matches());
+    }
+
+    /**
+     * Converts a JDBC search pattern to a regular expression. In a JDBC search pattern "%" matches
+     * any substring, "_" matches any one character, and the search string escape causes the next
+     * character to be matched literally.
+     *
+     * @param searchPattern the JDBC search pattern, may be null (matches everything)
+     * @param escape the search string escape, may be null or empty if not supported
+     * @return the compiled pattern, or null if the search pattern is null
+     */
+    static Pattern compilePattern(String searchPattern, String escape) {
+        if (searchPattern == null) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < searchPattern.length()) {
+            if (escape != null
+                    && !escape.isEmpty()
+                    && searchPattern.startsWith(escape, i)
+                    && i + escape.length() < searchPattern.length()) {
+                i += escape.length();
+                sb.append(Pattern.quote(searchPattern.substring(i, i + 1)));
+            } else {
+                char c = searchPattern.charAt(i);
+                if (c == '%') {
+                    sb.append(".*"); //$NON-NLS-1$
+                } else if (c == '_') {
+                    sb.append('.');
+                } else {
+                    sb.append(Pattern.quote(String.valueOf(c)));
+                }
+            }
+            i++;
+        }
+
+        return Pattern.compile(sb.toString(), Pattern.DOTALL);
+    }
+}
@@ -26,8 +26,6 @@ import org.mybatis.generator.logging.Log;
 import org.mybatis.generator.logging.LogFactory;
 
 import java.sql.DatabaseMetaData;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.regex.Matcher;
@@ -38,7 +36,7 @@ import static org.mybatis.generator.internal.util.messages.Messages.getString;
 
 public class DatabaseIntrospector {
 
-    private DatabaseMetaData databaseMetaData;
+    private DatabaseMetadataSource metadataSource;
 
     private JavaTypeResolver javaTypeResolver;
 
@@ -53,9 +51,17 @@ public class DatabaseIntrospector {
             DatabaseMetaData databaseMetaData,
             JavaTypeResolver javaTypeResolver,
             List<String> warnings) {
+        this(context, new JdbcMetadataSource(databaseMetaData), javaTypeResolver, warnings);
+    }
+
+    public DatabaseIntrospector(
+            Context context,
+            DatabaseMetadataSource metadataSource,
+            JavaTypeResolver javaTypeResolver,
+            List<String> warnings) {
         super();
         this.context = context;
-        this.databaseMetaData = databaseMetaData;
+        this.metadataSource = metadataSource;
         this.javaTypeResolver = javaTypeResolver;
         this.warnings = warnings;
         logger = LogFactory.getLog(getClass());
@@ -63,46 +69,21 @@ public class DatabaseIntrospector {
 
     private void calculatePrimaryKey(
             FullyQualifiedTable table, IntrospectedTable introspectedTable) {
-        ResultSet rs = null;
+        List<String> keyColumns;
 
         try {
-            rs =
-                    databaseMetaData.getPrimaryKeys(
+            keyColumns =
+                    metadataSource.getPrimaryKeyColumns(
                             table.getIntrospectedCatalog(),
                             table.getIntrospectedSchema(),
                             table.getIntrospectedTableName());
         } catch (SQLException e) {
-            closeResultSet(rs);
             warnings.add(getString("Warning.15")); // $NON-NLS-1$
             return;
         }
 
-        try {
-            // keep primary columns in key sequence order
-            Map<Short, String> keyColumns = new TreeMap<>();
-            while (rs.next()) {
-                String columnName = rs.getString("COLUMN_NAME"); // $NON-NLS-1$
-                short keySeq = rs.getShort("KEY_SEQ"); // $NON-NLS-1$
-                keyColumns.put(keySeq, columnName);
-            }
-
-            for (String columnName : keyColumns.values()) {
-                introspectedTable.addPrimaryKeyColumn(columnName);
-            }
-        } catch (SQLException e) {
-            // ignore the primary key if there's any error
-        } finally {
-            closeResultSet(rs);
-        }
-    }
-
-    private void closeResultSet(ResultSet rs) {
-        if (rs != null) {
-            try {
-                rs.close();
-            } catch (SQLException e) {
-                // ignore
-            }
+        for (String columnName : keyColumns) {
+            introspectedTable.addPrimaryKeyColumn(columnName);
         }
     }
 
@@ -433,11 +414,11 @@ public class DatabaseIntrospector {
             localCatalog = tc.getCatalog();
             localSchema = tc.getSchema();
             localTableName = tc.getTableName();
-        } else if (databaseMetaData.storesLowerCaseIdentifiers()) {
+        } else if (metadataSource.storesLowerCaseIdentifiers()) {
             localCatalog = tc.getCatalog() == null ? null : tc.getCatalog().toLowerCase();
             localSchema = tc.getSchema() == null ? null : tc.getSchema().toLowerCase();
             localTableName = tc.getTableName() == null ? null : tc.getTableName().toLowerCase();
-        } else if (databaseMetaData.storesUpperCaseIdentifiers()) {
+        } else if (metadataSource.storesUpperCaseIdentifiers()) {
             localCatalog = tc.getCatalog() == null ? null : tc.getCatalog().toUpperCase();
             localSchema = tc.getSchema() == null ? null : tc.getSchema().toUpperCase();
             localTableName = tc.getTableName() == null ? null : tc.getTableName().toUpperCase();
@@ -448,7 +429,7 @@ public class DatabaseIntrospector {
         }
 
         if (tc.isWildcardEscapingEnabled()) {
-            String escapeString = databaseMetaData.getSearchStringEscape();
+            String escapeString = metadataSource.getSearchStringEscape();
 
             StringBuilder sb = new StringBuilder();
             StringTokenizer st;
@@ -486,58 +467,34 @@ public class DatabaseIntrospector {
             logger.debug(getString("Tracing.1", fullTableName)); // $NON-NLS-1$
         }
 
-        ResultSet rs =
-                databaseMetaData.getColumns(
-                        localCatalog, localSchema, localTableName, "%"); // $NON-NLS-1$
-
-        boolean supportsIsAutoIncrement = false;
-        boolean supportsIsGeneratedColumn = false;
-        ResultSetMetaData rsmd = rs.getMetaData();
-        int colCount = rsmd.getColumnCount();
-        for (int i = 1; i <= colCount; i++) {
-            if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { // $NON-NLS-1$
-                supportsIsAutoIncrement = true;
-            }
-            if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { // $NON-NLS-1$
-                supportsIsGeneratedColumn = true;
-            }
-        }
+        List<ColumnMetadata> columnMetadata =
+                metadataSource.getColumns(localCatalog, localSchema, localTableName);
 
-        while (rs.next()) {
+        for (ColumnMetadata column : columnMetadata) {
             IntrospectedColumn introspectedColumn = ObjectFactory.createIntrospectedColumn(context);
 
             introspectedColumn.setTableAlias(tc.getAlias());
-            introspectedColumn.setJdbcType(rs.getInt("DATA_TYPE")); // $NON-NLS-1$
-            introspectedColumn.setActualTypeName(rs.getString("TYPE_NAME")); // $NON-NLS-1$
-            introspectedColumn.setLength(rs.getInt("COLUMN_SIZE")); // $NON-NLS-1$
-            introspectedColumn.setActualColumnName(rs.getString("COLUMN_NAME")); // $NON-NLS-1$
+            introspectedColumn.setJdbcType(column.getDataType());
+            introspectedColumn.setActualTypeName(column.getTypeName());
+            introspectedColumn.setLength(column.getColumnSize());
+            introspectedColumn.setActualColumnName(column.getColumnName());
             introspectedColumn.setNullable(
-                    rs.getInt("NULLABLE") == DatabaseMetaData.columnNullable); // $NON-NLS-1$
-            introspectedColumn.setScale(rs.getInt("DECIMAL_DIGITS")); // $NON-NLS-1$
-            introspectedColumn.setRemarks(rs.getString("REMARKS")); // $NON-NLS-1$
-            introspectedColumn.setDefaultValue(rs.getString("COLUMN_DEF")); // $NON-NLS-1$
+                    column.getNullable() == DatabaseMetaData.columnNullable);
+            introspectedColumn.setScale(column.getDecimalDigits());
+            introspectedColumn.setRemarks(column.getRemarks());
+            introspectedColumn.setDefaultValue(column.getColumnDefault());
 
-            if (supportsIsAutoIncrement) {
+            if (column.getAutoIncrement() != null) {
                 introspectedColumn.setAutoIncrement(
-                        "YES"
-                                .equals(
-                                        rs.getString(
-                                                "IS_AUTOINCREMENT"))); //$NON-NLS-1$ //$NON-NLS-2$
+                        "YES".equals(column.getAutoIncrement())); // $NON-NLS-1$
             }
 
-            if (supportsIsGeneratedColumn) {
+            if (column.getGeneratedColumn() != null) {
                 introspectedColumn.setGeneratedColumn(
-                        "YES"
-                                .equals(
-                                        rs.getString(
-                                                "IS_GENERATEDCOLUMN"))); //$NON-NLS-1$ //$NON-NLS-2$
+                        "YES".equals(column.getGeneratedColumn())); // $NON-NLS-1$
             }
 
-            ActualTableName atn =
-                    new ActualTableName(
-                            rs.getString("TABLE_CAT"), // $NON-NLS-1$
-                            rs.getString("TABLE_SCHEM"), // $NON-NLS-1$
-                            rs.getString("TABLE_NAME")); // $NON-NLS-1$
+            ActualTableName atn = column.getActualTableName();
 
             List<IntrospectedColumn> columns = answer.get(atn);
             if (columns == null) {
@@ -557,8 +514,6 @@ public class DatabaseIntrospector {
             }
         }
 
-        closeResultSet(rs);
-
         if (answer.size() > 1
                 && !stringContainsSQLWildcard(localSchema)
                 && !stringContainsSQLWildcard(localTableName)) {
@@ -654,19 +609,15 @@ public class DatabaseIntrospector {
         try {
             FullyQualifiedTable fqt = introspectedTable.getFullyQualifiedTable();
 
-            ResultSet rs =
-                    databaseMetaData.getTables(
+            TableMetadata table =
+                    metadataSource.getTable(
                             fqt.getIntrospectedCatalog(),
                             fqt.getIntrospectedSchema(),
-                            fqt.getIntrospectedTableName(),
-                            null);
-            if (rs.next()) {
-                String remarks = rs.getString("REMARKS"); // $NON-NLS-1$
-                String tableType = rs.getString("TABLE_TYPE"); // $NON-NLS-1$
-                introspectedTable.setRemarks(remarks);
-                introspectedTable.setTableType(tableType);
+                            fqt.getIntrospectedTableName());
+            if (table != null) {
+                introspectedTable.setRemarks(table.getRemarks());
+                introspectedTable.setTableType(table.getTableType());
             }
-            closeResultSet(rs);
         } catch (SQLException e) {
             warnings.add(getString("Warning.27", e.getMessage())); // $NON-NLS-1$
         }
@@ -0,0 +1,69 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * This interface describes the database metadata lookups made by the DatabaseIntrospector. The
+ * methods mirror the corresponding methods in java.sql.DatabaseMetaData, but return plain objects
+ * rather than result sets so that implementations can prefetch or cache the information.
+ */
+public interface DatabaseMetadataSource {
+
+    boolean storesLowerCaseIdentifiers() throws SQLException;
+
+    boolean storesUpperCaseIdentifiers() throws SQLException;
+
+    String getSearchStringEscape() throws SQLException;
+
+    /**
+     * Returns the columns of the tables matching the patterns, in the order returned by
+     * DatabaseMetaData.getColumns().
+     *
+     * @param catalog the catalog
+     * @param schemaPattern the schema name pattern
+     * @param tableNamePattern the table name pattern
+     * @return the columns
+     * @throws SQLException if the metadata cannot be read
+     */
+    List<ColumnMetadata> getColumns(String catalog, String schemaPattern, String tableNamePattern)
+            throws SQLException;
+
+    /**
+     * Returns the primary key column names of a table in key sequence order. Errors while reading
+     * the primary key information should result in an empty list.
+     *
+     * @param catalog the catalog
+     * @param schema the schema
+     * @param tableName the table name
+     * @return the primary key column names
+     * @throws SQLException if the primary key information cannot be requested
+     */
+    List<String> getPrimaryKeyColumns(String catalog, String schema, String tableName)
+            throws SQLException;
+
+    /**
+     * Returns the first table matching the patterns, or null if there is no matching table.
+     *
+     * @param catalog the catalog
+     * @param schemaPattern the schema name pattern
+     * @param tableNamePattern the table name pattern
+     * @return the table, or null
+     * @throws SQLException if the metadata cannot be read
+     */
+    TableMetadata getTable(String catalog, String schemaPattern, String tableNamePattern)
+            throws SQLException;
+}
@@ -0,0 +1,356 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * This class holds the database metadata read during an introspection run. It is written to a
+ * file at the end of the run and can be used by later runs instead of the database.
+ *
+ * <p>The snapshot holds the raw metadata (columns with their JDBC types, primary keys, table
+ * remarks and types) keyed by the arguments of the lookup. Everything derived from the
+ * configuration (column overrides, generated keys, renaming rules, etc.) is calculated again on
+ * every run, so configuration changes do not require a new snapshot.
+ *
+ * <p>The file is a properties file. It only holds strings and numbers, so reading a snapshot
+ * never creates objects of classes named in the file.
+ */
+public class IntrospectionSnapshot {
+
+    /** Incremented whenever the content of the snapshot changes in an incompatible way. */
+    public static final int FORMAT_VERSION = 2;
+
+    private int formatVersion = FORMAT_VERSION;
+
+    private String contextId;
+
+    private String fingerprint;
+
+    private Boolean storesLowerCaseIdentifiers;
+
+    private Boolean storesUpperCaseIdentifiers;
+
+    private boolean searchStringEscapeRecorded;
+
+    private String searchStringEscape;
+
+    private Map<List<String>, List<ColumnMetadata>> columns = new HashMap<>();
+
+    private Map<List<String>, List<String>> primaryKeyColumns = new HashMap<>();
+
+    /** Values may be null if there was no matching table. */
+    private Map<List<String>, TableMetadata> tables = new HashMap<>();
+
+    public IntrospectionSnapshot(String contextId, String fingerprint) {
+        super();
+        this.contextId = contextId;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Returns true if this snapshot can be used for the specified context and fingerprint.
+     *
+     * @param contextId the context id
+     * @param fingerprint the fingerprint of the connection and tables of the context
+     * @return true if the snapshot is usable
+     */
+    public boolean isValidFor(String contextId, String fingerprint) {
+        return formatVersion == FORMAT_VERSION
+                && Objects.equals(this.contextId, contextId)
+                && Objects.equals(this.fingerprint, fingerprint);
+    }
+
+    public Boolean getStoresLowerCaseIdentifiers() {
+        return storesLowerCaseIdentifiers;
+    }
+
+    public void setStoresLowerCaseIdentifiers(Boolean storesLowerCaseIdentifiers) {
+        this.storesLowerCaseIdentifiers = storesLowerCaseIdentifiers;
+    }
+
+    public Boolean getStoresUpperCaseIdentifiers() {
+        return storesUpperCaseIdentifiers;
+    }
+
+    public void setStoresUpperCaseIdentifiers(Boolean storesUpperCaseIdentifiers) {
+        this.storesUpperCaseIdentifiers = storesUpperCaseIdentifiers;
+    }
+
+    public boolean isSearchStringEscapeRecorded() {
+        return searchStringEscapeRecorded;
+    }
+
+    public String getSearchStringEscape() {
+        return searchStringEscape;
+    }
+
+    public void setSearchStringEscape(String searchStringEscape) {
+        this.searchStringEscape = searchStringEscape;
+        searchStringEscapeRecorded = true;
+    }
+
+    public Map<List<String>, List<ColumnMetadata>> getColumns() {
+        return columns;
+    }
+
+    public Map<List<String>, List<String>> getPrimaryKeyColumns() {
+        return primaryKeyColumns;
+    }
+
+    public Map<List<String>, TableMetadata> getTables() {
+        return tables;
+    }
+
+    /**
+     * Reads a snapshot from a file. A file in another format version is returned as an empty
+     * snapshot that is not valid for any context.
+     *
+     * @param file the file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read or does not contain a snapshot
+     */
+    public static IntrospectionSnapshot read(File file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file.toPath()))) {
+            properties.load(is);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+
+        IntrospectionSnapshot snapshot =
+                new IntrospectionSnapshot(
+                        properties.getProperty("contextId"), //$NON-NLS-1$
+                        properties.getProperty("fingerprint")); //$NON-NLS-1$
+        snapshot.formatVersion = getInt(properties, "formatVersion", 0); //$NON-NLS-1$
+        if (snapshot.formatVersion != FORMAT_VERSION) {
+            return snapshot;
+        }
+
+        snapshot.storesLowerCaseIdentifiers =
+                getBoolean(properties, "storesLowerCaseIdentifiers"); //$NON-NLS-1$
+        snapshot.storesUpperCaseIdentifiers =
+                getBoolean(properties, "storesUpperCaseIdentifiers"); //$NON-NLS-1$
+        if (Boolean.TRUE.equals(
+                getBoolean(properties, "searchStringEscapeRecorded"))) { //$NON-NLS-1$
+            snapshot.setSearchStringEscape(
+                    properties.getProperty("searchStringEscape")); //$NON-NLS-1$
+        }
+
+        int count = getInt(properties, "columns.count", 0); //$NON-NLS-1$
+        for (int i = 0; i < count; i++) {
+            String prefix = "columns." + i + '.'; //$NON-NLS-1$
+            int columnCount = getInt(properties, prefix + "count", 0); //$NON-NLS-1$
+            List<ColumnMetadata> columns = new ArrayList<>(columnCount);
+            for (int j = 0; j < columnCount; j++) {
+                columns.add(readColumn(properties, prefix + j + '.'));
+            }
+            snapshot.columns.put(readLookupKey(properties, prefix), columns);
+        }
+
+        count = getInt(properties, "primaryKeys.count", 0); //$NON-NLS-1$
+        for (int i = 0; i < count; i++) {
+            String prefix = "primaryKeys." + i + '.'; //$NON-NLS-1$
+            int columnCount = getInt(properties, prefix + "count", 0); //$NON-NLS-1$
+            List<String> columns = new ArrayList<>(columnCount);
+            for (int j = 0; j < columnCount; j++) {
+                columns.add(properties.getProperty(prefix + j));
+            }
+            snapshot.primaryKeyColumns.put(readLookupKey(properties, prefix), columns);
+        }
+
+        count = getInt(properties, "tables.count", 0); //$NON-NLS-1$
+        for (int i = 0; i < count; i++) {
+            String prefix = "tables." + i + '.'; //$NON-NLS-1$
+            TableMetadata table = null;
+            if (Boolean.TRUE.equals(getBoolean(properties, prefix + "found"))) { //$NON-NLS-1$
+                table = new TableMetadata();
+                table.setTableCatalog(
+                        properties.getProperty(prefix + "tableCatalog")); //$NON-NLS-1$
+                table.setTableSchema(properties.getProperty(prefix + "tableSchema")); //$NON-NLS-1$
+                table.setTableName(properties.getProperty(prefix + "tableName")); //$NON-NLS-1$
+                table.setRemarks(properties.getProperty(prefix + "remarks")); //$NON-NLS-1$
+                table.setTableType(properties.getProperty(prefix + "tableType")); //$NON-NLS-1$
+            }
+            snapshot.tables.put(readLookupKey(properties, prefix), table);
+        }
+
+        return snapshot;
+    }
+
+    private static ColumnMetadata readColumn(Properties properties, String prefix)
+            throws IOException {
+        ColumnMetadata column = new ColumnMetadata();
+        column.setTableCatalog(properties.getProperty(prefix + "tableCatalog")); //$NON-NLS-1$
+        column.setTableSchema(properties.getProperty(prefix + "tableSchema")); //$NON-NLS-1$
+        column.setTableName(properties.getProperty(prefix + "tableName")); //$NON-NLS-1$
+        column.setColumnName(properties.getProperty(prefix + "columnName")); //$NON-NLS-1$
+        column.setDataType(getInt(properties, prefix + "dataType", 0)); //$NON-NLS-1$
+        column.setTypeName(properties.getProperty(prefix + "typeName")); //$NON-NLS-1$
+        column.setColumnSize(getInt(properties, prefix + "columnSize", 0)); //$NON-NLS-1$
+        column.setNullable(getInt(properties, prefix + "nullable", 0)); //$NON-NLS-1$
+        column.setDecimalDigits(getInt(properties, prefix + "decimalDigits", 0)); //$NON-NLS-1$
+        column.setRemarks(properties.getProperty(prefix + "remarks")); //$NON-NLS-1$
+        column.setColumnDefault(properties.getProperty(prefix + "columnDefault")); //$NON-NLS-1$
+        column.setAutoIncrement(properties.getProperty(prefix + "autoIncrement")); //$NON-NLS-1$
+        column.setGeneratedColumn(
+                properties.getProperty(prefix + "generatedColumn")); //$NON-NLS-1$
+        return column;
+    }
+
+    /** Lookup keys are the catalog, schema and table arguments of the lookup - any may be null. */
+    private static List<String> readLookupKey(Properties properties, String prefix) {
+        return Arrays.asList(
+                properties.getProperty(prefix + "catalog"), //$NON-NLS-1$
+                properties.getProperty(prefix + "schema"), //$NON-NLS-1$
+                properties.getProperty(prefix + "table")); //$NON-NLS-1$
+    }
+
+    private static int getInt(Properties properties, String key, int defaultValue)
+            throws IOException {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IOException(key, e);
+        }
+    }
+
+    private static Boolean getBoolean(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        return value == null ? null : Boolean.valueOf(value);
+    }
+
+    /**
+     * Writes this snapshot to a file. The snapshot is written to a temporary file first, so an
+     * existing snapshot is not damaged if the write fails.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(File file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("formatVersion", Integer.toString(formatVersion)); //$NON-NLS-1$
+        put(properties, "contextId", contextId); //$NON-NLS-1$
+        put(properties, "fingerprint", fingerprint); //$NON-NLS-1$
+        put(properties, "storesLowerCaseIdentifiers", storesLowerCaseIdentifiers); //$NON-NLS-1$
+        put(properties, "storesUpperCaseIdentifiers", storesUpperCaseIdentifiers); //$NON-NLS-1$
+        put(properties, "searchStringEscapeRecorded", searchStringEscapeRecorded); //$NON-NLS-1$
+        put(properties, "searchStringEscape", searchStringEscape); //$NON-NLS-1$
+
+        int i = 0;
+        for (Map.Entry<List<String>, List<ColumnMetadata>> entry : columns.entrySet()) {
+            String prefix = "columns." + i++ + '.'; //$NON-NLS-1$
+            writeLookupKey(properties, prefix, entry.getKey());
+            put(properties, prefix + "count", entry.getValue().size()); //$NON-NLS-1$
+            int j = 0;
+            for (ColumnMetadata column : entry.getValue()) {
+                writeColumn(properties, prefix + j++ + '.', column);
+            }
+        }
+        put(properties, "columns.count", i); //$NON-NLS-1$
+
+        i = 0;
+        for (Map.Entry<List<String>, List<String>> entry : primaryKeyColumns.entrySet()) {
+            String prefix = "primaryKeys." + i++ + '.'; //$NON-NLS-1$
+            writeLookupKey(properties, prefix, entry.getKey());
+            put(properties, prefix + "count", entry.getValue().size()); //$NON-NLS-1$
+            int j = 0;
+            for (String column : entry.getValue()) {
+                put(properties, prefix + j++, column);
+            }
+        }
+        put(properties, "primaryKeys.count", i); //$NON-NLS-1$
+
+        i = 0;
+        for (Map.Entry<List<String>, TableMetadata> entry : tables.entrySet()) {
+            String prefix = "tables." + i++ + '.'; //$NON-NLS-1$
+            writeLookupKey(properties, prefix, entry.getKey());
+            TableMetadata table = entry.getValue();
+            put(properties, prefix + "found", table != null); //$NON-NLS-1$
+            if (table != null) {
+                put(properties, prefix + "tableCatalog", table.getTableCatalog()); //$NON-NLS-1$
+                put(properties, prefix + "tableSchema", table.getTableSchema()); //$NON-NLS-1$
+                put(properties, prefix + "tableName", table.getTableName()); //$NON-NLS-1$
+                put(properties, prefix + "remarks", table.getRemarks()); //$NON-NLS-1$
+                put(properties, prefix + "tableType", table.getTableType()); //$NON-NLS-1$
+            }
+        }
+        put(properties, "tables.count", i); //$NON-NLS-1$
+
+        Path target = file.getAbsoluteFile().toPath();
+        Path parent = target.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temp = Files.createTempFile(parent, file.getName(), ".tmp"); //$NON-NLS-1$
+        try {
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                properties.store(os, "MyBatis Generator introspection snapshot"); //$NON-NLS-1$
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeColumn(Properties properties, String prefix, ColumnMetadata column) {
+        put(properties, prefix + "tableCatalog", column.getTableCatalog()); //$NON-NLS-1$
+        put(properties, prefix + "tableSchema", column.getTableSchema()); //$NON-NLS-1$
+        put(properties, prefix + "tableName", column.getTableName()); //$NON-NLS-1$
+        put(properties, prefix + "columnName", column.getColumnName()); //$NON-NLS-1$
+        put(properties, prefix + "dataType", column.getDataType()); //$NON-NLS-1$
+        put(properties, prefix + "typeName", column.getTypeName()); //$NON-NLS-1$
+        put(properties, prefix + "columnSize", column.getColumnSize()); //$NON-NLS-1$
+        put(properties, prefix + "nullable", column.getNullable()); //$NON-NLS-1$
+        put(properties, prefix + "decimalDigits", column.getDecimalDigits()); //$NON-NLS-1$
+        put(properties, prefix + "remarks", column.getRemarks()); //$NON-NLS-1$
+        put(properties, prefix + "columnDefault", column.getColumnDefault()); //$NON-NLS-1$
+        put(properties, prefix + "autoIncrement", column.getAutoIncrement()); //$NON-NLS-1$
+        put(properties, prefix + "generatedColumn", column.getGeneratedColumn()); //$NON-NLS-1$
+    }
+
+    private static void writeLookupKey(Properties properties, String prefix, List<String> key) {
+        put(properties, prefix + "catalog", key.get(0)); //$NON-NLS-1$
+        put(properties, prefix + "schema", key.get(1)); //$NON-NLS-1$
+        put(properties, prefix + "table", key.get(2)); //$NON-NLS-1$
+    }
+
+    /** Null values are not written, a missing property is read as null. */
+    private static void put(Properties properties, String key, Object value) {
+        if (value != null) {
+            properties.setProperty(key, value.toString());
+        }
+    }
+}
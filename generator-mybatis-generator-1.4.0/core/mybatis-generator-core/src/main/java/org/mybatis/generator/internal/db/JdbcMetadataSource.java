@@ -0,0 +1,176 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * This metadata source calls the JDBC DatabaseMetaData for every lookup. This is the default
+ * introspection strategy.
+ */
+public class JdbcMetadataSource implements DatabaseMetadataSource {
+
+    private DatabaseMetaData databaseMetaData;
+
+    public JdbcMetadataSource(DatabaseMetaData databaseMetaData) {
+        super();
+        this.databaseMetaData = databaseMetaData;
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        return databaseMetaData.storesLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        return databaseMetaData.storesUpperCaseIdentifiers();
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        return databaseMetaData.getSearchStringEscape();
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(
+            String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+        ResultSet rs =
+                databaseMetaData.getColumns(
+                        catalog, schemaPattern, tableNamePattern, "%"); //$NON-NLS-1$
+        try {
+            return readColumns(rs);
+        } finally {
+            closeResultSet(rs);
+        }
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(String catalog, String schema, String tableName)
+            throws SQLException {
+        ResultSet rs = databaseMetaData.getPrimaryKeys(catalog, schema, tableName);
+
+        try {
+            // keep primary columns in key sequence order
+            Map<Short, String> keyColumns = new TreeMap<>();
+            while (rs.next()) {
+                String columnName = rs.getString("COLUMN_NAME"); // $NON-NLS-1$
+                short keySeq = rs.getShort("KEY_SEQ"); // $NON-NLS-1$
+                keyColumns.put(keySeq, columnName);
+            }
+
+            return new ArrayList<>(keyColumns.values());
+        } catch (SQLException e) {
+            // ignore the primary key if there's any error
+            return new ArrayList<>();
+        } finally {
+            closeResultSet(rs);
+        }
+    }
+
+    @Override
+    public TableMetadata getTable(String catalog, String schemaPattern, String tableNamePattern)
+            throws SQLException {
+        ResultSet rs = databaseMetaData.getTables(catalog, schemaPattern, tableNamePattern, null);
+        try {
+            List<TableMetadata> tables = readTables(rs, true);
+            return tables.isEmpty() ? null : tables.get(0);
+        } finally {
+            closeResultSet(rs);
+        }
+    }
+
+    protected DatabaseMetaData getDatabaseMetaData() {
+        return databaseMetaData;
+    }
+
+    static List<ColumnMetadata> readColumns(ResultSet rs) throws SQLException {
+        boolean supportsIsAutoIncrement = false;
+        boolean supportsIsGeneratedColumn = false;
+        ResultSetMetaData rsmd = rs.getMetaData();
+        int colCount = rsmd.getColumnCount();
+        for (int i = 1; i <= colCount; i++) {
+            if ("IS_AUTOINCREMENT".equals(rsmd.getColumnName(i))) { // $NON-NLS-1$
+                supportsIsAutoIncrement = true;
+            }
+            if ("IS_GENERATEDCOLUMN".equals(rsmd.getColumnName(i))) { // $NON-NLS-1$
+                supportsIsGeneratedColumn = true;
+            }
+        }
+
+        List<ColumnMetadata> answer = new ArrayList<>();
+        while (rs.next()) {
+            ColumnMetadata column = new ColumnMetadata();
+            column.setTableCatalog(rs.getString("TABLE_CAT")); // $NON-NLS-1$
+            column.setTableSchema(rs.getString("TABLE_SCHEM")); // $NON-NLS-1$
+            column.setTableName(rs.getString("TABLE_NAME")); // $NON-NLS-1$
+            column.setDataType(rs.getInt("DATA_TYPE")); // $NON-NLS-1$
+            column.setTypeName(rs.getString("TYPE_NAME")); // $NON-NLS-1$
+            column.setColumnSize(rs.getInt("COLUMN_SIZE")); // $NON-NLS-1$
+            column.setColumnName(rs.getString("COLUMN_NAME")); // $NON-NLS-1$
+            column.setNullable(rs.getInt("NULLABLE")); // $NON-NLS-1$
+            column.setDecimalDigits(rs.getInt("DECIMAL_DIGITS")); // $NON-NLS-1$
+            column.setRemarks(rs.getString("REMARKS")); // $NON-NLS-1$
+            column.setColumnDefault(rs.getString("COLUMN_DEF")); // $NON-NLS-1$
+
+            if (supportsIsAutoIncrement) {
+                column.setAutoIncrement(rs.getString("IS_AUTOINCREMENT")); // $NON-NLS-1$
+            }
+
+            if (supportsIsGeneratedColumn) {
+                column.setGeneratedColumn(rs.getString("IS_GENERATEDCOLUMN")); // $NON-NLS-1$
+            }
+
+            answer.add(column);
+        }
+
+        return answer;
+    }
+
+    static List<TableMetadata> readTables(ResultSet rs, boolean firstOnly) throws SQLException {
+        List<TableMetadata> answer = new ArrayList<>();
+        while (rs.next()) {
+            TableMetadata table = new TableMetadata();
+            table.setTableCatalog(rs.getString("TABLE_CAT")); // $NON-NLS-1$
+            table.setTableSchema(rs.getString("TABLE_SCHEM")); // $NON-NLS-1$
+            table.setTableName(rs.getString("TABLE_NAME")); // $NON-NLS-1$
+            table.setRemarks(rs.getString("REMARKS")); // $NON-NLS-1$
+            table.setTableType(rs.getString("TABLE_TYPE")); // $NON-NLS-1$
+            answer.add(table);
+
+            if (firstOnly) {
+                break;
+            }
+        }
+
+        return answer;
+    }
+
+    static void closeResultSet(ResultSet rs) {
+        if (rs != null) {
+            try {
+                rs.close();
+            } catch (SQLException e) {
+                // ignore
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This metadata source answers lookups from an introspection snapshot. Lookups that are not in the
+ * snapshot are passed to a delegate source and the results are added to the snapshot. The
+ * delegate is created on the first miss, so a run where every lookup is in the snapshot never
+ * connects to the database.
+ *
+ * <p>Lookups that fail are not recorded.
+ */
+public class SnapshotMetadataSource implements DatabaseMetadataSource {
+
+    /** Creates the delegate metadata source, typically by connecting to the database. */
+    @FunctionalInterface
+    public interface DelegateFactory {
+        DatabaseMetadataSource createDelegate() throws SQLException;
+    }
+
+    private IntrospectionSnapshot snapshot;
+
+    private DelegateFactory delegateFactory;
+
+    private DatabaseMetadataSource delegate;
+
+    private boolean modified;
+
+    public SnapshotMetadataSource(IntrospectionSnapshot snapshot, DelegateFactory delegateFactory) {
+        super();
+        this.snapshot = snapshot;
+        this.delegateFactory = delegateFactory;
+    }
+
+    /**
+     * Returns true if any lookup was added to the snapshot.
+     *
+     * @return true if the snapshot should be saved
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    private DatabaseMetadataSource getDelegate() throws SQLException {
+        if (delegate == null) {
+            delegate = delegateFactory.createDelegate();
+        }
+
+        modified = true;
+        return delegate;
+    }
+
+    @Override
+    public boolean storesLowerCaseIdentifiers() throws SQLException {
+        if (snapshot.getStoresLowerCaseIdentifiers() == null) {
+            snapshot.setStoresLowerCaseIdentifiers(getDelegate().storesLowerCaseIdentifiers());
+        }
+
+        return snapshot.getStoresLowerCaseIdentifiers();
+    }
+
+    @Override
+    public boolean storesUpperCaseIdentifiers() throws SQLException {
+        if (snapshot.getStoresUpperCaseIdentifiers() == null) {
+            snapshot.setStoresUpperCaseIdentifiers(getDelegate().storesUpperCaseIdentifiers());
+        }
+
+        return snapshot.getStoresUpperCaseIdentifiers();
+    }
+
+    @Override
+    public String getSearchStringEscape() throws SQLException {
+        if (!snapshot.isSearchStringEscapeRecorded()) {
+            snapshot.setSearchStringEscape(getDelegate().getSearchStringEscape());
+        }
+
+        return snapshot.getSearchStringEscape();
+    }
+
+    @Override
+    public List<ColumnMetadata> getColumns(
+            String catalog, String schemaPattern, String tableNamePattern) throws SQLException {
+        List<String> key = Arrays.asList(catalog, schemaPattern, tableNamePattern);
+        List<ColumnMetadata> answer = snapshot.getColumns().get(key);
+        if (answer == null) {
+            answer =
+                    new ArrayList<>(
+                            getDelegate().getColumns(catalog, schemaPattern, tableNamePattern));
+            snapshot.getColumns().put(key, answer);
+        }
+
+        return answer;
+    }
+
+    @Override
+    public List<String> getPrimaryKeyColumns(String catalog, String schema, String tableName)
+            throws SQLException {
+        List<String> key = Arrays.asList(catalog, schema, tableName);
+        List<String> answer = snapshot.getPrimaryKeyColumns().get(key);
+        if (answer == null) {
+            answer =
+                    new ArrayList<>(
+                            getDelegate().getPrimaryKeyColumns(catalog, schema, tableName));
+            snapshot.getPrimaryKeyColumns().put(key, answer);
+        }
+
+        return answer;
+    }
+
+    @Override
+    public TableMetadata getTable(String catalog, String schemaPattern, String tableNamePattern)
+            throws SQLException {
+        List<String> key = Arrays.asList(catalog, schemaPattern, tableNamePattern);
+        if (snapshot.getTables().containsKey(key)) {
+            return snapshot.getTables().get(key);
+        }
+
+        TableMetadata answer = getDelegate().getTable(catalog, schemaPattern, tableNamePattern);
+        snapshot.getTables().put(key, answer);
+        return answer;
+    }
+}
@@ -69,6 +69,21 @@ public abstract class BaseRules implements Rules {
         return generateInsert();
     }
 
+    /**
+     * Implements the rule for generating the multi-row insert SQL Map element and DAO method. If
+     * the insert batch statement is allowed, then generate the element and method.
+     *
+     * @return true if the element and method should be generated
+     */
+    @Override
+    public boolean generateInsertBatch() {
+        if (isModelOnly) {
+            return false;
+        }
+
+        return tableConfiguration.isInsertBatchStatementEnabled();
+    }
+
     /**
      * Calculates the class that contains all fields. This class is used as the insert statement
      * parameter, as well as the returned value from the select by primary key method. The actual
@@ -289,6 +304,24 @@ public abstract class BaseRules implements Rules {
                 && (introspectedTable.hasBaseColumns() || introspectedTable.hasBLOBColumns());
     }
 
+    /**
+     * Implements the rule for generating the select by primary keys SQL Map element and DAO
+     * method. If the table has a primary key as well as other fields, and the selectByPrimaryKeys
+     * statement is allowed, then generate the element and method.
+     *
+     * @return true if the element and method should be generated
+     */
+    @Override
+    public boolean generateSelectByPrimaryKeys() {
+        if (isModelOnly) {
+            return false;
+        }
+
+        return tableConfiguration.isSelectByPrimaryKeysStatementEnabled()
+                && introspectedTable.hasPrimaryKeyColumns()
+                && (introspectedTable.hasBaseColumns() || introspectedTable.hasBLOBColumns());
+    }
+
     /**
      * Implements the rule for generating the select by example without BLOBs SQL Map element and
      * DAO method. If the selectByExample statement is allowed, then generate the element and
@@ -395,7 +428,9 @@ public abstract class BaseRules implements Rules {
             return false;
         }
 
-        return generateSelectByPrimaryKey() || generateSelectByExampleWithoutBLOBs();
+        return generateSelectByPrimaryKey()
+                || generateSelectByPrimaryKeys()
+                || generateSelectByExampleWithoutBLOBs();
     }
 
     @Override
@@ -406,7 +441,8 @@ public abstract class BaseRules implements Rules {
 
         return introspectedTable.hasBLOBColumns()
                 && (tableConfiguration.isSelectByExampleStatementEnabled()
-                        || tableConfiguration.isSelectByPrimaryKeyStatementEnabled());
+                        || tableConfiguration.isSelectByPrimaryKeyStatementEnabled()
+                        || tableConfiguration.isSelectByPrimaryKeysStatementEnabled());
     }
 
     @Override
@@ -40,6 +40,14 @@ public interface Rules {
      */
     boolean generateInsertSelective();
 
+    /**
+     * Implements the rule for generating the multi-row insert SQL Map element and DAO method. If
+     * the insert batch statement is allowed, then generate the element and method.
+     *
+     * @return true if the element and method should be generated
+     */
+    boolean generateInsertBatch();
+
     /**
      * Calculates the class that contains all fields. This class is used as the insert statement
      * parameter, as well as the returned value from the select by primary key method. The actual
@@ -154,6 +162,15 @@ public interface Rules {
      */
     boolean generateSelectByPrimaryKey();
 
+    /**
+     * Implements the rule for generating the select by primary keys SQL Map element and DAO
+     * method. If the table has a primary key as well as other fields, and the selectByPrimaryKeys
+     * statement is allowed, then generate the element and method.
+     *
+     * @return true if the element and method should be generated
+     */
+    boolean generateSelectByPrimaryKeys();
+
     /**
      * Implements the rule for generating the select by example without BLOBs SQL Map element and
      * DAO method. If the selectByExample statement is allowed, then generate the element and
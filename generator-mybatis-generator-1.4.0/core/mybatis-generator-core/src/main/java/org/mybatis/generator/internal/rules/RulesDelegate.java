@@ -104,6 +104,11 @@ public class RulesDelegate implements Rules {
         return rules.generateInsertSelective();
     }
 
+    @Override
+    public boolean generateInsertBatch() {
+        return rules.generateInsertBatch();
+    }
+
     @Override
     public boolean generatePrimaryKeyClass() {
         return rules.generatePrimaryKeyClass();
@@ -134,6 +139,11 @@ public class RulesDelegate implements Rules {
         return rules.generateSelectByPrimaryKey();
     }
 
+    @Override
+    public boolean generateSelectByPrimaryKeys() {
+        return rules.generateSelectByPrimaryKeys();
+    }
+
     @Override
     public boolean generateSQLExampleWhereClause() {
         return rules.generateSQLExampleWhereClause();
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class holds methods useful for running parts of the generator on worker threads.
+ */
+public class ConcurrencyUtility {
+
+    /** Utility Class - No Instances. */
+    private ConcurrencyUtility() {}
+
+    /**
+     * Creates a fixed size thread pool of daemon threads. The threads use the context class loader
+     * of the calling thread so that classes and resources resolve the same way they do in a single
+     * threaded run.
+     *
+     * @param threads the number of threads in the pool
+     * @param threadNamePrefix prefix for the names of the threads
+     * @return the executor service. Callers are responsible for shutting it down.
+     */
+    public static ExecutorService newFixedThreadPool(int threads, String threadNamePrefix) {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        ThreadFactory threadFactory =
+                r -> {
+                    Thread thread = new Thread(r);
+                    thread.setName(threadNamePrefix + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setContextClassLoader(contextClassLoader);
+                    return thread;
+                };
+
+        return Executors.newFixedThreadPool(threads, threadFactory);
+    }
+
+    /**
+     * Waits for the result of a task. Unchecked exceptions and errors thrown by the task are
+     * rethrown as is; checked exceptions are returned to the caller wrapped in the
+     * ExecutionException.
+     *
+     * @param <T> the result type
+     * @param future the future
+     * @return the result of the task
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws ExecutionException if the task threw a checked exception
+     */
+    public static <T> T getResult(Future<T> future)
+            throws InterruptedException, ExecutionException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a view of the target object where every method call is made while holding the
+     * specified lock. This is used to protect objects that are not thread safe - plugins and
+     * comment generators for example - when they are called from several worker threads.
+     *
+     * @param <T> the interface type
+     * @param type the interface implemented by the target object
+     * @param target the target object
+     * @param lock the lock to hold during each call
+     * @return the synchronized view
+     */
+    public static <T> T synchronizedView(Class<T> type, T target, Object lock) {
+        Object proxy =
+                Proxy.newProxyInstance(
+                        type.getClassLoader(),
+                        new Class<?>[] {type},
+                        (p, method, args) -> {
+                            synchronized (lock) {
+                                try {
+                                    return method.invoke(target, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                            }
+                        });
+
+        return type.cast(proxy);
+    }
+}
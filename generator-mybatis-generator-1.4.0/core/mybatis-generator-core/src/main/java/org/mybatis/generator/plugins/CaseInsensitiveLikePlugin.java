@@ -41,6 +41,11 @@ public class CaseInsensitiveLikePlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public boolean modelExampleClassGenerated(
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
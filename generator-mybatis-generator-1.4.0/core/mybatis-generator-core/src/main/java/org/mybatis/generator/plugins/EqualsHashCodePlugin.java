@@ -58,6 +58,11 @@ public class EqualsHashCodePlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public boolean modelBaseRecordClassGenerated(
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
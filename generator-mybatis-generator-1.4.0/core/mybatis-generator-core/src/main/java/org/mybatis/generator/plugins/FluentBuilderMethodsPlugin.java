@@ -43,6 +43,11 @@ public class FluentBuilderMethodsPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public boolean modelSetterMethodGenerated(
             Method method,
@@ -0,0 +1,593 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.IntrospectedTable.TargetRuntime;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.*;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.VisitableElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.internal.util.JavaBeansUtil;
+import org.mybatis.generator.logging.Log;
+import org.mybatis.generator.logging.LogFactory;
+import org.mybatis.generator.runtime.dynamic.sql.elements.AbstractMethodGenerator;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities.getAliasedEscapedColumnName;
+import static org.mybatis.generator.codegen.mybatis3.MyBatis3FormattingUtilities.getParameterClause;
+import static org.mybatis.generator.internal.util.StringUtility.escapeStringForJava;
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+/**
+ * This plugin adds keyset (seek) pagination methods to the generated mappers of tables with a
+ * primary key. Unlike the RowBounds of the {@link RowBoundsPlugin}, which skip the rows of the
+ * previous pages on the client, the generated statement starts reading after the last key of the
+ * previous page, so every page costs the same as the first one.
+ *
+ * <p>The generated statement orders the rows by the primary key columns, selects the rows whose
+ * key is greater than the last key, and limits the number of rows returned. The comparison of
+ * composite keys is expanded to <code>(k1 &gt; v1 or (k1 = v1 and k2 &gt; v2))</code> so that it
+ * works with databases that do not support row value comparisons. The first page is read by
+ * passing a null last key. The method added depends on the target runtime:
+ *
+ * <ul>
+ *   <li>MyBatis3 (XML, mixed, and annotated mappers): <code>
+ *       selectPageAfter(lastKey, limit, example)</code>. The last key is the primary key class if
+ *       one is generated, otherwise the record. The criteria of the example, which may be null, are
+ *       applied in addition to the key predicate, and its order by clause is ignored.
+ *   <li>MyBatis3DynamicSql: <code>selectPageAfter(lastKey, limit)</code> where the last key is a
+ *       record. Additional criteria can be written with the generated <code>select</code> method.
+ * </ul>
+ *
+ * <p>This plugin accepts two properties:
+ *
+ * <ul>
+ *   <li><code>methodName</code> (optional) the name of the generated method. The default is
+ *       <code>selectPageAfter</code>.
+ *   <li><code>dialect</code> (optional) how the number of rows is limited in the MyBatis3
+ *       runtime. <code>limit</code> (the default) appends <code>limit n</code>, for databases
+ *       like MySQL, PostgreSQL, H2 and SQLite. <code>fetchFirst</code> appends the standard
+ *       <code>fetch first n rows only</code>, for databases like DB2, Oracle 12c and Derby. The
+ *       MyBatis3DynamicSql runtime renders the limit for the database itself.
+ * </ul>
+ *
+ * <p>This plugin does nothing for the MyBatis3Simple runtime, which has no example class, and for
+ * the MyBatis3DynamicSql runtime in the deprecated V1 style.
+ *
+ * <p>With annotated mappers, the provider method is derived from the generated selectByExample
+ * provider method and annotation. If another plugin changed them so that they cannot be
+ * recognized, the methods of this plugin are not generated for the table and a warning is logged.
+ */
+public class KeysetPaginationPlugin extends PluginAdapter {
+
+    private static final String DIALECT_LIMIT = "limit"; //$NON-NLS-1$
+    private static final String DIALECT_FETCH_FIRST = "fetchFirst"; //$NON-NLS-1$
+
+    /** Table attribute that holds the criteria loop of the example where clause. */
+    private static final String CRITERIA_ELEMENT =
+            KeysetPaginationPlugin.class.getName() + ".criteriaElement"; //$NON-NLS-1$
+
+    /**
+     * Name of the provider method that applies the example in parentheses. The where clause of
+     * <code>applyWhere</code> is a list of or'ed criteria, which must be grouped before the key
+     * predicate is and'ed to it.
+     */
+    private static final String APPLY_WHERE_METHOD = "applyKeysetWhere"; //$NON-NLS-1$
+
+    /**
+     * Table attribute that removes the generated client method again. The provider method is
+     * generated after the client method, and the client method must not be generated without it.
+     */
+    private static final String REMOVE_CLIENT_METHOD =
+            KeysetPaginationPlugin.class.getName() + ".removeClientMethod"; //$NON-NLS-1$
+
+    private Log logger = LogFactory.getLog(getClass());
+
+    private FullyQualifiedJavaType param =
+            FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param"); //$NON-NLS-1$
+    private FullyQualifiedJavaType map =
+            FullyQualifiedJavaType.of("java.util.Map"); //$NON-NLS-1$
+
+    private String methodName;
+    private String dialect;
+
+    @Override
+    public boolean validate(List<String> warnings) {
+        methodName = properties.getProperty("methodName"); //$NON-NLS-1$
+        if (!stringHasValue(methodName)) {
+            methodName = "selectPageAfter"; //$NON-NLS-1$
+        }
+
+        dialect = properties.getProperty("dialect"); //$NON-NLS-1$
+        if (!stringHasValue(dialect)) {
+            dialect = DIALECT_LIMIT;
+        } else if (!DIALECT_LIMIT.equals(dialect) && !DIALECT_FETCH_FIRST.equals(dialect)) {
+            warnings.add(
+                    getString(
+                            "Warning.39", //$NON-NLS-1$
+                            "dialect", //$NON-NLS-1$
+                            "KeysetPaginationPlugin", //$NON-NLS-1$
+                            DIALECT_LIMIT + ", " + DIALECT_FETCH_FIRST)); //$NON-NLS-1$
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean clientSelectByExampleWithoutBLOBsMethodGenerated(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        if (introspectedTable.getTargetRuntime() != TargetRuntime.MYBATIS3
+                || !introspectedTable.hasPrimaryKeyColumns()) {
+            return true;
+        }
+
+        Method newMethod = new Method(method);
+        newMethod.setName(methodName);
+
+        // call the new provider method instead of selectByExample
+        String providerMethod =
+                "method=\"" //$NON-NLS-1$
+                        + introspectedTable.getSelectByExampleStatementId()
+                        + '"';
+        List<String> annotations = newMethod.getAnnotations();
+        for (int i = 0; i < annotations.size(); i++) {
+            String annotation = annotations.get(i);
+            if (annotation.startsWith("@SelectProvider")) { //$NON-NLS-1$
+                if (!annotation.contains(providerMethod)) {
+                    warnNotGenerated(
+                            introspectedTable, "@SelectProvider annotation"); //$NON-NLS-1$
+                    return true;
+                }
+                annotations.set(
+                        i,
+                        annotation.replace(
+                                providerMethod, "method=\"" + methodName + '"')); //$NON-NLS-1$
+            }
+        }
+
+        FullyQualifiedJavaType keyType = calculateKeyType(introspectedTable);
+        newMethod.getParameters().clear();
+        Parameter parameter = new Parameter(keyType, "lastKey"); //$NON-NLS-1$
+        parameter.addAnnotation("@Param(\"lastKey\")"); //$NON-NLS-1$
+        newMethod.addParameter(parameter);
+        parameter =
+                new Parameter(
+                        FullyQualifiedJavaType.getIntInstance(), "limit"); //$NON-NLS-1$
+        parameter.addAnnotation("@Param(\"limit\")"); //$NON-NLS-1$
+        newMethod.addParameter(parameter);
+        parameter =
+                new Parameter(
+                        method.getParameters().get(0).getType(), "example"); //$NON-NLS-1$
+        parameter.addAnnotation("@Param(\"example\")"); //$NON-NLS-1$
+        newMethod.addParameter(parameter);
+
+        interfaze.addMethod(newMethod);
+        interfaze.addImportedType(keyType);
+        interfaze.addImportedType(param);
+        introspectedTable.setAttribute(
+                REMOVE_CLIENT_METHOD,
+                (Runnable) () -> interfaze.getMethods().remove(newMethod));
+
+        return true;
+    }
+
+    @Override
+    public boolean providerSelectByExampleWithoutBLOBsMethodGenerated(
+            Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+        if (!introspectedTable.hasPrimaryKeyColumns()) {
+            return true;
+        }
+
+        FullyQualifiedJavaType exampleType = method.getParameters().get(0).getType();
+        FullyQualifiedJavaType parameterType =
+                FullyQualifiedJavaType.of(
+                        "java.util.Map<java.lang.String, java.lang.Object>"); //$NON-NLS-1$
+
+        Method newMethod = new Method(methodName);
+        newMethod.setVisibility(JavaVisibility.PUBLIC);
+        newMethod.setReturnType(FullyQualifiedJavaType.getStringInstance());
+        newMethod.addParameter(new Parameter(parameterType, "parameter")); //$NON-NLS-1$
+        newMethod.getJavaDocLines().addAll(method.getJavaDocLines());
+        newMethod.getAnnotations().addAll(method.getAnnotations());
+
+        newMethod.addBodyLine(
+                String.format(
+                        "%s example = (%s) parameter.get(\"example\");", //$NON-NLS-1$
+                        exampleType.getShortName(),
+                        exampleType.getShortName()));
+
+        // reuse the select list of selectByExample, and apply the example
+        // with the parameter phrases of a parameter map
+        String builderPrefix = ""; //$NON-NLS-1$
+        boolean foundApplyWhere = false;
+        for (String line : method.getBodyLines()) {
+            if ("SQL sql = new SQL();".equals(line)) { //$NON-NLS-1$
+                builderPrefix = "sql."; //$NON-NLS-1$
+            }
+
+            if (line.startsWith("applyWhere(")) { //$NON-NLS-1$
+                newMethod.addBodyLine(
+                        line.replace("applyWhere(", APPLY_WHERE_METHOD + '(') //$NON-NLS-1$
+                                .replace("false);", "true);")); //$NON-NLS-1$ //$NON-NLS-2$
+                foundApplyWhere = true;
+                break;
+            }
+            newMethod.addBodyLine(line);
+        }
+
+        if (!foundApplyWhere) {
+            // the remaining lines of the copy would follow the return statement
+            warnNotGenerated(introspectedTable, "provider method"); //$NON-NLS-1$
+            Runnable removeClientMethod =
+                    (Runnable) introspectedTable.getAttribute(REMOVE_CLIENT_METHOD);
+            if (removeClientMethod != null) {
+                removeClientMethod.run();
+            }
+            return true;
+        }
+
+        newMethod.addBodyLine(""); //$NON-NLS-1$
+        newMethod.addBodyLine("if (parameter.get(\"lastKey\") != null) {"); //$NON-NLS-1$
+        newMethod.addBodyLine(
+                String.format(
+                        "%sWHERE(\"%s\");", //$NON-NLS-1$
+                        builderPrefix,
+                        escapeStringForJava(
+                                '(' + getKeyPredicate(introspectedTable, ">") //$NON-NLS-1$
+                                        + ')')));
+        newMethod.addBodyLine("}"); //$NON-NLS-1$
+        newMethod.addBodyLine(""); //$NON-NLS-1$
+        newMethod.addBodyLine(
+                String.format(
+                        "%sORDER_BY(\"%s\");", //$NON-NLS-1$
+                        builderPrefix,
+                        escapeStringForJava(getOrderByClause(introspectedTable))));
+        newMethod.addBodyLine(""); //$NON-NLS-1$
+        newMethod.addBodyLine(
+                String.format(
+                        "return %s + \" %s\";", //$NON-NLS-1$
+                        builderPrefix.isEmpty()
+                                ? "SQL()" //$NON-NLS-1$
+                                : "sql.toString()", //$NON-NLS-1$
+                        getLimitClause()));
+
+        if (builderPrefix.isEmpty()) {
+            topLevelClass.addStaticImport(
+                    "org.apache.ibatis.jdbc.SqlBuilder.WHERE"); //$NON-NLS-1$
+        }
+        topLevelClass.addImportedType(map);
+        topLevelClass.addMethod(newMethod);
+
+        return true;
+    }
+
+    private void warnNotGenerated(IntrospectedTable introspectedTable, String element) {
+        logger.warn(
+                getString(
+                        "Warning.42", //$NON-NLS-1$
+                        methodName,
+                        introspectedTable.getFullyQualifiedTable().toString(),
+                        element));
+    }
+
+    /** Add a copy of <code>applyWhere</code> that wraps the or'ed criteria in parentheses. */
+    @Override
+    public boolean providerGenerated(
+            TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+        Method applyWhere = null;
+        boolean hasPageMethod = false;
+        for (Method method : topLevelClass.getMethods()) {
+            if ("applyWhere".equals(method.getName())) { //$NON-NLS-1$
+                applyWhere = method;
+            } else if (methodName.equals(method.getName())) {
+                hasPageMethod = true;
+            }
+        }
+
+        if (applyWhere == null || !hasPageMethod) {
+            return true;
+        }
+
+        Method newMethod = new Method(applyWhere);
+        newMethod.setName(APPLY_WHERE_METHOD);
+        List<String> bodyLines = newMethod.getBodyLines();
+        for (int i = 0; i < bodyLines.size(); i++) {
+            String line = bodyLines.get(i);
+            if (line.endsWith("WHERE(sb.toString());")) { //$NON-NLS-1$
+                bodyLines.set(
+                        i,
+                        line.replace(
+                                "sb.toString()", //$NON-NLS-1$
+                                "\"(\" + sb.toString() + ')'")); //$NON-NLS-1$
+            }
+        }
+        topLevelClass.addMethod(newMethod);
+
+        return true;
+    }
+
+    /** Save the criteria loop of the example where clause, it is reused for the example. */
+    @Override
+    public boolean sqlMapExampleWhereClauseElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        if (introspectedTable.getAttribute(CRITERIA_ELEMENT) != null) {
+            return true;
+        }
+
+        XmlElement forEachElement =
+                findElement(
+                        findElement(element, "where"), //$NON-NLS-1$
+                        "foreach"); //$NON-NLS-1$
+        if (forEachElement != null) {
+            XmlElement newElement = new XmlElement(forEachElement);
+            for (Iterator<Attribute> iterator = newElement.getAttributes().iterator();
+                    iterator.hasNext(); ) {
+                if ("collection".equals(iterator.next().getName())) { //$NON-NLS-1$
+                    iterator.remove();
+                }
+            }
+            newElement.addAttribute(
+                    new Attribute(
+                            "collection", //$NON-NLS-1$
+                            "example.oredCriteria")); //$NON-NLS-1$
+            introspectedTable.setAttribute(CRITERIA_ELEMENT, newElement);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean sqlMapDocumentGenerated(Document document, IntrospectedTable introspectedTable) {
+        XmlElement criteriaElement =
+                (XmlElement) introspectedTable.getAttribute(CRITERIA_ELEMENT);
+        if (criteriaElement == null
+                || !introspectedTable.hasPrimaryKeyColumns()
+                || !introspectedTable.getRules().generateSelectByExampleWithoutBLOBs()) {
+            return true;
+        }
+
+        XmlElement answer = new XmlElement("select"); //$NON-NLS-1$
+        answer.addAttribute(new Attribute("id", methodName)); //$NON-NLS-1$
+        answer.addAttribute(
+                new Attribute("resultMap", introspectedTable.getBaseResultMapId())); //$NON-NLS-1$
+        answer.addAttribute(new Attribute("parameterType", "map")); //$NON-NLS-1$ //$NON-NLS-2$
+        context.getCommentGenerator().addComment(answer);
+
+        answer.addElement(new TextElement("select")); //$NON-NLS-1$
+        XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
+        ifElement.addAttribute(
+                new Attribute(
+                        "test", //$NON-NLS-1$
+                        "example != null and example.distinct")); //$NON-NLS-1$
+        ifElement.addElement(new TextElement("distinct")); //$NON-NLS-1$
+        answer.addElement(ifElement);
+
+        XmlElement includeElement = new XmlElement("include"); //$NON-NLS-1$
+        includeElement.addAttribute(
+                new Attribute("refid", introspectedTable.getBaseColumnListId())); //$NON-NLS-1$
+        answer.addElement(includeElement);
+        answer.addElement(
+                new TextElement(
+                        "from " //$NON-NLS-1$
+                                + introspectedTable.getAliasedFullyQualifiedTableNameAtRuntime()));
+
+        XmlElement whereElement = new XmlElement("where"); //$NON-NLS-1$
+        answer.addElement(whereElement);
+
+        ifElement = new XmlElement("if"); //$NON-NLS-1$
+        ifElement.addAttribute(
+                new Attribute("test", "example != null")); //$NON-NLS-1$ //$NON-NLS-2$
+        XmlElement trimElement = new XmlElement("trim"); //$NON-NLS-1$
+        trimElement.addAttribute(new Attribute("prefix", "(")); //$NON-NLS-1$ //$NON-NLS-2$
+        trimElement.addAttribute(new Attribute("suffix", ")")); //$NON-NLS-1$ //$NON-NLS-2$
+        trimElement.addElement(criteriaElement);
+        ifElement.addElement(trimElement);
+        whereElement.addElement(ifElement);
+
+        ifElement = new XmlElement("if"); //$NON-NLS-1$
+        ifElement.addAttribute(
+                new Attribute("test", "lastKey != null")); //$NON-NLS-1$ //$NON-NLS-2$
+        ifElement.addElement(
+                new TextElement(
+                        "and (" //$NON-NLS-1$
+                                + getKeyPredicate(introspectedTable, "&gt;") //$NON-NLS-1$
+                                + ')'));
+        whereElement.addElement(ifElement);
+
+        answer.addElement(
+                new TextElement("order by " + getOrderByClause(introspectedTable))); //$NON-NLS-1$
+        answer.addElement(new TextElement(getLimitClause()));
+
+        document.getRootElement().addElement(answer);
+
+        return true;
+    }
+
+    @Override
+    public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+        if (introspectedTable.getTargetRuntime() != TargetRuntime.MYBATIS3_DSQL
+                || !introspectedTable.hasPrimaryKeyColumns()
+                || !hasSelectMethod(interfaze)) {
+            return true;
+        }
+
+        String tableFieldName =
+                JavaBeansUtil.getValidPropertyName(
+                        introspectedTable.getFullyQualifiedTable().getDomainObjectName());
+        FullyQualifiedJavaType recordType =
+                FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
+        FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
+        returnType.addTypeArgument(recordType);
+
+        Method method = new Method(methodName);
+        method.setDefault(true);
+        method.setReturnType(returnType);
+        method.addParameter(new Parameter(recordType, "lastKey")); //$NON-NLS-1$
+        method.addParameter(
+                new Parameter(
+                        FullyQualifiedJavaType.of("long"), "limit")); //$NON-NLS-1$ //$NON-NLS-2$
+
+        Set<FullyQualifiedJavaType> imports = new TreeSet<>();
+        context.getCommentGenerator()
+                .addGeneralMethodAnnotation(method, introspectedTable, imports);
+
+        StringBuilder orderBy = new StringBuilder();
+        for (IntrospectedColumn column : introspectedTable.getPrimaryKeyColumns()) {
+            if (orderBy.length() > 0) {
+                orderBy.append(", "); //$NON-NLS-1$
+            }
+            orderBy.append(AbstractMethodGenerator.calculateFieldName(tableFieldName, column));
+        }
+
+        method.addBodyLine("if (lastKey == null) {"); //$NON-NLS-1$
+        method.addBodyLine(
+                "return select(c -> c.orderBy(" + orderBy + ").limit(limit));"); //$NON-NLS-1$
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine(""); //$NON-NLS-1$
+        method.addBodyLine("return select(c ->"); //$NON-NLS-1$
+
+        // k1 > v1 or (k1 = v1 and k2 > v2) or ...
+        List<IntrospectedColumn> keyColumns = introspectedTable.getPrimaryKeyColumns();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(i == 0 ? "    c.where(" : "    .or("); //$NON-NLS-1$ //$NON-NLS-2$
+            for (int j = 0; j <= i; j++) {
+                IntrospectedColumn column = keyColumns.get(j);
+                if (j > 0) {
+                    sb.append(", and("); //$NON-NLS-1$
+                }
+                sb.append(AbstractMethodGenerator.calculateFieldName(tableFieldName, column));
+                sb.append(
+                        j == i
+                                ? ", isGreaterThan(lastKey::" //$NON-NLS-1$
+                                : ", isEqualTo(lastKey::"); //$NON-NLS-1$
+                sb.append(
+                        JavaBeansUtil.getGetterMethodName(
+                                column.getJavaProperty(), column.getFullyQualifiedJavaType()));
+                sb.append(')');
+                if (j > 0) {
+                    sb.append(')');
+                }
+            }
+            sb.append(')');
+            method.addBodyLine(sb.toString());
+        }
+        method.addBodyLine("    .orderBy(" + orderBy + ')'); //$NON-NLS-1$
+        method.addBodyLine("    .limit(limit)"); //$NON-NLS-1$
+        method.addBodyLine(");"); //$NON-NLS-1$
+
+        interfaze.addMethod(method);
+        interfaze.addImportedTypes(imports);
+        interfaze.addImportedType(recordType);
+        interfaze.addImportedType(FullyQualifiedJavaType.getNewListInstance());
+
+        return true;
+    }
+
+    private boolean hasSelectMethod(Interface interfaze) {
+        for (Method method : interfaze.getMethods()) {
+            if ("select".equals(method.getName()) //$NON-NLS-1$
+                    && method.getParameters().size() == 1
+                    && "SelectDSLCompleter" //$NON-NLS-1$
+                            .equals(method.getParameters().get(0).getType().getShortName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private FullyQualifiedJavaType calculateKeyType(IntrospectedTable introspectedTable) {
+        if (introspectedTable.getRules().generatePrimaryKeyClass()) {
+            return FullyQualifiedJavaType.of(introspectedTable.getPrimaryKeyType());
+        } else {
+            return FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
+        }
+    }
+
+    /**
+     * Calculates the predicate selecting the keys greater than the last key. It is expanded to
+     * <code>k1 &gt; v1 or (k1 = v1 and k2 &gt; v2) or ...</code> for composite keys.
+     *
+     * @param introspectedTable the table
+     * @param greaterThan the greater than operator, escaped for XML mappers
+     * @return the predicate
+     */
+    private String getKeyPredicate(IntrospectedTable introspectedTable, String greaterThan) {
+        List<IntrospectedColumn> keyColumns = introspectedTable.getPrimaryKeyColumns();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keyColumns.size(); i++) {
+            if (i > 0) {
+                sb.append(" or ("); //$NON-NLS-1$
+            }
+            for (int j = 0; j <= i; j++) {
+                IntrospectedColumn column = keyColumns.get(j);
+                if (j > 0) {
+                    sb.append(" and "); //$NON-NLS-1$
+                }
+                sb.append(getAliasedEscapedColumnName(column));
+                sb.append(' ');
+                sb.append(j == i ? greaterThan : "="); //$NON-NLS-1$
+                sb.append(' ');
+                sb.append(getParameterClause(column, "lastKey.")); //$NON-NLS-1$
+            }
+            if (i > 0) {
+                sb.append(')');
+            }
+        }
+        return sb.toString();
+    }
+
+    private String getOrderByClause(IntrospectedTable introspectedTable) {
+        StringBuilder sb = new StringBuilder();
+        for (IntrospectedColumn column : introspectedTable.getPrimaryKeyColumns()) {
+            if (sb.length() > 0) {
+                sb.append(", "); //$NON-NLS-1$
+            }
+            sb.append(getAliasedEscapedColumnName(column));
+        }
+        return sb.toString();
+    }
+
+    private String getLimitClause() {
+        if (DIALECT_FETCH_FIRST.equals(dialect)) {
+            return "fetch first #{limit} rows only"; //$NON-NLS-1$
+        } else {
+            return "limit #{limit}"; //$NON-NLS-1$
+        }
+    }
+
+    private XmlElement findElement(XmlElement parent, String name) {
+        if (parent == null) {
+            return null;
+        }
+
+        for (VisitableElement element : parent.getElements()) {
+            if (element instanceof XmlElement && name.equals(((XmlElement) element).getName())) {
+                return (XmlElement) element;
+            }
+        }
+        return null;
+    }
+}
@@ -26,6 +26,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
 import static org.mybatis.generator.internal.util.messages.Messages.getString;
@@ -55,6 +57,12 @@ public class MapperConfigPlugin extends PluginAdapter {
 
     private List<String> mapperFiles = new ArrayList<>();
 
+    /**
+     * Mapper files by table. The SQL maps may be generated on several threads, so they are added
+     * to mapperFiles in table order in contextGenerateAdditionalXmlFiles(IntrospectedTable).
+     */
+    private Map<IntrospectedTable, List<String>> mapperFilesByTable = new ConcurrentHashMap<>();
+
     @Override
     public boolean validate(List<String> warnings) {
         boolean valid = true;
@@ -137,6 +145,17 @@ public class MapperConfigPlugin extends PluginAdapter {
         return answer;
     }
 
+    @Override
+    public List<GeneratedXmlFile> contextGenerateAdditionalXmlFiles(
+            IntrospectedTable introspectedTable) {
+        List<String> tableMapperFiles = mapperFilesByTable.remove(introspectedTable);
+        if (tableMapperFiles != null) {
+            mapperFiles.addAll(tableMapperFiles);
+        }
+
+        return Collections.emptyList();
+    }
+
     /*
      * This method collects the name of every SqlMap file generated in
      * this context.
@@ -150,7 +169,9 @@ public class MapperConfigPlugin extends PluginAdapter {
         sb.setLength(0);
         sb.append(temp.replace('.', '/'));
         sb.append(sqlMap.getFileName());
-        mapperFiles.add(sb.toString());
+        mapperFilesByTable
+                .computeIfAbsent(introspectedTable, k -> new ArrayList<>())
+                .add(sb.toString());
 
         return true;
     }
@@ -0,0 +1,302 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import org.mybatis.generator.api.CommentGenerator;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.IntrospectedTable.TargetRuntime;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.*;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.VisitableElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.internal.ObjectFactory;
+import org.mybatis.generator.internal.util.JavaBeansUtil;
+
+import java.util.List;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+/**
+ * This plugin adds <code>limit</code> and <code>offset</code> properties to the generated example
+ * classes, and renders them as a pagination clause of the selectByExample statements. Unlike the
+ * RowBounds of the {@link RowBoundsPlugin}, which skip the rows before the offset on the client,
+ * the rows are skipped by the database.
+ *
+ * <p>The statement is only paginated when the limit of the example is not null. The offset
+ * defaults to 0. This plugin accepts one property:
+ *
+ * <ul>
+ *   <li><code>dialect</code> (optional) the pagination syntax of the database:
+ *       <ul>
+ *         <li><code>limit</code> (the default) appends <code>limit n offset m</code>, for MySQL,
+ *             PostgreSQL, H2, HSQLDB and SQLite
+ *         <li><code>offsetFetch</code> appends the standard <code>
+ *             offset m rows fetch next n rows only</code>, for DB2, Derby, Oracle 12c and SQL
+ *             Server 2012. SQL Server also requires an order by clause.
+ *         <li><code>rownum</code> wraps the statement in a query on the Oracle <code>ROWNUM</code>
+ *             pseudo column, for older Oracle versions
+ *         <li><code>top</code> adds <code>top (n)</code> to the select list, for older SQL Server
+ *             versions. The offset is not supported by this dialect, so the example classes
+ *             only get the <code>limit</code> property.
+ *       </ul>
+ * </ul>
+ *
+ * <p>The pagination applies to the XML mappers and to the SQL providers of annotated mappers. The
+ * countByExample, deleteByExample and updateByExample statements ignore the limit and offset.
+ *
+ * <p>This plugin is only valid for the MyBatis3 and MyBatis3Simple target runtimes. It has no
+ * impact for MyBatis3Simple, which does not generate example classes.
+ */
+public class PaginationPlugin extends PluginAdapter {
+
+    private static final String DIALECT_LIMIT = "limit"; //$NON-NLS-1$
+    private static final String DIALECT_OFFSET_FETCH = "offsetFetch"; //$NON-NLS-1$
+    private static final String DIALECT_ROWNUM = "rownum"; //$NON-NLS-1$
+    private static final String DIALECT_TOP = "top"; //$NON-NLS-1$
+
+    private static final String LIMIT_TEST = "limit != null"; //$NON-NLS-1$
+
+    private String dialect;
+
+    @Override
+    public boolean validate(List<String> warnings) {
+        if (ObjectFactory.createIntrospectedTableForValidation(context).getTargetRuntime()
+                != TargetRuntime.MYBATIS3) {
+            warnings.add(
+                    getString(
+                            "Warning.37", //$NON-NLS-1$
+                            "PaginationPlugin")); //$NON-NLS-1$
+            return false;
+        }
+
+        dialect = properties.getProperty("dialect"); //$NON-NLS-1$
+        if (!stringHasValue(dialect)) {
+            dialect = DIALECT_LIMIT;
+        } else if (!DIALECT_LIMIT.equals(dialect)
+                && !DIALECT_OFFSET_FETCH.equals(dialect)
+                && !DIALECT_ROWNUM.equals(dialect)
+                && !DIALECT_TOP.equals(dialect)) {
+            warnings.add(
+                    getString(
+                            "Warning.39", //$NON-NLS-1$
+                            "dialect", //$NON-NLS-1$
+                            "PaginationPlugin", //$NON-NLS-1$
+                            String.join(
+                                    ", ", //$NON-NLS-1$
+                                    DIALECT_LIMIT,
+                                    DIALECT_OFFSET_FETCH,
+                                    DIALECT_ROWNUM,
+                                    DIALECT_TOP)));
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean modelExampleClassGenerated(
+            TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+        boolean offsetSupported = !DIALECT_TOP.equals(dialect);
+        addProperty(
+                topLevelClass,
+                introspectedTable,
+                FullyQualifiedJavaType.of("java.lang.Integer"), //$NON-NLS-1$
+                "limit"); //$NON-NLS-1$
+        if (offsetSupported) {
+            addProperty(
+                    topLevelClass,
+                    introspectedTable,
+                    FullyQualifiedJavaType.getIntInstance(),
+                    "offset"); //$NON-NLS-1$
+        }
+
+        for (Method method : topLevelClass.getMethods()) {
+            if ("clear".equals(method.getName()) //$NON-NLS-1$
+                    && method.getParameters().isEmpty()) {
+                method.addBodyLine("limit = null;"); //$NON-NLS-1$
+                if (offsetSupported) {
+                    method.addBodyLine("offset = 0;"); //$NON-NLS-1$
+                }
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean sqlMapSelectByExampleWithoutBLOBsElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        addPagination(element);
+        return true;
+    }
+
+    @Override
+    public boolean sqlMapSelectByExampleWithBLOBsElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        addPagination(element);
+        return true;
+    }
+
+    @Override
+    public boolean providerSelectByExampleWithoutBLOBsMethodGenerated(
+            Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+        addPagination(method);
+        return true;
+    }
+
+    @Override
+    public boolean providerSelectByExampleWithBLOBsMethodGenerated(
+            Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+        addPagination(method);
+        return true;
+    }
+
+    private void addProperty(
+            TopLevelClass topLevelClass,
+            IntrospectedTable introspectedTable,
+            FullyQualifiedJavaType type,
+            String name) {
+        CommentGenerator commentGenerator = context.getCommentGenerator();
+
+        Field field = new Field(name, type);
+        field.setVisibility(JavaVisibility.PROTECTED);
+        commentGenerator.addFieldComment(field, introspectedTable);
+        topLevelClass.addField(field);
+
+        Method method = new Method(JavaBeansUtil.getSetterMethodName(name));
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.addParameter(new Parameter(type, name));
+        method.addBodyLine("this." + name + " = " + name + ';'); //$NON-NLS-1$ //$NON-NLS-2$
+        commentGenerator.addGeneralMethodComment(method, introspectedTable);
+        topLevelClass.addMethod(method);
+
+        method = new Method(JavaBeansUtil.getGetterMethodName(name, type));
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(type);
+        method.addBodyLine("return " + name + ';'); //$NON-NLS-1$
+        commentGenerator.addGeneralMethodComment(method, introspectedTable);
+        topLevelClass.addMethod(method);
+    }
+
+    private void addPagination(XmlElement element) {
+        List<VisitableElement> elements = element.getElements();
+        if (DIALECT_TOP.equals(dialect)) {
+            // after "select" and the distinct element
+            int index = findDistinctElement(elements);
+            if (index >= 0) {
+                elements.add(index + 1, newIfLimitElement("top (#{limit})")); //$NON-NLS-1$
+            }
+        } else if (DIALECT_ROWNUM.equals(dialect)) {
+            // wrap everything from "select" on - the comment is before it
+            int index = findSelectElement(elements);
+            if (index >= 0) {
+                elements.add(
+                        index,
+                        newIfLimitElement(
+                                "select * from (select row_.*, rownum rownum_" //$NON-NLS-1$
+                                        + " from (")); //$NON-NLS-1$
+                element.addElement(
+                        newIfLimitElement(
+                                ") row_ where rownum &lt;= #{offset} + #{limit})" //$NON-NLS-1$
+                                        + " where rownum_ &gt; #{offset}")); //$NON-NLS-1$
+            }
+        } else if (DIALECT_OFFSET_FETCH.equals(dialect)) {
+            element.addElement(
+                    newIfLimitElement(
+                            "offset #{offset} rows fetch next #{limit} rows only")); //$NON-NLS-1$
+        } else {
+            element.addElement(newIfLimitElement("limit #{limit} offset #{offset}")); //$NON-NLS-1$
+        }
+    }
+
+    private int findSelectElement(List<VisitableElement> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            VisitableElement element = elements.get(i);
+            if (element instanceof TextElement
+                    && "select".equals(((TextElement) element).getContent())) { //$NON-NLS-1$
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int findDistinctElement(List<VisitableElement> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            VisitableElement element = elements.get(i);
+            if (element instanceof XmlElement) {
+                for (Attribute attribute : ((XmlElement) element).getAttributes()) {
+                    if ("test".equals(attribute.getName()) //$NON-NLS-1$
+                            && "distinct".equals(attribute.getValue())) { //$NON-NLS-1$
+                        return i;
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    private XmlElement newIfLimitElement(String text) {
+        XmlElement ifElement = new XmlElement("if"); //$NON-NLS-1$
+        ifElement.addAttribute(new Attribute("test", LIMIT_TEST)); //$NON-NLS-1$
+        ifElement.addElement(new TextElement(text));
+        return ifElement;
+    }
+
+    private void addPagination(Method method) {
+        List<String> bodyLines = method.getBodyLines();
+        int index = bodyLines.size() - 1;
+        if (index < 0 || !bodyLines.get(index).startsWith("return ")) { //$NON-NLS-1$
+            return;
+        }
+
+        String returnLine = bodyLines.remove(index);
+        method.addBodyLine(
+                "String statement = " //$NON-NLS-1$
+                        + returnLine.substring("return ".length())); //$NON-NLS-1$
+        method.addBodyLine(
+                "if (example != null && example.getLimit() != null) {"); //$NON-NLS-1$
+        if (DIALECT_TOP.equals(dialect)) {
+            // the SQL builder starts the statement with SELECT or SELECT DISTINCT
+            method.addBodyLine(
+                    "String select = example.isDistinct()" //$NON-NLS-1$
+                            + " ? \"SELECT DISTINCT \" : \"SELECT \";"); //$NON-NLS-1$
+            method.addBodyLine("if (!statement.startsWith(select)) {"); //$NON-NLS-1$
+            method.addBodyLine(
+                    "throw new IllegalStateException(" //$NON-NLS-1$
+                            + "\"Cannot add TOP to the statement: \" + statement);"); //$NON-NLS-1$
+            method.addBodyLine("}"); //$NON-NLS-1$
+            method.addBodyLine(
+                    "statement = select + \"TOP (#{limit}) \"" //$NON-NLS-1$
+                            + " + statement.substring(select.length());"); //$NON-NLS-1$
+        } else if (DIALECT_ROWNUM.equals(dialect)) {
+            method.addBodyLine(
+                    "statement = \"select * from (select row_.*, rownum rownum_" //$NON-NLS-1$
+                            + " from (\"" //$NON-NLS-1$
+                            + " + statement" //$NON-NLS-1$
+                            + " + \") row_ where rownum <= #{offset} + #{limit})" //$NON-NLS-1$
+                            + " where rownum_ > #{offset}\";"); //$NON-NLS-1$
+        } else if (DIALECT_OFFSET_FETCH.equals(dialect)) {
+            method.addBodyLine(
+                    "statement += \" offset #{offset} rows" //$NON-NLS-1$
+                            + " fetch next #{limit} rows only\";"); //$NON-NLS-1$
+        } else {
+            method.addBodyLine("statement += \" limit #{limit} offset #{offset}\";"); //$NON-NLS-1$
+        }
+        method.addBodyLine("}"); //$NON-NLS-1$
+        method.addBodyLine("return statement;"); //$NON-NLS-1$
+    }
+}
@@ -0,0 +1,287 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.plugins;
+
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.IntrospectedTable.TargetRuntime;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.internal.ObjectFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.mybatis.generator.internal.util.StringUtility.stringHasValue;
+import static org.mybatis.generator.internal.util.messages.Messages.getString;
+
+/**
+ * This plugin adds streaming versions of the selectByExample and selectAll methods to the
+ * generated mapper interface, so that large tables can be read without materializing the whole
+ * result list. For each select method two methods are added:
+ *
+ * <ul>
+ *   <li><code>xxxWithCursor</code> returns an <code>org.apache.ibatis.cursor.Cursor</code> of
+ *       records. The cursor must be closed by the caller, and is only usable while the session is
+ *       open.
+ *   <li><code>xxxWithResultHandler</code> passes each record to an <code>
+ *       org.apache.ibatis.session.ResultHandler</code>.
+ * </ul>
+ *
+ * <p>The statements of the new methods use a forward only result set. This plugin accepts one
+ * property:
+ *
+ * <ul>
+ *   <li><code>fetchSize</code> (optional) the JDBC fetch size of the streaming statements. Some
+ *       drivers read the whole result set into memory unless a fetch size is set. If not
+ *       specified, the driver default is used.
+ * </ul>
+ *
+ * <p>This plugin is only valid for the MyBatis3 and MyBatis3Simple target runtimes.
+ */
+public class StreamingSelectPlugin extends PluginAdapter {
+
+    private static final String CURSOR_SUFFIX = "WithCursor"; // $NON-NLS-1$
+    private static final String RESULT_HANDLER_SUFFIX = "WithResultHandler"; // $NON-NLS-1$
+
+    /** Table attribute that holds the XML elements to add when the document is generated. */
+    private static final String ELEMENTS_TO_ADD =
+            StreamingSelectPlugin.class.getName() + ".elementsToAdd"; // $NON-NLS-1$
+
+    private FullyQualifiedJavaType cursor =
+            new FullyQualifiedJavaType("org.apache.ibatis.cursor.Cursor"); // $NON-NLS-1$
+    private FullyQualifiedJavaType resultHandler =
+            new FullyQualifiedJavaType("org.apache.ibatis.session.ResultHandler"); // $NON-NLS-1$
+    private FullyQualifiedJavaType options =
+            new FullyQualifiedJavaType("org.apache.ibatis.annotations.Options"); // $NON-NLS-1$
+    private FullyQualifiedJavaType resultSetType =
+            new FullyQualifiedJavaType("org.apache.ibatis.mapping.ResultSetType"); // $NON-NLS-1$
+    private FullyQualifiedJavaType resultType =
+            new FullyQualifiedJavaType("org.apache.ibatis.annotations.ResultType"); // $NON-NLS-1$
+
+    private String fetchSize;
+
+    @Override
+    public boolean validate(List<String> warnings) {
+        if (ObjectFactory.createIntrospectedTableForValidation(context).getTargetRuntime()
+                != TargetRuntime.MYBATIS3) {
+            warnings.add(
+                    getString(
+                            "Warning.37", //$NON-NLS-1$
+                            "StreamingSelectPlugin")); //$NON-NLS-1$
+            return false;
+        }
+
+        fetchSize = properties.getProperty("fetchSize"); // $NON-NLS-1$
+        if (stringHasValue(fetchSize)) {
+            boolean valid;
+            try {
+                valid = Integer.parseInt(fetchSize) > 0;
+            } catch (NumberFormatException e) {
+                valid = false;
+            }
+            if (!valid) {
+                warnings.add(
+                        getString(
+                                "Warning.38", //$NON-NLS-1$
+                                "fetchSize", //$NON-NLS-1$
+                                "StreamingSelectPlugin")); //$NON-NLS-1$
+                return false;
+            }
+        } else {
+            fetchSize = null;
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean clientSelectByExampleWithBLOBsMethodGenerated(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        addStreamingMethods(method, interfaze, introspectedTable);
+        return true;
+    }
+
+    @Override
+    public boolean clientSelectByExampleWithoutBLOBsMethodGenerated(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        addStreamingMethods(method, interfaze, introspectedTable);
+        return true;
+    }
+
+    @Override
+    public boolean clientSelectAllMethodGenerated(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        addStreamingMethods(method, interfaze, introspectedTable);
+        return true;
+    }
+
+    @Override
+    public boolean sqlMapSelectByExampleWithBLOBsElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        copyAndSaveElements(element, introspectedTable);
+        return true;
+    }
+
+    @Override
+    public boolean sqlMapSelectByExampleWithoutBLOBsElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        copyAndSaveElements(element, introspectedTable);
+        return true;
+    }
+
+    @Override
+    public boolean sqlMapSelectAllElementGenerated(
+            XmlElement element, IntrospectedTable introspectedTable) {
+        copyAndSaveElements(element, introspectedTable);
+        return true;
+    }
+
+    /** Add the elements saved by the previous calls for this table. */
+    @Override
+    public boolean sqlMapDocumentGenerated(Document document, IntrospectedTable introspectedTable) {
+        List<XmlElement> elements = getElementsToAdd(introspectedTable);
+        for (XmlElement element : elements) {
+            document.getRootElement().addElement(element);
+        }
+        elements.clear();
+
+        return true;
+    }
+
+    private void addStreamingMethods(
+            Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+        if (introspectedTable.getTargetRuntime() != TargetRuntime.MYBATIS3
+                || !method.getReturnType().isPresent()
+                || method.getReturnType().get().getTypeArguments().isEmpty()) {
+            return;
+        }
+
+        FullyQualifiedJavaType recordType = method.getReturnType().get().getTypeArguments().get(0);
+        boolean annotated = isAnnotated(method);
+
+        Method cursorMethod = new Method(method);
+        cursorMethod.setName(method.getName() + CURSOR_SUFFIX);
+        FullyQualifiedJavaType cursorType =
+                new FullyQualifiedJavaType(cursor.getFullyQualifiedName());
+        cursorType.addTypeArgument(recordType);
+        cursorMethod.setReturnType(cursorType);
+        if (annotated) {
+            cursorMethod.addAnnotation(getOptionsAnnotation());
+        }
+        interfaze.addMethod(cursorMethod);
+        interfaze.addImportedType(cursor);
+
+        Method resultHandlerMethod = new Method(method);
+        resultHandlerMethod.setName(method.getName() + RESULT_HANDLER_SUFFIX);
+        resultHandlerMethod.setReturnType(null);
+        FullyQualifiedJavaType handlerType =
+                new FullyQualifiedJavaType(resultHandler.getFullyQualifiedName());
+        handlerType.addTypeArgument(recordType);
+        resultHandlerMethod.addParameter(new Parameter(handlerType, "handler")); // $NON-NLS-1$
+        if (annotated) {
+            // MyBatis cannot derive the result type of a void method from the results annotation
+            resultHandlerMethod.addAnnotation(
+                    "@ResultType(" + recordType.getShortName() + ".class)"); // $NON-NLS-1$
+            resultHandlerMethod.addAnnotation(getOptionsAnnotation());
+        }
+        interfaze.addMethod(resultHandlerMethod);
+        interfaze.addImportedType(resultHandler);
+
+        if (annotated) {
+            interfaze.addImportedType(options);
+            interfaze.addImportedType(resultSetType);
+            interfaze.addImportedType(resultType);
+        }
+    }
+
+    private boolean isAnnotated(Method method) {
+        for (String annotation : method.getAnnotations()) {
+            if (annotation.startsWith("@Select")) { // $NON-NLS-1$
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String getOptionsAnnotation() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("@Options("); // $NON-NLS-1$
+        if (fetchSize != null) {
+            sb.append("fetchSize="); // $NON-NLS-1$
+            sb.append(fetchSize);
+            sb.append(", "); // $NON-NLS-1$
+        }
+        sb.append("resultSetType=ResultSetType.FORWARD_ONLY)"); // $NON-NLS-1$
+        return sb.toString();
+    }
+
+    private void copyAndSaveElements(XmlElement element, IntrospectedTable introspectedTable) {
+        if (introspectedTable.getTargetRuntime() != TargetRuntime.MYBATIS3) {
+            return;
+        }
+
+        List<XmlElement> elements = getElementsToAdd(introspectedTable);
+        elements.add(copyElement(element, CURSOR_SUFFIX));
+        elements.add(copyElement(element, RESULT_HANDLER_SUFFIX));
+    }
+
+    private XmlElement copyElement(XmlElement element, String idSuffix) {
+        XmlElement newElement = new XmlElement(element);
+
+        // replace the id attribute
+        for (Iterator<Attribute> iterator = newElement.getAttributes().iterator();
+                iterator.hasNext(); ) {
+            Attribute attribute = iterator.next();
+            if ("id".equals(attribute.getName())) { // $NON-NLS-1$
+                iterator.remove();
+                newElement.addAttribute(
+                        new Attribute("id", attribute.getValue() + idSuffix)); // $NON-NLS-1$
+                break;
+            }
+        }
+
+        if (fetchSize != null) {
+            newElement.addAttribute(new Attribute("fetchSize", fetchSize)); // $NON-NLS-1$
+        }
+        newElement.addAttribute(
+                new Attribute("resultSetType", "FORWARD_ONLY")); // $NON-NLS-1$ //$NON-NLS-2$
+
+        return newElement;
+    }
+
+    /**
+     * The elements are kept in a table attribute rather than in a field of the plugin because
+     * tables may be generated on several threads.
+     *
+     * @param introspectedTable the table
+     * @return the elements to add to the table's XML mapper
+     */
+    @SuppressWarnings("unchecked")
+    private List<XmlElement> getElementsToAdd(IntrospectedTable introspectedTable) {
+        List<XmlElement> elements =
+                (List<XmlElement>) introspectedTable.getAttribute(ELEMENTS_TO_ADD);
+        if (elements == null) {
+            elements = new ArrayList<>();
+            introspectedTable.setAttribute(ELEMENTS_TO_ADD, elements);
+        }
+        return elements;
+    }
+}
@@ -38,6 +38,11 @@ public class ToStringPlugin extends PluginAdapter {
         return true;
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     @Override
     public boolean modelBaseRecordClassGenerated(
             TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
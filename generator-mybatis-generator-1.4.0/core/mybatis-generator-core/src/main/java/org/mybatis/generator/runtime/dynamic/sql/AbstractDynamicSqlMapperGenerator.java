@@ -45,7 +45,7 @@ public abstract class AbstractDynamicSqlMapperGenerator extends AbstractJavaClie
     }
 
     protected void preCalculate() {
-        recordType = new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+        recordType = FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         resultMapId = recordType.getShortNameWithoutTypeArguments() + "Result"; // $NON-NLS-1$
         tableFieldName =
                 JavaBeansUtil.getValidPropertyName(
@@ -60,12 +60,12 @@ public abstract class AbstractDynamicSqlMapperGenerator extends AbstractJavaClie
 
     protected Interface createBasicInterface() {
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatis3JavaMapperType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatis3JavaMapperType());
         Interface interfaze = new Interface(type);
         interfaze.setVisibility(JavaVisibility.PUBLIC);
         context.getCommentGenerator().addJavaFileComment(interfaze);
         interfaze.addImportedType(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Mapper")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Mapper")); // $NON-NLS-1$
         interfaze.addAnnotation("@Mapper"); // $NON-NLS-1$
 
         String rootInterface =
@@ -78,7 +78,7 @@ public abstract class AbstractDynamicSqlMapperGenerator extends AbstractJavaClie
         }
 
         if (stringHasValue(rootInterface)) {
-            FullyQualifiedJavaType fqjt = new FullyQualifiedJavaType(rootInterface);
+            FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of(rootInterface);
             interfaze.addSuperInterface(fqjt);
             interfaze.addImportedType(fqjt);
         }
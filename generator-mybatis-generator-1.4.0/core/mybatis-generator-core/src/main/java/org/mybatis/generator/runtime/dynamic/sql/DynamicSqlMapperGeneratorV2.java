@@ -67,6 +67,7 @@ public class DynamicSqlMapperGeneratorV2 extends AbstractDynamicSqlMapperGenerat
         addSelectByExampleMethod(interfaze);
         addSelectDistinctByExampleMethod(interfaze);
         addSelectByPrimaryKeyMethod(interfaze);
+        addSelectByPrimaryKeysMethod(interfaze);
         addUpdateByExampleMethod(interfaze);
         addUpdateAllMethod(interfaze);
         addUpdateSelectiveMethod(interfaze);
@@ -298,6 +299,22 @@ public class DynamicSqlMapperGeneratorV2 extends AbstractDynamicSqlMapperGenerat
         generate(interfaze, generator);
     }
 
+    protected void addSelectByPrimaryKeysMethod(Interface interfaze) {
+        SelectByPrimaryKeysMethodGeneratorV2.Builder builder =
+                new SelectByPrimaryKeysMethodGeneratorV2.Builder()
+                        .withContext(context)
+                        .withIntrospectedTable(introspectedTable)
+                        .withTableFieldName(tableFieldName)
+                        .withRecordType(recordType);
+
+        int methodCount = interfaze.getMethods().size();
+        generate(interfaze, builder.build());
+        // the chunked method calls the plain method, so it is only added along with it
+        if (interfaze.getMethods().size() > methodCount) {
+            generate(interfaze, builder.withChunked(true).build());
+        }
+    }
+
     protected void addUpdateByPrimaryKeyMethod(Interface interfaze) {
         UpdateByPrimaryKeyMethodGeneratorV2 generator =
                 new UpdateByPrimaryKeyMethodGeneratorV2.Builder()
@@ -47,7 +47,7 @@ public class DynamicSqlModelGenerator extends AbstractJavaGenerator {
         CommentGenerator commentGenerator = context.getCommentGenerator();
 
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getBaseRecordType());
+                FullyQualifiedJavaType.of(introspectedTable.getBaseRecordType());
         TopLevelClass topLevelClass = new TopLevelClass(type);
         topLevelClass.setVisibility(JavaVisibility.PUBLIC);
         commentGenerator.addJavaFileComment(topLevelClass);
@@ -72,7 +72,7 @@ public class DynamicSqlModelGenerator extends AbstractJavaGenerator {
 
         String rootClass = getRootClass();
         for (IntrospectedColumn introspectedColumn : introspectedColumns) {
-            if (RootClassInfo.getInstance(rootClass, warnings)
+            if (RootClassInfo.getInstance(rootClass, warnings, context.getGenerationScope())
                     .containsProperty(introspectedColumn)) {
                 continue;
             }
@@ -129,7 +129,7 @@ public class DynamicSqlModelGenerator extends AbstractJavaGenerator {
         FullyQualifiedJavaType superClass;
         String rootClass = getRootClass();
         if (rootClass != null) {
-            superClass = new FullyQualifiedJavaType(rootClass);
+            superClass = FullyQualifiedJavaType.of(rootClass);
         } else {
             superClass = null;
         }
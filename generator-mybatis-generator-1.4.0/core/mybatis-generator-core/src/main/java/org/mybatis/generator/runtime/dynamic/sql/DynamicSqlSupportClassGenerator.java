@@ -58,24 +58,24 @@ public class DynamicSqlSupportClassGenerator {
         topLevelClass.setVisibility(JavaVisibility.PUBLIC);
         topLevelClass.setFinal(true);
         topLevelClass.addImportedType(
-                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.SqlColumn")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.SqlColumn")); // $NON-NLS-1$
         topLevelClass.addImportedType(
-                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.SqlTable")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.SqlTable")); // $NON-NLS-1$
         topLevelClass.addImportedType(
-                new FullyQualifiedJavaType("java.sql.JDBCType")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("java.sql.JDBCType")); // $NON-NLS-1$
         return topLevelClass;
     }
 
     private InnerClass buildInnerTableClass(TopLevelClass topLevelClass) {
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         introspectedTable.getFullyQualifiedTable().getDomainObjectName());
         InnerClass innerClass = new InnerClass(fqjt.getShortName());
         innerClass.setVisibility(JavaVisibility.PUBLIC);
         innerClass.setStatic(true);
         innerClass.setFinal(true);
         innerClass.setSuperClass(
-                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.SqlTable")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.SqlTable")); // $NON-NLS-1$
 
         Method method = new Method(fqjt.getShortName());
         method.setVisibility(JavaVisibility.PUBLIC);
@@ -95,7 +95,7 @@ public class DynamicSqlSupportClassGenerator {
 
     private Field calculateTableDefinition(TopLevelClass topLevelClass) {
         FullyQualifiedJavaType fqjt =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         introspectedTable.getFullyQualifiedTable().getDomainObjectName());
         String fieldName =
                 JavaBeansUtil.getValidPropertyName(
@@ -160,7 +160,7 @@ public class DynamicSqlSupportClassGenerator {
         } else {
             typeParameter = column.getFullyQualifiedJavaType();
         }
-        return new FullyQualifiedJavaType(
+        return FullyQualifiedJavaType.of(
                 String.format("SqlColumn<%s>", typeParameter.getShortName())); // $NON-NLS-1$
     }
 
@@ -146,12 +146,12 @@ public class FragmentGenerator {
         MethodParts.Builder builder = new MethodParts.Builder();
 
         builder.withImport(
-                new FullyQualifiedJavaType("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
         builder.withImport(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.ConstructorArgs")); //$NON-NLS-1$
         builder.withImport(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Arg")); // $NON-NLS-1$
 
         builder.withAnnotation("@ConstructorArgs({"); // $NON-NLS-1$
 
@@ -208,7 +208,7 @@ public class FragmentGenerator {
 
         if (stringHasValue(introspectedColumn.getTypeHandler())) {
             FullyQualifiedJavaType fqjt =
-                    new FullyQualifiedJavaType(introspectedColumn.getTypeHandler());
+                    FullyQualifiedJavaType.of(introspectedColumn.getTypeHandler());
             imports.add(fqjt);
             sb.append(", typeHandler="); // $NON-NLS-1$
             sb.append(fqjt.getShortName());
@@ -229,11 +229,11 @@ public class FragmentGenerator {
         MethodParts.Builder builder = new MethodParts.Builder();
 
         builder.withImport(
-                new FullyQualifiedJavaType("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.type.JdbcType")); // $NON-NLS-1$
         builder.withImport(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Result")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Result")); // $NON-NLS-1$
         builder.withImport(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Results")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Results")); // $NON-NLS-1$
 
         builder.withAnnotation(
                 "@Results(id=\"" + resultMapId + "\", value = {"); // $NON-NLS-1$ //$NON-NLS-2$
@@ -289,7 +289,7 @@ public class FragmentGenerator {
 
         if (stringHasValue(introspectedColumn.getTypeHandler())) {
             FullyQualifiedJavaType fqjt =
-                    new FullyQualifiedJavaType(introspectedColumn.getTypeHandler());
+                    FullyQualifiedJavaType.of(introspectedColumn.getTypeHandler());
             imports.add(fqjt);
             sb.append(", typeHandler="); // $NON-NLS-1$
             sb.append(fqjt.getShortName());
@@ -316,7 +316,7 @@ public class FragmentGenerator {
                         introspectedColumn -> {
                             if (gk.isJdbcStandard()) {
                                 builder.withImport(
-                                        new FullyQualifiedJavaType(
+                                        FullyQualifiedJavaType.of(
                                                 "org.apache.ibatis.annotations.Options")); //$NON-NLS-1$
                                 sb.append(
                                         "@Options(useGeneratedKeys=true,keyProperty=\"record."); //$NON-NLS-1$
@@ -325,7 +325,7 @@ public class FragmentGenerator {
                                 builder.withAnnotation(sb.toString());
                             } else {
                                 builder.withImport(
-                                        new FullyQualifiedJavaType(
+                                        FullyQualifiedJavaType.of(
                                                 "org.apache.ibatis.annotations.SelectKey")); //$NON-NLS-1$
                                 FullyQualifiedJavaType fqjt =
                                         introspectedColumn.getFullyQualifiedJavaType();
@@ -38,13 +38,13 @@ public class BasicCountMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         FullyQualifiedJavaType parameterType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.render.SelectStatementProvider"); //$NON-NLS-1$
         FullyQualifiedJavaType adapter =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.SqlProviderAdapter"); //$NON-NLS-1$
         FullyQualifiedJavaType annotation =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.SelectProvider"); //$NON-NLS-1$
 
         imports.add(parameterType);
@@ -53,7 +53,7 @@ public class BasicCountMethodGenerator extends AbstractMethodGenerator {
 
         Method method = new Method("count"); // $NON-NLS-1$
         method.setAbstract(true);
-        method.setReturnType(new FullyQualifiedJavaType("long")); // $NON-NLS-1$
+        method.setReturnType(FullyQualifiedJavaType.of("long")); // $NON-NLS-1$
         method.addParameter(new Parameter(parameterType, "selectStatement")); // $NON-NLS-1$
         context.getCommentGenerator()
                 .addGeneralMethodAnnotation(method, introspectedTable, imports);
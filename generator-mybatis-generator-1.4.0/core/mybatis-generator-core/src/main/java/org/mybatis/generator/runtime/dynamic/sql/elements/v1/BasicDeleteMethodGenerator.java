@@ -39,13 +39,13 @@ public class BasicDeleteMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         FullyQualifiedJavaType parameterType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.delete.render.DeleteStatementProvider"); //$NON-NLS-1$
         FullyQualifiedJavaType adapter =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.SqlProviderAdapter"); //$NON-NLS-1$
         FullyQualifiedJavaType annotation =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.DeleteProvider"); //$NON-NLS-1$
 
         imports.add(parameterType);
@@ -47,14 +47,14 @@ public class BasicInsertMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         FullyQualifiedJavaType adapter =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.SqlProviderAdapter"); //$NON-NLS-1$
         FullyQualifiedJavaType annotation =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.InsertProvider"); //$NON-NLS-1$
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.insert.render.InsertStatementProvider")); //$NON-NLS-1$
         imports.add(adapter);
         imports.add(annotation);
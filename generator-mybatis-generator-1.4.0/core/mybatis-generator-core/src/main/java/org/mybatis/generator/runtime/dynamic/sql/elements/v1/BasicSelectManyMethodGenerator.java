@@ -45,13 +45,13 @@ public class BasicSelectManyMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         FullyQualifiedJavaType parameterType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.render.SelectStatementProvider"); //$NON-NLS-1$
         FullyQualifiedJavaType adapter =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.SqlProviderAdapter"); //$NON-NLS-1$
         FullyQualifiedJavaType annotation =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.SelectProvider"); //$NON-NLS-1$
 
         imports.add(parameterType);
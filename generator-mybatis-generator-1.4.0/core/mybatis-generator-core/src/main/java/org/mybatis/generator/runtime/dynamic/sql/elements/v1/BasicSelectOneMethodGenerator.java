@@ -51,13 +51,13 @@ public class BasicSelectOneMethodGenerator extends AbstractMethodGenerator {
                         || introspectedTable.getRules().generateSelectByExampleWithoutBLOBs();
 
         FullyQualifiedJavaType parameterType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.render.SelectStatementProvider"); //$NON-NLS-1$
         FullyQualifiedJavaType adapter =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.SqlProviderAdapter"); //$NON-NLS-1$
         FullyQualifiedJavaType annotation =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.SelectProvider"); //$NON-NLS-1$
 
         imports.add(parameterType);
@@ -83,7 +83,7 @@ public class BasicSelectOneMethodGenerator extends AbstractMethodGenerator {
         } else {
             if (reuseResultMap) {
                 FullyQualifiedJavaType rmAnnotation =
-                        new FullyQualifiedJavaType(
+                        FullyQualifiedJavaType.of(
                                 "org.apache.ibatis.annotations.ResultMap"); //$NON-NLS-1$
                 builder.withImport(rmAnnotation);
                 method.addAnnotation(
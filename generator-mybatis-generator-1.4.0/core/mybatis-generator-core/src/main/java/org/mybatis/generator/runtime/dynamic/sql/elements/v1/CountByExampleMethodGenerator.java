@@ -37,15 +37,15 @@ public class CountByExampleMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.QueryExpressionDSL")); //$NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.MyBatis3SelectModelAdapter")); //$NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.SqlBuilder")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.SqlBuilder")); // $NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.SelectDSL")); //$NON-NLS-1$
 
         Method method = new Method("countByExample"); // $NON-NLS-1$
@@ -54,7 +54,7 @@ public class CountByExampleMethodGenerator extends AbstractMethodGenerator {
                 .addGeneralMethodAnnotation(method, introspectedTable, imports);
 
         FullyQualifiedJavaType returnType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "QueryExpressionDSL<MyBatis3SelectModelAdapter<Long>>"); //$NON-NLS-1$
         method.setReturnType(returnType);
         method.addBodyLine(
@@ -37,10 +37,10 @@ public class DeleteByExampleMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.delete.DeleteDSL")); //$NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.delete.MyBatis3DeleteModelAdapter")); //$NON-NLS-1$
 
         Method method = new Method("deleteByExample"); // $NON-NLS-1$
@@ -49,7 +49,7 @@ public class DeleteByExampleMethodGenerator extends AbstractMethodGenerator {
                 .addGeneralMethodAnnotation(method, introspectedTable, imports);
 
         FullyQualifiedJavaType returnType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "DeleteDSL<MyBatis3DeleteModelAdapter<Integer>>"); //$NON-NLS-1$
         method.setReturnType(returnType);
         method.addBodyLine(
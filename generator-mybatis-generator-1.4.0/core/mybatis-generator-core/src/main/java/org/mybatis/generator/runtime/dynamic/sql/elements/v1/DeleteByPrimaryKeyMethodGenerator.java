@@ -44,7 +44,7 @@ public class DeleteByPrimaryKeyMethodGenerator extends AbstractMethodGenerator {
         Set<String> staticImports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.delete.DeleteDSL")); //$NON-NLS-1$
         staticImports.add("org.mybatis.dynamic.sql.SqlBuilder.*"); // $NON-NLS-1$
 
@@ -44,9 +44,9 @@ public class InsertSelectiveMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.SqlBuilder")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.SqlBuilder")); // $NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.render.RenderingStrategy")); //$NON-NLS-1$
         imports.add(recordType);
 
@@ -43,13 +43,13 @@ public class SelectByExampleMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.QueryExpressionDSL")); //$NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.MyBatis3SelectModelAdapter")); //$NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.SelectDSL")); //$NON-NLS-1$
         imports.add(FullyQualifiedJavaType.getNewListInstance());
         imports.add(recordType);
@@ -60,7 +60,7 @@ public class SelectByExampleMethodGenerator extends AbstractMethodGenerator {
                 .addGeneralMethodAnnotation(method, introspectedTable, imports);
 
         FullyQualifiedJavaType returnType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "QueryExpressionDSL<MyBatis3SelectModelAdapter<List<" //$NON-NLS-1$
                                 + recordType.getShortNameWithoutTypeArguments()
                                 + ">>>"); //$NON-NLS-1$
@@ -43,7 +43,7 @@ public class SelectByPrimaryKeyMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.SelectDSL")); //$NON-NLS-1$
         imports.add(recordType);
 
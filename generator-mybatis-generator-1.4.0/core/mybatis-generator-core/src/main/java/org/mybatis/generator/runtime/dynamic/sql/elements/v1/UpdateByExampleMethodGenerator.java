@@ -44,10 +44,10 @@ public class UpdateByExampleMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.update.UpdateDSL")); //$NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.update.MyBatis3UpdateModelAdapter")); //$NON-NLS-1$
         imports.add(recordType);
 
@@ -57,7 +57,7 @@ public class UpdateByExampleMethodGenerator extends AbstractMethodGenerator {
                 .addGeneralMethodAnnotation(method, introspectedTable, imports);
 
         FullyQualifiedJavaType returnType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "UpdateDSL<MyBatis3UpdateModelAdapter<Integer>>"); //$NON-NLS-1$
         method.setReturnType(returnType);
         method.addParameter(new Parameter(recordType, "record")); // $NON-NLS-1$
@@ -44,7 +44,7 @@ public class UpdateByPrimaryKeyMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.update.UpdateDSL")); //$NON-NLS-1$
         imports.add(recordType);
 
@@ -43,7 +43,7 @@ public class UpdateByPrimaryKeySelectiveMethodGenerator extends AbstractMethodGe
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.update.UpdateDSL")); //$NON-NLS-1$
         imports.add(recordType);
 
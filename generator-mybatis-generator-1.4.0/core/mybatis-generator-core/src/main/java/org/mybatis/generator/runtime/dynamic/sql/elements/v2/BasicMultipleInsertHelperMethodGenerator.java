@@ -41,7 +41,7 @@ public class BasicMultipleInsertHelperMethodGenerator extends AbstractMethodGene
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider")); //$NON-NLS-1$
 
         FullyQualifiedJavaType parameterType =
@@ -52,14 +52,14 @@ public class BasicMultipleInsertMethodGenerator extends AbstractMethodGenerator
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         FullyQualifiedJavaType adapter =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.SqlProviderAdapter"); //$NON-NLS-1$
         FullyQualifiedJavaType annotation =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.InsertProvider"); //$NON-NLS-1$
 
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.insert.render.MultiRowInsertStatementProvider")); //$NON-NLS-1$
         imports.add(adapter);
         imports.add(annotation);
@@ -88,9 +88,9 @@ public class BasicMultipleInsertMethodGenerator extends AbstractMethodGenerator
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         imports.add(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Insert")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Insert")); // $NON-NLS-1$
         imports.add(
-                new FullyQualifiedJavaType("org.apache.ibatis.annotations.Param")); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.apache.ibatis.annotations.Param")); // $NON-NLS-1$
 
         Parameter parm1 =
                 new Parameter(
@@ -135,7 +135,7 @@ public class BasicMultipleInsertMethodGenerator extends AbstractMethodGenerator
                             if (gk.isJdbcStandard()) {
                                 // only jdbc standard keys are supported for multiple insert
                                 builder.withImport(
-                                        new FullyQualifiedJavaType(
+                                        FullyQualifiedJavaType.of(
                                                 "org.apache.ibatis.annotations.Options")); //$NON-NLS-1$
                                 sb.append(
                                         "@Options(useGeneratedKeys=true,keyProperty=\"records."); //$NON-NLS-1$
@@ -47,17 +47,17 @@ public class BasicSelectOneMethodGeneratorV2 extends AbstractMethodGenerator {
                         || introspectedTable.getRules().generateSelectByExampleWithoutBLOBs();
 
         FullyQualifiedJavaType parameterType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.render.SelectStatementProvider"); //$NON-NLS-1$
         imports.add(parameterType);
 
         FullyQualifiedJavaType adapter =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.SqlProviderAdapter"); //$NON-NLS-1$
         imports.add(adapter);
 
         FullyQualifiedJavaType annotation =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.apache.ibatis.annotations.SelectProvider"); //$NON-NLS-1$
         imports.add(annotation);
 
@@ -86,7 +86,7 @@ public class BasicSelectOneMethodGeneratorV2 extends AbstractMethodGenerator {
         } else {
             if (reuseResultMap) {
                 FullyQualifiedJavaType rmAnnotation =
-                        new FullyQualifiedJavaType(
+                        FullyQualifiedJavaType.of(
                                 "org.apache.ibatis.annotations.ResultMap"); //$NON-NLS-1$
                 builder.withImport(rmAnnotation);
                 method.addAnnotation(
@@ -34,11 +34,11 @@ public class GeneralCountMethodGenerator extends AbstractMethodGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         FullyQualifiedJavaType parameterType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.CountDSLCompleter"); //$NON-NLS-1$
         imports.add(parameterType);
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
 
         Method method = new Method("count"); // $NON-NLS-1$
@@ -47,7 +47,7 @@ public class GeneralCountMethodGenerator extends AbstractMethodGenerator {
         context.getCommentGenerator()
                 .addGeneralMethodAnnotation(method, introspectedTable, imports);
 
-        method.setReturnType(new FullyQualifiedJavaType("long")); // $NON-NLS-1$
+        method.setReturnType(FullyQualifiedJavaType.of("long")); // $NON-NLS-1$
 
         method.addBodyLine(
                 "return MyBatis3Utils.countFrom(this::count, "
@@ -36,12 +36,12 @@ public class GeneralSelectDistinctMethodGenerator extends AbstractMethodGenerato
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         FullyQualifiedJavaType parameterType =
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.select.SelectDSLCompleter"); //$NON-NLS-1$
 
         imports.add(parameterType);
         imports.add(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.util.mybatis3.MyBatis3Utils")); //$NON-NLS-1$
 
         FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
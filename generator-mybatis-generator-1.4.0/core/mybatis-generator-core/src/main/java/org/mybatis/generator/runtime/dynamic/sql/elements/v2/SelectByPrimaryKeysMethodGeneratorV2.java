@@ -0,0 +1,230 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.runtime.dynamic.sql.elements.v2;
+
+import org.mybatis.generator.api.IntrospectedColumn;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.Parameter;
+import org.mybatis.generator.runtime.dynamic.sql.elements.AbstractMethodGenerator;
+import org.mybatis.generator.runtime.dynamic.sql.elements.MethodAndImports;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.mybatis.generator.internal.util.JavaBeansUtil.getGetterMethodName;
+
+/**
+ * Generates the selectByPrimaryKeys methods of a mapper. The plain method selects the records of
+ * all keys with a single statement. The chunked method splits the keys into statements of a
+ * maximum number of keys and calls the plain method for each of them.
+ */
+public class SelectByPrimaryKeysMethodGeneratorV2 extends AbstractMethodGenerator {
+    private FullyQualifiedJavaType recordType;
+    private boolean chunked;
+
+    private SelectByPrimaryKeysMethodGeneratorV2(Builder builder) {
+        super(builder);
+        recordType = builder.recordType;
+        chunked = builder.chunked;
+    }
+
+    @Override
+    public MethodAndImports generateMethodAndImports() {
+        if (!Utils.generateSelectByPrimaryKey(introspectedTable)
+                || !introspectedTable.getRules().generateSelectByPrimaryKeys()) {
+            return null;
+        }
+
+        Set<FullyQualifiedJavaType> imports = new HashSet<>();
+
+        FullyQualifiedJavaType returnType = FullyQualifiedJavaType.getNewListInstance();
+        returnType.addTypeArgument(recordType);
+        imports.add(returnType);
+
+        FullyQualifiedJavaType keyType = calculateKeyType();
+        FullyQualifiedJavaType parameterType =
+                new FullyQualifiedJavaType("java.util.Collection"); // $NON-NLS-1$
+        parameterType.addTypeArgument(keyType);
+        imports.add(parameterType);
+        imports.add(keyType);
+        imports.add(FullyQualifiedJavaType.getNewArrayListInstance());
+
+        Method method = new Method("selectByPrimaryKeys"); // $NON-NLS-1$
+        method.setDefault(true);
+        context.getCommentGenerator()
+                .addGeneralMethodAnnotation(method, introspectedTable, imports);
+        method.setReturnType(returnType);
+        method.addParameter(new Parameter(parameterType, "keys")); // $NON-NLS-1$
+
+        MethodAndImports.Builder builder =
+                MethodAndImports.withMethod(method)
+                        .withStaticImport("org.mybatis.dynamic.sql.SqlBuilder.*"); // $NON-NLS-1$
+
+        if (chunked) {
+            addChunkedBody(method, returnType, keyType);
+        } else {
+            method.addBodyLine("if (keys.isEmpty()) {"); // $NON-NLS-1$
+            method.addBodyLine("return new ArrayList<>();"); // $NON-NLS-1$
+            method.addBodyLine("}"); // $NON-NLS-1$
+
+            List<IntrospectedColumn> primaryKeyColumns = introspectedTable.getPrimaryKeyColumns();
+            if (primaryKeyColumns.size() == 1) {
+                method.addBodyLine(
+                        "return select(c -> c.where(" // $NON-NLS-1$
+                                + calculateFieldName(primaryKeyColumns.get(0))
+                                + ", isIn(keys)));"); // $NON-NLS-1$
+            } else {
+                addCompositeKeyBody(method, keyType, imports);
+            }
+        }
+
+        return builder.withImports(imports).build();
+    }
+
+    private FullyQualifiedJavaType calculateKeyType() {
+        List<IntrospectedColumn> primaryKeyColumns = introspectedTable.getPrimaryKeyColumns();
+        if (primaryKeyColumns.size() == 1) {
+            FullyQualifiedJavaType type = primaryKeyColumns.get(0).getFullyQualifiedJavaType();
+            if (type.isPrimitive()) {
+                type = type.getPrimitiveTypeWrapper();
+            }
+            return type;
+        } else {
+            return recordType;
+        }
+    }
+
+    private void addChunkedBody(
+            Method method, FullyQualifiedJavaType returnType, FullyQualifiedJavaType keyType) {
+        method.addParameter(
+                new Parameter(
+                        FullyQualifiedJavaType.getIntInstance(),
+                        "maxKeysPerStatement")); // $NON-NLS-1$
+
+        FullyQualifiedJavaType keyListType = FullyQualifiedJavaType.getNewListInstance();
+        keyListType.addTypeArgument(keyType);
+
+        method.addBodyLine("if (maxKeysPerStatement < 1) {"); // $NON-NLS-1$
+        method.addBodyLine(
+                "throw new IllegalArgumentException(" // $NON-NLS-1$
+                        + "\"maxKeysPerStatement must be positive\");"); // $NON-NLS-1$
+        method.addBodyLine("}"); // $NON-NLS-1$
+        method.addBodyLine(
+                keyListType.getShortName() + " keyList = new ArrayList<>(keys);"); // $NON-NLS-1$
+        method.addBodyLine(
+                returnType.getShortName() + " records = new ArrayList<>();"); // $NON-NLS-1$
+        method.addBodyLine(
+                "for (int i = 0; i < keyList.size(); i += maxKeysPerStatement) {"); // $NON-NLS-1$
+        method.addBodyLine(
+                "int end = Math.min(i + maxKeysPerStatement, keyList.size());"); // $NON-NLS-1$
+        method.addBodyLine(
+                "records.addAll(selectByPrimaryKeys(keyList.subList(i, end)));"); // $NON-NLS-1$
+        method.addBodyLine("}"); // $NON-NLS-1$
+        method.addBodyLine("return records;"); // $NON-NLS-1$
+    }
+
+    private void addCompositeKeyBody(
+            Method method, FullyQualifiedJavaType keyType, Set<FullyQualifiedJavaType> imports) {
+        FullyQualifiedJavaType iteratorType = FullyQualifiedJavaType.getNewIteratorInstance();
+        iteratorType.addTypeArgument(keyType);
+        imports.add(iteratorType);
+        imports.add(
+                new FullyQualifiedJavaType(
+                        "org.mybatis.dynamic.sql.select.QueryExpressionDSL")); // $NON-NLS-1$
+        imports.add(
+                new FullyQualifiedJavaType(
+                        "org.mybatis.dynamic.sql.select.SelectModel")); // $NON-NLS-1$
+
+        method.addBodyLine("return select(c -> {"); // $NON-NLS-1$
+        method.addBodyLine(
+                iteratorType.getShortName() + " iter = keys.iterator();"); // $NON-NLS-1$
+        method.addBodyLine(keyType.getShortName() + " key = iter.next();"); // $NON-NLS-1$
+        method.addBodyLine(
+                "QueryExpressionDSL<SelectModel>.QueryExpressionWhereBuilder" //$NON-NLS-1$
+                        + " where ="); // $NON-NLS-1$
+        method.addBodyLine("        c.where(" + getKeyCriteria("key") + ");"); // $NON-NLS-1$
+        method.addBodyLine("while (iter.hasNext()) {"); // $NON-NLS-1$
+        method.addBodyLine(keyType.getShortName() + " nextKey = iter.next();"); // $NON-NLS-1$
+        method.addBodyLine("where.or(" + getKeyCriteria("nextKey") + ");"); // $NON-NLS-1$
+        method.addBodyLine("}"); // $NON-NLS-1$
+        method.addBodyLine("return where;"); // $NON-NLS-1$
+        method.addBodyLine("});"); // $NON-NLS-1$
+    }
+
+    private String getKeyCriteria(String keyName) {
+        StringBuilder sb = new StringBuilder();
+        Iterator<IntrospectedColumn> iter = introspectedTable.getPrimaryKeyColumns().iterator();
+        boolean first = true;
+        while (iter.hasNext()) {
+            IntrospectedColumn column = iter.next();
+            if (!first) {
+                sb.append(", and("); // $NON-NLS-1$
+            }
+            sb.append(calculateFieldName(column));
+            sb.append(", isEqualTo("); // $NON-NLS-1$
+            sb.append(keyName);
+            sb.append('.');
+            sb.append(
+                    getGetterMethodName(
+                            column.getJavaProperty(), column.getFullyQualifiedJavaType()));
+            sb.append("())"); // $NON-NLS-1$
+            if (!first) {
+                sb.append(')');
+            }
+            first = false;
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean callPlugins(Method method, Interface interfaze) {
+        if (chunked) {
+            // the chunked method is only added along with the plain method, which the plugins
+            // have already accepted
+            return true;
+        }
+
+        return context.getPlugins()
+                .clientSelectByPrimaryKeysMethodGenerated(method, interfaze, introspectedTable);
+    }
+
+    public static class Builder extends BaseBuilder<Builder, SelectByPrimaryKeysMethodGeneratorV2> {
+        private FullyQualifiedJavaType recordType;
+        private boolean chunked;
+
+        public Builder withRecordType(FullyQualifiedJavaType recordType) {
+            this.recordType = recordType;
+            return this;
+        }
+
+        public Builder withChunked(boolean chunked) {
+            this.chunked = chunked;
+            return this;
+        }
+
+        @Override
+        public Builder getThis() {
+            return this;
+        }
+
+        @Override
+        public SelectByPrimaryKeysMethodGeneratorV2 build() {
+            return new SelectByPrimaryKeysMethodGeneratorV2(this);
+        }
+    }
+}
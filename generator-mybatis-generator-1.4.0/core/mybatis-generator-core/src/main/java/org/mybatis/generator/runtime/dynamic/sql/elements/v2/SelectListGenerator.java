@@ -41,7 +41,7 @@ public class SelectListGenerator {
         Set<FullyQualifiedJavaType> imports = new HashSet<>();
 
         FullyQualifiedJavaType fieldType =
-                new FullyQualifiedJavaType("org.mybatis.dynamic.sql.BasicColumn[]"); // $NON-NLS-1$
+                FullyQualifiedJavaType.of("org.mybatis.dynamic.sql.BasicColumn[]"); // $NON-NLS-1$
         imports.add(fieldType);
         Field field = new Field("selectList", fieldType); // $NON-NLS-1$
         field.setInitializationString(
@@ -42,7 +42,7 @@ public class UpdateSelectiveColumnsMethodGenerator extends AbstractMethodGenerat
                 new FullyQualifiedJavaType(
                         "org.mybatis.dynamic.sql.update.UpdateDSL"); //$NON-NLS-1$
         parameterAndReturnType.addTypeArgument(
-                new FullyQualifiedJavaType(
+                FullyQualifiedJavaType.of(
                         "org.mybatis.dynamic.sql.update.UpdateModel")); //$NON-NLS-1$
         imports.add(parameterAndReturnType);
 
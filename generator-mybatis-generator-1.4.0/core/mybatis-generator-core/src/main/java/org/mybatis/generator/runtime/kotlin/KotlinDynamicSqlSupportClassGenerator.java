@@ -42,7 +42,7 @@ public class KotlinDynamicSqlSupportClassGenerator {
 
     private void generate() {
         FullyQualifiedJavaType type =
-                new FullyQualifiedJavaType(introspectedTable.getMyBatisDynamicSqlSupportType());
+                FullyQualifiedJavaType.of(introspectedTable.getMyBatisDynamicSqlSupportType());
 
         kotlinFile = buildBasicFile(type);
 
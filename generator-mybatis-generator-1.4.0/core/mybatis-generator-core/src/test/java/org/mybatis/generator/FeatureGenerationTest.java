@@ -0,0 +1,481 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.IntrospectedTable;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.config.PluginConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mybatis.generator.GenerationTestUtilities.assertOrdered;
+import static org.mybatis.generator.GenerationTestUtilities.findFile;
+import static org.mybatis.generator.GenerationTestUtilities.generateFiles;
+
+/**
+ * Checks the statements and methods added by the insert batch and select by primary keys
+ * options and by the pagination and streaming plugins. The runtime behavior of these statements
+ * is covered by the system tests.
+ */
+public class FeatureGenerationTest {
+
+    private static final String CONFIG_FILE = "/scripts/generatorConfig_Features.xml";
+
+    private static List<String> files;
+
+    @BeforeAll
+    public static void generate() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        files = generateFiles(CONFIG_FILE, context -> {}, new ArrayList<>());
+    }
+
+    private static String generatedFile(String name) {
+        return findFile(files, "mbg.test.mb3.generated.features." + name);
+    }
+
+    @Test
+    public void testInsertBatchIsGeneratedForEnabledTables() {
+        String xmlMapper = generatedFile("flat.xml.AwfulTableMapper.xml");
+        assertTrue(xmlMapper.contains("<insert id=\"insertBatch\""));
+        assertTrue(
+                xmlMapper.contains(
+                        "parameterType=\"java.util.List\" useGeneratedKeys=\"true\""));
+        assertTrue(xmlMapper.contains("<foreach collection=\"list\" item=\"item\""));
+        assertTrue(xmlMapper.contains("#{item.firstFirstName,jdbcType=VARCHAR}"));
+
+        String javaMapper = generatedFile("flat.mapper.AwfulTableMapper.java");
+        assertTrue(javaMapper.contains("int insertBatch(List<AwfulTable> records);"));
+        assertTrue(
+                javaMapper.contains(
+                        "default int insertBatch(List<AwfulTable> records,"
+                                + " int maxRowsPerStatement)"));
+        assertOrdered(
+                javaMapper,
+                "The list must not be empty, an insert without any rows is not valid SQL.",
+                "@mbg.generated",
+                "int insertBatch(List<AwfulTable> records);",
+                "Returns 0 without executing a statement if the list is empty.",
+                "@mbg.generated",
+                "if (records.isEmpty()) {",
+                "return 0;",
+                "rows += insertBatch(records.subList(i, end));");
+
+        String annotatedMapper = generatedFile("annotated.flat.mapper.AwfulTableMapper.java");
+        assertTrue(annotatedMapper.contains("\"<foreach collection=\\\"list\\\""));
+        assertTrue(annotatedMapper.contains("int insertBatch(List<AwfulTable> records);"));
+
+        // the mixed mapper annotates the method, so there is no XML element
+        String mixedXmlMapper = generatedFile("mixed.flat.xml.AwfulTableMapper.xml");
+        assertFalse(mixedXmlMapper.contains("insertBatch"));
+
+        // the statement is disabled by default
+        String disabledMapper = generatedFile("flat.xml.PkfieldsMapper.xml");
+        assertFalse(disabledMapper.contains("insertBatch"));
+    }
+
+    @Test
+    public void testPluginHooksAreCalledOncePerTable() throws Exception {
+        HookCountingPlugin.COUNTS.clear();
+
+        generateFiles(
+                CONFIG_FILE,
+                context -> {
+                    PluginConfiguration pluginConfiguration = new PluginConfiguration();
+                    pluginConfiguration.setConfigurationType(
+                            HookCountingPlugin.class.getName());
+                    context.addPluginConfiguration(pluginConfiguration);
+                },
+                new ArrayList<>());
+
+        assertTrue(HookCountingPlugin.COUNTS.containsKey("insertBatch FlatJava5.awful table"));
+        assertTrue(HookCountingPlugin.COUNTS.containsKey("selectByPrimaryKeys FlatJava5.PKFIELDS"));
+        assertTrue(HookCountingPlugin.COUNTS.containsKey("selectByPrimaryKeys dsqlv2.PKFIELDS"));
+        HookCountingPlugin.COUNTS.forEach(
+                (table, count) -> assertEquals(1, count.intValue(), table));
+    }
+
+    @Test
+    public void testSelectByPrimaryKeysIsGeneratedForEnabledTables() {
+        String xmlMapper = generatedFile("flat.xml.PkblobsMapper.xml");
+        assertTrue(
+                xmlMapper.contains(
+                        "<select id=\"selectByPrimaryKeys\" parameterType=\"java.util.Collection\""
+                                + " resultMap=\"ResultMapWithBLOBs\">"));
+        assertTrue(xmlMapper.contains("ID in"));
+        assertTrue(xmlMapper.contains("#{key,jdbcType=INTEGER}"));
+
+        String compositeXmlMapper = generatedFile("flat.xml.PkfieldsMapper.xml");
+        assertTrue(compositeXmlMapper.contains("separator=\" or \">"));
+        assertTrue(
+                compositeXmlMapper.contains(
+                        "(B.ID2 = #{key.id2,jdbcType=INTEGER}"
+                                + " and B.ID1 = #{key.id1,jdbcType=INTEGER})"));
+
+        String javaMapper = generatedFile("hierarchical.mapper.PkfieldsMapper.java");
+        assertTrue(
+                javaMapper.contains(
+                        "List<Pkfields> selectByPrimaryKeys(Collection<PkfieldsKey> keys);"));
+        assertTrue(
+                javaMapper.contains(
+                        "default List<Pkfields> selectByPrimaryKeys(Collection<PkfieldsKey> keys,"
+                                + " int maxKeysPerStatement)"));
+
+        String annotatedMapper = generatedFile("annotated.conditional.mapper.PkblobsMapper.java");
+        assertTrue(annotatedMapper.contains("\"<foreach collection=\\\"collection\\\""));
+        assertTrue(
+                annotatedMapper.contains(
+                        "List<Pkblobs> selectByPrimaryKeys(Collection<Integer> keys);"));
+
+        // the mixed mapper annotates the method, so there is no XML element
+        String mixedXmlMapper = generatedFile("mixed.flat.xml.PkfieldsMapper.xml");
+        assertFalse(mixedXmlMapper.contains("selectByPrimaryKeys"));
+
+        String dynamicSqlMapper = generatedFile("dsql.v2.mapper.PkfieldsMapper.java");
+        assertTrue(
+                dynamicSqlMapper.contains(
+                        "default List<Pkfields> selectByPrimaryKeys(Collection<Pkfields> keys) {"));
+        assertTrue(
+                dynamicSqlMapper.contains(
+                        "where.or(id2, isEqualTo(nextKey.getId2()),"
+                                + " and(id1, isEqualTo(nextKey.getId1())));"));
+
+        // the statement is disabled by default
+        String disabledMapper = generatedFile("flat.xml.PkonlyMapper.xml");
+        assertFalse(disabledMapper.contains("selectByPrimaryKeys"));
+    }
+
+    @Test
+    public void testSelectByPrimaryKeysSelectsNothingForEmptyCollection() {
+        // the in list and the or terms are only rendered for a non empty collection
+        String xmlMapper = generatedFile("flat.xml.PkblobsMapper.xml");
+        String select =
+                xmlMapper.substring(xmlMapper.indexOf("<select id=\"selectByPrimaryKeys\""));
+        select = select.substring(0, select.indexOf("</select>"));
+        assertOrdered(
+                select,
+                "where",
+                "<choose>",
+                "<when test=\"!collection.isEmpty()\">",
+                "ID in",
+                "<foreach",
+                "</foreach>",
+                "</when>",
+                "<otherwise>",
+                "1 = 0",
+                "</otherwise>",
+                "</choose>");
+
+        String compositeXmlMapper = generatedFile("flat.xml.PkfieldsMapper.xml");
+        select =
+                compositeXmlMapper.substring(
+                        compositeXmlMapper.indexOf("<select id=\"selectByPrimaryKeys\""));
+        select = select.substring(0, select.indexOf("</select>"));
+        assertOrdered(
+                select,
+                "where",
+                "<when test=\"!collection.isEmpty()\">",
+                "separator=\" or \">",
+                "</when>",
+                "1 = 0");
+
+        String annotatedMapper = generatedFile("annotated.conditional.mapper.PkblobsMapper.java");
+        assertOrdered(
+                annotatedMapper,
+                "\"where\",",
+                "\"<choose>\",",
+                "\"<when test=\\\"!collection.isEmpty()\\\">\",",
+                "\"ID in\",",
+                "\"</foreach>\",",
+                "\"</when>\",",
+                "\"<otherwise>\",",
+                "\"1 = 0\",",
+                "\"</otherwise>\",",
+                "\"</choose>\",",
+                "\"</script>\"");
+    }
+
+    @Test
+    public void testStreamingSelectPluginAddsCursorAndResultHandlerMethods() {
+        String xmlMapper = generatedFile("flat.xml.PkfieldsMapper.xml");
+        assertTrue(
+                xmlMapper.contains(
+                        "<select fetchSize=\"1000\" id=\"selectByExampleWithCursor\""));
+        assertTrue(xmlMapper.contains("id=\"selectByExampleWithResultHandler\""));
+        assertTrue(xmlMapper.contains("resultSetType=\"FORWARD_ONLY\""));
+
+        String javaMapper = generatedFile("flat.mapper.PkfieldsMapper.java");
+        assertTrue(
+                javaMapper.contains(
+                        "Cursor<Pkfields> selectByExampleWithCursor(PkfieldsExample example);"));
+        assertTrue(
+                javaMapper.contains(
+                        "void selectByExampleWithResultHandler(PkfieldsExample example,"
+                                + " ResultHandler<Pkfields> handler);"));
+
+        String annotatedMapper = generatedFile("annotated.flat.mapper.PkfieldsMapper.java");
+        assertTrue(annotatedMapper.contains("@Options(resultSetType=ResultSetType.FORWARD_ONLY)"));
+        assertTrue(annotatedMapper.contains("@ResultType(Pkfields.class)"));
+        assertTrue(annotatedMapper.contains("import org.apache.ibatis.annotations.ResultType;"));
+        assertTrue(annotatedMapper.contains("import org.apache.ibatis.mapping.ResultSetType;"));
+
+        String simpleMapper = generatedFile("simple.mapper.PkfieldsMapper.java");
+        assertTrue(simpleMapper.contains("Cursor<Pkfields> selectAllWithCursor();"));
+        assertTrue(
+                simpleMapper.contains(
+                        "void selectAllWithResultHandler(ResultHandler<Pkfields> handler);"));
+    }
+
+    @Test
+    public void testKeysetPaginationPluginAddsSelectPageAfter() {
+        String keyPredicate =
+                "(B.ID2 > #{lastKey.id2,jdbcType=INTEGER}"
+                        + " or (B.ID2 = #{lastKey.id2,jdbcType=INTEGER}"
+                        + " and B.ID1 > #{lastKey.id1,jdbcType=INTEGER}))";
+
+        String xmlMapper = generatedFile("flat.xml.PkfieldsMapper.xml");
+        assertTrue(
+                xmlMapper.contains(
+                        "<select id=\"selectPageAfter\" parameterType=\"map\""
+                                + " resultMap=\"BaseResultMap\">"));
+        assertTrue(xmlMapper.contains("<foreach collection=\"example.oredCriteria\""));
+        assertTrue(xmlMapper.contains("and " + keyPredicate.replace(">", "&gt;")));
+        assertTrue(xmlMapper.contains("order by B.ID2, B.ID1"));
+        assertTrue(xmlMapper.contains("limit #{limit}"));
+
+        String javaMapper = generatedFile("flat.mapper.PkfieldsMapper.java");
+        assertTrue(
+                javaMapper.contains(
+                        "List<Pkfields> selectPageAfter(@Param(\"lastKey\") Pkfields lastKey,"
+                                + " @Param(\"limit\") int limit,"
+                                + " @Param(\"example\") PkfieldsExample example);"));
+
+        String annotatedMapper = generatedFile("annotated.conditional.mapper.PkfieldsMapper.java");
+        assertTrue(
+                annotatedMapper.contains(
+                        "@SelectProvider(type=PkfieldsSqlProvider.class,"
+                                + " method=\"selectPageAfter\")"));
+        assertTrue(annotatedMapper.contains("@Param(\"lastKey\") PkfieldsKey lastKey"));
+
+        String provider = generatedFile("annotated.conditional.mapper.PkfieldsSqlProvider.java");
+        assertTrue(
+                provider.contains("public String selectPageAfter(Map<String, Object> parameter)"));
+        // the or'ed criteria of the example are grouped before the key predicate is and'ed
+        int applyWhere = provider.indexOf("applyKeysetWhere(sql, example, true);");
+        int keyWhere = provider.indexOf("sql.WHERE(\"" + keyPredicate + "\");");
+        assertTrue(applyWhere > 0);
+        assertTrue(keyWhere > applyWhere);
+        assertTrue(
+                provider.contains(
+                        "protected void applyKeysetWhere(SQL sql, PkfieldsExample example,"
+                                + " boolean includeExamplePhrase)"));
+        assertTrue(provider.contains("sql.WHERE(\"(\" + sb.toString() + ')');"));
+        assertTrue(provider.contains("applyWhere(sql, example, false);"));
+        assertTrue(provider.contains("sql.WHERE(sb.toString());"));
+        assertTrue(provider.contains("sql.ORDER_BY(\"B.ID2, B.ID1\");"));
+        assertTrue(
+                provider.contains("return sql.toString() + \" fetch first #{limit} rows only\";"));
+
+        String dynamicSqlMapper = generatedFile("dsql.v2.mapper.PkfieldsMapper.java");
+        assertTrue(
+                dynamicSqlMapper.contains(
+                        "default List<Pkfields> selectPageAfter(Pkfields lastKey, long limit) {"));
+        assertTrue(
+                dynamicSqlMapper.contains(
+                        ".or(id2, isEqualTo(lastKey::getId2),"
+                                + " and(id1, isGreaterThan(lastKey::getId1)))"));
+    }
+
+    @Test
+    public void testKeysetPaginationPluginSkipsUnrecognizedProviderMethod() throws Exception {
+        List<String> files = generateWithFirstPlugin(ProviderRewritingPlugin.class);
+
+        // neither the provider method nor the client method that calls it is generated
+        String annotatedMapper =
+                findFile(
+                        files,
+                        "mbg.test.mb3.generated.features.annotated.conditional.mapper"
+                                + ".PkfieldsMapper.java");
+        assertFalse(annotatedMapper.contains("selectPageAfter"));
+        String provider =
+                findFile(
+                        files,
+                        "mbg.test.mb3.generated.features.annotated.conditional.mapper"
+                                + ".PkfieldsSqlProvider.java");
+        assertFalse(provider.contains("selectPageAfter"));
+        assertFalse(provider.contains("applyKeysetWhere"));
+
+        // the XML mapper does not use the provider
+        String javaMapper =
+                findFile(files, "mbg.test.mb3.generated.features.flat.mapper.PkfieldsMapper.java");
+        assertTrue(javaMapper.contains("selectPageAfter"));
+    }
+
+    @Test
+    public void testKeysetPaginationPluginSkipsUnrecognizedProviderAnnotation() throws Exception {
+        List<String> files = generateWithFirstPlugin(AnnotationRewritingPlugin.class);
+
+        String annotatedMapper =
+                findFile(
+                        files,
+                        "mbg.test.mb3.generated.features.annotated.conditional.mapper"
+                                + ".PkfieldsMapper.java");
+        assertTrue(annotatedMapper.contains("method=\"selectByExampleFromView\")"));
+        assertFalse(annotatedMapper.contains("selectPageAfter"));
+    }
+
+    /** Generates the features with a plugin that is called before the configured plugins. */
+    private List<String> generateWithFirstPlugin(Class<? extends PluginAdapter> pluginClass)
+            throws Exception {
+        return generateFiles(
+                CONFIG_FILE,
+                context -> {
+                    PluginConfiguration pluginConfiguration = new PluginConfiguration();
+                    pluginConfiguration.setConfigurationType(pluginClass.getName());
+                    context.getPluginConfigurations().add(0, pluginConfiguration);
+                },
+                new ArrayList<>());
+    }
+
+    @Test
+    public void testPaginationPluginAddsLimitAndOffsetToSelectByExample() {
+        String example = generatedFile("flat.model.PkfieldsExample.java");
+        assertTrue(example.contains("protected Integer limit;"));
+        assertTrue(example.contains("protected int offset;"));
+        assertTrue(example.contains("public void setLimit(Integer limit) {"));
+        assertTrue(example.contains("public int getOffset() {"));
+        assertTrue(example.contains("limit = null;"));
+
+        String xmlMapper = generatedFile("flat.xml.PkfieldsMapper.xml");
+        assertTrue(xmlMapper.contains("<if test=\"limit != null\">"));
+        assertTrue(xmlMapper.contains("limit #{limit} offset #{offset}"));
+
+        String rownumMapper = generatedFile("hierarchical.xml.PkfieldsMapper.xml");
+        assertOrdered(
+                rownumMapper,
+                "<select id=\"selectByExample\"",
+                "-->",
+                "select * from (select row_.*, rownum rownum_ from (",
+                "select",
+                "<if test=\"distinct\">");
+        assertTrue(
+                rownumMapper.contains(
+                        ") row_ where rownum &lt;= #{offset} + #{limit})"
+                                + " where rownum_ &gt; #{offset}"));
+
+        String topProvider = generatedFile("annotated.flat.mapper.PkfieldsSqlProvider.java");
+        assertTrue(
+                topProvider.contains(
+                        "String select = example.isDistinct()"
+                                + " ? \"SELECT DISTINCT \" : \"SELECT \";"));
+        assertTrue(topProvider.contains("if (!statement.startsWith(select)) {"));
+        assertTrue(
+                topProvider.contains(
+                        "statement = select + \"TOP (#{limit}) \""
+                                + " + statement.substring(select.length());"));
+        assertTrue(topProvider.contains("return statement;"));
+
+        String topExample = generatedFile("annotated.flat.model.PkfieldsExample.java");
+        assertTrue(topExample.contains("protected Integer limit;"));
+        assertFalse(topExample.contains("offset"));
+
+        String offsetFetchProvider =
+                generatedFile("annotated.hierarchical.mapper.PkfieldsSqlProvider.java");
+        assertTrue(
+                offsetFetchProvider.contains(
+                        "statement += \" offset #{offset} rows fetch next #{limit} rows only\";"));
+    }
+
+    /**
+     * Counts the insert batch and select by primary keys methods passed to the plugins, by
+     * context and table.
+     */
+    public static class HookCountingPlugin extends PluginAdapter {
+
+        static final Map<String, Integer> COUNTS = new ConcurrentHashMap<>();
+
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public boolean clientInsertBatchMethodGenerated(
+                Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+            count("insertBatch", introspectedTable);
+            return true;
+        }
+
+        @Override
+        public boolean clientSelectByPrimaryKeysMethodGenerated(
+                Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+            count("selectByPrimaryKeys", introspectedTable);
+            return true;
+        }
+
+        private void count(String hook, IntrospectedTable introspectedTable) {
+            COUNTS.merge(
+                    hook + " " + context.getId() + "." + introspectedTable.getFullyQualifiedTable(),
+                    1,
+                    Integer::sum);
+        }
+    }
+
+    /** Rewrites the selectByExample provider method without a call to applyWhere. */
+    public static class ProviderRewritingPlugin extends PluginAdapter {
+
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public boolean providerSelectByExampleWithoutBLOBsMethodGenerated(
+                Method method, TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+            method.getBodyLines().removeIf(line -> line.startsWith("applyWhere("));
+            return true;
+        }
+    }
+
+    /** Points the selectByExample annotation to another provider method. */
+    public static class AnnotationRewritingPlugin extends PluginAdapter {
+
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public boolean clientSelectByExampleWithoutBLOBsMethodGenerated(
+                Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+            method.getAnnotations()
+                    .replaceAll(
+                            annotation ->
+                                    annotation.replace(
+                                            "method=\"selectByExample\"",
+                                            "method=\"selectByExampleFromView\""));
+            return true;
+        }
+    }
+}
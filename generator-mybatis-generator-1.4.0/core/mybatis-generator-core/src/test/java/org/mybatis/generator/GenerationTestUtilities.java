@@ -0,0 +1,110 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator;
+
+import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.config.CommentGeneratorConfiguration;
+import org.mybatis.generator.config.Configuration;
+import org.mybatis.generator.config.Context;
+import org.mybatis.generator.config.PropertyRegistry;
+import org.mybatis.generator.config.xml.ConfigurationParser;
+import org.mybatis.generator.internal.DefaultShellCallback;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Helpers shared by the tests that generate files from the configurations in the scripts
+ * directory and inspect the generated content.
+ */
+public class GenerationTestUtilities {
+
+    private GenerationTestUtilities() {}
+
+    /**
+     * Parses a configuration resource. Dates are suppressed in the generated comments so that the
+     * files of two runs can be compared.
+     */
+    public static Configuration parseConfiguration(
+            String configFile, Consumer<Context> customizer, List<String> warnings)
+            throws Exception {
+        ConfigurationParser cp = new ConfigurationParser(warnings);
+        Configuration config =
+                cp.parseConfiguration(GenerationTestUtilities.class.getResourceAsStream(configFile));
+
+        for (Context context : config.getContexts()) {
+            customizer.accept(context);
+            if (context.getCommentGeneratorConfiguration() == null) {
+                context.setCommentGeneratorConfiguration(new CommentGeneratorConfiguration());
+            }
+            context.getCommentGeneratorConfiguration()
+                    .addProperty(PropertyRegistry.COMMENT_GENERATOR_SUPPRESS_DATE, "true");
+        }
+
+        return config;
+    }
+
+    /**
+     * Generates the files of a configuration resource without writing them. Every file is
+     * described by its package qualified name, a line break and its formatted content.
+     */
+    public static List<String> generateFiles(
+            String configFile, Consumer<Context> customizer, List<String> warnings)
+            throws Exception {
+        Configuration config = parseConfiguration(configFile, customizer, warnings);
+
+        DefaultShellCallback shellCallback = new DefaultShellCallback(true);
+
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
+        myBatisGenerator.generate(null, null, null, false);
+
+        return Stream.of(
+                        myBatisGenerator.getGeneratedJavaFiles().stream(),
+                        myBatisGenerator.getGeneratedXmlFiles().stream(),
+                        myBatisGenerator.getGeneratedKotlinFiles().stream())
+                .flatMap(s -> s)
+                .map(GenerationTestUtilities::describe)
+                .collect(Collectors.toList());
+    }
+
+    public static String describe(GeneratedFile generatedFile) {
+        return generatedFile.getTargetPackage()
+                + "."
+                + generatedFile.getFileName()
+                + "\n"
+                + generatedFile.getFormattedContent();
+    }
+
+    public static String findFile(List<String> files, String name) {
+        return files.stream()
+                .filter(f -> f.startsWith(name + "\n"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Missing file " + name));
+    }
+
+    /** Asserts that the parts appear in the text in the given order. */
+    public static void assertOrdered(String text, String... parts) {
+        int index = 0;
+        for (String part : parts) {
+            int next = text.indexOf(part, index);
+            assertTrue(next >= 0, "Missing " + part);
+            index = next + part.length();
+        }
+    }
+}
@@ -53,6 +53,7 @@ public class JavaCodeGenerationTest {
         List<GeneratedJavaFile> generatedFiles = new ArrayList<>();
         generatedFiles.addAll(generateJavaFilesMybatis());
         generatedFiles.addAll(generateJavaFilesMybatisDsql());
+        generatedFiles.addAll(generateJavaFilesMybatisFeatures());
         return generatedFiles;
     }
 
@@ -66,6 +67,11 @@ public class JavaCodeGenerationTest {
         return generateJavaFiles("/scripts/generatorConfig_Dsql.xml");
     }
 
+    private static List<GeneratedJavaFile> generateJavaFilesMybatisFeatures() throws Exception {
+        createDatabase();
+        return generateJavaFiles("/scripts/generatorConfig_Features.xml");
+    }
+
     private static List<GeneratedJavaFile> generateJavaFiles(String configFile) throws Exception {
         List<String> warnings = new ArrayList<>();
         ConfigurationParser cp = new ConfigurationParser(warnings);
@@ -14,20 +14,55 @@
 package org.mybatis.generator;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mybatis.generator.api.GeneratedFile;
+import org.mybatis.generator.api.GeneratedFileConsumer;
+import org.mybatis.generator.api.GenerationMetrics;
+import org.mybatis.generator.api.IntrospectedTable;
 import org.mybatis.generator.api.MyBatisGenerator;
+import org.mybatis.generator.api.PluginAdapter;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
 import org.mybatis.generator.config.*;
 import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.internal.DefaultShellCallback;
+import org.mybatis.generator.internal.NullProgressCallback;
+import org.mybatis.generator.internal.util.messages.Messages;
 
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MyBatisGeneratorTest {
 
+    private static final String CONFIG_FILE = "/scripts/generatorConfig.xml";
+
     @Test
     public void testGenerateMyBatis3WithInvalidConfig() throws Exception {
         List<String> warnings = new ArrayList<>();
@@ -95,4 +130,769 @@ public class MyBatisGeneratorTest {
                         });
         assertEquals(3, e.getErrors().size());
     }
+
+    @Test
+    public void testParallelGenerationMatchesSequentialGeneration() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        List<String> sequentialWarnings = new ArrayList<>();
+        List<String> sequentialFiles =
+                generateFiles(
+                        PropertyRegistry.CONTEXT_GENERATION_THREADS, "1", sequentialWarnings);
+
+        List<String> parallelWarnings = new ArrayList<>();
+        List<String> parallelFiles =
+                generateFiles(PropertyRegistry.CONTEXT_GENERATION_THREADS, "4", parallelWarnings);
+
+        assertEquals(sequentialFiles, parallelFiles);
+        assertEquals(sequentialWarnings, parallelWarnings);
+    }
+
+    @Test
+    public void testParallelIntrospectionMatchesSequentialIntrospection() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        List<String> sequentialWarnings = new ArrayList<>();
+        List<String> sequentialFiles =
+                generateFiles(
+                        PropertyRegistry.CONTEXT_INTROSPECTION_THREADS, "1", sequentialWarnings);
+
+        List<String> parallelWarnings = new ArrayList<>();
+        List<String> parallelFiles =
+                generateFiles(
+                        PropertyRegistry.CONTEXT_INTROSPECTION_THREADS, "4", parallelWarnings);
+
+        assertEquals(sequentialFiles, parallelFiles);
+        assertEquals(sequentialWarnings, parallelWarnings);
+    }
+
+    @Test
+    public void testBulkIntrospectionMatchesTableByTableIntrospection() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        List<String> tableByTableWarnings = new ArrayList<>();
+        List<String> tableByTableFiles =
+                generateFiles(
+                        PropertyRegistry.CONTEXT_BULK_INTROSPECTION,
+                        "false",
+                        tableByTableWarnings);
+
+        List<String> bulkWarnings = new ArrayList<>();
+        List<String> bulkFiles =
+                generateFiles(PropertyRegistry.CONTEXT_BULK_INTROSPECTION, "true", bulkWarnings);
+
+        assertEquals(tableByTableFiles, bulkFiles);
+        assertEquals(tableByTableWarnings, bulkWarnings);
+    }
+
+    @Test
+    public void testIntrospectionSnapshotIsUsedWithoutDatabase(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Consumer<Context> useSnapshot =
+                context ->
+                        context.addProperty(
+                                PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT,
+                                tempDir.resolve(context.getId() + ".snapshot").toString());
+
+        List<String> databaseWarnings = new ArrayList<>();
+        List<String> databaseFiles = generateFiles(useSnapshot, databaseWarnings);
+        assertTrue(new File(tempDir.toFile(), "FlatJava5.snapshot").exists());
+
+        // the second run must not connect to the database - it would find no tables
+        List<String> snapshotWarnings = new ArrayList<>();
+        List<String> snapshotFiles;
+        dropDatabase();
+        try {
+            snapshotFiles = generateFiles(useSnapshot, snapshotWarnings);
+        } finally {
+            JavaCodeGenerationTest.createDatabase();
+        }
+
+        assertEquals(databaseFiles, snapshotFiles);
+        assertEquals(databaseWarnings, snapshotWarnings);
+
+        Properties snapshot = readProperties(new File(tempDir.toFile(), "FlatJava5.snapshot"));
+        assertEquals("FlatJava5", snapshot.getProperty("contextId"));
+        assertEquals("2", snapshot.getProperty("formatVersion"));
+    }
+
+    @Test
+    public void testIntrospectionSnapshotTakesPrecedenceOverIntrospectionThreads(
+            @TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        List<String> expectedWarnings = new ArrayList<>();
+        List<String> expectedFiles = generateFiles(context -> {}, expectedWarnings);
+
+        List<String> warnings = new ArrayList<>();
+        List<String> files =
+                generateFiles(
+                        context -> {
+                            context.addProperty(
+                                    PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT,
+                                    tempDir.resolve(context.getId() + ".snapshot").toString());
+                            context.addProperty(
+                                    PropertyRegistry.CONTEXT_INTROSPECTION_THREADS, "4");
+                        },
+                        warnings);
+
+        assertEquals(expectedFiles, files);
+        assertTrue(
+                warnings.contains(
+                        Messages.getString("Warning.43", "FlatJava5"))); //$NON-NLS-1$
+        warnings.removeIf(warning -> warning.startsWith("The introspectionThreads property"));
+        assertEquals(expectedWarnings, warnings);
+    }
+
+    @Test
+    public void testIntrospectionSnapshotIsReplacedForAnotherConnection(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        File snapshotFile = new File(tempDir.toFile(), "snapshot.properties");
+        Consumer<Context> useSnapshot =
+                context -> {
+                    if ("FlatJava5".equals(context.getId())) {
+                        context.addProperty(
+                                PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT,
+                                snapshotFile.getPath());
+                    }
+                };
+
+        List<String> databaseFiles = generateFiles(useSnapshot, new ArrayList<>());
+        String fingerprint = readProperties(snapshotFile).getProperty("fingerprint");
+
+        // the same database with another URL - the snapshot must be introspected again
+        Consumer<Context> useAnotherUrl =
+                useSnapshot.andThen(
+                        context -> {
+                            String url = "jdbc:hsqldb:mem:aname;ifexists=true";
+                            if (context.getJdbcConnectionConfiguration() != null) {
+                                context.getJdbcConnectionConfiguration().setConnectionURL(url);
+                            } else {
+                                context.getConnectionFactoryConfiguration()
+                                        .addProperty("connectionURL", url);
+                            }
+                        });
+        assertEquals(databaseFiles, generateFiles(useAnotherUrl, new ArrayList<>()));
+        String anotherUrlFingerprint = readProperties(snapshotFile).getProperty("fingerprint");
+        assertFalse(fingerprint.equals(anotherUrlFingerprint));
+
+        // a user supplied schema version is part of the fingerprint
+        Consumer<Context> useSchemaVersion =
+                useAnotherUrl.andThen(
+                        context ->
+                                context.addProperty(
+                                        PropertyRegistry
+                                                .CONTEXT_INTROSPECTION_SNAPSHOT_FINGERPRINT,
+                                        "42"));
+        assertEquals(databaseFiles, generateFiles(useSchemaVersion, new ArrayList<>()));
+        assertFalse(
+                anotherUrlFingerprint.equals(
+                        readProperties(snapshotFile).getProperty("fingerprint")));
+    }
+
+    @Test
+    public void testIntrospectionSnapshotInAnotherFormatIsReplaced(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        // a snapshot written with Java serialization by an earlier version
+        File snapshotFile = new File(tempDir.toFile(), "snapshot.properties");
+        Files.write(snapshotFile.toPath(), new byte[] {(byte) 0xac, (byte) 0xed, 0, 5, 's', 'r'});
+        Consumer<Context> useSnapshot =
+                context -> {
+                    if ("FlatJava5".equals(context.getId())) {
+                        context.addProperty(
+                                PropertyRegistry.CONTEXT_INTROSPECTION_SNAPSHOT,
+                                snapshotFile.getPath());
+                    }
+                };
+
+        List<String> warnings = new ArrayList<>();
+        List<String> files = generateFiles(useSnapshot, warnings);
+        assertEquals(generateFiles(context -> {}, new ArrayList<>()), files);
+        assertEquals("2", readProperties(snapshotFile).getProperty("formatVersion"));
+    }
+
+    private static void dropDatabase() throws Exception {
+        try (Connection connection =
+                        DriverManager.getConnection("jdbc:hsqldb:mem:aname", "sa", "");
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA PUBLIC CASCADE");
+        }
+    }
+
+    private static Properties readProperties(File file) throws Exception {
+        Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(file.toPath())) {
+            properties.load(is);
+        }
+        return properties;
+    }
+
+    @Test
+    public void testWriteOnlyChangedFilesSkipsUnchangedFiles(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        int[] firstRun = writeFiles(tempDir, true);
+        assertEquals(0, firstRun[1]);
+        assertTrue(firstRun[0] > 0);
+
+        // age every file so that a rewrite is visible in the timestamp
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            assertTrue(file.toFile().setLastModified(1000L));
+        }
+
+        int[] secondRun = writeFiles(tempDir, true);
+        assertEquals(firstRun[0] + firstRun[1], secondRun[0] + secondRun[1]);
+        assertEquals(0, firstRun[2]);
+        assertTrue(secondRun[1] > 0);
+        assertTrue(secondRun[2] > 0);
+
+        long untouched = files.stream().filter(f -> f.toFile().lastModified() == 1000L).count();
+        assertEquals(secondRun[1], untouched);
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            assertEquals(files.size(), paths.filter(Files::isRegularFile).count());
+        }
+
+        int[] thirdRun = writeFiles(tempDir, false);
+        assertEquals(0, thirdRun[1]);
+    }
+
+    @Test
+    public void testParallelSaveMatchesSequentialSave(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path sequentialDir = tempDir.resolve("sequential");
+        Path parallelDir = tempDir.resolve("parallel");
+        Files.createDirectories(sequentialDir);
+        Files.createDirectories(parallelDir);
+
+        // run twice so that merges and overwrites are saved too
+        List<String> sequentialWarnings = new ArrayList<>();
+        writeFiles(sequentialDir, false, 1, sequentialWarnings);
+        sequentialWarnings.clear();
+        int[] sequentialCounts = writeFiles(sequentialDir, false, 1, sequentialWarnings);
+
+        List<String> parallelWarnings = new ArrayList<>();
+        writeFiles(parallelDir, false, 4, parallelWarnings);
+        parallelWarnings.clear();
+        int[] parallelCounts = writeFiles(parallelDir, false, 4, parallelWarnings);
+
+        assertArrayEquals(sequentialCounts, parallelCounts);
+        assertEquals(
+                sequentialWarnings,
+                parallelWarnings.stream()
+                        .map(w -> w.replace(parallelDir.toString(), sequentialDir.toString()))
+                        .collect(Collectors.toList()));
+        assertEquals(readFiles(sequentialDir), readFiles(parallelDir));
+    }
+
+    @Test
+    public void testReleaseDomAfterSaveMatchesRegularSave(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path regularDir = tempDir.resolve("regular");
+        Path releasedDir = tempDir.resolve("released");
+        Files.createDirectories(regularDir);
+        Files.createDirectories(releasedDir);
+
+        // run twice so that merges and overwrites are saved too
+        writeFiles(regularDir, false);
+        int[] regularCounts = writeFiles(regularDir, false);
+
+        Consumer<MyBatisGenerator> releaseDom = generator -> generator.setReleaseDomAfterSave(true);
+        writeFiles(releasedDir, context -> {}, releaseDom, new ArrayList<>());
+        int[] releasedCounts =
+                writeFiles(releasedDir, context -> {}, releaseDom, new ArrayList<>());
+
+        assertArrayEquals(regularCounts, releasedCounts);
+        assertEquals(readFiles(regularDir), readFiles(releasedDir));
+    }
+
+    @Test
+    public void testGenerationMetricsDoNotChangeTheResult(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path regularDir = tempDir.resolve("regular");
+        Path measuredDir = tempDir.resolve("measured");
+        Files.createDirectories(regularDir);
+        Files.createDirectories(measuredDir);
+
+        // run twice so that merges are measured too
+        writeFiles(regularDir, false);
+        int[] regularCounts = writeFiles(regularDir, false);
+
+        GenerationMetrics metrics = new GenerationMetrics();
+        Consumer<MyBatisGenerator> measure = generator -> generator.setGenerationMetrics(metrics);
+        writeFiles(measuredDir, context -> {}, measure, new ArrayList<>());
+        int[] measuredCounts = writeFiles(measuredDir, context -> {}, measure, new ArrayList<>());
+
+        assertArrayEquals(regularCounts, measuredCounts);
+        assertEquals(readFiles(regularDir), readFiles(measuredDir));
+
+        List<String> phases =
+                metrics.getEntries(GenerationMetrics.Category.PHASE).stream()
+                        .map(GenerationMetrics.Entry::getName)
+                        .collect(Collectors.toList());
+        assertTrue(phases.contains(GenerationMetrics.INTROSPECTION_PHASE));
+        assertTrue(phases.contains(GenerationMetrics.GENERATION_PHASE));
+        assertTrue(phases.contains(GenerationMetrics.SAVE_PHASE));
+        assertTrue(phases.contains(GenerationMetrics.RENDER_PHASE));
+        assertTrue(phases.contains(GenerationMetrics.XML_MERGE_PHASE));
+        assertTrue(
+                !metrics.getEntries(GenerationMetrics.Category.TABLE_INTROSPECTION).isEmpty());
+        assertTrue(!metrics.getEntries(GenerationMetrics.Category.TABLE_GENERATION).isEmpty());
+        List<String> pluginMethods =
+                metrics.getEntries(GenerationMetrics.Category.PLUGIN).stream()
+                        .map(GenerationMetrics.Entry::getName)
+                        .collect(Collectors.toList());
+        assertTrue(
+                pluginMethods.contains(
+                        "org.mybatis.generator.plugins.ToStringPlugin"
+                                + ".modelBaseRecordClassGenerated"));
+        // hooks that the plugin does not override are not called
+        assertTrue(
+                !pluginMethods.contains(
+                        "org.mybatis.generator.plugins.ToStringPlugin.clientGenerated"));
+        assertTrue(metrics.getReport(5).contains(GenerationMetrics.SAVE_PHASE));
+        // the test JVM supports allocation accounting
+        assertTrue(
+                metrics.getEntries(GenerationMetrics.Category.TABLE_GENERATION).stream()
+                        .allMatch(entry -> entry.getBytes() > 0));
+    }
+
+    @Test
+    public void testMergeJavaFilesKeepsCustomMembers(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        writeFiles(tempDir, false);
+        Map<String, String> expectedFiles = readFiles(tempDir);
+
+        // add a custom member to every Java file
+        for (Map.Entry<String, String> file : expectedFiles.entrySet()) {
+            if (file.getKey().endsWith(".java")) {
+                String content = file.getValue();
+                int index = content.lastIndexOf('}');
+                String customized =
+                        content.substring(0, index)
+                                + "\n    int CUSTOM_VALUE = 1;\n"
+                                + content.substring(index);
+                file.setValue(customized);
+                Files.write(
+                        tempDir.resolve(file.getKey()),
+                        customized.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        DefaultShellCallback shellCallback = new DefaultShellCallback(false);
+        shellCallback.setMergeJavaFiles(true);
+        int[] counts =
+                writeFiles(
+                        tempDir, context -> {}, generator -> {}, shellCallback, new ArrayList<>());
+
+        Map<String, String> javaFiles = readFiles(tempDir);
+        javaFiles.keySet().removeIf(f -> !f.endsWith(".java"));
+        expectedFiles.keySet().removeIf(f -> !f.endsWith(".java"));
+        assertEquals(expectedFiles, javaFiles);
+        assertTrue(counts[2] >= javaFiles.size());
+    }
+
+    @Test
+    public void testUniqueFileNamesWithoutMerge(@TempDir Path tempDir) throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        writeFiles(tempDir, false);
+        List<String> javaFiles =
+                readFiles(tempDir).keySet().stream()
+                        .filter(f -> f.endsWith(".java"))
+                        .collect(Collectors.toList());
+        Files.write(tempDir.resolve(javaFiles.get(0) + ".1"), new byte[0]);
+        Files.write(tempDir.resolve(javaFiles.get(0) + ".3"), new byte[0]);
+
+        writeFiles(
+                tempDir,
+                context -> {},
+                generator -> {},
+                new DefaultShellCallback(false),
+                new ArrayList<>());
+
+        assertTrue(Files.exists(tempDir.resolve(javaFiles.get(0) + ".2")));
+        assertTrue(Files.exists(tempDir.resolve(javaFiles.get(1) + ".1")));
+    }
+
+    @Test
+    public void testIncrementalGenerationSkipsUpToDateTables(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path targetDir = tempDir.resolve("target");
+        Files.createDirectories(targetDir);
+        File manifest = tempDir.resolve("mbg.manifest").toFile();
+        Consumer<MyBatisGenerator> incremental =
+                generator -> generator.setIncrementalManifest(manifest);
+
+        int[] firstRun = writeFiles(targetDir, context -> {}, incremental, new ArrayList<>());
+        assertTrue(manifest.exists());
+        assertTrue(firstRun[0] > 0);
+        Map<String, String> firstFiles = readFiles(targetDir);
+
+        // nothing changed - no table is generated again
+        int[] secondRun = writeFiles(targetDir, context -> {}, incremental, new ArrayList<>());
+        assertEquals(0, secondRun[0] + secondRun[1]);
+        assertEquals(firstFiles, readFiles(targetDir));
+
+        // a changed table configuration only generates that table again
+        Consumer<Context> changeOneTable =
+                context -> {
+                    if (context.getId().equals("FlatJava5")) {
+                        context.getTableConfigurations()
+                                .get(0)
+                                .addProperty(
+                                        PropertyRegistry.TABLE_USE_ACTUAL_COLUMN_NAMES, "true");
+                    }
+                };
+        int[] thirdRun = writeFiles(targetDir, changeOneTable, incremental, new ArrayList<>());
+        assertTrue(thirdRun[0] > 0);
+        assertTrue(thirdRun[0] < firstRun[0]);
+
+        // a deleted file generates its table again
+        Files.delete(targetDir.resolve(firstFiles.keySet().iterator().next()));
+        int[] fourthRun = writeFiles(targetDir, changeOneTable, incremental, new ArrayList<>());
+        assertTrue(fourthRun[0] > 0);
+        assertTrue(fourthRun[0] < firstRun[0]);
+    }
+
+    @Test
+    public void testIncrementalManifestPrunesRemovedTables(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path targetDir = tempDir.resolve("target");
+        Files.createDirectories(targetDir);
+        File manifest = tempDir.resolve("mbg.manifest").toFile();
+        Consumer<MyBatisGenerator> incremental =
+                generator -> generator.setIncrementalManifest(manifest);
+
+        writeFiles(targetDir, context -> {}, incremental, new ArrayList<>());
+        assertEquals("2", readProperties(manifest).getProperty("formatVersion"));
+        assertTrue(manifestTables(manifest).contains("FlatJava5/FIELDSONLY"));
+        int tables = manifestTables(manifest).size();
+
+        Consumer<Context> removeTable =
+                context -> {
+                    if (context.getId().equals("FlatJava5")) {
+                        context.getTableConfigurations().remove(0);
+                    }
+                };
+        int[] secondRun = writeFiles(targetDir, removeTable, incremental, new ArrayList<>());
+        assertEquals(0, secondRun[0] + secondRun[1]);
+        assertFalse(manifestTables(manifest).contains("FlatJava5/FIELDSONLY"));
+        assertEquals(tables - 1, manifestTables(manifest).size());
+    }
+
+    @Test
+    public void testIncrementalManifestInAnotherFormatIsReplaced(@TempDir Path tempDir)
+            throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        Path targetDir = tempDir.resolve("target");
+        Files.createDirectories(targetDir);
+        File manifest = tempDir.resolve("mbg.manifest").toFile();
+        Consumer<MyBatisGenerator> incremental =
+                generator -> generator.setIncrementalManifest(manifest);
+
+        // a manifest written with Java serialization by an earlier version
+        Files.write(manifest.toPath(), new byte[] {(byte) 0xac, (byte) 0xed, 0, 5, 's', 'r'});
+        List<String> warnings = new ArrayList<>();
+        int[] firstRun = writeFiles(targetDir, context -> {}, incremental, warnings);
+        assertTrue(firstRun[0] > 0);
+        assertEquals("2", readProperties(manifest).getProperty("formatVersion"));
+    }
+
+    /** Returns the tables of the manifest as context/TABLE. */
+    private static List<String> manifestTables(File manifest) throws Exception {
+        Properties properties = readProperties(manifest);
+        List<String> tables = new ArrayList<>();
+        int count = Integer.parseInt(properties.getProperty("tables.count"));
+        for (int i = 0; i < count; i++) {
+            tables.add(
+                    properties.getProperty("tables." + i + ".context")
+                            + '/'
+                            + properties.getProperty("tables." + i + ".table").toUpperCase());
+        }
+        return tables;
+    }
+
+    @Test
+    public void testConcurrentRunsInTheSameJvm() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        List<String> expectedWarnings = new ArrayList<>();
+        List<String> expectedFiles = generateFiles(context -> {}, expectedWarnings);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<List<String>>> runs = new ArrayList<>();
+            List<List<String>> runWarnings = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                List<String> warnings = new ArrayList<>();
+                runWarnings.add(warnings);
+                runs.add(executorService.submit(() -> generateFiles(context -> {}, warnings)));
+            }
+
+            for (int i = 0; i < runs.size(); i++) {
+                assertEquals(expectedFiles, runs.get(i).get());
+                assertEquals(expectedWarnings, runWarnings.get(i));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStreamingGenerationMatchesListGeneration() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        List<String> expectedWarnings = new ArrayList<>();
+        List<String> expectedFiles = generateFiles(context -> {}, expectedWarnings);
+        Collections.sort(expectedFiles);
+
+        List<String> warnings = new ArrayList<>();
+        Configuration config =
+                parseConfiguration(
+                        context ->
+                                context.addProperty(
+                                        PropertyRegistry.CONTEXT_GENERATION_THREADS, "4"),
+                        warnings);
+        MyBatisGenerator myBatisGenerator =
+                new MyBatisGenerator(config, new DefaultShellCallback(true), warnings);
+
+        List<String> streamedFiles = new ArrayList<>();
+        List<Integer> filesPerTable = new ArrayList<>();
+        myBatisGenerator.generate(
+                null,
+                null,
+                null,
+                new GeneratedFileConsumer() {
+                    private int tableFiles;
+
+                    @Override
+                    public void accept(GeneratedFile generatedFile) {
+                        streamedFiles.add(GenerationTestUtilities.describe(generatedFile));
+                        tableFiles++;
+                    }
+
+                    @Override
+                    public void tableCompleted(IntrospectedTable introspectedTable) {
+                        filesPerTable.add(tableFiles);
+                        tableFiles = 0;
+                    }
+                });
+        Collections.sort(streamedFiles);
+
+        assertEquals(expectedFiles, streamedFiles);
+        assertEquals(expectedWarnings, warnings);
+        assertTrue(myBatisGenerator.getGeneratedJavaFiles().isEmpty());
+        assertTrue(filesPerTable.size() > 1);
+        assertTrue(filesPerTable.stream().allMatch(count -> count > 0));
+    }
+
+    @Test
+    public void testPluginsCanAddTypeArgumentsToGeneratedTypes() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+
+        List<String> files =
+                generateFiles(
+                        context -> {
+                            PluginConfiguration pluginConfiguration = new PluginConfiguration();
+                            pluginConfiguration.setConfigurationType(
+                                    TypeArgumentPlugin.class.getName());
+                            context.addPluginConfiguration(pluginConfiguration);
+                        },
+                        new ArrayList<>());
+
+        String model =
+                GenerationTestUtilities.findFile(
+                        files, "mbg.test.mb3.generated.hierarchical.model.Pkfields.java");
+        assertTrue(model.contains("public class Pkfields extends PkfieldsKey<String> {"));
+
+        String mapper =
+                GenerationTestUtilities.findFile(
+                        files, "mbg.test.mb3.generated.hierarchical.mapper.PkfieldsMapper.java");
+        assertTrue(mapper.contains("long<String> countByExample(PkfieldsExample example);"));
+    }
+
+    @Test
+    public void testGenerateInvalidConfigWithBadGenerationThreads() throws Exception {
+        List<String> warnings = new ArrayList<>();
+        ConfigurationParser cp = new ConfigurationParser(warnings);
+        Configuration config =
+                cp.parseConfiguration(
+                        this.getClass().getResourceAsStream(CONFIG_FILE));
+        config.getContexts()
+                .get(0)
+                .addProperty(PropertyRegistry.CONTEXT_GENERATION_THREADS, "zero");
+
+        DefaultShellCallback shellCallback = new DefaultShellCallback(true);
+
+        InvalidConfigurationException e =
+                assertThrows(
+                        InvalidConfigurationException.class,
+                        () -> {
+                            MyBatisGenerator myBatisGenerator =
+                                    new MyBatisGenerator(config, shellCallback, warnings);
+                            myBatisGenerator.generate(null, null, null, false);
+                        });
+        assertEquals(1, e.getErrors().size());
+    }
+
+    private List<String> generateFiles(String property, String value, List<String> warnings)
+            throws Exception {
+        return generateFiles(context -> context.addProperty(property, value), warnings);
+    }
+
+    private List<String> generateFiles(Consumer<Context> customizer, List<String> warnings)
+            throws Exception {
+        return GenerationTestUtilities.generateFiles(CONFIG_FILE, customizer, warnings);
+    }
+
+    private Configuration parseConfiguration(Consumer<Context> customizer, List<String> warnings)
+            throws Exception {
+        return GenerationTestUtilities.parseConfiguration(CONFIG_FILE, customizer, warnings);
+    }
+
+    private int[] writeFiles(Path targetDirectory, boolean writeOnlyChangedFiles)
+            throws Exception {
+        return writeFiles(targetDirectory, writeOnlyChangedFiles, 1, new ArrayList<>());
+    }
+
+    private int[] writeFiles(
+            Path targetDirectory,
+            boolean writeOnlyChangedFiles,
+            int saveThreads,
+            List<String> warnings)
+            throws Exception {
+        return writeFiles(
+                targetDirectory,
+                context -> {},
+                generator -> {
+                    generator.setWriteOnlyChangedFiles(writeOnlyChangedFiles);
+                    generator.setSaveThreads(saveThreads);
+                },
+                warnings);
+    }
+
+    private int[] writeFiles(
+            Path targetDirectory,
+            Consumer<Context> contextCustomizer,
+            Consumer<MyBatisGenerator> generatorCustomizer,
+            List<String> warnings)
+            throws Exception {
+        return writeFiles(
+                targetDirectory,
+                contextCustomizer,
+                generatorCustomizer,
+                new DefaultShellCallback(true),
+                warnings);
+    }
+
+    private int[] writeFiles(
+            Path targetDirectory,
+            Consumer<Context> contextCustomizer,
+            Consumer<MyBatisGenerator> generatorCustomizer,
+            DefaultShellCallback shellCallback,
+            List<String> warnings)
+            throws Exception {
+        ConfigurationParser cp = new ConfigurationParser(warnings);
+        Configuration config =
+                cp.parseConfiguration(
+                        this.getClass().getResourceAsStream(CONFIG_FILE));
+
+        String targetProject = targetDirectory.toString();
+        for (Context context : config.getContexts()) {
+            contextCustomizer.accept(context);
+            context.getJavaModelGeneratorConfiguration().setTargetProject(targetProject);
+            if (context.getSqlMapGeneratorConfiguration() != null) {
+                context.getSqlMapGeneratorConfiguration().setTargetProject(targetProject);
+            }
+            if (context.getJavaClientGeneratorConfiguration() != null) {
+                context.getJavaClientGeneratorConfiguration().setTargetProject(targetProject);
+            }
+            if (context.getCommentGeneratorConfiguration() == null) {
+                context.setCommentGeneratorConfiguration(new CommentGeneratorConfiguration());
+            }
+            context.getCommentGeneratorConfiguration()
+                    .addProperty(PropertyRegistry.COMMENT_GENERATOR_SUPPRESS_DATE, "true");
+        }
+
+        int[] counts = new int[3];
+        NullProgressCallback callback =
+                new NullProgressCallback() {
+                    @Override
+                    public void saveCompleted(
+                            int filesWritten, int filesSkipped, int filesMerged) {
+                        counts[0] = filesWritten;
+                        counts[1] = filesSkipped;
+                        counts[2] = filesMerged;
+                    }
+                };
+
+        MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, shellCallback, warnings);
+        generatorCustomizer.accept(myBatisGenerator);
+        myBatisGenerator.generate(callback, null, null, true);
+
+        return counts;
+    }
+
+    private Map<String, String> readFiles(Path directory) throws Exception {
+        Map<String, String> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path file : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                files.put(
+                        directory.relativize(file).toString(),
+                        new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Adds a type argument to the superclass of base records and to the return type of the count
+     * by example methods, the way a plugin that makes generated types generic would.
+     */
+    public static class TypeArgumentPlugin extends PluginAdapter {
+
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+
+        @Override
+        public boolean modelBaseRecordClassGenerated(
+                TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+            topLevelClass
+                    .getSuperClass()
+                    .ifPresent(t -> t.addTypeArgument(FullyQualifiedJavaType.getStringInstance()));
+            return true;
+        }
+
+        @Override
+        public boolean clientCountByExampleMethodGenerated(
+                Method method, Interface interfaze, IntrospectedTable introspectedTable) {
+            method.getReturnType()
+                    .ifPresent(t -> t.addTypeArgument(FullyQualifiedJavaType.getStringInstance()));
+            return true;
+        }
+    }
 }
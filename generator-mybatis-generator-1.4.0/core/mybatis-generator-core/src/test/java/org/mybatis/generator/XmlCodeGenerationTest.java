@@ -53,6 +53,7 @@ public class XmlCodeGenerationTest {
     public static List<GeneratedXmlFile> generateXmlFiles() throws Exception {
         List<GeneratedXmlFile> generatedFiles = new ArrayList<>();
         generatedFiles.addAll(generateXmlFilesMybatis());
+        generatedFiles.addAll(generateXmlFilesMybatisFeatures());
         return generatedFiles;
     }
 
@@ -61,6 +62,11 @@ public class XmlCodeGenerationTest {
         return generateXmlFiles("/scripts/generatorConfig.xml");
     }
 
+    private static List<GeneratedXmlFile> generateXmlFilesMybatisFeatures() throws Exception {
+        JavaCodeGenerationTest.createDatabase();
+        return generateXmlFiles("/scripts/generatorConfig_Features.xml");
+    }
+
     private static List<GeneratedXmlFile> generateXmlFiles(String configFile) throws Exception {
         List<String> warnings = new ArrayList<>();
         ConfigurationParser cp = new ConfigurationParser(warnings);
@@ -0,0 +1,160 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.dom.java.Interface;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+import org.mybatis.generator.internal.PluginAggregator;
+import org.mybatis.generator.plugins.dsql.ReadOnlyPlugin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompositePluginTest {
+
+    @Test
+    public void testOnlyOverridingPluginsAreCalled() {
+        List<String> calls = new ArrayList<>();
+        PluginAggregator aggregator = new PluginAggregator();
+        aggregator.addPlugin(new ClientPlugin("first", calls, true));
+        aggregator.addPlugin(new NoOpPlugin());
+        aggregator.addPlugin(new ModelPlugin("model", calls));
+        aggregator.addPlugin(new ClientPlugin("second", calls, true));
+
+        Interface interfaze = new Interface("org.mybatis.test.TestMapper");
+        assertThat(aggregator.clientGenerated(interfaze, null)).isTrue();
+        assertThat(calls).containsExactly("first", "second");
+
+        calls.clear();
+        TopLevelClass topLevelClass = new TopLevelClass("org.mybatis.test.TestRecord");
+        assertThat(aggregator.modelBaseRecordClassGenerated(topLevelClass, null)).isTrue();
+        assertThat(calls).containsExactly("model");
+
+        calls.clear();
+        Method method = new Method("countByExample");
+        assertThat(aggregator.clientCountByExampleMethodGenerated(method, interfaze, null))
+                .isTrue();
+        assertThat(aggregator.contextGenerateAdditionalJavaFiles()).isEmpty();
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void testFalseStopsTheDispatch() {
+        List<String> calls = new ArrayList<>();
+        PluginAggregator aggregator = new PluginAggregator();
+        aggregator.addPlugin(new ClientPlugin("first", calls, false));
+        aggregator.addPlugin(new ClientPlugin("second", calls, true));
+
+        assertThat(aggregator.clientGenerated(new Interface("org.mybatis.test.TestMapper"), null))
+                .isFalse();
+        assertThat(calls).containsExactly("first");
+    }
+
+    @Test
+    public void testNestedCompositePlugin() {
+        PluginAggregator aggregator = new PluginAggregator();
+        aggregator.addPlugin(new ReadOnlyPlugin());
+
+        Interface interfaze = new Interface("org.mybatis.test.TestMapper");
+        Method method = new Method("insert");
+        assertThat(aggregator.clientInsertMethodGenerated(method, interfaze, null)).isFalse();
+        assertThat(aggregator.clientBasicSelectManyMethodGenerated(method, interfaze, null))
+                .isTrue();
+    }
+
+    @Test
+    public void testOnlyPluginsThatAreNotThreadSafeHoldTheLock() {
+        Object lock = new Object();
+        List<String> calls = new ArrayList<>();
+        PluginAggregator aggregator = new PluginAggregator();
+        aggregator.setPluginLock(lock);
+        aggregator.addPlugin(new LockCheckingPlugin("serialized", calls, lock, false));
+        aggregator.addPlugin(new LockCheckingPlugin("concurrent", calls, lock, true));
+
+        assertThat(aggregator.clientGenerated(new Interface("org.mybatis.test.TestMapper"), null))
+                .isTrue();
+        assertThat(calls).containsExactly("serialized:true", "concurrent:false");
+    }
+
+    private static class NoOpPlugin extends PluginAdapter {
+        @Override
+        public boolean validate(List<String> warnings) {
+            return true;
+        }
+    }
+
+    private static class ClientPlugin extends NoOpPlugin {
+        private final String name;
+        private final List<String> calls;
+        private final boolean result;
+
+        ClientPlugin(String name, List<String> calls, boolean result) {
+            this.name = name;
+            this.calls = calls;
+            this.result = result;
+        }
+
+        @Override
+        public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+            calls.add(name);
+            return result;
+        }
+    }
+
+    private static class LockCheckingPlugin extends NoOpPlugin {
+        private final String name;
+        private final List<String> calls;
+        private final Object lock;
+        private final boolean threadSafe;
+
+        LockCheckingPlugin(String name, List<String> calls, Object lock, boolean threadSafe) {
+            this.name = name;
+            this.calls = calls;
+            this.lock = lock;
+            this.threadSafe = threadSafe;
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return threadSafe;
+        }
+
+        @Override
+        public boolean clientGenerated(Interface interfaze, IntrospectedTable introspectedTable) {
+            calls.add(name + ":" + Thread.holdsLock(lock));
+            return true;
+        }
+    }
+
+    private static class ModelPlugin extends NoOpPlugin {
+        private final String name;
+        private final List<String> calls;
+
+        ModelPlugin(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public boolean modelBaseRecordClassGenerated(
+                TopLevelClass topLevelClass, IntrospectedTable introspectedTable) {
+            calls.add(name);
+            return true;
+        }
+    }
+}
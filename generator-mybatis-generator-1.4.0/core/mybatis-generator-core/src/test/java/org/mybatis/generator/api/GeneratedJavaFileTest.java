@@ -44,4 +44,46 @@ public class GeneratedJavaFileTest {
         assertThat(gjf.getFileName()).isEqualTo("TestInterface.java");
         assertThat(gjf.getTargetPackage()).isEqualTo("org.mybatis.test");
     }
+
+    @Test
+    public void testContentCache() {
+        Interface ifc = new Interface("org.mybatis.test.TestInterface");
+        GeneratedJavaFile gjf = new GeneratedJavaFile(ifc, "src", new DefaultJavaFormatter());
+        String content = gjf.getFormattedContent();
+        String hash = gjf.getContentHash();
+
+        assertThat(gjf.isContentCached()).isFalse();
+        assertThat(gjf.getFormattedContent()).isEqualTo(content).isNotSameAs(content);
+        assertThat(hash).hasSize(64).isEqualTo(gjf.getContentHash());
+
+        gjf.setContentCached(true);
+        String cached = gjf.getFormattedContent();
+        assertThat(gjf.getFormattedContent()).isSameAs(cached);
+
+        ifc.addImportedType(new FullyQualifiedJavaType("java.util.List"));
+        assertThat(gjf.getFormattedContent()).isSameAs(cached);
+
+        gjf.setContentCached(false);
+        assertThat(gjf.getFormattedContent()).contains("import java.util.List;");
+        assertThat(gjf.getContentHash()).isNotEqualTo(hash);
+    }
+
+    @Test
+    public void testReleaseDom() {
+        Interface ifc = new Interface("org.mybatis.test.TestInterface");
+        GeneratedJavaFile gjf = new GeneratedJavaFile(ifc, "src", new DefaultJavaFormatter());
+        String content = gjf.getFormattedContent();
+
+        gjf.releaseDom();
+        assertThat(gjf.isDomReleased()).isTrue();
+        assertThat(gjf.getCompilationUnit()).isNull();
+        assertThat(gjf.getFormattedContent()).isEqualTo(content);
+        assertThat(gjf.getFileName()).isEqualTo("TestInterface.java");
+        assertThat(gjf.getTargetPackage()).isEqualTo("org.mybatis.test");
+
+        // the content cannot be calculated again once the DOM is gone
+        gjf.setContentCached(false);
+        assertThat(gjf.isContentCached()).isTrue();
+        assertThat(gjf.getFormattedContent()).isEqualTo(content);
+    }
 }
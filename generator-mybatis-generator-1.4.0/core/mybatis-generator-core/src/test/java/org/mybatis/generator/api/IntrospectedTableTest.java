@@ -0,0 +1,180 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.api;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.codegen.mybatis3.IntrospectedTableMyBatis3Impl;
+
+import java.sql.Types;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IntrospectedTableTest {
+
+    @Test
+    public void testColumnViews() {
+        IntrospectedTable introspectedTable = createTable();
+
+        assertThat(names(introspectedTable.getAllColumns())).containsExactly("ID", "NAME", "DATA");
+        assertThat(names(introspectedTable.getNonBLOBColumns())).containsExactly("ID", "NAME");
+        assertThat(names(introspectedTable.getNonPrimaryKeyColumns()))
+                .containsExactly("NAME", "DATA");
+    }
+
+    @Test
+    public void testViewsAreCopies() {
+        IntrospectedTable introspectedTable = createTable();
+
+        List<IntrospectedColumn> allColumns = introspectedTable.getAllColumns();
+        assertThat(allColumns).isNotSameAs(introspectedTable.getAllColumns());
+        allColumns.clear();
+        introspectedTable.getNonBLOBColumns().remove(0);
+        introspectedTable.getNonPrimaryKeyColumns().add(column("X", "VARCHAR", Types.VARCHAR));
+
+        assertThat(names(introspectedTable.getAllColumns())).containsExactly("ID", "NAME", "DATA");
+        assertThat(names(introspectedTable.getNonBLOBColumns())).containsExactly("ID", "NAME");
+        assertThat(names(introspectedTable.getNonPrimaryKeyColumns()))
+                .containsExactly("NAME", "DATA");
+    }
+
+    @Test
+    public void testPluginReplacesColumnsWithListIterator() {
+        IntrospectedTable introspectedTable = createTable();
+        introspectedTable.addColumn(column("CODE", "VARCHAR", Types.VARCHAR));
+        assertThat(introspectedTable.getColumn("NAME")).isPresent();
+
+        ListIterator<IntrospectedColumn> iterator =
+                introspectedTable.getBaseColumns().listIterator();
+        while (iterator.hasNext()) {
+            IntrospectedColumn introspectedColumn = iterator.next();
+            iterator.set(column("X_" + introspectedColumn.getActualColumnName(), "VARCHAR",
+                    Types.VARCHAR));
+        }
+
+        assertThat(names(introspectedTable.getNonBLOBColumns()))
+                .containsExactly("ID", "X_NAME", "X_CODE");
+        assertThat(introspectedTable.getColumn("NAME")).isNotPresent();
+        assertThat(introspectedTable.getColumn("x_code")).isPresent();
+    }
+
+    @Test
+    public void testPluginRemovesColumnsWithIterator() {
+        IntrospectedTable introspectedTable = createTable();
+        introspectedTable.addColumn(column("CODE", "VARCHAR", Types.VARCHAR));
+        assertThat(introspectedTable.getColumn("CODE")).isPresent();
+
+        Iterator<IntrospectedColumn> iterator = introspectedTable.getBaseColumns().iterator();
+        while (iterator.hasNext()) {
+            if ("CODE".equals(iterator.next().getActualColumnName())) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(names(introspectedTable.getAllColumns())).containsExactly("ID", "NAME", "DATA");
+        assertThat(introspectedTable.getColumn("CODE")).isNotPresent();
+    }
+
+    @Test
+    public void testPluginReplacesColumnsInSubList() {
+        IntrospectedTable introspectedTable = createTable();
+        introspectedTable.addColumn(column("CODE", "VARCHAR", Types.VARCHAR));
+        assertThat(introspectedTable.getColumn("CODE")).isPresent();
+
+        List<IntrospectedColumn> subList = introspectedTable.getBaseColumns().subList(1, 2);
+        assertThat(introspectedTable.getColumn("CODE")).isPresent();
+        subList.set(0, column("ZIP", "VARCHAR", Types.VARCHAR));
+
+        assertThat(names(introspectedTable.getNonPrimaryKeyColumns()))
+                .containsExactly("NAME", "ZIP", "DATA");
+        assertThat(introspectedTable.getColumn("CODE")).isNotPresent();
+        assertThat(introspectedTable.getColumn("ZIP")).isPresent();
+    }
+
+    @Test
+    public void testViewsFollowColumnChanges() {
+        IntrospectedTable introspectedTable = createTable();
+        List<IntrospectedColumn> before = introspectedTable.getAllColumns();
+        assertThat(introspectedTable.hasJDBCDateColumns()).isFalse();
+
+        introspectedTable.addColumn(column("BIRTH_DATE", "DATE", Types.DATE));
+        assertThat(names(introspectedTable.getAllColumns()))
+                .containsExactly("ID", "NAME", "BIRTH_DATE", "DATA");
+        assertThat(introspectedTable.hasJDBCDateColumns()).isTrue();
+        assertThat(introspectedTable.getColumn("birth_date")).isPresent();
+
+        introspectedTable.getBaseColumns().set(0, column("DESCRIPTION", "VARCHAR", Types.VARCHAR));
+        assertThat(names(introspectedTable.getNonBLOBColumns()))
+                .containsExactly("ID", "DESCRIPTION", "BIRTH_DATE");
+        assertThat(introspectedTable.getColumn("NAME")).isNotPresent();
+
+        introspectedTable.getBLOBColumns().clear();
+        assertThat(names(introspectedTable.getNonPrimaryKeyColumns()))
+                .containsExactly("DESCRIPTION", "BIRTH_DATE");
+        assertThat(names(before)).containsExactly("ID", "NAME", "DATA");
+    }
+
+    @Test
+    public void testGetColumn() {
+        IntrospectedTable introspectedTable = createTable();
+        IntrospectedColumn delimited = column("Mixed Case", "VARCHAR", Types.VARCHAR);
+        introspectedTable.addColumn(delimited);
+
+        assertThat(introspectedTable.getColumn("name")).isPresent();
+        assertThat(introspectedTable.getColumn("data").get().isBLOBColumn()).isTrue();
+        assertThat(introspectedTable.getColumn("Mixed Case")).containsSame(delimited);
+        assertThat(introspectedTable.getColumn("MIXED CASE")).isNotPresent();
+        assertThat(introspectedTable.getColumn("missing")).isNotPresent();
+        assertThat(introspectedTable.getColumn(null)).isNotPresent();
+    }
+
+    @Test
+    public void testGetColumnAfterRename() {
+        IntrospectedTable introspectedTable = createTable();
+        IntrospectedColumn name = introspectedTable.getColumn("NAME").get();
+
+        name.setActualColumnName("FULL_NAME");
+        assertThat(introspectedTable.getColumn("full_name")).containsSame(name);
+        assertThat(introspectedTable.getColumn("NAME")).isNotPresent();
+    }
+
+    private static IntrospectedTable createTable() {
+        IntrospectedTable introspectedTable = new IntrospectedTableMyBatis3Impl();
+        introspectedTable.addColumn(column("ID", "INTEGER", Types.INTEGER));
+        introspectedTable.addColumn(column("NAME", "VARCHAR", Types.VARCHAR));
+        introspectedTable.addColumn(column("DATA", "BLOB", Types.BLOB));
+        introspectedTable.addPrimaryKeyColumn("ID");
+        return introspectedTable;
+    }
+
+    private static IntrospectedColumn column(String name, String jdbcTypeName, int jdbcType) {
+        IntrospectedColumn introspectedColumn = new IntrospectedColumn();
+        introspectedColumn.setActualColumnName(name);
+        introspectedColumn.setJdbcTypeName(jdbcTypeName);
+        introspectedColumn.setJdbcType(jdbcType);
+        introspectedColumn.setFullyQualifiedJavaType(jdbcType == Types.DATE
+                ? FullyQualifiedJavaType.getDateInstance()
+                : FullyQualifiedJavaType.getStringInstance());
+        return introspectedColumn;
+    }
+
+    private static String[] names(List<IntrospectedColumn> columns) {
+        return columns.stream()
+                .map(IntrospectedColumn::getActualColumnName)
+                .toArray(String[]::new);
+    }
+}
@@ -14,6 +14,7 @@
 package org.mybatis.generator.api.dom.java;
 
 import org.junit.jupiter.api.Test;
+import org.mybatis.generator.internal.GenerationScope;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -288,4 +289,98 @@ public class FullyQualifiedJavaTypeTest {
         assertTrue(fqjt.getImportList().contains("java.util.List"));
         assertFalse(fqjt.getImportList().contains("java.util.List[]"));
     }
+
+    @Test
+    public void testInternedType() {
+        String spec = "java.util.Map<java.lang.String, com.foo.Bar>"; //$NON-NLS-1$
+        FullyQualifiedJavaType fqjt;
+        try (GenerationScope.Activation activation = new GenerationScope().activate()) {
+            fqjt = FullyQualifiedJavaType.of(spec);
+            assertSame(fqjt, FullyQualifiedJavaType.of(spec));
+            assertSame(FullyQualifiedJavaType.of("com.foo.Bar"), fqjt.getTypeArguments().get(1));
+        }
+        assertNotSame(fqjt, FullyQualifiedJavaType.of(spec));
+        assertEquals(new FullyQualifiedJavaType(spec), fqjt);
+        assertEquals("Map<String, Bar>", fqjt.getShortName());
+        assertEquals(2, fqjt.getImportList().size());
+        assertThrows(UnsupportedOperationException.class,
+                () -> fqjt.addTypeArgument(FullyQualifiedJavaType.getStringInstance()));
+        assertThrows(UnsupportedOperationException.class,
+                () -> fqjt.getTypeArguments().add(FullyQualifiedJavaType.getStringInstance()));
+    }
+
+    @Test
+    public void testInternedTypesAreNotSharedBetweenScopes() {
+        FullyQualifiedJavaType fqjt;
+        try (GenerationScope.Activation activation = new GenerationScope().activate()) {
+            fqjt = FullyQualifiedJavaType.of("com.foo.Bar"); //$NON-NLS-1$
+        }
+        try (GenerationScope.Activation activation = new GenerationScope().activate()) {
+            assertNotSame(fqjt, FullyQualifiedJavaType.of("com.foo.Bar")); //$NON-NLS-1$
+        }
+        assertNull(GenerationScope.getCurrentScope());
+    }
+
+    @Test
+    public void testImportListCanBeModified() {
+        FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.of("com.foo.Bar"); //$NON-NLS-1$
+        fqjt.getImportList().add("com.foo.Baz"); //$NON-NLS-1$
+        assertEquals(1, fqjt.getImportList().size());
+
+        FullyQualifiedJavaType type = new FullyQualifiedJavaType("com.foo.Bar"); //$NON-NLS-1$
+        type.getImportList().add("com.foo.Baz"); //$NON-NLS-1$
+        assertEquals(1, type.getImportList().size());
+    }
+
+    @Test
+    public void testNamesChangeWhenTypeArgumentsAreChangedDirectly() {
+        FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.getNewListInstance();
+        assertEquals("List", fqjt.getShortName());
+
+        fqjt.getTypeArguments().add(new FullyQualifiedJavaType("com.foo.Bar"));
+        assertEquals("java.util.List<com.foo.Bar>", fqjt.getFullyQualifiedName());
+        assertEquals("List<Bar>", fqjt.getShortName());
+        assertEquals(2, fqjt.getImportList().size());
+    }
+
+    @Test
+    public void testNamesChangeWhenTypeArgumentIsAdded() {
+        FullyQualifiedJavaType fqjt = FullyQualifiedJavaType.getNewListInstance();
+        assertEquals("java.util.List", fqjt.getFullyQualifiedName());
+        assertEquals(1, fqjt.getImportList().size());
+
+        fqjt.addTypeArgument(new FullyQualifiedJavaType("com.foo.Bar"));
+        assertEquals("java.util.List<com.foo.Bar>", fqjt.getFullyQualifiedName());
+        assertEquals("List<Bar>", fqjt.getShortName());
+        assertEquals(2, fqjt.getImportList().size());
+
+        fqjt.getTypeArguments().get(0).addTypeArgument(new FullyQualifiedJavaType("com.foo.Baz"));
+        assertEquals("java.util.List<com.foo.Bar<com.foo.Baz>>", fqjt.getFullyQualifiedName());
+        assertEquals("List<Bar<Baz>>", fqjt.getShortName());
+        assertEquals(3, fqjt.getImportList().size());
+    }
+
+    @Test
+    public void testGeneratedElementsStoreModifiableCopiesOfInternedTypes() {
+        FullyQualifiedJavaType interned =
+                FullyQualifiedJavaType.of("java.util.Map<String, Integer>");
+
+        Method method = new Method("getValues");
+        method.setReturnType(interned);
+        method.addParameter(new Parameter(interned, "values"));
+        TopLevelClass topLevelClass = new TopLevelClass(FullyQualifiedJavaType.of("com.foo.Bar"));
+        topLevelClass.setSuperClass(interned);
+
+        FullyQualifiedJavaType returnType = method.getReturnType().get();
+        assertEquals(interned, returnType);
+        returnType.getTypeArguments().get(0).addTypeArgument(new FullyQualifiedJavaType("T"));
+        assertEquals("Map<String<T>, Integer>", returnType.getShortName());
+        assertEquals("Map<String, Integer>", interned.getShortName());
+
+        method.getParameters().get(0).getType().addTypeArgument(new FullyQualifiedJavaType("T"));
+        topLevelClass.getType().addTypeArgument(new FullyQualifiedJavaType("T"));
+        topLevelClass.getSuperClass().get().addTypeArgument(new FullyQualifiedJavaType("T"));
+        assertEquals("Bar<T>", topLevelClass.getType().getShortName());
+        assertEquals("Map<String, Integer, T>", topLevelClass.getSuperClass().get().getShortName());
+    }
 }
@@ -0,0 +1,130 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.api.dom.java.render;
+
+import org.junit.jupiter.api.Test;
+import org.mybatis.generator.api.dom.DefaultJavaFormatter;
+import org.mybatis.generator.api.dom.java.Field;
+import org.mybatis.generator.api.dom.java.FullyQualifiedJavaType;
+import org.mybatis.generator.api.dom.java.InnerClass;
+import org.mybatis.generator.api.dom.java.InnerEnum;
+import org.mybatis.generator.api.dom.java.JavaVisibility;
+import org.mybatis.generator.api.dom.java.Method;
+import org.mybatis.generator.api.dom.java.TopLevelClass;
+
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JavaSourceWriterTest {
+
+    @Test
+    public void testIndentAndBlankLines() {
+        StringBuilder sb = new StringBuilder();
+        JavaSourceWriter writer = new JavaSourceWriter(sb, "\n");
+
+        writer.openBlock("class Foo {");
+        writer.line("int a;");
+        writer.blankLine();
+        writer.line("");
+        writer.openBlock("void bar() {");
+        writer.line("a++;");
+        writer.closeBlock();
+        writer.blankLine();
+        writer.closeBlock();
+
+        String expected =
+                "class Foo {\n"
+                        + "    int a;\n"
+                        + "\n"
+                        + "\n"
+                        + "    void bar() {\n"
+                        + "        a++;\n"
+                        + "    }\n"
+                        + "}";
+        assertEquals(expected, sb.toString());
+    }
+
+    @Test
+    public void testCloseBlockDropsOnlyOneBlankLine() {
+        StringBuilder sb = new StringBuilder();
+        JavaSourceWriter writer = new JavaSourceWriter(sb, "\n");
+
+        writer.openBlock("enum Foo {");
+        writer.blankLine();
+        writer.blankLine();
+        writer.closeBlock();
+
+        assertEquals("enum Foo {\n\n}", sb.toString());
+    }
+
+    @Test
+    public void testStreamedContentMatchesListContent() throws Exception {
+        TopLevelClass topLevelClass = new TopLevelClass("com.foo.Bar");
+        topLevelClass.setVisibility(JavaVisibility.PUBLIC);
+        topLevelClass.addImportedType("java.util.List");
+        topLevelClass.addStaticImport("java.util.Collections.emptyList");
+        topLevelClass.addFileCommentLine("/* comment */");
+
+        Field field = new Field("names", new FullyQualifiedJavaType("java.util.List<String>"));
+        field.setVisibility(JavaVisibility.PRIVATE);
+        field.setInitializationString("emptyList()");
+        topLevelClass.addField(field);
+
+        Method method = new Method("count");
+        method.setVisibility(JavaVisibility.PUBLIC);
+        method.setReturnType(FullyQualifiedJavaType.getIntInstance());
+        method.addBodyLine("if (names.isEmpty()) {");
+        method.addBodyLine("return 0;");
+        method.addBodyLine("}");
+        method.addBodyLine("");
+        method.addBodyLine("return names.size();");
+        topLevelClass.addMethod(method);
+
+        InnerClass innerClass = new InnerClass("Inner");
+        innerClass.setVisibility(JavaVisibility.PUBLIC);
+        innerClass.setStatic(true);
+        innerClass.addMethod(method);
+        topLevelClass.addInnerClass(innerClass);
+
+        InnerEnum innerEnum = new InnerEnum("Color");
+        innerEnum.setVisibility(JavaVisibility.PUBLIC);
+        innerEnum.addEnumConstant("RED");
+        innerEnum.addEnumConstant("GREEN");
+        topLevelClass.addInnerEnum(innerEnum);
+
+        String lf = System.getProperty("line.separator");
+        String fromLists =
+                String.join(
+                        lf,
+                        RenderingUtilities.renderLines(
+                                writer -> {
+                                    writer.lines(topLevelClass.getFileCommentLines());
+                                    writer.lines(RenderingUtilities.renderPackage(topLevelClass));
+                                    writer.lines(
+                                            RenderingUtilities.renderStaticImports(topLevelClass));
+                                    writer.lines(RenderingUtilities.renderImports(topLevelClass));
+                                    writer.lines(
+                                            new InnerClassRenderer()
+                                                    .render(topLevelClass, topLevelClass));
+                                }));
+
+        DefaultJavaFormatter formatter = new DefaultJavaFormatter();
+        StringWriter stringWriter = new StringWriter();
+        formatter.writeFormattedContent(topLevelClass, stringWriter);
+
+        assertEquals(fromLists, formatter.getFormattedContent(topLevelClass));
+        assertEquals(fromLists, stringWriter.toString());
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.api.dom.xml.render;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+
+import java.io.StringWriter;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DocumentWriterTest {
+
+    private static final String LF = System.getProperty("line.separator");
+
+    @Test
+    public void testNestedElements() throws Exception {
+        XmlElement root = new XmlElement("mapper");
+        root.addAttribute(new Attribute("namespace", "foo.BarMapper"));
+
+        XmlElement select = new XmlElement("select");
+        select.addAttribute(new Attribute("resultType", "int"));
+        select.addAttribute(new Attribute("id", "count"));
+        select.addElement(new TextElement("select count(*)"));
+        XmlElement where = new XmlElement("where");
+        where.addElement(new TextElement("id = #{id}"));
+        select.addElement(where);
+        root.addElement(select);
+        root.addElement(new XmlElement("sql"));
+
+        Document document = new Document();
+        document.setRootElement(root);
+
+        String expected =
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                        + LF
+                        + "<!DOCTYPE mapper>"
+                        + LF
+                        + "<mapper namespace=\"foo.BarMapper\">"
+                        + LF
+                        + "  <select id=\"count\" resultType=\"int\">"
+                        + LF
+                        + "    select count(*)"
+                        + LF
+                        + "    <where>"
+                        + LF
+                        + "      id = #{id}"
+                        + LF
+                        + "    </where>"
+                        + LF
+                        + "  </select>"
+                        + LF
+                        + "  <sql />"
+                        + LF
+                        + "</mapper>";
+
+        DefaultXmlFormatter formatter = new DefaultXmlFormatter();
+        StringWriter writer = new StringWriter();
+        formatter.writeFormattedContent(document, writer);
+
+        assertEquals(expected, formatter.getFormattedContent(document));
+        assertEquals(expected, writer.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("org.mybatis.generator.XmlCodeGenerationTest#generateXmlFiles")
+    public void testSameAsElementRenderer(GeneratedXmlFile generatedXmlFile) {
+        Document document = generatedXmlFile.getDocument();
+        String docType =
+                document.getDocType().map(d -> " " + d.accept(new DocTypeRenderer())).orElse("");
+        String expected =
+                Stream.concat(
+                                Stream.of(
+                                        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>",
+                                        "<!DOCTYPE "
+                                                + document.getRootElement().getName()
+                                                + docType
+                                                + ">"),
+                                document.getRootElement().accept(new ElementRenderer()))
+                        .collect(Collectors.joining(LF));
+
+        assertEquals(expected, new DocumentRenderer().render(document));
+    }
+}
@@ -0,0 +1,244 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import com.github.javaparser.StaticJavaParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.generator.JavaCodeGenerationTest;
+import org.mybatis.generator.api.GeneratedJavaFile;
+import org.mybatis.generator.config.MergeConstants;
+import org.mybatis.generator.exception.ShellException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JavaFileMergerJavaParserTest {
+
+    private static final String NEW_FILE =
+            "package foo;\n"
+                    + "\n"
+                    + "import java.util.List;\n"
+                    + "import java.io.Serializable;\n"
+                    + "\n"
+                    + "public class Bar implements Serializable {\n"
+                    + "    /**\n"
+                    + "     * @mbg.generated\n"
+                    + "     */\n"
+                    + "    private Integer id;\n"
+                    + "\n"
+                    + "    /**\n"
+                    + "     * @mbg.generated\n"
+                    + "     */\n"
+                    + "    private String name;\n"
+                    + "\n"
+                    + "    /**\n"
+                    + "     * @mbg.generated\n"
+                    + "     */\n"
+                    + "    public Integer getId() {\n"
+                    + "        return id;\n"
+                    + "    }\n"
+                    + "\n"
+                    + "    /**\n"
+                    + "     * @mbg.generated\n"
+                    + "     */\n"
+                    + "    public List<String> getNames() {\n"
+                    + "        return null;\n"
+                    + "    }\n"
+                    + "}\n";
+
+    public static List<GeneratedJavaFile> generateJavaFiles() throws Exception {
+        return JavaCodeGenerationTest.generateJavaFiles();
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateJavaFiles")
+    public void testMergeGeneratedFile(GeneratedJavaFile generatedFile) throws Exception {
+        String content = generatedFile.getFormattedContent();
+        assertEquals(content, merge(content, content));
+
+        int index = content.lastIndexOf('}');
+        String existing =
+                content.substring(0, index)
+                        + "\n    public String customMethod() {\n"
+                        + "        return \"custom\";\n"
+                        + "    }\n"
+                        + content.substring(index);
+        assertEquals(existing, merge(content, existing));
+    }
+
+    @Test
+    public void testGeneratedMembersAreReplaced() throws Exception {
+        String existing =
+                "package foo;\n"
+                        + "\n"
+                        + "import java.util.Date;\n"
+                        + "\n"
+                        + "public class Bar {\n"
+                        + "    /**\n"
+                        + "     * @mbg.generated\n"
+                        + "     */\n"
+                        + "    private Integer id;\n"
+                        + "\n"
+                        + "    /**\n"
+                        + "     * @mbg.generated\n"
+                        + "     */\n"
+                        + "    private Date created;\n"
+                        + "\n"
+                        + "    // my own field\n"
+                        + "    private int counter;\n"
+                        + "\n"
+                        + "    /**\n"
+                        + "     * @mbg.generated\n"
+                        + "     */\n"
+                        + "    public Integer getId() {\n"
+                        + "        return 0;\n"
+                        + "    }\n"
+                        + "\n"
+                        + "    public int count() {\n"
+                        + "        return counter++;\n"
+                        + "    }\n"
+                        + "\n"
+                        + "    /**\n"
+                        + "     * @ibatorgenerated\n"
+                        + "     */\n"
+                        + "    public Date getCreated() {\n"
+                        + "        return created;\n"
+                        + "    }\n"
+                        + "}\n";
+
+        String expected =
+                "package foo;\n"
+                        + "\n"
+                        + "import java.util.Date;\n"
+                        + "import java.util.List;\n"
+                        + "import java.io.Serializable;\n"
+                        + "\n"
+                        + "public class Bar implements Serializable {\n"
+                        + "    /**\n"
+                        + "     * @mbg.generated\n"
+                        + "     */\n"
+                        + "    private Integer id;\n"
+                        + "\n"
+                        + "    /**\n"
+                        + "     * @mbg.generated\n"
+                        + "     */\n"
+                        + "    private String name;\n"
+                        + "\n"
+                        + "    // my own field\n"
+                        + "    private int counter;\n"
+                        + "\n"
+                        + "    /**\n"
+                        + "     * @mbg.generated\n"
+                        + "     */\n"
+                        + "    public Integer getId() {\n"
+                        + "        return id;\n"
+                        + "    }\n"
+                        + "\n"
+                        + "    /**\n"
+                        + "     * @mbg.generated\n"
+                        + "     */\n"
+                        + "    public List<String> getNames() {\n"
+                        + "        return null;\n"
+                        + "    }\n"
+                        + "\n"
+                        + "    public int count() {\n"
+                        + "        return counter++;\n"
+                        + "    }\n"
+                        + "}\n";
+
+        assertEquals(expected, merge(NEW_FILE, existing));
+    }
+
+    @Test
+    public void testCustomizedMembersAreKept() throws Exception {
+        String existing =
+                "package foo;\n"
+                        + "\n"
+                        + "import java.util.List;\n"
+                        + "import java.io.Serializable;\n"
+                        + "\n"
+                        + "@Deprecated\n"
+                        + "public class Bar implements Serializable, Cloneable {\n"
+                        + "    /**\n"
+                        + "     * @mbg.generated "
+                        + MergeConstants.DO_NOT_DELETE_TAG
+                        + "\n"
+                        + "     */\n"
+                        + "    private Integer id = 5;\n"
+                        + "\n"
+                        + "    /**\n"
+                        + "     * No longer generated.\n"
+                        + "     */\n"
+                        + "    public Integer getId() {\n"
+                        + "        return id + 1;\n"
+                        + "    }\n"
+                        + "}\n";
+
+        String mergedSource = merge(NEW_FILE, existing);
+
+        assertThat(mergedSource)
+                .startsWith(
+                        "package foo;\n"
+                                + "\n"
+                                + "import java.util.List;\n"
+                                + "import java.io.Serializable;\n"
+                                + "\n"
+                                + "@Deprecated\n"
+                                + "public class Bar implements Serializable, Cloneable {\n")
+                .contains("private Integer id = 5;")
+                .doesNotContain("private Integer id;")
+                .contains("return id + 1;")
+                .doesNotContain("return id;")
+                .contains("private String name;")
+                .contains("public List<String> getNames()");
+        StaticJavaParser.parse(mergedSource);
+    }
+
+    @Test
+    public void testEmptyTypeIsFilled() throws Exception {
+        String existing = "package foo;\n\npublic class Bar {\n}\n";
+
+        String mergedSource = merge(NEW_FILE, existing);
+
+        assertEquals(NEW_FILE, mergedSource);
+    }
+
+    @Test
+    public void testUnparsableFileIsNotMerged() {
+        String existing = "package foo;\n\npublic class Bar {\n";
+
+        ShellException e = assertThrows(ShellException.class, () -> merge(NEW_FILE, existing));
+        assertThat(e.getMessage()).contains("Bar.java");
+    }
+
+    @Test
+    public void testDefaultShellCallbackMerge() {
+        DefaultShellCallback callback = new DefaultShellCallback(false);
+        assertTrue(!callback.isMergeSupported());
+
+        callback.setMergeJavaFiles(true);
+        assertTrue(callback.isMergeSupported());
+    }
+
+    private static String merge(String newFile, String existing) throws ShellException {
+        return JavaFileMergerJavaParser.getMergedSource(
+                newFile, existing, "Bar.java", MergeConstants.getOldElementTags());
+    }
+}
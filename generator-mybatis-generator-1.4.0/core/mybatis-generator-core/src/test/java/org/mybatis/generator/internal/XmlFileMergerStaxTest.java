@@ -0,0 +1,163 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.generator.api.GeneratedXmlFile;
+import org.mybatis.generator.api.dom.DefaultXmlFormatter;
+import org.mybatis.generator.api.dom.xml.Attribute;
+import org.mybatis.generator.api.dom.xml.Document;
+import org.mybatis.generator.api.dom.xml.TextElement;
+import org.mybatis.generator.api.dom.xml.XmlElement;
+import org.mybatis.generator.codegen.XmlConstants;
+import org.mybatis.generator.exception.ShellException;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The StAX merger must produce exactly the same output as the DOM merger.
+ */
+public class XmlFileMergerStaxTest {
+
+    private static final String CUSTOM_CONTENT =
+            "  <!-- my own statements -->\n"
+                    + "  <select id=\"customSelect\" resultType=\"int\">\n"
+                    + "    <![CDATA[select count(*) from foo where a < 2]]>\n"
+                    + "  </select>\n"
+                    + "  <sql id=\"custom\" xmlns:x=\"urn:x\"><x:y a=\"&quot;1&quot;\"/></sql>\n"
+                    + "  <?custom instruction?>\n"
+                    + "  <update id=\"customUpdate\">\n"
+                    + "    <!-- no tag here -->\n"
+                    + "    update foo set a = 1 &gt; 0\n"
+                    + "  </update>\n";
+
+    public static List<GeneratedXmlFile> generateXmlFiles() throws Exception {
+        return org.mybatis.generator.XmlCodeGenerationTest.generateXmlFiles();
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateXmlFiles")
+    public void testMergeIntoSameFile(GeneratedXmlFile generatedFile) throws Exception {
+        String existing = generatedFile.getFormattedContent();
+
+        assertEquals(jaxpMerge(generatedFile, existing), staxMerge(generatedFile, existing));
+    }
+
+    @ParameterizedTest
+    @MethodSource("generateXmlFiles")
+    public void testMergeKeepsCustomContent(GeneratedXmlFile generatedFile) throws Exception {
+        String content = generatedFile.getFormattedContent();
+        int index = content.lastIndexOf("</mapper>");
+        String existing = content.substring(0, index) + CUSTOM_CONTENT + content.substring(index);
+
+        assertEquals(jaxpMerge(generatedFile, existing), staxMerge(generatedFile, existing));
+    }
+
+    @Test
+    public void testThatOldElementsAreDeleted() throws Exception {
+        Document existingDocument = newDocument();
+        XmlElement root = existingDocument.getRootElement();
+        root.addElement(select("abatorgenerated_select"));
+        root.addElement(select("ibatorgenerated_select"));
+        XmlElement element = select("oldway1");
+        element.addElement(new TextElement("<!-- @ibatorgenerated -->"));
+        root.addElement(element);
+        element = select("oldway2");
+        element.addElement(new TextElement("")); // add some white space for the test
+        element.addElement(new TextElement("<!-- @mbg.generated -->"));
+        root.addElement(element);
+        root.addElement(select("customSelect"));
+
+        Document newDocument = newDocument();
+        element = select("newway");
+        element.addElement(new TextElement("<!-- @mbg.generated -->"));
+        newDocument.getRootElement().addElement(element);
+
+        Document expectedDocument = newDocument();
+        element = select("newway");
+        element.addElement(new TextElement("<!-- @mbg.generated -->"));
+        expectedDocument.getRootElement().addElement(element);
+        expectedDocument.getRootElement().addElement(select("customSelect"));
+
+        String mergedSource =
+                staxMerge(xmlFile(newDocument), xmlFile(existingDocument).getFormattedContent());
+
+        assertEquals(xmlFile(expectedDocument).getFormattedContent(), mergedSource);
+    }
+
+    @Test
+    public void testMergeIntoEmptyRootElement() throws Exception {
+        GeneratedXmlFile generatedFile = xmlFile(newDocument());
+        String existing = xmlFile(newDocument()).getFormattedContent();
+
+        assertEquals(jaxpMerge(generatedFile, existing), staxMerge(generatedFile, existing));
+    }
+
+    @Test
+    public void testDifferentRootElementIsRejected() {
+        Document existingDocument = newDocument();
+        existingDocument.setRootElement(new XmlElement("sqlMap"));
+        String existing = xmlFile(existingDocument).getFormattedContent();
+
+        assertThrows(ShellException.class, () -> staxMerge(xmlFile(newDocument()), existing));
+    }
+
+    private static String staxMerge(GeneratedXmlFile generatedFile, String existing)
+            throws Exception {
+        return XmlFileMergerStax.getMergedSource(
+                generatedFile.getDocument(), new StringReader(existing), "TestMapper.xml");
+    }
+
+    private static String jaxpMerge(GeneratedXmlFile generatedFile, String existing)
+            throws Exception {
+        return XmlFileMergerJaxp.getMergedSource(
+                new InputSource(new StringReader(generatedFile.getFormattedContent())),
+                new InputSource(new StringReader(existing)),
+                "TestMapper.xml");
+    }
+
+    private static Document newDocument() {
+        Document document =
+                new Document(
+                        XmlConstants.MYBATIS3_MAPPER_PUBLIC_ID,
+                        XmlConstants.MYBATIS3_MAPPER_SYSTEM_ID);
+        XmlElement root = new XmlElement("mapper");
+        root.addAttribute(new Attribute("namespace", "org.mybatis.test.TestMapper"));
+        document.setRootElement(root);
+        return document;
+    }
+
+    private static XmlElement select(String id) {
+        XmlElement element = new XmlElement("select");
+        element.addAttribute(new Attribute("id", id));
+        return element;
+    }
+
+    private static GeneratedXmlFile xmlFile(Document document) {
+        return new GeneratedXmlFile(
+                document,
+                "TestMapper.xml",
+                "org.mybatis.test",
+                "src",
+                true,
+                new DefaultXmlFormatter());
+    }
+}
@@ -0,0 +1,238 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.mybatis.generator.internal.db;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkMetadataSourceTest {
+
+    @Test
+    public void testExactName() {
+        Pattern pattern = BulkMetadataSource.compilePattern("FOO", "\\");
+        assertTrue(pattern.matcher("FOO").matches());
+        assertFalse(pattern.matcher("FOO1").matches());
+        assertFalse(pattern.matcher("foo").matches());
+    }
+
+    @Test
+    public void testWildcards() {
+        Pattern pattern = BulkMetadataSource.compilePattern("F_O%", "\\");
+        assertTrue(pattern.matcher("FOO").matches());
+        assertTrue(pattern.matcher("FXOBAR").matches());
+        assertFalse(pattern.matcher("FO").matches());
+    }
+
+    @Test
+    public void testEscapedWildcards() {
+        Pattern pattern = BulkMetadataSource.compilePattern("MY\\_TABLE", "\\");
+        assertTrue(pattern.matcher("MY_TABLE").matches());
+        assertFalse(pattern.matcher("MYXTABLE").matches());
+    }
+
+    @Test
+    public void testRegexCharactersAreLiteral() {
+        Pattern pattern = BulkMetadataSource.compilePattern("A.B$", "\\");
+        assertTrue(pattern.matcher("A.B$").matches());
+        assertFalse(pattern.matcher("AXB$").matches());
+    }
+
+    @Test
+    public void testNoEscape() {
+        Pattern pattern = BulkMetadataSource.compilePattern("MY\\_TABLE", "");
+        assertTrue(pattern.matcher("MY\\XTABLE").matches());
+    }
+
+    @Test
+    public void testNullPattern() {
+        assertNull(BulkMetadataSource.compilePattern(null, "\\"));
+    }
+
+    @Test
+    public void testPrimaryKeysFallBackToTableRequests() throws SQLException {
+        List<String> requestedTables = new ArrayList<>();
+        BulkMetadataSource metadataSource =
+                new BulkMetadataSource(primaryKeyMetaData(requestedTables));
+
+        assertEquals(
+                Collections.singletonList("ID"),
+                metadataSource.getPrimaryKeyColumns(null, "APP", "FOO"));
+        assertEquals(
+                Collections.singletonList("ID"),
+                metadataSource.getPrimaryKeyColumns(null, "APP", "BAR"));
+        // the schema wide request is only tried once
+        assertEquals(Arrays.asList(null, "FOO", "BAR"), requestedTables);
+    }
+
+    @Test
+    public void testSharedCacheFetchesSchemaOnce() throws Exception {
+        AtomicInteger schemaRequests = new AtomicInteger();
+        BulkMetadataCache cache = new BulkMetadataCache();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String tableName : Arrays.asList("FOO", "BAR")) {
+                BulkMetadataSource metadataSource =
+                        new BulkMetadataSource(countingMetaData(schemaRequests), cache);
+                futures.add(
+                        executorService.submit(
+                                () -> {
+                                    start.await();
+                                    metadataSource.getColumns(null, "APP", tableName);
+                                    metadataSource.getTable(null, "APP", tableName);
+                                    metadataSource.getPrimaryKeyColumns(null, "APP", tableName);
+                                    return null;
+                                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // one request each for the columns, tables, and primary keys of the schema
+        assertEquals(3, schemaRequests.get());
+    }
+
+    /**
+     * Returns database metadata without any tables that counts the schema wide column, table and
+     * primary key requests. Schema wide column requests are slow, so that other threads asking for
+     * the same schema arrive while the first request is running.
+     */
+    private static DatabaseMetaData countingMetaData(AtomicInteger schemaRequests) {
+        return (DatabaseMetaData)
+                Proxy.newProxyInstance(
+                        BulkMetadataSourceTest.class.getClassLoader(),
+                        new Class<?>[] {DatabaseMetaData.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "getSearchStringEscape":
+                                    return "\\";
+                                case "getColumns":
+                                    if ("%".equals(args[2])) {
+                                        schemaRequests.incrementAndGet();
+                                        Thread.sleep(50);
+                                    }
+                                    return emptyResultSet();
+                                case "getTables":
+                                    if ("%".equals(args[2])) {
+                                        schemaRequests.incrementAndGet();
+                                    }
+                                    return emptyResultSet();
+                                case "getPrimaryKeys":
+                                    if (args[2] == null) {
+                                        schemaRequests.incrementAndGet();
+                                    }
+                                    return emptyResultSet();
+                                default:
+                                    throw new UnsupportedOperationException(method.getName());
+                            }
+                        });
+    }
+
+    private static ResultSet emptyResultSet() {
+        ResultSetMetaData metaData =
+                (ResultSetMetaData)
+                        Proxy.newProxyInstance(
+                                BulkMetadataSourceTest.class.getClassLoader(),
+                                new Class<?>[] {ResultSetMetaData.class},
+                                (proxy, method, args) -> 0);
+        return (ResultSet)
+                Proxy.newProxyInstance(
+                        BulkMetadataSourceTest.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "next":
+                                    return false;
+                                case "getMetaData":
+                                    return metaData;
+                                case "close":
+                                    return null;
+                                default:
+                                    throw new UnsupportedOperationException(method.getName());
+                            }
+                        });
+    }
+
+    /**
+     * Returns database metadata that rejects schema wide primary key requests, like drivers that
+     * follow the JDBC specification strictly, and reports one key column "ID" for every table.
+     */
+    private static DatabaseMetaData primaryKeyMetaData(List<String> requestedTables) {
+        return (DatabaseMetaData)
+                Proxy.newProxyInstance(
+                        BulkMetadataSourceTest.class.getClassLoader(),
+                        new Class<?>[] {DatabaseMetaData.class},
+                        (proxy, method, args) -> {
+                            if (!method.getName().equals("getPrimaryKeys")) {
+                                throw new UnsupportedOperationException(method.getName());
+                            }
+                            requestedTables.add((String) args[2]);
+                            if (args[2] == null) {
+                                throw new SQLException("A table name is required");
+                            }
+                            return singleKeyResultSet();
+                        });
+    }
+
+    private static ResultSet singleKeyResultSet() {
+        boolean[] read = new boolean[1];
+        return (ResultSet)
+                Proxy.newProxyInstance(
+                        BulkMetadataSourceTest.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class},
+                        (proxy, method, args) -> {
+                            switch (method.getName()) {
+                                case "next":
+                                    boolean answer = !read[0];
+                                    read[0] = true;
+                                    return answer;
+                                case "getString":
+                                    return "ID";
+                                case "getShort":
+                                    return (short) 1;
+                                case "close":
+                                    return null;
+                                default:
+                                    throw new UnsupportedOperationException(method.getName());
+                            }
+                        });
+    }
+}
@@ -15,6 +15,7 @@ package org.mybatis.generator.maven;
 
 import org.apache.maven.plugin.logging.Log;
 import org.mybatis.generator.internal.NullProgressCallback;
+import org.mybatis.generator.internal.util.messages.Messages;
 
 /**
  * This callback logs progress messages with the Maven logger.
@@ -38,4 +39,16 @@ public class MavenProgressCallback extends NullProgressCallback {
             log.info(subTaskName);
         }
     }
+
+    @Override
+    public void saveCompleted(int filesWritten, int filesSkipped, int filesMerged) {
+        if (verbose) {
+            log.info(
+                    Messages.getString(
+                            "Progress.21", //$NON-NLS-1$
+                            Integer.toString(filesWritten),
+                            Integer.toString(filesSkipped),
+                            Integer.toString(filesMerged)));
+        }
+    }
 }
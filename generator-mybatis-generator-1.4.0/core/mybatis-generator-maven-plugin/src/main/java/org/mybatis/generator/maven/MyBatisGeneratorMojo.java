@@ -22,13 +22,12 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
+import org.mybatis.generator.api.GenerationMetrics;
 import org.mybatis.generator.api.MyBatisGenerator;
-import org.mybatis.generator.api.ShellCallback;
 import org.mybatis.generator.config.Configuration;
 import org.mybatis.generator.config.xml.ConfigurationParser;
 import org.mybatis.generator.exception.InvalidConfigurationException;
 import org.mybatis.generator.exception.XMLParserException;
-import org.mybatis.generator.internal.ObjectFactory;
 import org.mybatis.generator.internal.util.ClassloaderUtility;
 import org.mybatis.generator.internal.util.StringUtility;
 import org.mybatis.generator.internal.util.messages.Messages;
@@ -70,6 +69,17 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
     @Parameter(property = "mybatis.generator.verbose", defaultValue = "false")
     private boolean verbose;
 
+    /**
+     * Specifies whether the mojo writes the time and memory used by the phases, tables, and plugin
+     * methods of the run to the log. Default is false.
+     */
+    @Parameter(property = "mybatis.generator.metrics", defaultValue = "false")
+    private boolean metrics;
+
+    /** The maximum number of tables and plugin methods in the metrics report. */
+    @Parameter(property = "mybatis.generator.metricsReportEntries", defaultValue = "20")
+    private int metricsReportEntries;
+
     /**
      * Specifies whether the mojo overwrites existing Java files. Default is false. <br>
      * Note that XML files are always merged.
@@ -77,6 +87,36 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
     @Parameter(property = "mybatis.generator.overwrite", defaultValue = "false")
     private boolean overwrite;
 
+    /**
+     * Specifies whether the mojo only writes files whose content has changed. Default is false.
+     * <br>
+     * Unchanged files keep their timestamps, so they are not recompiled by later build steps.
+     */
+    @Parameter(property = "mybatis.generator.writeOnlyChangedFiles", defaultValue = "false")
+    private boolean writeOnlyChangedFiles;
+
+    /**
+     * Specifies whether the mojo merges existing Java files. Default is false. <br>
+     * Generated members of the existing files are replaced, custom members are kept. If true, then
+     * the overwrite parameter does not apply to Java files.
+     */
+    @Parameter(property = "mybatis.generator.mergeJavaFiles", defaultValue = "false")
+    private boolean mergeJavaFiles;
+
+    /**
+     * Specifies the number of threads used to save the generated files. Default is 1 - files are
+     * saved one at a time.
+     */
+    @Parameter(property = "mybatis.generator.saveThreads", defaultValue = "1")
+    private int saveThreads;
+
+    /**
+     * Location of the manifest file for incremental generation. If specified, tables whose
+     * metadata and configuration did not change since the last run are not generated again.
+     */
+    @Parameter(property = "mybatis.generator.incrementalManifest")
+    private File incrementalManifest;
+
     /**
      * Location of a SQL script file to run before generating code. If null, then no script will be
      * run. If not null, then jdbcDriver, jdbcURL must be supplied also, and jdbcUserId and
@@ -151,14 +191,17 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
         for (Resource resource : resources) {
             resourceDirectories.add(resource.getDirectory());
         }
+        // the class loader replaces the context class loader until the end of this execution,
+        // and is given to the generator of this execution - it is not registered globally
         ClassLoader cl = ClassloaderUtility.getCustomClassloader(resourceDirectories);
-        ObjectFactory.addExternalClassLoader(cl);
+        Thread.currentThread().setContextClassLoader(cl);
 
         if (configurationFile == null) {
             throw new MojoExecutionException(Messages.getString("RuntimeError.0")); // $NON-NLS-1$
         }
 
         List<String> warnings = new ArrayList<>();
+        GenerationMetrics generationMetrics = metrics ? new GenerationMetrics() : null;
 
         if (!configurationFile.exists()) {
             throw new MojoExecutionException(
@@ -194,9 +237,17 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
             ConfigurationParser cp = new ConfigurationParser(project.getProperties(), warnings);
             Configuration config = cp.parseConfiguration(configurationFile);
 
-            ShellCallback callback = new MavenShellCallback(this, overwrite);
+            MavenShellCallback callback = new MavenShellCallback(this, overwrite);
+            callback.setMergeJavaFiles(mergeJavaFiles);
 
             MyBatisGenerator myBatisGenerator = new MyBatisGenerator(config, callback, warnings);
+            myBatisGenerator.addExternalClassLoader(cl);
+            myBatisGenerator.setWriteOnlyChangedFiles(writeOnlyChangedFiles);
+            myBatisGenerator.setSaveThreads(saveThreads);
+            // the generated files are not used after the save
+            myBatisGenerator.setReleaseDomAfterSave(true);
+            myBatisGenerator.setIncrementalManifest(incrementalManifest);
+            myBatisGenerator.setGenerationMetrics(generationMetrics);
 
             myBatisGenerator.generate(
                     new MavenProgressCallback(getLog(), verbose),
@@ -227,6 +278,13 @@ public class MyBatisGeneratorMojo extends AbstractMojo {
             getLog().warn(error);
         }
 
+        if (generationMetrics != null) {
+            getLog().info(Messages.getString("Progress.25")); // $NON-NLS-1$
+            for (String line : generationMetrics.getReport(metricsReportEntries).split("\\R")) {
+                getLog().info(line);
+            }
+        }
+
         if (project != null && outputDirectory != null && outputDirectory.exists()) {
             project.addCompileSourceRoot(outputDirectory.getAbsolutePath());
 
@@ -0,0 +1,312 @@
+/**
+ * Copyright 2006-2020 the original author or authors.
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package mbg.test.mb3.features.annotated;
+
+import mbg.test.mb3.generated.features.annotated.mapper.*;
+import mbg.test.mb3.generated.features.annotated.model.*;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static mbg.test.common.util.TestUtilities.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the annotated statements and SQL providers added by the insert batch and select by
+ * primary keys options, and by the pagination and streaming plugins, against the database.
+ */
+public class AnnotatedFeaturesTest extends AbstractAnnotatedFeaturesTest {
+
+    @Test
+    public void testAwfulTableInsertBatch() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            AwfulTableMapper mapper = sqlSession.getMapper(AwfulTableMapper.class);
+            List<AwfulTable> records = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                records.add(createAwfulTable(i));
+            }
+
+            int rows = mapper.insertBatch(records);
+            assertEquals(3, rows);
+            for (int i = 0; i < 3; i++) {
+                assertEquals(57 + i, records.get(i).getCustomerId().intValue());
+            }
+
+            AwfulTableExample example = new AwfulTableExample();
+            example.setOrderByClause("\"CuStOmEr iD\"");
+            List<AwfulTable> answer = mapper.selectByExample(example);
+            assertEquals(3, answer.size());
+            for (int i = 0; i < 3; i++) {
+                AwfulTable record = records.get(i);
+                AwfulTable returnedRecord = answer.get(i);
+                assertEquals(57 + i, returnedRecord.getCustomerId().intValue());
+                assertEquals(record.getFirstFirstName(), returnedRecord.getFirstFirstName());
+                assertEquals(record.getFrom(), returnedRecord.getFrom());
+                assertEquals(record.getId1(), returnedRecord.getId1());
+                assertEquals(record.getId7(), returnedRecord.getId7());
+            }
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testAwfulTableInsertBatchInChunks() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            AwfulTableMapper mapper = sqlSession.getMapper(AwfulTableMapper.class);
+            List<AwfulTable> records = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                records.add(createAwfulTable(i));
+            }
+
+            int rows = mapper.insertBatch(records, 2);
+            assertEquals(5, rows);
+            assertEquals(5, mapper.countByExample(new AwfulTableExample()));
+
+            assertThrows(IllegalArgumentException.class, () -> mapper.insertBatch(records, 0));
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testPKFieldsSelectByPrimaryKeys() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            PkfieldsMapper mapper = sqlSession.getMapper(PkfieldsMapper.class);
+            insertPkfields(mapper);
+
+            List<Pkfields> answer =
+                    mapper.selectByPrimaryKeys(
+                            Arrays.asList(
+                                    createPkfieldsKey(2, 1),
+                                    createPkfieldsKey(3, 2),
+                                    createPkfieldsKey(9, 9)));
+            assertEquals(2, answer.size());
+            answer.sort((a, b) -> a.getId1() - b.getId1());
+            assertEquals(2, answer.get(0).getId1().intValue());
+            assertEquals(1, answer.get(0).getId2().intValue());
+            assertEquals("Fred2", answer.get(0).getFirstname());
+            assertEquals(3, answer.get(1).getId1().intValue());
+            assertEquals(2, answer.get(1).getId2().intValue());
+
+            answer =
+                    mapper.selectByPrimaryKeys(
+                            Arrays.asList(
+                                    createPkfieldsKey(1, 1),
+                                    createPkfieldsKey(2, 1),
+                                    createPkfieldsKey(1, 2)),
+                            2);
+            assertEquals(3, answer.size());
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testPKFieldsSelectByPrimaryKeysWithEmptyCollection() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            PkfieldsMapper mapper = sqlSession.getMapper(PkfieldsMapper.class);
+            insertPkfields(mapper);
+
+            List<Pkfields> answer = mapper.selectByPrimaryKeys(Collections.emptyList());
+            assertTrue(answer.isEmpty());
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testPKBlobsSelectByPrimaryKeys() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            PkblobsMapper mapper = sqlSession.getMapper(PkblobsMapper.class);
+            List<Pkblobs> records = new ArrayList<>();
+            for (int i = 1; i <= 3; i++) {
+                Pkblobs record = new Pkblobs();
+                record.setId(i);
+                record.setBlob1(generateRandomBlob());
+                record.setBlob2(generateRandomBlob());
+                mapper.insert(record);
+                records.add(record);
+            }
+
+            List<Pkblobs> answer = mapper.selectByPrimaryKeys(Arrays.asList(1, 3, 4), 1);
+            assertEquals(2, answer.size());
+            assertEquals(1, answer.get(0).getId().intValue());
+            assertTrue(blobsAreEqual(records.get(0).getBlob1(), answer.get(0).getBlob1()));
+            assertEquals(3, answer.get(1).getId().intValue());
+            assertTrue(blobsAreEqual(records.get(2).getBlob2(), answer.get(1).getBlob2()));
+
+            assertTrue(mapper.selectByPrimaryKeys(Collections.emptyList()).isEmpty());
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testPKFieldsSelectPageAfter() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            PkfieldsMapper mapper = sqlSession.getMapper(PkfieldsMapper.class);
+            insertPkfields(mapper);
+
+            List<Pkfields> answer = mapper.selectPageAfter(null, 2, null);
+            assertKeys(answer, 1, 1, 2, 1);
+
+            answer = mapper.selectPageAfter(answer.get(1), 2, null);
+            assertKeys(answer, 1, 2, 2, 2);
+
+            answer = mapper.selectPageAfter(answer.get(1), 2, null);
+            assertKeys(answer, 3, 2);
+
+            answer = mapper.selectPageAfter(answer.get(0), 2, null);
+            assertTrue(answer.isEmpty());
+
+            PkfieldsExample example = new PkfieldsExample();
+            example.or().andFirstnameEqualTo("Fred1");
+            example.or().andFirstnameEqualTo("Fred3");
+            answer = mapper.selectPageAfter(createPkfieldsKey(1, 1), 2, example);
+            assertKeys(answer, 1, 2);
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testPKFieldsSelectByExampleWithLimitAndOffset() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            PkfieldsMapper mapper = sqlSession.getMapper(PkfieldsMapper.class);
+            insertPkfields(mapper);
+
+            PkfieldsExample example = new PkfieldsExample();
+            example.setOrderByClause("ID2, ID1");
+            example.setLimit(2);
+            example.setOffset(1);
+            List<Pkfields> answer = mapper.selectByExample(example);
+            assertKeys(answer, 2, 1, 1, 2);
+
+            example.setOffset(4);
+            answer = mapper.selectByExample(example);
+            assertKeys(answer, 3, 2);
+
+            example.clear();
+            assertNull(example.getLimit());
+            assertEquals(5, mapper.selectByExample(example).size());
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testPKFieldsSelectByExampleWithCursor() throws Exception {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            PkfieldsMapper mapper = sqlSession.getMapper(PkfieldsMapper.class);
+            insertPkfields(mapper);
+
+            PkfieldsExample example = new PkfieldsExample();
+            example.createCriteria().andId2EqualTo(2);
+            example.setOrderByClause("ID1");
+            List<Integer> ids = new ArrayList<>();
+            try (Cursor<Pkfields> cursor = mapper.selectByExampleWithCursor(example)) {
+                for (Pkfields record : cursor) {
+                    ids.add(record.getId1());
+                }
+            }
+            assertEquals(Arrays.asList(1, 2, 3), ids);
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    @Test
+    public void testPKFieldsSelectByExampleWithResultHandler() {
+        SqlSession sqlSession = sqlSessionFactory.openSession();
+
+        try {
+            PkfieldsMapper mapper = sqlSession.getMapper(PkfieldsMapper.class);
+            insertPkfields(mapper);
+
+            PkfieldsExample example = new PkfieldsExample();
+            example.setOrderByClause("ID2, ID1");
+            List<String> names = new ArrayList<>();
+            mapper.selectByExampleWithResultHandler(
+                    example, context -> names.add(context.getResultObject().getFirstname()));
+            assertEquals(Arrays.asList("Fred1", "Fred2", "Fred3", "Fred4", "Fred5"), names);
+        } finally {
+            sqlSession.close();
+        }
+    }
+
+    /** Inserts the keys (1, 1), (2, 1), (1, 2), (2, 2) and (3, 2), in key order. */
+    private void insertPkfields(PkfieldsMapper mapper) {
+        int[][] keys = {{1, 1}, {2, 1}, {1, 2}, {2, 2}, {3, 2}};
+        for (int i = 0; i < keys.length; i++) {
+            Pkfields record = createPkfieldsKey(keys[i][0], keys[i][1]);
+            record.setFirstname("Fred" + (i + 1));
+            record.setLastname("Flintstone");
+            mapper.insert(record);
+        }
+    }
+
+    private Pkfields createPkfieldsKey(int id1, int id2) {
+        Pkfields key = new Pkfields();
+        key.setId1(id1);
+        key.setId2(id2);
+        return key;
+    }
+
+    /** Asserts the id1 and id2 pairs of the records. */
+    private void assertKeys(List<Pkfields> records, int... keys) {
+        assertEquals(keys.length / 2, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertEquals(keys[i * 2], records.get(i).getId1().intValue());
+            assertEquals(keys[i * 2 + 1], records.get(i).getId2().intValue());
+        }
+    }
+
+    private AwfulTable createAwfulTable(int i) {
+        AwfulTable record = new AwfulTable();
+        record.seteMail("fred" + i + "@fred.com");
+        record.setEmailaddress("alsofred" + i + "@fred.com");
+        record.setFirstFirstName("fred" + i);
+        record.setFrom("from field");
+        record.setId1(i);
+        record.setId2(2);
+        record.setId5(5);
+        record.setId6(6);
+        record.setId7(i + 7);
+        record.setSecondFirstName("fred2");
+        record.setThirdFirstName("fred3");
+        return record;
+    }
+}
@@ -18,6 +18,10 @@ import org.mybatis.generator.config.MergeConstants;
 import org.mybatis.generator.eclipse.core.merge.JavaFileMerger;
 import org.mybatis.generator.eclipse.tests.harness.summary.CompilationUnitSummary;
 
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mybatis.generator.eclipse.core.tests.merge.support.TestResourceGenerator.*;
@@ -77,4 +81,25 @@ public class JavaFileMergerTest {
         assertThat(summary, hasInterface("SimpleInterface", withMethod("count()")));
         assertThat(summary, hasInterface("SimpleInterface", withMethod("nonGeneratedMethod()")));
     }
+
+    @Test
+    public void testBatchMergeMatchesSingleMerges() throws Exception {
+        JavaFileMerger classMerger =
+                new JavaFileMerger(
+                        simpleClassWithAllGeneratedItems(),
+                        simpleClassWithGeneratedAndCustomItems(),
+                        MergeConstants.getOldElementTags());
+        JavaFileMerger interfaceMerger =
+                new JavaFileMerger(
+                        simpleInterfaceWithAllGeneratedItems(),
+                        simpleInterfaceWithGeneratedAndCustomItems(),
+                        MergeConstants.getOldElementTags());
+
+        List<String> mergedSources =
+                JavaFileMerger.getMergedSources(Arrays.asList(classMerger, interfaceMerger));
+
+        assertThat(mergedSources.size(), is(2));
+        assertThat(mergedSources.get(0), is(classMerger.getMergedSource()));
+        assertThat(mergedSources.get(1), is(interfaceMerger.getMergedSource()));
+    }
 }
@@ -20,6 +20,7 @@ import org.eclipse.jdt.core.dom.*;
 import org.mybatis.generator.eclipse.core.merge.visitors.ImportDeclarationStringifier;
 import org.mybatis.generator.eclipse.core.merge.visitors.TypeStringifier;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -60,12 +61,37 @@ public class EclipseDomUtils {
     }
 
     public static CompilationUnit getCompilationUnitFromSource(String javaSource) {
-        ASTParser astParser = ASTParser.newParser(AST.JLS10);
-        Map<String, String> options = JavaCore.getDefaultOptions();
-        JavaCore.setComplianceOptions(JavaCore.VERSION_10, options);
-        astParser.setCompilerOptions(options);
+        return getCompilationUnitFromSource(newParser(), javaSource);
+    }
+
+    /**
+     * Parses a source with an existing parser. The parser is reset after each parse, so the same
+     * parser can be used for many sources - but not by several threads at once.
+     *
+     * @param astParser a parser returned by {@link #newParser()}
+     * @param javaSource the source to parse
+     * @return the parsed compilation unit
+     */
+    public static CompilationUnit getCompilationUnitFromSource(
+            ASTParser astParser, String javaSource) {
+        // the parser forgets its options after each parse
+        astParser.setCompilerOptions(CompilerOptionsHolder.OPTIONS);
         astParser.setSource(javaSource.toCharArray());
-        CompilationUnit cu = (CompilationUnit) astParser.createAST(null);
-        return cu;
+        return (CompilationUnit) astParser.createAST(null);
+    }
+
+    public static ASTParser newParser() {
+        return ASTParser.newParser(AST.JLS10);
+    }
+
+    /** The compiler options are computed once, when they are first needed. */
+    private static class CompilerOptionsHolder {
+        private static final Map<String, String> OPTIONS = createCompilerOptions();
+
+        private static Map<String, String> createCompilerOptions() {
+            Map<String, String> options = JavaCore.getDefaultOptions();
+            JavaCore.setComplianceOptions(JavaCore.VERSION_10, options);
+            return Collections.unmodifiableMap(options);
+        }
     }
 }
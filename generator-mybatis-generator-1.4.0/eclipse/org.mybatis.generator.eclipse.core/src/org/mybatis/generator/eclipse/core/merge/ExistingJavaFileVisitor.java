@@ -17,6 +17,7 @@
 package org.mybatis.generator.eclipse.core.merge;
 
 import org.eclipse.jdt.core.dom.*;
+import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.mybatis.generator.api.MyBatisGenerator;
 import org.mybatis.generator.eclipse.core.merge.visitors.MethodSignatureStringifier;
 
@@ -32,11 +33,27 @@ public class ExistingJavaFileVisitor extends ASTVisitor {
     private List<String> generatedInnerClassesToKeep;
     private Map<String, List<Annotation>> fieldAnnotations;
     private Map<String, List<Annotation>> methodAnnotations;
+    private ASTRewrite rewrite;
 
-    /** */
+    /**
+     * Creates a visitor that deletes the generated nodes from the visited compilation unit. The
+     * compilation unit must record its modifications.
+     */
     public ExistingJavaFileVisitor(String[] javadocTags) {
+        this(javadocTags, null);
+    }
+
+    /**
+     * Creates a visitor that removes the generated nodes with a rewrite. The visited compilation
+     * unit is not changed.
+     *
+     * @param javadocTags the Javadoc tags of generated nodes
+     * @param rewrite the rewrite of the visited compilation unit
+     */
+    public ExistingJavaFileVisitor(String[] javadocTags, ASTRewrite rewrite) {
         super();
         this.javadocTags = javadocTags;
+        this.rewrite = rewrite;
         generatedInnerClassesToKeep = new ArrayList<>();
         fieldAnnotations = new HashMap<>();
         methodAnnotations = new HashMap<>();
@@ -52,7 +69,7 @@ public class ExistingJavaFileVisitor extends ASTVisitor {
                         (VariableDeclarationFragment) node.fragments().get(0);
                 fieldAnnotations.put(variable.getName().getIdentifier(), annotations);
             }
-            node.delete();
+            delete(node);
         }
 
         return false;
@@ -69,7 +86,7 @@ public class ExistingJavaFileVisitor extends ASTVisitor {
                 String methodSignature = mss.toString();
                 methodAnnotations.put(methodSignature, annotations);
             }
-            node.delete();
+            delete(node);
         }
 
         return false;
@@ -85,7 +102,7 @@ public class ExistingJavaFileVisitor extends ASTVisitor {
         } else {
             // is this a generated inner class? If so, then delete
             if (isGenerated(node)) {
-                node.delete();
+                delete(node);
             }
 
             return false;
@@ -95,12 +112,20 @@ public class ExistingJavaFileVisitor extends ASTVisitor {
     @Override
     public boolean visit(EnumDeclaration node) {
         if (isGenerated(node)) {
-            node.delete();
+            delete(node);
         }
 
         return false;
     }
 
+    private void delete(BodyDeclaration node) {
+        if (rewrite == null) {
+            node.delete();
+        } else {
+            rewrite.remove(node, null);
+        }
+    }
+
     public TypeDeclaration getTypeDeclaration() {
         return typeDeclaration;
     }
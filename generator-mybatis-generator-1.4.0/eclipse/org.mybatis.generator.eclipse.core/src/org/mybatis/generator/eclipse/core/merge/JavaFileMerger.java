@@ -59,18 +59,47 @@ public class JavaFileMerger {
         this.javaDocTags = javaDocTags;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public String getMergedSource() throws ShellException, InvalidExistingFileException {
-        NewJavaFileVisitor newJavaFileVisitor = visitNewJavaFile();
+        return getMergedSource(EclipseDomUtils.newParser(), JavaCore.getOptions());
+    }
 
-        IDocument document = new Document(existingJavaSource);
+    /**
+     * Merges several files. All files are parsed with the same parser and rewritten with the same
+     * formatter options, so the parser is configured and the options are read only once.
+     *
+     * @param mergers the files to merge
+     * @return the merged sources, in the order of the mergers
+     * @throws ShellException if a file cannot be merged
+     * @throws InvalidExistingFileException if an existing file has no type
+     */
+    public static List<String> getMergedSources(List<JavaFileMerger> mergers)
+            throws ShellException, InvalidExistingFileException {
+        ASTParser astParser = EclipseDomUtils.newParser();
+        Map<String, String> formatterOptions = JavaCore.getOptions();
+
+        List<String> answer = new ArrayList<>(mergers.size());
+        for (JavaFileMerger merger : mergers) {
+            answer.add(merger.getMergedSource(astParser, formatterOptions));
+        }
 
-        // delete generated stuff, and collect imports
-        ExistingJavaFileVisitor visitor = new ExistingJavaFileVisitor(javaDocTags);
+        return answer;
+    }
+
+    /**
+     * The existing file is parsed once. The generated nodes are removed and the new nodes are
+     * inserted with a single rewrite, so the existing compilation unit itself is never changed.
+     */
+    @SuppressWarnings("unchecked")
+    private String getMergedSource(ASTParser astParser, Map<String, String> formatterOptions)
+            throws ShellException, InvalidExistingFileException {
+        NewJavaFileVisitor newJavaFileVisitor = visitNewJavaFile(astParser);
 
-        CompilationUnit cu = getCompilationUnitFromSource(existingJavaSource);
+        CompilationUnit cu = getCompilationUnitFromSource(astParser, existingJavaSource);
         AST ast = cu.getAST();
-        cu.recordModifications();
+        ASTRewrite rewrite = ASTRewrite.create(ast);
+
+        // remove generated stuff, and collect imports
+        ExistingJavaFileVisitor visitor = new ExistingJavaFileVisitor(javaDocTags, rewrite);
         cu.accept(visitor);
 
         TypeDeclaration typeDeclaration = visitor.getTypeDeclaration();
@@ -81,72 +110,57 @@ public class JavaFileMerger {
         // reconcile the superinterfaces
         List<Type> newSuperInterfaces =
                 getNewSuperInterfaces(typeDeclaration.superInterfaceTypes(), newJavaFileVisitor);
+        ListRewrite superInterfacesRewrite =
+                rewrite.getListRewrite(
+                        typeDeclaration, TypeDeclaration.SUPER_INTERFACE_TYPES_PROPERTY);
         for (Type newSuperInterface : newSuperInterfaces) {
-            typeDeclaration.superInterfaceTypes().add(ASTNode.copySubtree(ast, newSuperInterface));
+            superInterfacesRewrite.insertLast(ASTNode.copySubtree(ast, newSuperInterface), null);
         }
 
         // set the superclass
-        if (newJavaFileVisitor.getSuperclass() != null) {
-            typeDeclaration.setSuperclassType(
-                    (Type) ASTNode.copySubtree(ast, newJavaFileVisitor.getSuperclass()));
-        } else {
-            typeDeclaration.setSuperclassType(null);
+        Type newSuperclass = newJavaFileVisitor.getSuperclass();
+        if (!EclipseDomUtils.typesMatch(newSuperclass, typeDeclaration.getSuperclassType())) {
+            rewrite.set(
+                    typeDeclaration,
+                    TypeDeclaration.SUPERCLASS_TYPE_PROPERTY,
+                    newSuperclass == null ? null : ASTNode.copySubtree(ast, newSuperclass),
+                    null);
         }
 
         // interface or class?
-        if (newJavaFileVisitor.isInterface()) {
-            typeDeclaration.setInterface(true);
-        } else {
-            typeDeclaration.setInterface(false);
+        if (newJavaFileVisitor.isInterface() != typeDeclaration.isInterface()) {
+            rewrite.set(
+                    typeDeclaration,
+                    TypeDeclaration.INTERFACE_PROPERTY,
+                    newJavaFileVisitor.isInterface(),
+                    null);
         }
 
         // reconcile the imports
         List<ImportDeclaration> newImports = getNewImports(cu.imports(), newJavaFileVisitor);
+        ListRewrite importsRewrite = rewrite.getListRewrite(cu, CompilationUnit.IMPORTS_PROPERTY);
         for (ImportDeclaration newImport : newImports) {
             Name name = ast.newName(newImport.getName().getFullyQualifiedName());
             ImportDeclaration newId = ast.newImportDeclaration();
             newId.setName(name);
-            cu.imports().add(newId);
+            importsRewrite.insertLast(newId, null);
         }
 
-        TextEdit textEdit = cu.rewrite(document, null);
-        try {
-            textEdit.apply(document);
-        } catch (BadLocationException e) {
-            throw new ShellException("BadLocationException removing prior fields and methods");
-        }
-
-        // regenerate the CompilationUnit to reflect all the deletes and changes
-        CompilationUnit strippedCu = getCompilationUnitFromSource(document.get());
-
-        // find the top level public type declaration
-        TypeDeclaration topLevelType = null;
-        Iterator iter = strippedCu.types().iterator();
-        while (iter.hasNext()) {
-            TypeDeclaration td = (TypeDeclaration) iter.next();
-            if (td.getParent().equals(strippedCu) && (td.getModifiers() & Modifier.PUBLIC) > 0) {
-                topLevelType = td;
-                break;
-            }
-        }
-
-        // now add all the new methods and fields to the existing
-        // CompilationUnit with a ListRewrite
-        ASTRewrite rewrite = ASTRewrite.create(topLevelType.getRoot().getAST());
+        // now add all the new methods and fields in front of the existing ones
         ListRewrite listRewrite =
-                rewrite.getListRewrite(topLevelType, TypeDeclaration.BODY_DECLARATIONS_PROPERTY);
+                rewrite.getListRewrite(typeDeclaration, TypeDeclaration.BODY_DECLARATIONS_PROPERTY);
 
-        Iterator<ASTNode> astIter = newJavaFileVisitor.getNewNodes().iterator();
         int i = 0;
-        while (astIter.hasNext()) {
-            ASTNode node = astIter.next();
-
-            if (node.getNodeType() == ASTNode.TYPE_DECLARATION) {
-                String name = ((TypeDeclaration) node).getName().getFullyQualifiedName();
+        for (ASTNode newNode : newJavaFileVisitor.getNewNodes()) {
+            if (newNode.getNodeType() == ASTNode.TYPE_DECLARATION) {
+                String name = ((TypeDeclaration) newNode).getName().getFullyQualifiedName();
                 if (visitor.containsInnerClass(name)) {
                     continue;
                 }
-            } else if (node instanceof FieldDeclaration) {
+            }
+
+            ASTNode node = ASTNode.copySubtree(ast, newNode);
+            if (node instanceof FieldDeclaration) {
                 addExistsAnnotations(
                         (BodyDeclaration) node,
                         visitor.getFieldAnnotations((FieldDeclaration) node));
@@ -159,15 +173,15 @@ public class JavaFileMerger {
             listRewrite.insertAt(node, i++, null);
         }
 
-        textEdit = rewrite.rewriteAST(document, JavaCore.getOptions());
+        IDocument document = new Document(existingJavaSource);
+        TextEdit textEdit = rewrite.rewriteAST(document, formatterOptions);
         try {
             textEdit.apply(document);
         } catch (BadLocationException e) {
-            throw new ShellException("BadLocationException adding new fields and methods");
+            throw new ShellException("BadLocationException merging the existing file");
         }
 
-        String newSource = document.get();
-        return newSource;
+        return document.get();
     }
 
     private List<Type> getNewSuperInterfaces(
@@ -220,8 +234,8 @@ public class JavaFileMerger {
      *
      * @return
      */
-    private NewJavaFileVisitor visitNewJavaFile() {
-        CompilationUnit cu = getCompilationUnitFromSource(newJavaSource);
+    private NewJavaFileVisitor visitNewJavaFile(ASTParser astParser) {
+        CompilationUnit cu = getCompilationUnitFromSource(astParser, newJavaSource);
         NewJavaFileVisitor newVisitor = new NewJavaFileVisitor();
         cu.accept(newVisitor);
 